@@ -6,10 +6,12 @@ import com.mumuk.domain.healthManagement.entity.Allergy;
 import com.mumuk.domain.healthManagement.entity.AllergyType;
 import com.mumuk.domain.healthManagement.repository.AllergyRepository;
 import com.mumuk.domain.user.entity.User;
+import com.mumuk.domain.user.event.UserProfileChangedEvent;
 import com.mumuk.domain.user.repository.UserRepository;
 import com.mumuk.global.apiPayload.code.ErrorCode;
 import com.mumuk.global.apiPayload.exception.BusinessException;
 import com.mumuk.global.security.exception.AuthException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,10 +21,12 @@ public class AllergyServiceImpl implements AllergyService {
 
     private final UserRepository userRepository;
     private final AllergyRepository allergyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AllergyServiceImpl(UserRepository userRepository, AllergyRepository allergyRepository) {
+    public AllergyServiceImpl(UserRepository userRepository, AllergyRepository allergyRepository, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.allergyRepository = allergyRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -66,6 +70,7 @@ public class AllergyServiceImpl implements AllergyService {
         // 알러지 정보 저장
         allergyRepository.saveAll(allergyList);
         allergyRepository.flush();
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
 
         List<AllergyResponse.AllergyListRes.AllergyTypeRes> setAllergyList=allergyTypeList.stream()
                 .map(allergyType -> new AllergyResponse.AllergyListRes.AllergyTypeRes(allergyType))
@@ -6,10 +6,12 @@ import com.mumuk.domain.healthManagement.entity.HealthGoal;
 import com.mumuk.domain.healthManagement.entity.HealthGoalType;
 import com.mumuk.domain.healthManagement.repository.HealthGoalRepository;
 import com.mumuk.domain.user.entity.User;
+import com.mumuk.domain.user.event.UserProfileChangedEvent;
 import com.mumuk.domain.user.repository.UserRepository;
 import com.mumuk.global.apiPayload.code.ErrorCode;
 import com.mumuk.global.apiPayload.exception.BusinessException;
 import com.mumuk.global.security.exception.AuthException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,10 +21,12 @@ import java.util.List;
 public class HealthGoalServiceImpl implements HealthGoalService {
     private final HealthGoalRepository healthGoalRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public HealthGoalServiceImpl(HealthGoalRepository healthGoalRepository, UserRepository userRepository) {
+    public HealthGoalServiceImpl(HealthGoalRepository healthGoalRepository, UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.healthGoalRepository = healthGoalRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -66,6 +70,7 @@ public class HealthGoalServiceImpl implements HealthGoalService {
         // 건강목표 객체 저장
         healthGoalRepository.saveAll(healthGoalList);
         healthGoalRepository.flush();
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
 
         // 반환할 값 생성
         List<HealthGoalResponse.HealthGoalListRes.HealthGoalRes> setHealthGoalList=healthGoalTypeList.stream()
@@ -9,10 +9,12 @@ import com.mumuk.domain.ingredient.entity.Ingredient;
 import com.mumuk.domain.ingredient.entity.IngredientNotification;
 import com.mumuk.domain.ingredient.repository.IngredientRepository;
 import com.mumuk.domain.user.entity.User;
+import com.mumuk.domain.user.event.UserProfileChangedEvent;
 import com.mumuk.domain.user.repository.UserRepository;
 import com.mumuk.global.apiPayload.code.ErrorCode;
 import com.mumuk.global.apiPayload.exception.BusinessException;
 import com.mumuk.global.security.exception.AuthException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
@@ -27,11 +29,14 @@ public class IngredientServiceImpl implements IngredientService {
     private final IngredientRepository ingredientRepository;
     private final IngredientConverter ingredientConverter;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public IngredientServiceImpl(IngredientRepository ingredientRepository, IngredientConverter ingredientConverter, UserRepository userRepository) {
+    public IngredientServiceImpl(IngredientRepository ingredientRepository, IngredientConverter ingredientConverter, UserRepository userRepository,
+                                 ApplicationEventPublisher eventPublisher) {
         this.ingredientRepository = ingredientRepository;
         this.ingredientConverter = ingredientConverter;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -47,6 +52,7 @@ public class IngredientServiceImpl implements IngredientService {
 
         Ingredient ingredient = ingredientConverter.toRegister(req,user);
         ingredientRepository.save(ingredient);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
     }
 
     @Override
@@ -134,6 +140,7 @@ public class IngredientServiceImpl implements IngredientService {
         }
 
         ingredientRepository.delete(ingredient);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
     }
 
     @Transactional(readOnly = true)
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface UserHealthDataRepository extends JpaRepository<UserHealthData, Long> {
     
@@ -14,4 +15,9 @@ public interface UserHealthDataRepository extends JpaRepository<UserHealthData,
      */
     @Query("SELECT uhd FROM UserHealthData uhd WHERE uhd.userId = :userId ORDER BY uhd.createdAt DESC")
     List<UserHealthData> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
+
+    /**
+     * 사용자 ID로 가장 최근 OCR 데이터 1건 조회
+     */
+    Optional<UserHealthData> findFirstByUserIdOrderByCreatedAtDesc(Long userId);
 }
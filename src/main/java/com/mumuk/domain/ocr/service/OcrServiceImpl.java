@@ -5,8 +5,10 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mumuk.domain.ocr.entity.UserHealthData;
 import com.mumuk.domain.ocr.repository.UserHealthDataRepository;
+import com.mumuk.domain.user.event.UserProfileChangedEvent;
 import com.mumuk.global.client.ClovaOcrClient;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -21,6 +23,7 @@ public class OcrServiceImpl implements OcrService {
     private final UserHealthDataRepository userHealthDataRepository;
     private final ClovaOcrClient clovaOcrClient;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 🔥 핵심 개선: 범용적인 건강 지표 패턴들
     private static final Map<Pattern, String> HEALTH_PATTERNS = new LinkedHashMap<>();
@@ -95,10 +98,12 @@ public class OcrServiceImpl implements OcrService {
     }};
 
     public OcrServiceImpl(UserHealthDataRepository userHealthDataRepository, 
-                         ClovaOcrClient clovaOcrClient, ObjectMapper objectMapper) {
+                         ClovaOcrClient clovaOcrClient, ObjectMapper objectMapper,
+                         ApplicationEventPublisher eventPublisher) {
         this.userHealthDataRepository = userHealthDataRepository;
         this.clovaOcrClient = clovaOcrClient;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -274,6 +279,7 @@ public class OcrServiceImpl implements OcrService {
     public void saveOcrResult(Long userId, Map<String, String> ocrResult) {
         UserHealthData entity = new UserHealthData(userId, ocrResult);
         userHealthDataRepository.save(entity);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
         
         log.info("💾 사용자 {}의 건강 데이터 저장 완료: {} 항목", userId, ocrResult.size());
     }
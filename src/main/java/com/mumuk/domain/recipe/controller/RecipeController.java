@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
 
 @RestController
 @Tag(name = "레시피 및 카테고리 관련")
@@ -83,9 +84,9 @@ public class RecipeController {
 
     @Operation(summary = "AI 기반 재료 매칭")
     @GetMapping("/{recipeId}/ingredients/match/ai")
-    public Response<RecipeResponse.IngredientMatchingRes> matchIngredientsByAI(@AuthUser Long userId, @PathVariable Long recipeId) {
-        RecipeResponse.IngredientMatchingRes result = recipeService.matchIngredientsByAI(userId, recipeId);
-        return Response.ok(ResultCode.RECIPE_FETCH_OK, result);
+    public Mono<Response<RecipeResponse.IngredientMatchingRes>> matchIngredientsByAI(@AuthUser Long userId, @PathVariable Long recipeId) {
+        return recipeService.matchIngredientsByAI(userId, recipeId)
+                .map(result -> Response.ok(ResultCode.RECIPE_FETCH_OK, result));
     }
 
     @Operation(summary = "단순 재료 매칭")
@@ -1,16 +1,26 @@
 package com.mumuk.domain.recipe.controller;
 
 import com.mumuk.domain.recipe.dto.response.RecipeResponse;
+import com.mumuk.domain.recipe.service.RecipeGenerationJobService;
+import com.mumuk.domain.recipe.service.RecipeHomeService;
 import com.mumuk.domain.recipe.service.RecipeRecommendService;
 import com.mumuk.domain.user.dto.response.UserRecipeResponse;
+import com.mumuk.global.apiPayload.code.ErrorCode;
+import com.mumuk.global.apiPayload.code.ResultCode;
+import com.mumuk.global.apiPayload.exception.BusinessException;
 import com.mumuk.global.apiPayload.response.Response;
 import com.mumuk.global.security.annotation.AuthUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/recipe/recommend")
@@ -19,69 +29,146 @@ import java.util.List;
 public class RecipeRecommendController {
 
     private final RecipeRecommendService recommendService;
+    private final RecipeGenerationJobService generationJobService;
+    private final RecipeHomeService homeService;
+
+    @Operation(summary = "홈 화면 레시피 조회", description = "재료 기반, 건강 목표 기반, 랜덤 추천과 인기 레시피를 한 번에 조회합니다. " +
+            "sections(ingredient, health-goal, random, trend-title, trend-detail)를 쉼표로 지정할 수 있으며, 제한 시간을 넘긴 섹션은 비어 있고 sectionStatus에 표시됩니다.")
+    @GetMapping("/home")
+    public Mono<Response<RecipeResponse.HomeRes>> getHome(@AuthUser Long userId, @RequestParam(required = false) String sections) {
+        return homeService.getHome(userId, sections)
+                .map(result -> Response.ok(ResultCode.RECIPE_HOME_FETCH_OK, result));
+    }
+
+    @Operation(summary = "홈 화면 레시피 조회 (SSE)", description = "홈 화면 섹션을 계산이 끝나는 순서대로 섹션 이름의 이벤트로 전송합니다. " +
+            "모든 섹션을 보내면 done 이벤트, 요청 자체가 실패하면 error 이벤트(실패 사유 코드)로 끝납니다.")
+    @GetMapping(value = "/home/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamHome(@AuthUser Long userId, @RequestParam(required = false) String sections) {
+        return toEvents(homeService.streamHome(userId, sections), RecipeResponse.HomeSectionRes::getSection);
+    }
 
     @Operation(summary = "AI 추천 레시피 조회 (냉장고 재료 기반)", description = "사용자의 보유 재료와 알레르기 정보를 기반으로 AI가 추천하는 레시피를 조회합니다.")
     @GetMapping("/ingredient")
-    public Response<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByIngredient(@AuthUser Long userId) {
-        List<UserRecipeResponse.RecipeSummaryDTO> result = recommendService.recommendRecipesByIngredient(userId);
-        return Response.ok(result);
+    public Mono<Response<List<UserRecipeResponse.RecipeSummaryDTO>>> recommendRecipesByIngredient(@AuthUser Long userId) {
+        return recommendService.recommendRecipesByIngredient(userId)
+                .map(result -> Response.ok(result));
     }
 
 
 
     @Operation(summary = "카테고리 기반 레시피 조회", description = "특정 카테고리에 해당하는 레시피를 조회합니다.")
     @GetMapping("/categories/{categories}")
-    public Response<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByCategories(@AuthUser Long userId, @PathVariable String categories) {
-        List<UserRecipeResponse.RecipeSummaryDTO> result = recommendService.recommendRecipesByCategories(userId, categories);
-        return Response.ok(result);
+    public Mono<Response<List<UserRecipeResponse.RecipeSummaryDTO>>> recommendRecipesByCategories(@AuthUser Long userId, @PathVariable String categories) {
+        return recommendService.recommendRecipesByCategories(userId, categories)
+                .map(result -> Response.ok(result));
     }
 
     @Operation(summary = "무작위 레시피 조회", description = "랜덤하게 선택된 레시피를 조회합니다.")
     @GetMapping("/random")
-    public Response<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRandomRecipes(@AuthUser Long userId) {
-        List<UserRecipeResponse.RecipeSummaryDTO> result = recommendService.recommendRandomRecipes(userId);
-        return Response.ok(result);
+    public Mono<Response<List<UserRecipeResponse.RecipeSummaryDTO>>> recommendRandomRecipes(@AuthUser Long userId) {
+        return recommendService.recommendRandomRecipes(userId)
+                .map(result -> Response.ok(result));
     }
 
     @Operation(summary = "AI 추천 레시피 조회 (OCR 기반)", description = "OCR로 추출된 건강 정보를 기반으로 AI가 추천하는 레시피를 조회합니다.")
     @GetMapping("/health-info")
-    public Response<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByOcr(@AuthUser Long userId) {
-        List<UserRecipeResponse.RecipeSummaryDTO> result = recommendService.recommendRecipesByOcr(userId);
-        return Response.ok(result);
+    public Mono<Response<List<UserRecipeResponse.RecipeSummaryDTO>>> recommendRecipesByOcr(@AuthUser Long userId) {
+        return recommendService.recommendRecipesByOcr(userId)
+                .map(result -> Response.ok(result));
     }
 
     @Operation(summary = "AI 추천 레시피 조회 (건강목표 기반)", description = "사용자의 건강 목표를 기반으로 AI가 추천하는 레시피를 조회합니다.")
     @GetMapping("/health-goal")
-    public Response<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByHealthGoal(@AuthUser Long userId) {
-        List<UserRecipeResponse.RecipeSummaryDTO> result = recommendService.recommendRecipesByHealthGoal(userId);
-        return Response.ok(result);
+    public Mono<Response<List<UserRecipeResponse.RecipeSummaryDTO>>> recommendRecipesByHealthGoal(@AuthUser Long userId) {
+        return recommendService.recommendRecipesByHealthGoal(userId)
+                .map(result -> Response.ok(result));
     }
 
     @Operation(summary = "AI 추천 레시피 조회 (사용자 맞춤)", description = "여러 조건을 조합하여 사용자 맞춤형 레시피를 추천합니다.")
     @GetMapping("/combined")
-    public Response<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByCombined(@AuthUser Long userId) {
-        List<UserRecipeResponse.RecipeSummaryDTO> result = recommendService.recommendRecipesByCombined(userId);
-        return Response.ok(result);
+    public Mono<Response<List<UserRecipeResponse.RecipeSummaryDTO>>> recommendRecipesByCombined(@AuthUser Long userId) {
+        return recommendService.recommendRecipesByCombined(userId)
+                .map(result -> Response.ok(result));
     }
 
     @Operation(summary = "AI 추천 레시피 등록 (냉장고 재료 기반)", description = "사용자의 보유 재료와 알레르기 정보를 기반으로 AI가 새로운 레시피를 생성하고 저장합니다.")
     @PostMapping("/ingredient")
-    public Response<List<RecipeResponse.DetailRes>> createAndSaveRecipesByIngredient(@AuthUser Long userId) {
-        List<RecipeResponse.DetailRes> result = recommendService.createAndSaveRecipesByIngredient(userId);
-        return Response.ok(result);
+    public Mono<Response<List<RecipeResponse.DetailRes>>> createAndSaveRecipesByIngredient(@AuthUser Long userId) {
+        return generationJobService.generateByIngredient(userId)
+                .map(result -> Response.ok(result));
     }
 
     @Operation(summary = "AI 추천 레시피 등록 (랜덤)", description = "AI가 랜덤하게 새로운 레시피를 생성하고 저장합니다.")
     @PostMapping("/random")
-    public Response<List<RecipeResponse.DetailRes>> createAndSaveRandomRecipes(@AuthUser Long userId) {
-        List<RecipeResponse.DetailRes> result = recommendService.createAndSaveRandomRecipes(userId);
-        return Response.ok(result);
+    public Mono<Response<List<RecipeResponse.DetailRes>>> createAndSaveRandomRecipes(@AuthUser Long userId) {
+        return generationJobService.generateRandom(userId)
+                .map(result -> Response.ok(result));
     }
     
     @Operation(summary = "AI 추천 레시피 등록 (키워드 기반)", description = "키워드를 기반으로 AI가 새로운 레시피를 생성하고 저장합니다. 키워드가 없으면 완전 랜덤하게 생성합니다.")
     @PostMapping("/random/{keyword}")
-    public Response<List<RecipeResponse.DetailRes>> createAndSaveRandomRecipesByKeyword(@AuthUser Long userId, @PathVariable String keyword) {
-        List<RecipeResponse.DetailRes> result = recommendService.createAndSaveRandomRecipesByKeyword(userId, keyword);
-        return Response.ok(result);
+    public Mono<Response<List<RecipeResponse.DetailRes>>> createAndSaveRandomRecipesByKeyword(@AuthUser Long userId, @PathVariable String keyword) {
+        return generationJobService.generateByKeyword(userId, keyword)
+                .map(result -> Response.ok(result));
+    }
+
+    @Operation(summary = "AI 추천 레시피 등록 스트리밍 (냉장고 재료 기반)", description = "AI 응답에서 레시피가 완성되어 저장될 때마다 recipe 이벤트로 전송하고, done 또는 error 이벤트로 끝납니다.")
+    @PostMapping(value = "/stream/ingredient", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamRecipesByIngredient(@AuthUser Long userId) {
+        return toEvents(recommendService.streamRecipesByIngredient(userId), recipe -> "recipe");
+    }
+
+    @Operation(summary = "AI 추천 레시피 등록 스트리밍 (랜덤)", description = "랜덤 레시피를 생성하며 저장될 때마다 recipe 이벤트로 전송합니다.")
+    @PostMapping(value = "/stream/random", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamRandomRecipes(@AuthUser Long userId) {
+        return toEvents(recommendService.streamRandomRecipes(userId, null), recipe -> "recipe");
+    }
+
+    @Operation(summary = "AI 추천 레시피 등록 스트리밍 (키워드 기반)", description = "키워드 기반 레시피를 생성하며 저장될 때마다 recipe 이벤트로 전송합니다.")
+    @PostMapping(value = "/stream/random/{keyword}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamRecipesByKeyword(@AuthUser Long userId, @PathVariable String keyword) {
+        return toEvents(recommendService.streamRecipesByKeyword(userId, keyword), recipe -> "recipe");
+    }
+
+    @Operation(summary = "AI 레시피 생성 작업 등록 (냉장고 재료 기반)", description = "재료 기반 레시피 생성을 비동기 작업으로 등록하고 작업 ID를 즉시 반환합니다. 진행 중인 동일 요청이 있으면 해당 작업을 반환합니다.")
+    @PostMapping("/jobs/ingredient")
+    public Response<RecipeResponse.GenerationJobRes> submitIngredientJob(@AuthUser Long userId) {
+        RecipeResponse.GenerationJobRes result = generationJobService.submitIngredientJob(userId);
+        return Response.ok(ResultCode.RECIPE_GENERATION_JOB_ACCEPTED, result);
+    }
+
+    @Operation(summary = "AI 레시피 생성 작업 등록 (랜덤)", description = "랜덤 레시피 생성을 비동기 작업으로 등록하고 작업 ID를 즉시 반환합니다.")
+    @PostMapping("/jobs/random")
+    public Response<RecipeResponse.GenerationJobRes> submitRandomJob(@AuthUser Long userId) {
+        RecipeResponse.GenerationJobRes result = generationJobService.submitRandomJob(userId);
+        return Response.ok(ResultCode.RECIPE_GENERATION_JOB_ACCEPTED, result);
+    }
+
+    @Operation(summary = "AI 레시피 생성 작업 등록 (키워드 기반)", description = "키워드 기반 레시피 생성을 비동기 작업으로 등록하고 작업 ID를 즉시 반환합니다.")
+    @PostMapping("/jobs/random/{keyword}")
+    public Response<RecipeResponse.GenerationJobRes> submitKeywordJob(@AuthUser Long userId, @PathVariable String keyword) {
+        RecipeResponse.GenerationJobRes result = generationJobService.submitKeywordJob(userId, keyword);
+        return Response.ok(ResultCode.RECIPE_GENERATION_JOB_ACCEPTED, result);
+    }
+
+    @Operation(summary = "AI 레시피 생성 작업 조회", description = "작업 상태(QUEUED, RUNNING, DONE, FAILED)와 생성된 레시피 ID를 조회합니다.")
+    @GetMapping("/jobs/{jobId}")
+    public Response<RecipeResponse.GenerationJobRes> getGenerationJob(@AuthUser Long userId, @PathVariable String jobId) {
+        RecipeResponse.GenerationJobRes result = generationJobService.getJob(userId, jobId);
+        return Response.ok(ResultCode.RECIPE_GENERATION_JOB_FETCH_OK, result);
+    }
+
+    /**
+     * SSE 이벤트 변환 (항목마다 eventName 이벤트, 정상 종료 시 done, 실패 시 실패 사유 코드를 담은 error 이벤트)
+     */
+    private static <T> Flux<ServerSentEvent<Object>> toEvents(Flux<T> items, Function<T, String> eventName) {
+        return items.map(item -> ServerSentEvent.<Object>builder(item).event(eventName.apply(item)).build())
+                .concatWith(Mono.just(ServerSentEvent.<Object>builder("done").event("done").build()))
+                .onErrorResume(e -> {
+                    String code = e instanceof BusinessException be
+                            ? be.getErrorCode()
+                            : ErrorCode.INTERNAL_SERVER_ERROR.getCode();
+                    return Mono.just(ServerSentEvent.<Object>builder(code).event("error").build());
+                });
     }
-} 
\ No newline at end of file
+}
@@ -2,10 +2,13 @@ package com.mumuk.domain.recipe.dto.response;
 
 import com.mumuk.domain.recipe.entity.Recipe;
 import com.mumuk.domain.recipe.converter.RecipeConverter;
+import com.mumuk.domain.search.dto.response.SearchResponse;
+import com.mumuk.domain.user.dto.response.UserRecipeResponse;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Map;
 
 public class RecipeResponse {
 
@@ -52,4 +55,32 @@ public class RecipeResponse {
         private String recipeIngredient;
         private String userIngredient;
     }
+
+    @Getter
+    @AllArgsConstructor
+    public static class GenerationJobRes {
+        private String jobId;
+        private String status;          // QUEUED, RUNNING, DONE, FAILED
+        private List<Long> recipeIds;   // DONE일 때 생성된 레시피 ID
+        private String errorCode;       // FAILED일 때 실패 사유 코드
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class HomeRes {
+        private List<UserRecipeResponse.RecipeSummaryDTO> ingredientRecipes;
+        private List<UserRecipeResponse.RecipeSummaryDTO> healthGoalRecipes;
+        private List<UserRecipeResponse.RecipeSummaryDTO> randomRecipes;
+        private SearchResponse.TrendRecipeTitleRes trendRecipeTitles;
+        private List<SearchResponse.TrendRecipeDetailRes> trendRecipes;
+        private Map<String, String> sectionStatus;  // 요청한 섹션별 OK, TIMEOUT 또는 실패 사유 코드
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class HomeSectionRes {
+        private String section;     // ingredient, health-goal, random, trend-title, trend-detail
+        private String status;      // OK, TIMEOUT 또는 실패 사유 코드
+        private Object data;        // 섹션 결과 (실패 시 null)
+    }
 }
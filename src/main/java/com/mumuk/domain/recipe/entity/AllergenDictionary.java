@@ -0,0 +1,104 @@
+package com.mumuk.domain.recipe.entity;
+
+import com.mumuk.domain.healthManagement.entity.AllergyType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 재료명 → 알레르기 유형 사전
+ *
+ * 레시피 재료 문자열에서 알레르기 유발 재료를 찾아 AllergyType 비트마스크(1 << ordinal)로 변환합니다.
+ * 사용자 알레르기 마스크와 AND 연산 한 번으로 충돌 여부를 판단할 수 있습니다.
+ * 판단이 애매한 재료(버터, 크림 등)는 보수적으로 포함시킵니다.
+ */
+public final class AllergenDictionary {
+
+    /** 부분 문자열로 일치시키는 재료명 */
+    private static final Map<AllergyType, List<String>> KEYWORDS = Map.of(
+            AllergyType.SHELLFISH, List.of("새우", "게살", "꽃게", "대게", "킹크랩", "게장", "랍스터", "가재", "조개", "바지락",
+                    "홍합", "전복", "가리비", "관자", "키조개", "재첩", "오징어", "문어", "낙지", "주꾸미", "쭈꾸미"),
+            AllergyType.NUTS, List.of("땅콩", "호두", "아몬드", "캐슈", "피스타치오", "헤이즐넛", "마카다미아", "피칸", "견과"),
+            AllergyType.DAIRY, List.of("우유", "치즈", "버터", "크림", "요거트", "요구르트", "연유", "분유", "모짜렐라", "파마산", "리코타"),
+            AllergyType.WHEAT, List.of("밀가루", "통밀", "부침가루", "튀김가루", "빵가루", "식빵", "파스타", "스파게티", "국수", "라면",
+                    "우동", "소면", "칼국수", "만두피", "또띠아", "중력분", "박력분", "강력분"),
+            AllergyType.EGG, List.of("계란", "달걀", "메추리알", "노른자", "흰자", "마요네즈"),
+            AllergyType.FISH, List.of("생선", "고등어", "연어", "참치", "멸치", "삼치", "갈치", "명태", "동태", "황태", "북어", "코다리",
+                    "대구", "광어", "우럭", "꽁치", "조기", "굴비", "장어", "가자미", "어묵", "액젓", "가쓰오부시"),
+            AllergyType.SOY, List.of("대두", "콩", "두부", "된장", "간장", "청국장", "두유", "유부", "낫또", "쌈장", "춘장")
+    );
+
+    /** 다른 단어의 일부로 흔히 나타나 재료명 전체가 일치할 때만 인정하는 재료명 */
+    private static final Map<AllergyType, Set<String>> EXACT_KEYWORDS = Map.of(
+            AllergyType.SHELLFISH, Set.of("게", "굴"),
+            AllergyType.NUTS, Set.of("잣"),
+            AllergyType.WHEAT, Set.of("밀", "빵"),
+            AllergyType.EGG, Set.of("알", "에그")
+    );
+
+    private AllergenDictionary() {
+    }
+
+    /**
+     * 레시피 재료 문자열의 알레르기 마스크 계산
+     */
+    public static long maskOfIngredients(String ingredients) {
+        if (ingredients == null || ingredients.isBlank()) {
+            return 0L;
+        }
+        long mask = 0L;
+        for (String part : ingredients.split("[,;\\n]+")) {
+            String ingredient = part.replaceAll("\\(.*?\\)", "").replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+            if (!ingredient.isEmpty()) {
+                mask |= maskOfIngredient(ingredient);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 사용자 알레르기 유형 목록의 마스크 계산 (NONE, 알 수 없는 값은 무시)
+     */
+    public static long maskOfAllergyTypes(Collection<String> allergyTypes) {
+        if (allergyTypes == null) {
+            return 0L;
+        }
+        long mask = 0L;
+        for (String type : allergyTypes) {
+            try {
+                AllergyType allergyType = AllergyType.valueOf(type);
+                if (allergyType != AllergyType.NONE) {
+                    mask |= bit(allergyType);
+                }
+            } catch (IllegalArgumentException | NullPointerException e) {
+                // 알 수 없는 알레르기 유형은 무시
+            }
+        }
+        return mask;
+    }
+
+    private static long maskOfIngredient(String ingredient) {
+        long mask = 0L;
+        for (Map.Entry<AllergyType, Set<String>> entry : EXACT_KEYWORDS.entrySet()) {
+            if (entry.getValue().contains(ingredient)) {
+                mask |= bit(entry.getKey());
+            }
+        }
+        for (Map.Entry<AllergyType, List<String>> entry : KEYWORDS.entrySet()) {
+            for (String keyword : entry.getValue()) {
+                if (ingredient.contains(keyword)) {
+                    mask |= bit(entry.getKey());
+                    break;
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static long bit(AllergyType type) {
+        return 1L << type.ordinal();
+    }
+}
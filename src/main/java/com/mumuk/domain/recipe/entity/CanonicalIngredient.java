@@ -0,0 +1,31 @@
+package com.mumuk.domain.recipe.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * 정규 재료 (IngredientSynonymDictionary로 정규화한 재료명)
+ *
+ * 레시피-재료 매핑(recipe_ingredient)이 참조하며, 행은 레시피 저장 시 RecipeBulkRepository가 추가합니다.
+ */
+@Entity
+@Table(name = "canonical_ingredient", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"name"})
+})
+public class CanonicalIngredient {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    // Getter
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,92 @@
+package com.mumuk.domain.recipe.entity;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재료 대체 사전
+ *
+ * 서로 대체 가능한 정규 재료명을 그룹으로 묶습니다. (재료 매칭 프롬프트의 포함적·용도적·유사적·보편적 대체 예시 기준)
+ * 같은 그룹이면 대체 가능, 둘 다 사전에 있고 그룹이 다르면 대체 불가로 판단하며,
+ * 사전에 없는 재료가 포함된 쌍은 판단하지 않고 AI에 맡깁니다.
+ * 대체 재료가 없는 흔한 재료는 단독 그룹으로 등록해 대체 불가 판단에 사용합니다.
+ */
+public final class IngredientSubstitutionDictionary {
+
+    /** 대체 가능 그룹 (IngredientSynonymDictionary로 정규화된 이름) */
+    private static final List<List<String>> GROUPS = List.of(
+            // 육류
+            List.of("돼지고기", "앞다리살", "돼지앞다리살", "삼겹살", "항정살", "목살", "돼지목살"),
+            List.of("소고기", "홍두깨살", "우둔살", "양지", "사태"),
+            List.of("닭고기", "닭가슴살", "닭다리살", "닭안심"),
+            // 채소
+            List.of("애호박", "주키니", "돼지호박"),
+            List.of("상추", "로메인", "로메인상추"),
+            List.of("대파", "쪽파"),
+            List.of("콩나물", "숙주", "숙주나물"),
+            List.of("버섯", "표고버섯", "느타리버섯", "새송이버섯", "양송이버섯"),
+            List.of("양파"), List.of("당근"), List.of("감자"), List.of("고구마"), List.of("양배추"), List.of("배추"),
+            List.of("시금치"), List.of("오이"), List.of("토마토"), List.of("두부"), List.of("계란"), List.of("김치"),
+            // 향신료
+            List.of("마늘", "흑마늘", "깐마늘", "통마늘"),
+            List.of("계피", "시나몬", "계핏가루", "시나몬가루"),
+            List.of("생강"), List.of("후추"), List.of("고춧가루"),
+            // 기본 조미료
+            List.of("간장", "국간장"),
+            List.of("설탕", "흑설탕", "황설탕"),
+            List.of("소금", "천일염", "꽃소금", "굵은소금"),
+            List.of("식초", "사과식초", "현미식초"),
+            List.of("올리고당", "물엿", "조청"),
+            List.of("식용유"), List.of("참기름"), List.of("들기름"), List.of("올리브유"), List.of("버터"),
+            // 감칠맛 조미료
+            List.of("다시다", "미원", "연두"),
+            List.of("굴소스", "치킨스톡"),
+            // 소스·장류
+            List.of("액젓", "멸치액젓", "까나리액젓"),
+            List.of("머스터드", "허니머스터드", "홀그레인머스터드", "스모키머스터드"),
+            List.of("고추장"), List.of("된장"), List.of("케첩"), List.of("마요네즈"),
+            // 곡류·가공품
+            List.of("스파게티", "링귀니", "링귀니면"),
+            List.of("부침가루", "튀김가루"),
+            List.of("밀가루"), List.of("빵가루"), List.of("밥"), List.of("떡"), List.of("어묵"), List.of("햄"), List.of("베이컨"),
+            List.of("우유"),
+            // 해산물
+            List.of("오징어"), List.of("새우"), List.of("조개"), List.of("참치"), List.of("고등어")
+    );
+
+    /** 정규 재료명 → 그룹 번호 */
+    private static final Map<String, Integer> GROUP_OF;
+
+    static {
+        Map<String, Integer> groupOf = new HashMap<>();
+        for (int i = 0; i < GROUPS.size(); i++) {
+            for (String name : GROUPS.get(i)) {
+                groupOf.put(name, i);
+            }
+        }
+        GROUP_OF = Collections.unmodifiableMap(groupOf);
+    }
+
+    private IngredientSubstitutionDictionary() {
+    }
+
+    public static boolean contains(String canonicalName) {
+        return GROUP_OF.containsKey(canonicalName);
+    }
+
+    /**
+     * 두 정규 재료명의 대체 가능 여부
+     *
+     * @return 같은 그룹이면 TRUE, 둘 다 사전에 있고 그룹이 다르면 FALSE, 사전으로 판단할 수 없으면 null
+     */
+    public static Boolean isSubstitutable(String recipeIngredient, String userIngredient) {
+        Integer recipeGroup = GROUP_OF.get(recipeIngredient);
+        Integer userGroup = GROUP_OF.get(userIngredient);
+        if (recipeGroup == null || userGroup == null) {
+            return null;
+        }
+        return recipeGroup.equals(userGroup);
+    }
+}
@@ -0,0 +1,154 @@
+package com.mumuk.domain.recipe.entity;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 재료명 정규화 사전
+ *
+ * 레시피 재료 문자열을 재료 단위로 나누고, 표기가 다른 같은 재료(달걀/계란, 쇠고기/소고기 등)를 하나의 정규 재료명으로 통일합니다.
+ * 레시피 저장 시 recipe_ingredient 매핑을 만들 때와 사용자 냉장고 재료를 비교할 때 같은 규칙을 사용합니다.
+ */
+public final class IngredientSynonymDictionary {
+
+    /** 레시피 재료 구분자 */
+    private static final String DELIMITER = "[,;\\n]+";
+
+    /** 정규 재료명 → 동의어 (공백 없이 비교) */
+    private static final Map<String, List<String>> SYNONYMS = Map.ofEntries(
+            Map.entry("계란", List.of("달걀", "에그", "계란물", "달걀물")),
+            Map.entry("소고기", List.of("쇠고기", "우육")),
+            Map.entry("돼지고기", List.of("돈육")),
+            Map.entry("닭고기", List.of("계육")),
+            Map.entry("고춧가루", List.of("고추가루")),
+            Map.entry("후추", List.of("후춧가루", "후추가루")),
+            Map.entry("간장", List.of("진간장", "양조간장")),
+            Map.entry("설탕", List.of("백설탕", "흰설탕")),
+            Map.entry("마늘", List.of("다진마늘", "간마늘")),
+            Map.entry("생강", List.of("다진생강", "간생강")),
+            Map.entry("대파", List.of("파", "다진파")),
+            Map.entry("식용유", List.of("기름", "콩기름", "카놀라유")),
+            Map.entry("스파게티", List.of("스파게티면")),
+            Map.entry("떡", List.of("떡볶이떡")),
+            Map.entry("밥", List.of("쌀밥", "흰밥", "공기밥"))
+    );
+
+    /** 재료명 앞의 손질 표현 (뒤에 재료명이 더 있을 때만 제거) */
+    private static final Set<String> PREPARATIONS = Set.of("다진", "채썬", "썬", "으깬", "삶은", "데친", "볶은", "구운");
+
+    /** 분량 단위 */
+    private static final String UNITS = "g|kg|mg|ml|l|cc|개|컵|큰술|작은술|숟가락|스푼|티스푼|t|ts|tbsp|tsp|쪽|줌|장|모|마리|근|봉지|봉|팩|캔|알|톨|뿌리|줄기|송이|꼬집|방울|인분|공기|조각|통";
+
+    /** 분량 표기만으로 된 단어 (1개, 200ml, 1/2컵, 약간 등) */
+    private static final Pattern QUANTITY = Pattern.compile(
+            "(\\d+([./]\\d+)?(" + UNITS + ")?|약간|적당량|적당히|조금|소량|한줌|한꼬집|반개)");
+
+    /** 재료명에 붙여 쓴 분량 표기 (양파1개 등) */
+    private static final Pattern TRAILING_QUANTITY = Pattern.compile("(?<=\\D)\\d+([./]\\d+)?(" + UNITS + ")?$");
+
+    /** 항상 제거하는 조사 */
+    private static final String ALWAYS_PARTICLES = "을를은는";
+
+    /** 제거한 결과가 사전에 있는 재료명일 때만 제거하는 조사 */
+    private static final String AMBIGUOUS_PARTICLES = "이가과와도";
+
+    private static final Map<String, String> CANONICAL;
+
+    static {
+        Map<String, String> canonical = new HashMap<>();
+        SYNONYMS.forEach((name, synonyms) -> synonyms.forEach(synonym -> canonical.put(synonym, name)));
+        CANONICAL = Collections.unmodifiableMap(canonical);
+    }
+
+    private IngredientSynonymDictionary() {
+    }
+
+    /**
+     * 레시피 재료 문자열을 재료 단위로 분리 (원래 표기 유지, 중복 제거)
+     */
+    public static List<String> split(String ingredients) {
+        if (ingredients == null || ingredients.isBlank()) {
+            return new ArrayList<>();
+        }
+        Set<String> parts = new LinkedHashSet<>();
+        for (String part : ingredients.split(DELIMITER)) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty()) {
+                parts.add(trimmed);
+            }
+        }
+        return new ArrayList<>(parts);
+    }
+
+    /**
+     * 레시피 재료 문자열의 정규 재료명 목록 (입력 순서 유지, 중복 제거)
+     */
+    public static List<String> canonicalNames(String ingredients) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String part : split(ingredients)) {
+            String name = canonicalize(part);
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * 재료명 하나를 정규 재료명으로 변환
+     * 괄호 안 표기, 분량·단위, 앞의 손질 표현, 끝의 조사를 제거하고, 공백을 없앤 뒤 동의어를 정규 재료명으로 바꿉니다.
+     */
+    public static String canonicalize(String ingredient) {
+        if (ingredient == null) {
+            return "";
+        }
+        // 분리형 자모·전각 문자·단위 기호(㎖ 등)를 일반 문자로 통일
+        String normalized = Normalizer.normalize(ingredient, Normalizer.Form.NFKC);
+        String[] words = normalized.replaceAll("\\(.*?\\)", " ").trim().toLowerCase(Locale.ROOT).split("\\s+");
+        List<String> kept = new ArrayList<>();
+        for (String word : words) {
+            if (!word.isEmpty() && !QUANTITY.matcher(word).matches()) {
+                kept.add(word);
+            }
+        }
+        int from = 0;
+        while (from < kept.size() - 1 && PREPARATIONS.contains(kept.get(from))) {
+            from++;
+        }
+        String name = String.join("", kept.subList(from, kept.size()));
+        name = TRAILING_QUANTITY.matcher(name).replaceFirst("");
+        name = stripParticle(name);
+        return CANONICAL.getOrDefault(name, name);
+    }
+
+    /**
+     * 재료명 끝의 조사 제거
+     * 을/를/은/는은 항상 제거하고, 재료명 끝 글자로도 흔한 이/가/과/와/도(오이, 사과, 포도 등)는 제거한 결과가 사전에 있는 재료명일 때만 제거합니다.
+     */
+    private static String stripParticle(String name) {
+        if (name.length() < 2) {
+            return name;
+        }
+        String stem = name.substring(0, name.length() - 1);
+        char last = name.charAt(name.length() - 1);
+        if (ALWAYS_PARTICLES.indexOf(last) >= 0) {
+            return stem;
+        }
+        if (AMBIGUOUS_PARTICLES.indexOf(last) >= 0 && isKnown(stem)) {
+            return stem;
+        }
+        return name;
+    }
+
+    private static boolean isKnown(String name) {
+        return SYNONYMS.containsKey(name) || CANONICAL.containsKey(name) || IngredientSubstitutionDictionary.contains(name);
+    }
+}
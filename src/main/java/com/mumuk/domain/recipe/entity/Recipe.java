@@ -4,7 +4,9 @@ import com.mumuk.global.common.BaseEntity;
 import jakarta.persistence.*;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "recipe", uniqueConstraints = {
@@ -49,6 +51,23 @@ public class Recipe extends BaseEntity {
     @Column(name = "ingredients", nullable = false, length = 200)
     private String ingredients;
 
+    /** 정규 재료 ID 매핑 (저장/수정 시 RecipeBulkRepository.replaceRecipeIngredients로 기록, 삭제 시 함께 삭제) */
+    @ElementCollection
+    @CollectionTable(name = "recipe_ingredient", joinColumns = @JoinColumn(name = "recipe_id"),
+            indexes = @Index(name = "idx_recipe_ingredient_ingredient_id", columnList = "ingredient_id, recipe_id"))
+    @Column(name = "ingredient_id", nullable = false)
+    private Set<Long> ingredientIds = new HashSet<>();
+
+    /** 재료에 포함된 알레르기 유형 비트마스크 (AllergenDictionary 기준, 저장 시 계산) */
+    @Column(name = "allergen_mask")
+    private Long allergenMask;
+
+    @PrePersist
+    @PreUpdate
+    private void updateAllergenMask() {
+        this.allergenMask = AllergenDictionary.maskOfIngredients(ingredients);
+    }
+
     // Getter
     public Long getId() {
         return id;
@@ -94,6 +113,14 @@ public class Recipe extends BaseEntity {
         return ingredients;
     }
 
+    public Long getAllergenMask() {
+        return allergenMask;
+    }
+
+    public Set<Long> getIngredientIds() {
+        return ingredientIds;
+    }
+
     // Setter
     public void setId(Long id) {
         this.id = id;
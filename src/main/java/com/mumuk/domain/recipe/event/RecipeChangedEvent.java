@@ -0,0 +1,35 @@
+package com.mumuk.domain.recipe.event;
+
+import com.mumuk.domain.recipe.entity.Recipe;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 레시피 저장/수정/삭제 이벤트
+ * 인메모리 색인(재료 역색인, 레시피 ID 카탈로그)이 커밋 이후 변경분을 반영하는 데 사용합니다.
+ */
+@Getter
+public class RecipeChangedEvent {
+
+    private final List<Recipe> savedRecipes;
+    private final List<Long> deletedRecipeIds;
+
+    private RecipeChangedEvent(List<Recipe> savedRecipes, List<Long> deletedRecipeIds) {
+        this.savedRecipes = savedRecipes;
+        this.deletedRecipeIds = deletedRecipeIds;
+    }
+
+    public static RecipeChangedEvent saved(Recipe recipe) {
+        return new RecipeChangedEvent(List.of(recipe), Collections.emptyList());
+    }
+
+    public static RecipeChangedEvent saved(List<Recipe> recipes) {
+        return new RecipeChangedEvent(List.copyOf(recipes), Collections.emptyList());
+    }
+
+    public static RecipeChangedEvent deleted(Long recipeId) {
+        return new RecipeChangedEvent(Collections.emptyList(), List.of(recipeId));
+    }
+}
@@ -0,0 +1,18 @@
+package com.mumuk.domain.recipe.repository;
+
+import com.mumuk.domain.recipe.entity.Recipe;
+
+import java.util.List;
+import java.util.Map;
+
+public interface RecipeBulkRepository {
+
+    // 레시피 일괄 저장 (제목이 이미 존재하는 레시피는 건너뛰고, 저장된 레시피만 ID를 채워 반환)
+    List<Recipe> insertAllIgnoringDuplicateTitles(List<Recipe> recipes);
+
+    // 레시피별 알레르기 마스크 일괄 갱신 (레시피 ID → 마스크)
+    void updateAllergenMasks(Map<Long, Long> masksById);
+
+    // 레시피별 정규 재료 매핑 교체 (레시피 ID → 재료 문자열, 없는 정규 재료는 canonical_ingredient에 추가)
+    void replaceRecipeIngredients(Map<Long, String> ingredientsById);
+}
@@ -0,0 +1,189 @@
+package com.mumuk.domain.recipe.repository;
+
+import com.mumuk.domain.recipe.entity.AllergenDictionary;
+import com.mumuk.domain.recipe.entity.IngredientSynonymDictionary;
+import com.mumuk.domain.recipe.entity.Recipe;
+import com.mumuk.domain.recipe.entity.RecipeCategory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 레시피 일괄 INSERT
+ *
+ * Recipe는 IDENTITY 전략이라 Hibernate가 INSERT를 JDBC 배치로 묶지 못하므로,
+ * 다중 VALUES INSERT 한 번과 카테고리·정규 재료 매핑 배치 INSERT로 저장합니다.
+ * 호출부의 트랜잭션 안에서 실행되어야 합니다.
+ */
+public class RecipeBulkRepositoryImpl implements RecipeBulkRepository {
+
+    private static final String INSERT_RECIPE_PREFIX =
+            "INSERT INTO recipe (title, recipe_image, description, cooking_time, protein, carbohydrate, fat, " +
+            "calories, ingredients, allergen_mask, created_at, updated_at) VALUES ";
+
+    private static final String INSERT_RECIPE_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_RECIPE_SUFFIX = " ON CONFLICT (title) DO NOTHING RETURNING id, title";
+
+    private static final String INSERT_CATEGORY =
+            "INSERT INTO recipe_category_map (recipe_id, category) VALUES (?, ?)";
+
+    private static final String UPDATE_ALLERGEN_MASK = "UPDATE recipe SET allergen_mask = ? WHERE id = ?";
+
+    private static final String INSERT_CANONICAL_INGREDIENT_PREFIX = "INSERT INTO canonical_ingredient (name) VALUES ";
+
+    private static final String INSERT_CANONICAL_INGREDIENT_SUFFIX = " ON CONFLICT (name) DO NOTHING";
+
+    private static final String SELECT_CANONICAL_INGREDIENT_PREFIX = "SELECT id, name FROM canonical_ingredient WHERE name IN ";
+
+    private static final String DELETE_RECIPE_INGREDIENTS_PREFIX = "DELETE FROM recipe_ingredient WHERE recipe_id IN ";
+
+    private static final String INSERT_RECIPE_INGREDIENT =
+            "INSERT INTO recipe_ingredient (recipe_id, ingredient_id) VALUES (?, ?) ON CONFLICT DO NOTHING";
+
+    /** canonical_ingredient.name 길이 제한 */
+    private static final int MAX_INGREDIENT_NAME_LENGTH = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RecipeBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Recipe> insertAllIgnoringDuplicateTitles(List<Recipe> recipes) {
+        if (recipes == null || recipes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_RECIPE_PREFIX);
+        List<Object> params = new ArrayList<>(recipes.size() * 12);
+        for (int i = 0; i < recipes.size(); i++) {
+            Recipe recipe = recipes.get(i);
+            sql.append(i == 0 ? "" : ", ").append(INSERT_RECIPE_ROW);
+            params.add(recipe.getTitle());
+            params.add(recipe.getRecipeImage());
+            params.add(recipe.getDescription());
+            params.add(recipe.getCookingTime());
+            params.add(recipe.getProtein());
+            params.add(recipe.getCarbohydrate());
+            params.add(recipe.getFat());
+            params.add(recipe.getCalories());
+            params.add(recipe.getIngredients());
+            // 엔티티 콜백(@PrePersist)을 거치지 않으므로 직접 계산
+            params.add(AllergenDictionary.maskOfIngredients(recipe.getIngredients()));
+            params.add(Timestamp.valueOf(recipe.getCreatedAt()));
+            params.add(Timestamp.valueOf(recipe.getUpdatedAt()));
+        }
+        sql.append(INSERT_RECIPE_SUFFIX);
+
+        // 실제로 저장된 행의 제목 → 생성된 ID
+        Map<String, Long> insertedIds = new HashMap<>();
+        jdbcTemplate.query(sql.toString(),
+                rs -> { insertedIds.put(rs.getString("title"), rs.getLong("id")); },
+                params.toArray());
+
+        List<Recipe> inserted = new ArrayList<>();
+        List<Object[]> categoryRows = new ArrayList<>();
+        Map<Long, String> ingredientsById = new LinkedHashMap<>();
+        for (Recipe recipe : recipes) {
+            Long id = insertedIds.remove(recipe.getTitle());
+            if (id == null) {
+                continue;
+            }
+            recipe.setId(id);
+            inserted.add(recipe);
+            ingredientsById.put(id, recipe.getIngredients());
+            if (recipe.getCategories() != null) {
+                for (RecipeCategory category : recipe.getCategories()) {
+                    categoryRows.add(new Object[]{id, category.name()});
+                }
+            }
+        }
+
+        if (!categoryRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CATEGORY, categoryRows);
+        }
+        // 새로 저장된 레시피라 기존 매핑이 없으므로 추가만 수행
+        insertRecipeIngredients(ingredientsById);
+        return inserted;
+    }
+
+    @Override
+    public void updateAllergenMasks(Map<Long, Long> masksById) {
+        if (masksById == null || masksById.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(masksById.size());
+        masksById.forEach((id, mask) -> rows.add(new Object[]{mask, id}));
+        jdbcTemplate.batchUpdate(UPDATE_ALLERGEN_MASK, rows);
+    }
+
+    @Override
+    public void replaceRecipeIngredients(Map<Long, String> ingredientsById) {
+        if (ingredientsById == null || ingredientsById.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_RECIPE_INGREDIENTS_PREFIX + placeholders(ingredientsById.size()),
+                ingredientsById.keySet().toArray());
+        insertRecipeIngredients(ingredientsById);
+    }
+
+    private void insertRecipeIngredients(Map<Long, String> ingredientsById) {
+        Map<Long, List<String>> namesById = new LinkedHashMap<>();
+        Set<String> allNames = new LinkedHashSet<>();
+        ingredientsById.forEach((id, ingredients) -> {
+            List<String> names = IngredientSynonymDictionary.canonicalNames(ingredients).stream()
+                    .filter(name -> name.length() <= MAX_INGREDIENT_NAME_LENGTH)
+                    .toList();
+            namesById.put(id, names);
+            allNames.addAll(names);
+        });
+        if (allNames.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> ingredientIds = resolveIngredientIds(allNames);
+        List<Object[]> rows = new ArrayList<>();
+        namesById.forEach((id, names) -> {
+            for (String name : names) {
+                Long ingredientId = ingredientIds.get(name);
+                if (ingredientId != null) {
+                    rows.add(new Object[]{id, ingredientId});
+                }
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_RECIPE_INGREDIENT, rows);
+        }
+    }
+
+    /**
+     * 정규 재료명 → ID (없는 재료명은 추가, 동시 추가는 ON CONFLICT로 무시하고 다시 조회)
+     */
+    private Map<String, Long> resolveIngredientIds(Collection<String> names) {
+        String in = placeholders(names.size());
+        Object[] params = names.toArray();
+        jdbcTemplate.update(INSERT_CANONICAL_INGREDIENT_PREFIX + String.join(", ", Collections.nCopies(names.size(), "(?)"))
+                + INSERT_CANONICAL_INGREDIENT_SUFFIX, params);
+
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(SELECT_CANONICAL_INGREDIENT_PREFIX + in,
+                rs -> { ids.put(rs.getString("name"), rs.getLong("id")); },
+                params);
+        return ids;
+    }
+
+    private static String placeholders(int count) {
+        return "(" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+}
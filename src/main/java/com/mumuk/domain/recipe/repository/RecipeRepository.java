@@ -7,9 +7,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface RecipeRepository extends JpaRepository<Recipe, Long> {
+public interface RecipeRepository extends JpaRepository<Recipe, Long>, RecipeBulkRepository, RecipeSearchRepository {
 
     // 여러 카테고리 중 하나라도 포함된 레시피의 이름 반환
     @Query("SELECT DISTINCT r.title FROM Recipe r JOIN r.categories c WHERE c IN :categories")
@@ -59,6 +60,18 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
     // 제목만으로 중복 체크
     boolean existsByTitle(String title);
 
+    // 주어진 제목 중 이미 존재하는 제목 조회 (일괄 중복 체크)
+    @Query("SELECT r.title FROM Recipe r WHERE r.title IN :titles")
+    List<String> findExistingTitles(@Param("titles") Collection<String> titles);
+
+    // 전체 레시피 제목 (제목 블룸 필터 구성용)
+    @Query("SELECT r.title FROM Recipe r")
+    List<String> findAllTitles();
+
+    // 자동완성 색인 구성용 (ID, 제목)
+    @Query("SELECT r.id, r.title FROM Recipe r")
+    List<Object[]> findAllIdsWithTitles();
+
     // 제목과 재료로 중복 체크
     @Query("SELECT r FROM Recipe r WHERE r.title = :title AND r.ingredients = :ingredients")
     List<Recipe> findByTitleAndIngredients(@Param("title") String title, @Param("ingredients") String ingredients);
@@ -67,6 +80,62 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
     @Query("SELECT r FROM Recipe r WHERE LOWER(r.title) LIKE LOWER(CONCAT('%', :title, '%'))")
     List<Recipe> findByTitleContainingIgnoreCase(@Param("title") String title);
 
+    // 전체 레시피 ID와 카테고리 (레시피 카탈로그 구성용, 카테고리가 없으면 null)
+    @Query("SELECT r.id, c FROM Recipe r LEFT JOIN r.categories c")
+    List<Object[]> findAllIdsWithCategories();
+
+    // 전체 레시피 알레르기 마스크와 재료 (마스크 보정 및 알레르기 필터 구성용)
+    @Query("SELECT r.id, r.allergenMask, r.ingredients FROM Recipe r")
+    List<Object[]> findAllAllergenSources();
+
+    // 전체 레시피-정규 재료 매핑 (재료 역색인 구성용)
+    @Query(value = """
+        SELECT ri.recipe_id, ci.name
+        FROM recipe_ingredient ri
+        INNER JOIN canonical_ingredient ci ON ci.id = ri.ingredient_id
+        """, nativeQuery = true)
+    List<Object[]> findAllCanonicalIngredientNames();
+
+    // 정규 재료 매핑이 없는 레시피 ID와 재료 (매핑 보충 전 레시피도 재료 역색인에 포함)
+    @Query(value = """
+        SELECT r.id, r.ingredients
+        FROM recipe r
+        WHERE NOT EXISTS (SELECT 1 FROM recipe_ingredient ri WHERE ri.recipe_id = r.id)
+        """, nativeQuery = true)
+    List<Object[]> findIngredientsWithoutCanonicalMapping();
+
+    // 정규 재료 매핑이 없는 레시피를 ID 순으로 limit개 (매핑 보충 chunk 단위 조회)
+    @Query(value = """
+        SELECT r.id, r.ingredients
+        FROM recipe r
+        WHERE r.id > :afterId
+          AND NOT EXISTS (SELECT 1 FROM recipe_ingredient ri WHERE ri.recipe_id = r.id)
+        ORDER BY r.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Object[]> findIngredientsWithoutCanonicalMappingAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    // 모든 재료가 주어진 정규 재료에 포함되는 레시피 ID (냉장고 재료만으로 만들 수 있는 레시피)
+    @Query(value = """
+        SELECT ri.recipe_id
+        FROM recipe_ingredient ri
+        LEFT JOIN canonical_ingredient ci ON ci.id = ri.ingredient_id AND ci.name IN (:names)
+        WHERE ri.recipe_id IN (
+            SELECT c.recipe_id FROM recipe_ingredient c
+            INNER JOIN canonical_ingredient n ON n.id = c.ingredient_id
+            WHERE n.name IN (:names)
+        )
+        GROUP BY ri.recipe_id
+        HAVING COUNT(*) = COUNT(ci.id)
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findIdsCoveredByIngredients(@Param("names") Collection<String> canonicalNames,
+                                           @Param("limit") int limit);
+
+    // 전체 레시피 영양 정보 (규칙 기반 영양 점수 계산용)
+    @Query("SELECT r.id, r.calories, r.protein, r.carbohydrate, r.fat FROM Recipe r")
+    List<Object[]> findAllNutrition();
+
     // 효율적인 랜덤 샘플링 (DB 레벨에서 한 번의 쿼리로 처리)
     @Query(value = "SELECT * FROM recipe ORDER BY RANDOM() LIMIT :limit", nativeQuery = true)
     List<Recipe> findRandomRecipes(@Param("limit") int limit);
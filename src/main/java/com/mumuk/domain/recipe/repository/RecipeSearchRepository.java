@@ -0,0 +1,43 @@
+package com.mumuk.domain.recipe.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface RecipeSearchRepository {
+
+    // 키워드 유사도 순 레시피 검색 (점수 내림차순, 같은 점수는 ID 내림차순, afterScore/afterId 다음부터 limit개)
+    List<SearchRow> searchByKeyword(String keyword, BigDecimal afterScore, Long afterId, int limit);
+
+    /**
+     * 검색 결과 한 행 (목록 응답에 필요한 필드와 키셋 커서용 점수만 조회)
+     */
+    final class SearchRow {
+        private final Long id;
+        private final String title;
+        private final String recipeImage;
+        private final BigDecimal score;
+
+        public SearchRow(Long id, String title, String recipeImage, BigDecimal score) {
+            this.id = id;
+            this.title = title;
+            this.recipeImage = recipeImage;
+            this.score = score;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getRecipeImage() {
+            return recipeImage;
+        }
+
+        public BigDecimal getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.mumuk.domain.recipe.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레시피 키워드 검색 (pg_trgm)
+ *
+ * 제목과 제목·설명·재료를 이은 문자열에 pg_trgm GIN 색인(RecipeSearchIndexInitializer)을 두고,
+ * 부분 일치(ILIKE)와 단어 유사도(<%)로 후보를 찾은 뒤 유사도 점수로 정렬합니다.
+ * 페이지는 (점수, ID) 키셋으로 이어 받으므로 OFFSET 없이 일정한 비용으로 조회하며, 목록 응답에 필요한 컬럼만 읽습니다.
+ * pg_trgm 확장이 없으면 같은 형태의 ILIKE 검색(제목 포함 여부만 점수화)으로 동작합니다.
+ */
+@Slf4j
+public class RecipeSearchRepositoryImpl implements RecipeSearchRepository {
+
+    /** 제목·설명·재료 검색 대상 문자열 (색인 표현식과 동일해야 색인을 사용) */
+    public static final String SEARCH_TEXT = "(title || ' ' || description || ' ' || ingredients)";
+
+    private static final String TRIGRAM_SCORE =
+            "ROUND((CASE WHEN title ILIKE ? THEN 1 ELSE 0 END + 2 * word_similarity(?, title) + similarity(title, ?) " +
+            "+ word_similarity(?, " + SEARCH_TEXT + "))::numeric, 4)";
+
+    private static final String TRIGRAM_FILTER = "title ILIKE ? OR ? <% title OR " + SEARCH_TEXT + " ILIKE ?";
+
+    private static final String LIKE_SCORE = "ROUND((CASE WHEN title ILIKE ? THEN 1 ELSE 0 END)::numeric, 4)";
+
+    private static final String LIKE_FILTER = "title ILIKE ? OR " + SEARCH_TEXT + " ILIKE ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** pg_trgm 설치 여부 (설치가 확인되면 다시 확인하지 않음) */
+    private volatile Boolean trigramAvailable;
+
+    public RecipeSearchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<SearchRow> searchByKeyword(String keyword, BigDecimal afterScore, Long afterId, int limit) {
+        String pattern = "%" + escapeLike(keyword) + "%";
+        boolean trigram = isTrigramAvailable();
+
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT id, title, recipe_image, score FROM (SELECT id, title, recipe_image, ");
+        if (trigram) {
+            sql.append(TRIGRAM_SCORE).append(" AS score FROM recipe WHERE ").append(TRIGRAM_FILTER);
+            params.add(pattern);
+            params.add(keyword);
+            params.add(keyword);
+            params.add(keyword);
+            params.add(pattern);
+            params.add(keyword);
+            params.add(pattern);
+        } else {
+            sql.append(LIKE_SCORE).append(" AS score FROM recipe WHERE ").append(LIKE_FILTER);
+            params.add(pattern);
+            params.add(pattern);
+            params.add(pattern);
+        }
+        sql.append(") s");
+        if (afterScore != null && afterId != null) {
+            sql.append(" WHERE (s.score, s.id) < (?, ?)");
+            params.add(afterScore);
+            params.add(afterId);
+        }
+        sql.append(" ORDER BY s.score DESC, s.id DESC LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new SearchRow(rs.getLong("id"), rs.getString("title"),
+                        rs.getString("recipe_image"), rs.getBigDecimal("score")),
+                params.toArray());
+    }
+
+    private boolean isTrigramAvailable() {
+        if (Boolean.TRUE.equals(trigramAvailable)) {
+            return true;
+        }
+        boolean available;
+        try {
+            available = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')", Boolean.class));
+        } catch (Exception e) {
+            available = false;
+        }
+        if (!available && trigramAvailable == null) {
+            log.warn("pg_trgm 확장이 없어 레시피 검색을 ILIKE로 수행합니다.");
+        }
+        trigramAvailable = available;
+        return available;
+    }
+
+    /**
+     * LIKE 패턴 특수문자 이스케이프 (기본 이스케이프 문자 \)
+     */
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,233 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.recipe.dto.response.RecipeResponse;
+import com.mumuk.domain.recipe.entity.IngredientSubstitutionDictionary;
+import com.mumuk.domain.recipe.entity.IngredientSynonymDictionary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로컬 재료 매칭기
+ *
+ * 레시피 재료를 사용자 냉장고 재료와 비교해 match/replaceable/mismatch로 분류합니다.
+ * 1) 정규 재료명(IngredientSynonymDictionary)이 같으면 match
+ * 2) 재료 쌍마다 대체 사전(IngredientSubstitutionDictionary), 없으면 전역 쌍 판정 캐시로 대체 가능 여부 판단
+ * 3) 판단할 수 없는 쌍이 남은 재료만 unresolved로 돌려 AI에 맡기고, AI 판정은 사용자와 무관하게 재료 쌍 단위로 캐싱합니다.
+ */
+@Slf4j
+@Component
+public class IngredientMatcher {
+
+    private static final String PAIR_KEY_PREFIX = "ingredient-pair:";
+
+    private static final String VERDICT_REPLACEABLE = "replaceable";
+    private static final String VERDICT_MISMATCH = "mismatch";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /** AI 재료 쌍 판정 보관 기간 */
+    private final Duration pairCacheTtl;
+
+    public IngredientMatcher(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+                             @Value("${app.ingredient-matching.pair-cache-ttl-days:30}") long pairCacheTtlDays) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.pairCacheTtl = Duration.ofDays(pairCacheTtlDays);
+    }
+
+    /**
+     * 로컬 규칙과 쌍 판정 캐시로 레시피 재료 분류
+     *
+     * @param recipeIngredients 레시피 재료 (원래 표기)
+     * @param userIngredients 사용자 보유 재료 (원래 표기)
+     */
+    public Resolution resolve(List<String> recipeIngredients, List<String> userIngredients) {
+        // 정규 재료명 → 사용자 재료 원래 표기 (replaceable 응답에 사용)
+        Map<String, String> users = new LinkedHashMap<>();
+        for (String userIngredient : userIngredients) {
+            String name = IngredientSynonymDictionary.canonicalize(userIngredient);
+            if (!name.isEmpty()) {
+                users.putIfAbsent(name, userIngredient);
+            }
+        }
+
+        Resolution resolution = new Resolution();
+        Map<String, List<String>> pendingPairs = new LinkedHashMap<>();
+        for (String recipeIngredient : recipeIngredients) {
+            String name = IngredientSynonymDictionary.canonicalize(recipeIngredient);
+            if (users.containsKey(name)) {
+                resolution.match.add(recipeIngredient);
+                count("local");
+                continue;
+            }
+            String substitute = null;
+            List<String> unknown = new ArrayList<>();
+            for (String user : users.keySet()) {
+                Boolean substitutable = IngredientSubstitutionDictionary.isSubstitutable(name, user);
+                if (Boolean.TRUE.equals(substitutable)) {
+                    substitute = user;
+                    break;
+                }
+                if (substitutable == null) {
+                    unknown.add(user);
+                }
+            }
+            if (substitute != null) {
+                resolution.replaceable.add(new RecipeResponse.ReplaceableIngredient(recipeIngredient, users.get(substitute)));
+                count("local");
+            } else if (unknown.isEmpty()) {
+                resolution.mismatch.add(recipeIngredient);
+                count("local");
+            } else {
+                pendingPairs.put(recipeIngredient, unknown);
+            }
+        }
+        if (pendingPairs.isEmpty()) {
+            return resolution;
+        }
+
+        Map<String, String> verdicts = loadVerdicts(pendingPairs);
+        pendingPairs.forEach((recipeIngredient, unknown) -> {
+            String name = IngredientSynonymDictionary.canonicalize(recipeIngredient);
+            boolean allMismatch = true;
+            for (String user : unknown) {
+                String verdict = verdicts.get(pairKey(name, user));
+                if (VERDICT_REPLACEABLE.equals(verdict)) {
+                    resolution.replaceable.add(new RecipeResponse.ReplaceableIngredient(recipeIngredient, users.get(user)));
+                    count("pair-cache");
+                    return;
+                }
+                allMismatch &= VERDICT_MISMATCH.equals(verdict);
+            }
+            if (allMismatch) {
+                resolution.mismatch.add(recipeIngredient);
+                count("pair-cache");
+            } else {
+                resolution.unresolved.add(recipeIngredient);
+                count("unresolved");
+            }
+        });
+        return resolution;
+    }
+
+    /**
+     * AI 판정을 재료 쌍 단위로 저장 (대체 가능으로 답한 쌍, 불일치로 답한 재료와 모든 사용자 재료의 쌍)
+     */
+    public void recordVerdicts(Collection<RecipeResponse.ReplaceableIngredient> replaceable, Collection<String> mismatch,
+                               Collection<String> userIngredients) {
+        Map<String, String> verdicts = new HashMap<>();
+        Set<String> users = new LinkedHashSet<>();
+        for (String userIngredient : userIngredients) {
+            String name = IngredientSynonymDictionary.canonicalize(userIngredient);
+            if (!name.isEmpty()) {
+                users.add(name);
+            }
+        }
+        for (String recipeIngredient : mismatch) {
+            String name = IngredientSynonymDictionary.canonicalize(recipeIngredient);
+            for (String user : users) {
+                if (IngredientSubstitutionDictionary.isSubstitutable(name, user) == null) {
+                    verdicts.put(pairKey(name, user), VERDICT_MISMATCH);
+                }
+            }
+        }
+        for (RecipeResponse.ReplaceableIngredient pair : replaceable) {
+            verdicts.put(pairKey(IngredientSynonymDictionary.canonicalize(pair.getRecipeIngredient()),
+                    IngredientSynonymDictionary.canonicalize(pair.getUserIngredient())), VERDICT_REPLACEABLE);
+        }
+        if (verdicts.isEmpty()) {
+            return;
+        }
+        try {
+            // 쌍 수만큼 왕복하지 않도록 파이프라인으로 한 번에 저장
+            RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+            Expiration expiration = Expiration.from(pairCacheTtl);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                verdicts.forEach((key, verdict) -> connection.stringCommands().set(
+                        serializer.serialize(key), serializer.serialize(verdict), expiration, RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("재료 쌍 판정 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, String> loadVerdicts(Map<String, List<String>> pendingPairs) {
+        List<String> keys = new ArrayList<>();
+        pendingPairs.forEach((recipeIngredient, unknown) -> {
+            String name = IngredientSynonymDictionary.canonicalize(recipeIngredient);
+            unknown.forEach(user -> keys.add(pairKey(name, user)));
+        });
+        Map<String, String> verdicts = new HashMap<>();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values != null) {
+                for (int i = 0; i < keys.size() && i < values.size(); i++) {
+                    if (values.get(i) != null) {
+                        verdicts.put(keys.get(i), values.get(i));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("재료 쌍 판정 조회 실패: {}", e.getMessage());
+        }
+        return verdicts;
+    }
+
+    private static String pairKey(String recipeIngredient, String userIngredient) {
+        return PAIR_KEY_PREFIX + recipeIngredient + "|" + userIngredient;
+    }
+
+    private void count(String source) {
+        Counter.builder("ingredient.matching.resolution")
+                .description("레시피 재료 매칭 판단 출처 (local, pair-cache, unresolved)")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 레시피 재료 분류 결과 (unresolved는 AI 판단 필요)
+     */
+    public static final class Resolution {
+        private final List<String> match = new ArrayList<>();
+        private final List<String> mismatch = new ArrayList<>();
+        private final List<RecipeResponse.ReplaceableIngredient> replaceable = new ArrayList<>();
+        private final List<String> unresolved = new ArrayList<>();
+
+        public List<String> getMatch() {
+            return match;
+        }
+
+        public List<String> getMismatch() {
+            return mismatch;
+        }
+
+        public List<RecipeResponse.ReplaceableIngredient> getReplaceable() {
+            return replaceable;
+        }
+
+        public List<String> getUnresolved() {
+            return unresolved;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.mumuk.domain.recipe.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 야간 사전 계산 추천 목록 저장소 (Redis HASH)
+ *
+ * 사용자·추천 모드별로 추천 레시피 ID 목록을 계산 당시의 프로필 지문, 형식 버전, 계산 시각과 함께 보관합니다.
+ * 조회 시 버전이 다르거나, max-age보다 오래되었거나, 프로필 지문이 현재와 다르면 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+public class PrecomputedRecommendationStore {
+
+    private static final String KEY_PREFIX = "recommend-precomputed:";
+
+    /** 저장 형식/점수 계산 방식 버전 (바뀌면 이전에 계산된 목록은 사용하지 않음) */
+    static final String VERSION = "2";
+
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_FINGERPRINT = "fingerprint";
+    private static final String FIELD_COMPUTED_AT = "computedAt";
+    private static final String FIELD_RECIPE_IDS = "recipeIds";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+
+    /** 사전 계산 목록 유효기간 (다음 실행이 실패해도 하루 정도는 사용) */
+    private final Duration maxAge;
+
+    public PrecomputedRecommendationStore(StringRedisTemplate redisTemplate,
+                                          @Value("${app.recommend.precompute.enabled:true}") boolean enabled,
+                                          @Value("${app.recommend.precompute.max-age-hours:36}") long maxAgeHours) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.maxAge = Duration.ofHours(maxAgeHours);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 유효한 사전 계산 목록 조회
+     *
+     * @return 레시피 ID 목록 (추천 순서), 없거나 오래되었거나 프로필이 바뀌었으면 empty
+     */
+    public Optional<List<Long>> get(RecommendMode mode, Long userId, String fingerprint) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(mode, userId));
+            if (fields.isEmpty()
+                    || !VERSION.equals(fields.get(FIELD_VERSION))
+                    || !fingerprint.equals(fields.get(FIELD_FINGERPRINT))) {
+                return Optional.empty();
+            }
+            long computedAt = Long.parseLong((String) fields.get(FIELD_COMPUTED_AT));
+            if (System.currentTimeMillis() - computedAt > maxAge.toMillis()) {
+                return Optional.empty();
+            }
+            String recipeIds = (String) fields.get(FIELD_RECIPE_IDS);
+            if (recipeIds == null || recipeIds.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(Arrays.stream(recipeIds.split(","))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList()));
+        } catch (Exception e) {
+            log.warn("사전 계산 추천 조회 실패 - userId: {}, mode: {}, {}", userId, mode.getKey(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 사전 계산 목록 저장 (기존 목록 대체)
+     */
+    public void put(RecommendMode mode, Long userId, String fingerprint, List<Long> recipeIds) {
+        String key = key(mode, userId);
+        try {
+            redisTemplate.opsForHash().putAll(key, Map.of(
+                    FIELD_VERSION, VERSION,
+                    FIELD_FINGERPRINT, fingerprint,
+                    FIELD_COMPUTED_AT, String.valueOf(System.currentTimeMillis()),
+                    FIELD_RECIPE_IDS, recipeIds.stream().map(String::valueOf).collect(Collectors.joining(","))));
+            redisTemplate.expire(key, maxAge);
+        } catch (Exception e) {
+            log.warn("사전 계산 추천 저장 실패 - userId: {}, mode: {}, {}", userId, mode.getKey(), e.getMessage());
+        }
+    }
+
+    private static String key(RecommendMode mode, Long userId) {
+        return KEY_PREFIX + mode.getKey() + ":" + userId;
+    }
+}
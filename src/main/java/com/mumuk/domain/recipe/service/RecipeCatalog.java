@@ -0,0 +1,292 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.recipe.entity.AllergenDictionary;
+import com.mumuk.domain.recipe.entity.RecipeCategory;
+import com.mumuk.domain.recipe.entity.Recipe;
+import com.mumuk.domain.recipe.event.RecipeChangedEvent;
+import com.mumuk.domain.recipe.repository.RecipeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 레시피 ID 카탈로그 (인메모리)
+ *
+ * 전체 레시피 ID와 카테고리별 ID 배열을 보관해 ORDER BY RANDOM() 없이 후보를 뽑습니다.
+ * 균등 샘플링은 기각 샘플링으로 O(k), 카테고리 층화 샘플링은 카테고리별 할당량만큼 같은 방식으로 뽑습니다.
+ * 레시피별 알레르기 마스크도 함께 보관해, 사용자 알레르기와 충돌하는 레시피를 AND 연산 한 번으로 걸러냅니다.
+ * 색인은 불변 스냅샷으로 교체되므로 조회는 잠금 없이 수행됩니다.
+ */
+@Slf4j
+@Component
+public class RecipeCatalog {
+
+    /** 기각 샘플링 시도 한도 배수 (제외 비율이 높아 한도를 넘기면 전체 순회로 전환) */
+    private static final int MAX_ATTEMPT_FACTOR = 8;
+
+    private final RecipeRepository recipeRepository;
+
+    /** 레시피 ID → 카테고리 (스냅샷 재구성의 원본) */
+    private final Map<Long, List<RecipeCategory>> recipeCategories = new HashMap<>();
+
+    /** 레시피 ID → 알레르기 마스크 (스냅샷 재구성의 원본) */
+    private final Map<Long, Long> recipeAllergenMasks = new HashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public RecipeCatalog(RecipeRepository recipeRepository) {
+        this.recipeRepository = recipeRepository;
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 전체 레시피 ID로 카탈로그 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 다른 인스턴스에서 저장/삭제된 레시피를 반영하기 위한 주기적 재구성 (10분)
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            Map<Long, List<RecipeCategory>> loaded = new HashMap<>();
+            for (Object[] row : recipeRepository.findAllIdsWithCategories()) {
+                List<RecipeCategory> categories = loaded.computeIfAbsent((Long) row[0], id -> new ArrayList<>());
+                if (row[1] != null) {
+                    categories.add((RecipeCategory) row[1]);
+                }
+            }
+            Map<Long, Long> masks = loadAllergenMasks();
+
+            synchronized (this) {
+                recipeCategories.clear();
+                recipeCategories.putAll(loaded);
+                recipeAllergenMasks.clear();
+                recipeAllergenMasks.putAll(masks);
+                publish();
+            }
+            log.info("레시피 카탈로그 구성 완료 - 레시피 {}개, {}ms", snapshot.allIds.length, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("레시피 카탈로그 구성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 레시피 저장/삭제 반영 (트랜잭션 밖에서 발행된 이벤트도 처리)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        synchronized (this) {
+            for (Recipe recipe : event.getSavedRecipes()) {
+                if (recipe.getId() != null) {
+                    List<RecipeCategory> categories = recipe.getCategories() == null
+                            ? new ArrayList<>() : new ArrayList<>(recipe.getCategories());
+                    recipeCategories.put(recipe.getId(), categories);
+                    recipeAllergenMasks.put(recipe.getId(), AllergenDictionary.maskOfIngredients(recipe.getIngredients()));
+                }
+            }
+            event.getDeletedRecipeIds().forEach(id -> {
+                recipeCategories.remove(id);
+                recipeAllergenMasks.remove(id);
+            });
+            publish();
+        }
+    }
+
+    public boolean isEmpty() {
+        return snapshot.allIds.length == 0;
+    }
+
+    /**
+     * 사용자 알레르기 마스크와 충돌하는 레시피 ID 조회
+     *
+     * @param allergyMask AllergenDictionary.maskOfAllergyTypes로 계산한 사용자 마스크
+     * @return 제외해야 할 레시피 ID (충돌이 없으면 빈 집합)
+     */
+    public Set<Long> allergenConflicts(long allergyMask) {
+        if (allergyMask == 0L) {
+            return Collections.emptySet();
+        }
+        Snapshot current = snapshot;
+        Set<Long> conflicts = new HashSet<>();
+        for (int i = 0; i < current.allIds.length; i++) {
+            if ((current.allergenMasks[i] & allergyMask) != 0L) {
+                conflicts.add(current.allIds[i]);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * 레시피별 알레르기 마스크 로드
+     * 저장된 마스크가 없거나(기존 레시피) 현재 사전 기준 계산값과 다르면 계산값을 사용하고 DB에도 반영합니다.
+     */
+    private Map<Long, Long> loadAllergenMasks() {
+        Map<Long, Long> masks = new HashMap<>();
+        Map<Long, Long> stale = new HashMap<>();
+        for (Object[] row : recipeRepository.findAllAllergenSources()) {
+            Long id = (Long) row[0];
+            long mask = AllergenDictionary.maskOfIngredients((String) row[2]);
+            masks.put(id, mask);
+            if (row[1] == null || (Long) row[1] != mask) {
+                stale.put(id, mask);
+            }
+        }
+        if (!stale.isEmpty()) {
+            try {
+                recipeRepository.updateAllergenMasks(stale);
+                log.info("레시피 알레르기 마스크 보정 - {}개", stale.size());
+            } catch (Exception e) {
+                log.warn("레시피 알레르기 마스크 보정 실패: {}", e.getMessage());
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * 전체 레시피에서 균등 무작위로 최대 k개 ID 추출
+     *
+     * @param exclude 제외할 레시피 ID (null 가능)
+     */
+    public List<Long> sample(int k, Set<Long> exclude) {
+        return sampleFrom(snapshot.allIds, k, exclude);
+    }
+
+    /**
+     * 카테고리별로 고르게 최대 k개 ID 추출
+     * 카테고리마다 ceil(k / 카테고리 수)개씩 뽑은 뒤 카테고리를 번갈아 가며 합치며, 여러 카테고리에 속한 레시피는 한 번만 포함됩니다.
+     *
+     * @param exclude 제외할 레시피 ID (null 가능)
+     */
+    public List<Long> sampleByCategories(int k, Collection<RecipeCategory> categories, Set<Long> exclude) {
+        if (k <= 0 || categories == null || categories.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Snapshot current = snapshot;
+        List<RecipeCategory> strata = new ArrayList<>(new LinkedHashSet<>(categories));
+        int quota = (k + strata.size() - 1) / strata.size();
+
+        List<List<Long>> picks = new ArrayList<>();
+        for (RecipeCategory category : strata) {
+            long[] ids = current.idsByCategory.getOrDefault(category, new long[0]);
+            // 다른 카테고리와 겹치는 레시피를 대비해 할당량보다 조금 더 뽑아 둠
+            picks.add(sampleFrom(ids, quota * 2, exclude));
+        }
+
+        Set<Long> result = new LinkedHashSet<>();
+        for (int round = 0; result.size() < k; round++) {
+            boolean progressed = false;
+            for (List<Long> stratum : picks) {
+                if (round < stratum.size()) {
+                    progressed = true;
+                    result.add(stratum.get(round));
+                    if (result.size() >= k) {
+                        break;
+                    }
+                }
+            }
+            if (!progressed) {
+                break;
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * 기각 샘플링: 무작위 위치를 뽑아 이미 뽑았거나 제외 대상이면 다시 뽑음 (기대 O(k))
+     */
+    private static List<Long> sampleFrom(long[] ids, int k, Set<Long> exclude) {
+        if (k <= 0 || ids.length == 0) {
+            return Collections.emptyList();
+        }
+        Set<Long> excluded = exclude != null ? exclude : Collections.emptySet();
+        if (ids.length <= k + excluded.size()) {
+            return shuffledRemaining(ids, k, excluded);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Long> picked = new LinkedHashSet<>();
+        int attempts = 0;
+        int maxAttempts = k * MAX_ATTEMPT_FACTOR;
+        while (picked.size() < k && attempts++ < maxAttempts) {
+            long id = ids[random.nextInt(ids.length)];
+            if (!excluded.contains(id)) {
+                picked.add(id);
+            }
+        }
+        if (picked.size() < k) {
+            return shuffledRemaining(ids, k, excluded);
+        }
+        return new ArrayList<>(picked);
+    }
+
+    /**
+     * 후보가 적을 때: 제외 대상을 뺀 나머지를 섞어서 최대 k개 반환
+     */
+    private static List<Long> shuffledRemaining(long[] ids, int k, Set<Long> excluded) {
+        List<Long> remaining = new ArrayList<>();
+        for (long id : ids) {
+            if (!excluded.contains(id)) {
+                remaining.add(id);
+            }
+        }
+        Collections.shuffle(remaining, ThreadLocalRandom.current());
+        return remaining.size() <= k ? remaining : new ArrayList<>(remaining.subList(0, k));
+    }
+
+    /**
+     * recipeCategories로부터 새 스냅샷을 만들어 교체 (호출부에서 동기화)
+     */
+    private void publish() {
+        long[] allIds = new long[recipeCategories.size()];
+        long[] allergenMasks = new long[allIds.length];
+        Map<RecipeCategory, List<Long>> building = new EnumMap<>(RecipeCategory.class);
+
+        int i = 0;
+        for (Map.Entry<Long, List<RecipeCategory>> entry : recipeCategories.entrySet()) {
+            allIds[i] = entry.getKey();
+            allergenMasks[i++] = recipeAllergenMasks.getOrDefault(entry.getKey(), 0L);
+            for (RecipeCategory category : entry.getValue()) {
+                building.computeIfAbsent(category, c -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        Map<RecipeCategory, long[]> idsByCategory = new EnumMap<>(RecipeCategory.class);
+        building.forEach((category, ids) -> idsByCategory.put(category, ids.stream().mapToLong(Long::longValue).toArray()));
+
+        snapshot = new Snapshot(allIds, allergenMasks, idsByCategory);
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new long[0], new long[0], Collections.emptyMap());
+
+        final long[] allIds;
+        final long[] allergenMasks;
+        final Map<RecipeCategory, long[]> idsByCategory;
+
+        Snapshot(long[] allIds, long[] allergenMasks, Map<RecipeCategory, long[]> idsByCategory) {
+            this.allIds = allIds;
+            this.allergenMasks = allergenMasks;
+            this.idsByCategory = idsByCategory;
+        }
+    }
+}
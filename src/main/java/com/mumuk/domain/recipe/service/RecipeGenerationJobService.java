@@ -0,0 +1,30 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.recipe.dto.response.RecipeResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface RecipeGenerationJobService {
+
+    // 재료 기반 레시피 생성 작업 등록
+    RecipeResponse.GenerationJobRes submitIngredientJob(Long userId);
+
+    // 랜덤 레시피 생성 작업 등록
+    RecipeResponse.GenerationJobRes submitRandomJob(Long userId);
+
+    // 키워드 기반 레시피 생성 작업 등록
+    RecipeResponse.GenerationJobRes submitKeywordJob(Long userId, String keyword);
+
+    // 작업 상태 조회
+    RecipeResponse.GenerationJobRes getJob(Long userId, String jobId);
+
+    // 재료 기반 레시피 생성 (워커 풀에서 실행, 완료 시 결과 반환)
+    Mono<List<RecipeResponse.DetailRes>> generateByIngredient(Long userId);
+
+    // 랜덤 레시피 생성 (워커 풀에서 실행, 완료 시 결과 반환)
+    Mono<List<RecipeResponse.DetailRes>> generateRandom(Long userId);
+
+    // 키워드 기반 레시피 생성 (워커 풀에서 실행, 완료 시 결과 반환)
+    Mono<List<RecipeResponse.DetailRes>> generateByKeyword(Long userId, String keyword);
+}
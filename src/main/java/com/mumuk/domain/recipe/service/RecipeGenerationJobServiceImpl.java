@@ -0,0 +1,246 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.recipe.dto.response.RecipeResponse;
+import com.mumuk.global.apiPayload.code.ErrorCode;
+import com.mumuk.global.apiPayload.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * AI 레시피 생성 비동기 작업
+ *
+ * 요청 즉시 작업 ID를 반환하고, 생성은 전용 워커 풀에서 수행합니다.
+ * 작업 상태는 Redis 해시에 저장되므로 어느 인스턴스에서든 조회할 수 있습니다.
+ * 같은 사용자의 동일한 요청이 진행 중이면 새 작업을 만들지 않고 기존 작업 ID를 돌려줍니다.
+ * generate* 메서드는 같은 워커 풀에서 생성하고 결과를 Mono로 돌려주므로 요청 스레드를 점유하지 않습니다.
+ */
+@Slf4j
+@Service
+public class RecipeGenerationJobServiceImpl implements RecipeGenerationJobService {
+
+    private static final String JOB_KEY_PREFIX = "recipe-gen-job:";
+    private static final String INFLIGHT_KEY_PREFIX = "recipe-gen-job:inflight:";
+
+    /** 작업 상태 보관 기간 */
+    private static final Duration JOB_TTL = Duration.ofHours(1);
+
+    /** 진행 중 작업 중복 제거 키 유효기간 (워커가 비정상 종료해도 이후 요청이 막히지 않도록) */
+    private static final Duration INFLIGHT_TTL = Duration.ofMinutes(10);
+
+    /**
+     * 이 시간 이상 RUNNING 상태로 남은 작업은 실패로 간주 (처리하던 인스턴스 종료 등)
+     * QUEUED 작업은 큐 대기 시간이 길어질 수 있으므로 판단하지 않고 JOB_TTL로 정리합니다.
+     */
+    private static final Duration STALE_AFTER = Duration.ofMinutes(10);
+
+    /** 값이 이 작업 ID일 때만 중복 제거 키 삭제 (만료 후 다른 작업이 가져간 키를 지우지 않도록) */
+    private static final DefaultRedisScript<Long> RELEASE_INFLIGHT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private static final String TYPE_INGREDIENT = "ingredient";
+    private static final String TYPE_RANDOM = "random";
+    private static final String TYPE_KEYWORD = "keyword";
+
+    private static final String STATUS_QUEUED = "QUEUED";
+    private static final String STATUS_RUNNING = "RUNNING";
+    private static final String STATUS_DONE = "DONE";
+    private static final String STATUS_FAILED = "FAILED";
+
+    private final RecipeRecommendService recipeRecommendService;
+    private final StringRedisTemplate redisTemplate;
+    private final ThreadPoolTaskExecutor executor;
+
+    public RecipeGenerationJobServiceImpl(RecipeRecommendService recipeRecommendService,
+                                          StringRedisTemplate redisTemplate,
+                                          @Qualifier("recipeGenerationExecutor") ThreadPoolTaskExecutor executor) {
+        this.recipeRecommendService = recipeRecommendService;
+        this.redisTemplate = redisTemplate;
+        this.executor = executor;
+    }
+
+    @Override
+    public RecipeResponse.GenerationJobRes submitIngredientJob(Long userId) {
+        return submit(userId, TYPE_INGREDIENT, null,
+                () -> recipeRecommendService.createAndSaveRecipesByIngredient(userId));
+    }
+
+    @Override
+    public RecipeResponse.GenerationJobRes submitRandomJob(Long userId) {
+        return submit(userId, TYPE_RANDOM, null,
+                () -> recipeRecommendService.createAndSaveRandomRecipes(userId));
+    }
+
+    @Override
+    public RecipeResponse.GenerationJobRes submitKeywordJob(Long userId, String keyword) {
+        return submit(userId, TYPE_KEYWORD, keyword,
+                () -> recipeRecommendService.createAndSaveRandomRecipesByKeyword(userId, keyword));
+    }
+
+    @Override
+    public RecipeResponse.GenerationJobRes getJob(Long userId, String jobId) {
+        Map<Object, Object> job = redisTemplate.opsForHash().entries(jobKey(jobId));
+        if (job.isEmpty() || !String.valueOf(userId).equals(job.get("userId"))) {
+            throw new BusinessException(ErrorCode.RECIPE_GENERATION_JOB_NOT_FOUND);
+        }
+
+        String status = (String) job.get("status");
+        String errorCode = (String) job.get("errorCode");
+        if (isStale(status, (String) job.get("updatedAt"))) {
+            status = STATUS_FAILED;
+            errorCode = ErrorCode.OPENAI_SERVICE_UNAVAILABLE.getCode();
+        }
+        return new RecipeResponse.GenerationJobRes(jobId, status, parseRecipeIds((String) job.get("recipeIds")), errorCode);
+    }
+
+    @Override
+    public Mono<List<RecipeResponse.DetailRes>> generateByIngredient(Long userId) {
+        return runOnWorker(() -> recipeRecommendService.createAndSaveRecipesByIngredient(userId));
+    }
+
+    @Override
+    public Mono<List<RecipeResponse.DetailRes>> generateRandom(Long userId) {
+        return runOnWorker(() -> recipeRecommendService.createAndSaveRandomRecipes(userId));
+    }
+
+    @Override
+    public Mono<List<RecipeResponse.DetailRes>> generateByKeyword(Long userId, String keyword) {
+        return runOnWorker(() -> recipeRecommendService.createAndSaveRandomRecipesByKeyword(userId, keyword));
+    }
+
+    /**
+     * 생성 작업을 워커 풀에서 실행 (큐가 가득 차면 RECIPE_GENERATION_BUSY)
+     */
+    private Mono<List<RecipeResponse.DetailRes>> runOnWorker(Supplier<List<RecipeResponse.DetailRes>> task) {
+        return Mono.defer(() -> {
+            try {
+                return Mono.fromFuture(executor.submitCompletable(task::get));
+            } catch (TaskRejectedException e) {
+                log.warn("레시피 생성 작업 큐 포화 - 동기 생성 요청 거절");
+                return Mono.error(new BusinessException(ErrorCode.RECIPE_GENERATION_BUSY));
+            }
+        });
+    }
+
+    private RecipeResponse.GenerationJobRes submit(Long userId, String type, String keyword,
+                                                   Supplier<List<RecipeResponse.DetailRes>> task) {
+        String jobId = UUID.randomUUID().toString();
+        String inflightKey = inflightKey(userId, type, keyword);
+
+        // 동일 요청이 진행 중이면 기존 작업 반환
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(inflightKey, jobId, INFLIGHT_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            String existingJobId = redisTemplate.opsForValue().get(inflightKey);
+            if (existingJobId != null && Boolean.TRUE.equals(redisTemplate.hasKey(jobKey(existingJobId)))) {
+                log.info("진행 중인 레시피 생성 작업 재사용 - userId: {}, type: {}, jobId: {}", userId, type, existingJobId);
+                return getJob(userId, existingJobId);
+            }
+            redisTemplate.opsForValue().set(inflightKey, jobId, INFLIGHT_TTL);
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put("userId", String.valueOf(userId));
+        fields.put("type", type);
+        fields.put("status", STATUS_QUEUED);
+        fields.put("updatedAt", String.valueOf(System.currentTimeMillis()));
+        redisTemplate.opsForHash().putAll(jobKey(jobId), fields);
+        redisTemplate.expire(jobKey(jobId), JOB_TTL);
+
+        try {
+            executor.execute(() -> run(jobId, inflightKey, task));
+        } catch (TaskRejectedException e) {
+            log.warn("레시피 생성 작업 큐 포화 - userId: {}, type: {}", userId, type);
+            redisTemplate.delete(jobKey(jobId));
+            releaseInflight(inflightKey, jobId);
+            throw new BusinessException(ErrorCode.RECIPE_GENERATION_BUSY);
+        }
+
+        log.info("레시피 생성 작업 등록 - userId: {}, type: {}, jobId: {}", userId, type, jobId);
+        return new RecipeResponse.GenerationJobRes(jobId, STATUS_QUEUED, Collections.emptyList(), null);
+    }
+
+    private void run(String jobId, String inflightKey, Supplier<List<RecipeResponse.DetailRes>> task) {
+        updateJob(jobId, Map.of("status", STATUS_RUNNING));
+        try {
+            List<RecipeResponse.DetailRes> recipes = task.get();
+            String recipeIds = recipes.stream()
+                    .map(recipe -> String.valueOf(recipe.getId()))
+                    .collect(Collectors.joining(","));
+            updateJob(jobId, Map.of("status", STATUS_DONE, "recipeIds", recipeIds));
+            log.info("레시피 생성 작업 완료 - jobId: {}, 생성 수: {}", jobId, recipes.size());
+        } catch (BusinessException e) {
+            updateJob(jobId, Map.of("status", STATUS_FAILED, "errorCode", e.getErrorCode()));
+            log.warn("레시피 생성 작업 실패 - jobId: {}, code: {}", jobId, e.getErrorCode());
+        } catch (Exception e) {
+            updateJob(jobId, Map.of("status", STATUS_FAILED, "errorCode", ErrorCode.INTERNAL_SERVER_ERROR.getCode()));
+            log.error("레시피 생성 작업 중 예상치 못한 오류 - jobId: {}", jobId, e);
+        } finally {
+            releaseInflight(inflightKey, jobId);
+        }
+    }
+
+    private void releaseInflight(String inflightKey, String jobId) {
+        try {
+            redisTemplate.execute(RELEASE_INFLIGHT_SCRIPT, List.of(inflightKey), jobId);
+        } catch (Exception e) {
+            log.warn("레시피 생성 작업 중복 제거 키 해제 실패 - jobId: {}, {}", jobId, e.getMessage());
+        }
+    }
+
+    private void updateJob(String jobId, Map<String, String> fields) {
+        try {
+            Map<String, String> values = new HashMap<>(fields);
+            values.put("updatedAt", String.valueOf(System.currentTimeMillis()));
+            redisTemplate.opsForHash().putAll(jobKey(jobId), values);
+            redisTemplate.expire(jobKey(jobId), JOB_TTL);
+        } catch (Exception e) {
+            log.warn("레시피 생성 작업 상태 저장 실패 - jobId: {}, {}", jobId, e.getMessage());
+        }
+    }
+
+    private boolean isStale(String status, String updatedAt) {
+        if (!STATUS_RUNNING.equals(status) || updatedAt == null) {
+            return false;
+        }
+        try {
+            return System.currentTimeMillis() - Long.parseLong(updatedAt) > STALE_AFTER.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static List<Long> parseRecipeIds(String recipeIds) {
+        if (recipeIds == null || recipeIds.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(recipeIds.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    private static String jobKey(String jobId) {
+        return JOB_KEY_PREFIX + jobId;
+    }
+
+    private static String inflightKey(Long userId, String type, String keyword) {
+        String normalizedKeyword = keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+        return INFLIGHT_KEY_PREFIX + userId + ":" + type + ":" + normalizedKeyword;
+    }
+}
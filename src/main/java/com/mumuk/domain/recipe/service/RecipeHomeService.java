@@ -0,0 +1,15 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.recipe.dto.response.RecipeResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface RecipeHomeService {
+
+    // 홈 화면 섹션(재료 추천, 건강 목표 추천, 랜덤 추천, 인기 레시피)을 동시에 계산해 한 번에 반환
+    // sections가 비어 있으면 전체 섹션을 계산하고, 제한 시간을 넘긴 섹션은 비워 둔 채 나머지 결과를 반환합니다.
+    Mono<RecipeResponse.HomeRes> getHome(Long userId, String sections);
+
+    // 홈 화면 섹션을 계산이 끝나는 순서대로 하나씩 반환 (SSE 응답용)
+    Flux<RecipeResponse.HomeSectionRes> streamHome(Long userId, String sections);
+}
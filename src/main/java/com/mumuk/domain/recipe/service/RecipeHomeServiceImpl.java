@@ -0,0 +1,182 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.recipe.dto.response.RecipeResponse;
+import com.mumuk.domain.search.dto.response.SearchResponse;
+import com.mumuk.domain.search.service.TrendSearchService;
+import com.mumuk.domain.user.dto.response.UserRecipeResponse;
+import com.mumuk.domain.user.service.UserProfileCache;
+import com.mumuk.domain.user.service.UserProfileSnapshot;
+import com.mumuk.global.apiPayload.code.ErrorCode;
+import com.mumuk.global.apiPayload.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 홈 화면 레시피 섹션 조회
+ *
+ * 사용자 프로필을 한 번만 조회해 모든 섹션이 공유하고, 요청한 섹션을 동시에 계산합니다.
+ * 섹션마다 제한 시간을 두어, 시간을 넘기거나 실패한 섹션은 비워 둔 채 나머지 결과를 반환합니다.
+ */
+@Slf4j
+@Service
+public class RecipeHomeServiceImpl implements RecipeHomeService {
+
+    private static final String STATUS_OK = "OK";
+    private static final String STATUS_TIMEOUT = "TIMEOUT";
+
+    private final RecipeRecommendService recommendService;
+    private final TrendSearchService trendSearchService;
+    private final UserProfileCache userProfileCache;
+
+    /** 섹션별 제한 시간 */
+    private final Duration sectionTimeout;
+
+    public RecipeHomeServiceImpl(RecipeRecommendService recommendService, TrendSearchService trendSearchService,
+                                 UserProfileCache userProfileCache,
+                                 @Value("${app.home.section-timeout-ms:5000}") long sectionTimeoutMs) {
+        this.recommendService = recommendService;
+        this.trendSearchService = trendSearchService;
+        this.userProfileCache = userProfileCache;
+        this.sectionTimeout = Duration.ofMillis(sectionTimeoutMs);
+    }
+
+    @Override
+    public Mono<RecipeResponse.HomeRes> getHome(Long userId, String sections) {
+        Set<Section> requested = parseSections(sections);
+
+        return Mono.fromCallable(() -> userProfileCache.get(userId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(profile -> Flux.fromIterable(requested)
+                        .flatMap(section -> compute(section, profile))
+                        .collectMap(result -> result.section))
+                .map(results -> toHomeRes(requested, results));
+    }
+
+    @Override
+    public Flux<RecipeResponse.HomeSectionRes> streamHome(Long userId, String sections) {
+        return Flux.defer(() -> {
+            Set<Section> requested = parseSections(sections);
+            return Mono.fromCallable(() -> userProfileCache.get(userId))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMapMany(profile -> Flux.fromIterable(requested)
+                            .flatMap(section -> compute(section, profile)))
+                    .map(result -> new RecipeResponse.HomeSectionRes(result.section.key, result.status, result.data));
+        });
+    }
+
+    private Mono<SectionResult> compute(Section section, UserProfileSnapshot profile) {
+        Mono<?> data = switch (section) {
+            case INGREDIENT -> recommendService.recommendRecipesByIngredient(profile);
+            case HEALTH_GOAL -> recommendService.recommendRecipesByHealthGoal(profile);
+            case RANDOM -> recommendService.recommendRandomRecipes(profile);
+            case TREND_TITLE -> Mono.fromCallable(trendSearchService::getTrendRecipeTitleList)
+                    .subscribeOn(Schedulers.boundedElastic());
+            case TREND_DETAIL -> Mono.fromCallable(() -> trendSearchService.getTrendRecipeDetailList(profile.getUserId()))
+                    .subscribeOn(Schedulers.boundedElastic());
+        };
+
+        return data.<SectionResult>map(value -> new SectionResult(section, STATUS_OK, value))
+                .timeout(sectionTimeout)
+                .onErrorResume(TimeoutException.class, e -> {
+                    log.warn("홈 화면 섹션 시간 초과 - userId: {}, section: {}", profile.getUserId(), section.key);
+                    return Mono.just(new SectionResult(section, STATUS_TIMEOUT, null));
+                })
+                .onErrorResume(BusinessException.class, e ->
+                        Mono.just(new SectionResult(section, e.getErrorCode(), null)))
+                .onErrorResume(e -> {
+                    log.error("홈 화면 섹션 계산 실패 - userId: {}, section: {}", profile.getUserId(), section.key, e);
+                    return Mono.just(new SectionResult(section, ErrorCode.INTERNAL_SERVER_ERROR.getCode(), null));
+                })
+                .defaultIfEmpty(new SectionResult(section, STATUS_OK, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private RecipeResponse.HomeRes toHomeRes(Set<Section> requested, Map<Section, SectionResult> results) {
+        Map<String, String> sectionStatus = new LinkedHashMap<>();
+        for (Section section : requested) {
+            SectionResult result = results.get(section);
+            sectionStatus.put(section.key, result != null ? result.status : STATUS_TIMEOUT);
+        }
+        return new RecipeResponse.HomeRes(
+                (List<UserRecipeResponse.RecipeSummaryDTO>) dataOf(results, Section.INGREDIENT),
+                (List<UserRecipeResponse.RecipeSummaryDTO>) dataOf(results, Section.HEALTH_GOAL),
+                (List<UserRecipeResponse.RecipeSummaryDTO>) dataOf(results, Section.RANDOM),
+                (SearchResponse.TrendRecipeTitleRes) dataOf(results, Section.TREND_TITLE),
+                (List<SearchResponse.TrendRecipeDetailRes>) dataOf(results, Section.TREND_DETAIL),
+                sectionStatus);
+    }
+
+    private static Object dataOf(Map<Section, SectionResult> results, Section section) {
+        SectionResult result = results.get(section);
+        return result != null ? result.data : null;
+    }
+
+    /**
+     * 쉼표로 구분된 섹션 이름 파싱 (비어 있으면 전체 섹션)
+     */
+    private static Set<Section> parseSections(String sections) {
+        if (sections == null || sections.isBlank()) {
+            return EnumSet.allOf(Section.class);
+        }
+        Set<Section> parsed = EnumSet.noneOf(Section.class);
+        for (String name : sections.split(",")) {
+            String key = name.trim().toLowerCase(Locale.ROOT);
+            if (key.isEmpty()) {
+                continue;
+            }
+            parsed.add(Section.fromKey(key));
+        }
+        if (parsed.isEmpty()) {
+            return EnumSet.allOf(Section.class);
+        }
+        return parsed;
+    }
+
+    private enum Section {
+        INGREDIENT("ingredient"),
+        HEALTH_GOAL("health-goal"),
+        RANDOM("random"),
+        TREND_TITLE("trend-title"),
+        TREND_DETAIL("trend-detail");
+
+        final String key;
+
+        Section(String key) {
+            this.key = key;
+        }
+
+        static Section fromKey(String key) {
+            for (Section section : values()) {
+                if (section.key.equals(key)) {
+                    return section;
+                }
+            }
+            throw new BusinessException(ErrorCode.RECIPE_HOME_INVALID_SECTION);
+        }
+    }
+
+    private static final class SectionResult {
+        final Section section;
+        final String status;
+        final Object data;
+
+        SectionResult(Section section, String status, Object data) {
+            this.section = section;
+            this.status = status;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.recipe.entity.IngredientSynonymDictionary;
+import com.mumuk.domain.recipe.entity.Recipe;
+import com.mumuk.domain.recipe.event.RecipeChangedEvent;
+import com.mumuk.domain.recipe.repository.RecipeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 재료 → 레시피 ID 역색인 (인메모리)
+ *
+ * 저장 시 기록된 레시피-정규 재료 매핑(recipe_ingredient)으로 posting list를 만들고,
+ * 사용자 냉장고 재료의 커버리지로 전체 레시피를 점수화한 뒤 상위 K개를 반환합니다.
+ * 매핑이 없는 레시피(매핑 도입 이전 데이터)는 보충되기 전까지 재료 문자열을 같은 규칙으로 나눠 색인합니다.
+ * 색인은 불변 스냅샷으로 교체되므로 조회는 잠금 없이 수행됩니다.
+ * 저장/삭제 이벤트는 원본만 갱신하고, 스냅샷은 변경이 있을 때 짧은 주기로 한 번에 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class RecipeIngredientIndex {
+
+    private final RecipeRepository recipeRepository;
+
+    /** 레시피 ID → 정규화된 재료 목록 (스냅샷 재구성의 원본) */
+    private final Map<Long, List<String>> recipeTokens = new ConcurrentHashMap<>();
+
+    /** 현재 조회에 사용되는 색인 스냅샷 */
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /** 마지막 스냅샷 이후 원본 변경 여부 */
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    /** 스냅샷 교체 잠금 (원본 갱신 잠금과 분리해 구성 중에도 이벤트를 받음) */
+    private final Object publishLock = new Object();
+
+    public RecipeIngredientIndex(RecipeRepository recipeRepository) {
+        this.recipeRepository = recipeRepository;
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 전체 레시피로 색인 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 다른 인스턴스에서 저장/삭제된 레시피를 반영하기 위한 주기적 재구성 (10분)
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            Map<Long, List<String>> loaded = new HashMap<>();
+            for (Object[] row : recipeRepository.findAllCanonicalIngredientNames()) {
+                loaded.computeIfAbsent(((Number) row[0]).longValue(), id -> new ArrayList<>()).add((String) row[1]);
+            }
+            addUnmappedRecipes(loaded);
+
+            synchronized (this) {
+                recipeTokens.clear();
+                recipeTokens.putAll(loaded);
+            }
+            dirty.set(false);
+            publish();
+            log.info("재료 역색인 구성 완료 - 레시피 {}개, 재료 {}종, {}ms",
+                    snapshot.recipeIds.length, snapshot.postings.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("재료 역색인 구성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정규 재료 매핑이 아직 없는 레시피는 재료 문자열로 색인 원본에만 추가 (매핑 저장은 RecipeIngredientMappingBackfill)
+     */
+    private void addUnmappedRecipes(Map<Long, List<String>> loaded) {
+        for (Object[] row : recipeRepository.findIngredientsWithoutCanonicalMapping()) {
+            loaded.put(((Number) row[0]).longValue(), tokenize((String) row[1]));
+        }
+    }
+
+    /**
+     * 레시피 저장/삭제를 원본에 반영 (트랜잭션 밖에서 발행된 이벤트도 처리)
+     * 스냅샷은 저장마다 다시 만들지 않고 publishIfDirty에서 모아서 교체합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        synchronized (this) {
+            for (Recipe recipe : event.getSavedRecipes()) {
+                if (recipe.getId() != null) {
+                    recipeTokens.put(recipe.getId(), tokenize(recipe.getIngredients()));
+                }
+            }
+            event.getDeletedRecipeIds().forEach(recipeTokens::remove);
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * 원본이 바뀌었으면 스냅샷 교체 (1초, 그 사이의 변경은 한 번에 반영)
+     */
+    @Scheduled(fixedDelay = 1_000)
+    public void publishIfDirty() {
+        if (dirty.getAndSet(false)) {
+            publish();
+        }
+    }
+
+    public boolean isEmpty() {
+        return snapshot.recipeIds.length == 0;
+    }
+
+    /**
+     * 사용자 보유 재료 커버리지 기준 상위 K개 레시피 ID 조회
+     *
+     * 점수 = (보유 재료와 일치하는 레시피 재료 수 / 레시피 전체 재료 수) * 10
+     * 일치 재료가 하나도 없는 레시피는 후보에서 제외됩니다.
+     *
+     * @param availableIngredients 사용자 보유 재료명
+     * @param k 반환할 최대 개수
+     * @param exclude 제외할 레시피 ID (null 가능)
+     * @return 레시피 ID → 점수 (점수 내림차순)
+     */
+    public Map<Long, Double> topK(Collection<String> availableIngredients, int k, Set<Long> exclude) {
+        Snapshot current = snapshot;
+        if (k <= 0 || current.recipeIds.length == 0 || availableIngredients == null || availableIngredients.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // 레시피별 일치 재료 수 누적 (posting list 순회)
+        int[] matched = new int[current.recipeIds.length];
+        for (String key : resolveKeys(current, availableIngredients)) {
+            for (int doc : current.postings.get(key)) {
+                matched[doc]++;
+            }
+        }
+
+        // 크기 K의 최소 힙으로 상위 K개 유지
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k + 1, (a, b) -> compare(current, matched, a, b));
+        for (int doc = 0; doc < matched.length; doc++) {
+            if (matched[doc] == 0 || (exclude != null && exclude.contains(current.recipeIds[doc]))) {
+                continue;
+            }
+            if (heap.size() < k) {
+                heap.offer(doc);
+            } else if (compare(current, matched, doc, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(doc);
+            }
+        }
+
+        List<Integer> ordered = new ArrayList<>(heap);
+        ordered.sort((a, b) -> compare(current, matched, b, a));
+
+        Map<Long, Double> result = new LinkedHashMap<>();
+        for (int doc : ordered) {
+            result.put(current.recipeIds[doc], coverage(current, matched, doc) * 10.0);
+        }
+        return result;
+    }
+
+    /**
+     * 보유 재료명을 색인 키로 변환
+     * 색인 키와 같은 규칙(IngredientSynonymDictionary)으로 정규 재료명을 만든 뒤 정확히 일치하는 키만 사용합니다.
+     */
+    private Set<String> resolveKeys(Snapshot current, Collection<String> availableIngredients) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String raw : availableIngredients) {
+            String ingredient = IngredientSynonymDictionary.canonicalize(raw);
+            if (!ingredient.isEmpty() && current.postings.containsKey(ingredient)) {
+                keys.add(ingredient);
+            }
+        }
+        return keys;
+    }
+
+    private static int compare(Snapshot current, int[] matched, int a, int b) {
+        int byCoverage = Double.compare(coverage(current, matched, a), coverage(current, matched, b));
+        if (byCoverage != 0) {
+            return byCoverage;
+        }
+        return Integer.compare(matched[a], matched[b]);
+    }
+
+    private static double coverage(Snapshot current, int[] matched, int doc) {
+        int total = current.ingredientCounts[doc];
+        return total == 0 ? 0.0 : Math.min(1.0, (double) matched[doc] / total);
+    }
+
+    /**
+     * recipeTokens로부터 새 스냅샷을 만들어 교체
+     * 원본을 복사한 뒤 구성하므로 이벤트 처리를 막지 않으며, 복사 이후의 변경은 dirty로 다음 교체에 반영됩니다.
+     * 재구성과 주기적 교체가 겹쳐도 이전 스냅샷이 나중에 덮어쓰지 않도록 교체끼리는 직렬화합니다.
+     */
+    private void publish() {
+        synchronized (publishLock) {
+            List<Map.Entry<Long, List<String>>> entries = new ArrayList<>(recipeTokens.entrySet());
+            int size = entries.size();
+            long[] recipeIds = new long[size];
+            int[] ingredientCounts = new int[size];
+            Map<String, List<Integer>> building = new HashMap<>();
+
+            int doc = 0;
+            for (Map.Entry<Long, List<String>> entry : entries) {
+                recipeIds[doc] = entry.getKey();
+                ingredientCounts[doc] = entry.getValue().size();
+                for (String token : entry.getValue()) {
+                    building.computeIfAbsent(token, t -> new ArrayList<>()).add(doc);
+                }
+                doc++;
+            }
+
+            Map<String, int[]> postings = new HashMap<>(building.size() * 2);
+            building.forEach((token, docs) -> postings.put(token, docs.stream().mapToInt(Integer::intValue).toArray()));
+
+            snapshot = new Snapshot(recipeIds, ingredientCounts, postings);
+        }
+    }
+
+    /**
+     * 레시피 재료 문자열을 정규 재료명 목록으로 분리 (recipe_ingredient 매핑과 동일한 규칙)
+     */
+    static List<String> tokenize(String ingredients) {
+        return IngredientSynonymDictionary.canonicalNames(ingredients);
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new long[0], new int[0], Collections.emptyMap());
+
+        final long[] recipeIds;
+        final int[] ingredientCounts;
+        final Map<String, int[]> postings;
+
+        Snapshot(long[] recipeIds, int[] ingredientCounts, Map<String, int[]> postings) {
+            this.recipeIds = recipeIds;
+            this.ingredientCounts = ingredientCounts;
+            this.postings = postings;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.recipe.repository.RecipeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정규 재료 매핑(recipe_ingredient) 보충
+ *
+ * 매핑 도입 이전에 저장된 레시피의 매핑을 재료 문자열로 만들어 저장합니다. (이후 저장되는 레시피는 저장 시 매핑이 기록됨)
+ * 기동 시 한 번 실행하며, Redis 잠금으로 여러 인스턴스 중 하나만 수행합니다.
+ * ID 순으로 chunk 단위로 읽고, chunk마다 별도 트랜잭션에서 조회와 갱신을 함께 수행합니다.
+ */
+@Slf4j
+@Component
+public class RecipeIngredientMappingBackfill {
+
+    private static final String LOCK_KEY = "recipe-ingredient-backfill:lock";
+
+    /** 보충 잠금 유효기간 (보충이 비정상 종료되어도 다음 기동 때 다시 실행되도록) */
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+    /** 한 번에 갱신할 레시피 수 */
+    private static final int CHUNK_SIZE = 500;
+
+    private final RecipeRepository recipeRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public RecipeIngredientMappingBackfill(RecipeRepository recipeRepository, StringRedisTemplate redisTemplate,
+                                           PlatformTransactionManager transactionManager) {
+        this.recipeRepository = recipeRepository;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!tryLock()) {
+            log.info("정규 재료 매핑 보충은 다른 인스턴스에서 수행 중이어서 건너뜀");
+            return;
+        }
+        try {
+            long lastId = 0L;
+            int backfilled = 0;
+            while (true) {
+                long afterId = lastId;
+                List<Object[]> rows = transactionTemplate.execute(status -> backfillChunk(afterId));
+                if (rows == null || rows.isEmpty()) {
+                    break;
+                }
+                backfilled += rows.size();
+                lastId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+            }
+            if (backfilled > 0) {
+                log.info("정규 재료 매핑 보충 완료 - 레시피 {}개", backfilled);
+            }
+        } catch (Exception e) {
+            log.error("정규 재료 매핑 보충 실패: {}", e.getMessage());
+        } finally {
+            unlock();
+        }
+    }
+
+    /**
+     * afterId 다음 chunk의 매핑 저장 (처리한 레시피 ID·재료 반환, 남은 레시피가 없으면 빈 목록)
+     */
+    private List<Object[]> backfillChunk(long afterId) {
+        List<Object[]> rows = recipeRepository.findIngredientsWithoutCanonicalMappingAfter(afterId, CHUNK_SIZE);
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Map<Long, String> chunk = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            chunk.put(((Number) row[0]).longValue(), (String) row[1]);
+        }
+        recipeRepository.replaceRecipeIngredients(chunk);
+        return rows;
+    }
+
+    private boolean tryLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL));
+        } catch (Exception e) {
+            log.warn("정규 재료 매핑 보충 잠금 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void unlock() {
+        try {
+            redisTemplate.delete(LOCK_KEY);
+        } catch (Exception e) {
+            log.warn("정규 재료 매핑 보충 잠금 해제 실패: {}", e.getMessage());
+        }
+    }
+}
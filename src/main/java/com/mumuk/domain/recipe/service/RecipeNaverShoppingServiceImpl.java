@@ -1,5 +1,6 @@
 package com.mumuk.domain.recipe.service;
 import com.mumuk.domain.recipe.dto.response.RecipeNaverShoppingResponse;
+import com.mumuk.domain.recipe.entity.IngredientSynonymDictionary;
 import com.mumuk.domain.recipe.entity.Recipe;
 import com.mumuk.domain.recipe.repository.RecipeRepository;
 import com.mumuk.domain.user.entity.User;
@@ -43,32 +44,21 @@ public class RecipeNaverShoppingServiceImpl implements RecipeNaverShoppingServic
         Recipe recipe = recipeRepository.findById(recipeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RECIPE_NOT_FOUND));
 
-        //레시피 재료 리스트: 레시피 재료 문자열 파싱
-        String recipeIngredientsString = recipe.getIngredients();
-        if (recipeIngredientsString == null || recipeIngredientsString.trim().isEmpty()) {
-            recipeIngredientsString = "";
-        }
-        List<String> recipeIngredients = Arrays.stream(recipeIngredientsString.split(","))
-                .map(String::trim)
-                .filter(ingredient -> !ingredient.isEmpty())
-                .distinct()
-                .collect(Collectors.toList());
-
-        // 사용자가 보유한 재료 리스트
-        List<String> inUserIngredients = Optional.ofNullable(user.getIngredients())
+        //레시피 재료 리스트: 레시피 재료 문자열 파싱 (recipe_ingredient 매핑과 동일한 구분자)
+        List<String> recipeIngredients = IngredientSynonymDictionary.split(recipe.getIngredients());
+
+        // 사용자가 보유한 재료의 정규 재료명 (달걀/계란처럼 표기가 달라도 같은 재료로 판단)
+        Set<String> inUserIngredients = Optional.ofNullable(user.getIngredients())
                 .orElse(Collections.emptyList()).stream()
-                .map(ingredient -> {
-                    String name = ingredient.getName();
-                    return name;
-                })
-                .collect(Collectors.toList());
+                .map(ingredient -> IngredientSynonymDictionary.canonicalize(ingredient.getName()))
+                .collect(Collectors.toSet());
 
         //냉장고에 없는 재료 리스트
         List<String> notInFridgeIngredients = new ArrayList<>();
 
         for (String ingredient : recipeIngredients) {
             //{재료 이름, 냉장고에 있는지 여부}를 리스트에 저장
-            boolean isInFridge = inUserIngredients.contains(ingredient);
+            boolean isInFridge = inUserIngredients.contains(IngredientSynonymDictionary.canonicalize(ingredient));
             if (!isInFridge) { //레시피 재료가 사용자가 보유한 재료에 없으면 없는 재료 리스트에 추가
                 notInFridgeIngredients.add(ingredient);
             }
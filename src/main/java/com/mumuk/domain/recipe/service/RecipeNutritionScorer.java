@@ -0,0 +1,346 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.healthManagement.entity.HealthGoalType;
+import com.mumuk.domain.recipe.entity.Recipe;
+import com.mumuk.domain.recipe.event.RecipeChangedEvent;
+import com.mumuk.domain.recipe.repository.RecipeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 규칙 기반 영양 적합도 점수 계산기
+ *
+ * 건강 목표(HealthGoalType)와 OCR 건강 지표(BMI, 체지방률, 혈당, 콜레스테롤, 혈압)를 1회 제공량 기준 영양 목표로 변환하고,
+ * 전체 레시피의 칼로리/탄단지 값을 기본형 배열로 보관해 한 번의 루프로 점수화합니다.
+ * 점수는 0~10이며 목표를 벗어난 정도에 가중치를 곱해 10점에서 감점합니다.
+ */
+@Slf4j
+@Component
+public class RecipeNutritionScorer {
+
+    private static final double MAX_SCORE = 10.0;
+
+    /** 감점 배율 (가중치 1인 항목이 기준을 50% 벗어나면 1점 감점) */
+    private static final double PENALTY_SCALE = 2.0;
+
+    private final RecipeRepository recipeRepository;
+
+    /** 레시피 ID → [칼로리, 단백질, 탄수화물, 지방] (스냅샷 재구성의 원본) */
+    private final Map<Long, double[]> nutrition = new HashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public RecipeNutritionScorer(RecipeRepository recipeRepository) {
+        this.recipeRepository = recipeRepository;
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 전체 레시피 영양 정보 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 다른 인스턴스에서 저장/삭제된 레시피를 반영하기 위한 주기적 재구성 (10분)
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            Map<Long, double[]> loaded = new HashMap<>();
+            for (Object[] row : recipeRepository.findAllNutrition()) {
+                loaded.put((Long) row[0], new double[]{toDouble(row[1]), toDouble(row[2]), toDouble(row[3]), toDouble(row[4])});
+            }
+
+            synchronized (this) {
+                nutrition.clear();
+                nutrition.putAll(loaded);
+                publish();
+            }
+            log.info("레시피 영양 정보 적재 완료 - 레시피 {}개, {}ms", snapshot.recipeIds.length, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("레시피 영양 정보 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 레시피 저장/삭제 반영 (트랜잭션 밖에서 발행된 이벤트도 처리)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        synchronized (this) {
+            for (Recipe recipe : event.getSavedRecipes()) {
+                if (recipe.getId() != null) {
+                    nutrition.put(recipe.getId(), new double[]{toDouble(recipe.getCalories()), toDouble(recipe.getProtein()),
+                            toDouble(recipe.getCarbohydrate()), toDouble(recipe.getFat())});
+                }
+            }
+            event.getDeletedRecipeIds().forEach(nutrition::remove);
+            publish();
+        }
+    }
+
+    public boolean isEmpty() {
+        return snapshot.recipeIds.length == 0;
+    }
+
+    /**
+     * 건강 목표와 OCR 지표를 영양 목표로 변환
+     * 여러 목표가 겹치면 더 엄격한 기준과 더 큰 가중치를 사용합니다.
+     */
+    public Target targetFor(Collection<String> healthGoals, Map<String, String> ocrHealthData) {
+        Target target = new Target();
+        if (healthGoals != null) {
+            for (String goal : healthGoals) {
+                try {
+                    applyGoal(target, HealthGoalType.valueOf(goal));
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    log.debug("알 수 없는 건강 목표: {}", goal);
+                }
+            }
+        }
+        if (ocrHealthData != null && !ocrHealthData.isEmpty()) {
+            applyOcrMetrics(target, ocrHealthData);
+        }
+        return target;
+    }
+
+    /**
+     * 전체 레시피를 점수화해 상위 K개 반환
+     *
+     * @param exclude 제외할 레시피 ID (null 가능)
+     * @return 레시피 ID → 점수 (점수 내림차순)
+     */
+    public Map<Long, Double> topK(Target target, int k, Set<Long> exclude) {
+        Snapshot current = snapshot;
+        int size = current.recipeIds.length;
+        if (k <= 0 || size == 0) {
+            return Collections.emptyMap();
+        }
+
+        double[] scores = new double[size];
+        for (int i = 0; i < size; i++) {
+            double kcal = current.calories[i];
+            if (kcal <= 0) {
+                // 영양 정보가 없는 레시피는 중간 점수
+                scores[i] = MAX_SCORE / 2;
+                continue;
+            }
+            double penalty = 0.0;
+            if (kcal > target.maxCalories) {
+                penalty += target.calorieWeight * (kcal - target.maxCalories) / target.maxCalories;
+            }
+            double proteinRatio = 4.0 * current.protein[i] / kcal;
+            double carbRatio = 4.0 * current.carbohydrate[i] / kcal;
+            double fatRatio = 9.0 * current.fat[i] / kcal;
+            if (proteinRatio < target.minProteinRatio) {
+                penalty += target.proteinWeight * (target.minProteinRatio - proteinRatio) / target.minProteinRatio;
+            }
+            if (carbRatio > target.maxCarbRatio) {
+                penalty += target.carbWeight * (carbRatio - target.maxCarbRatio) / target.maxCarbRatio;
+            }
+            if (fatRatio > target.maxFatRatio) {
+                penalty += target.fatWeight * (fatRatio - target.maxFatRatio) / target.maxFatRatio;
+            }
+            scores[i] = Math.max(0.0, MAX_SCORE - penalty * PENALTY_SCALE);
+        }
+
+        // 크기 K의 최소 힙으로 상위 K개 유지
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k + 1, (a, b) -> Double.compare(scores[a], scores[b]));
+        for (int i = 0; i < size; i++) {
+            if (exclude != null && exclude.contains(current.recipeIds[i])) {
+                continue;
+            }
+            if (heap.size() < k) {
+                heap.offer(i);
+            } else if (scores[i] > scores[heap.peek()]) {
+                heap.poll();
+                heap.offer(i);
+            }
+        }
+
+        List<Integer> ordered = new ArrayList<>(heap);
+        ordered.sort((a, b) -> Double.compare(scores[b], scores[a]));
+        Map<Long, Double> result = new LinkedHashMap<>();
+        for (int i : ordered) {
+            result.put(current.recipeIds[i], Math.round(scores[i] * 10.0) / 10.0);
+        }
+        return result;
+    }
+
+    private static void applyGoal(Target target, HealthGoalType goal) {
+        switch (goal) {
+            case WEIGHT_LOSS -> {
+                target.limitCalories(500, 3.0);
+                target.limitFat(0.30, 1.5);
+            }
+            case MUSCLE_GAIN -> {
+                target.requireProtein(0.30, 3.0);
+                target.allowCalories(800);
+            }
+            case SUGAR_REDUCTION -> target.limitCarb(0.45, 3.0);
+            case BLOOD_PRESSURE -> {
+                target.limitCalories(600, 1.5);
+                target.limitFat(0.30, 1.5);
+            }
+            case CHOLESTEROL -> target.limitFat(0.25, 3.0);
+            case DIGESTION -> {
+                target.limitCalories(600, 1.5);
+                target.limitFat(0.30, 1.5);
+            }
+            case NONE -> {
+            }
+        }
+    }
+
+    /**
+     * OCR 지표가 기준을 벗어나면 해당하는 건강 목표 규칙을 추가 적용
+     */
+    private static void applyOcrMetrics(Target target, Map<String, String> ocrHealthData) {
+        Double bmi = parseMetric(ocrHealthData.get("BMI"));
+        Double bodyFat = parseMetric(ocrHealthData.get("체지방률"));
+        Double glucose = parseMetric(ocrHealthData.get("혈당"));
+        Double totalCholesterol = parseMetric(ocrHealthData.get("총콜레스테롤"));
+        Double ldl = parseMetric(ocrHealthData.get("LDL콜레스테롤"));
+        Double systolic = parseMetric(ocrHealthData.get("수축기혈압"));
+        Double diastolic = parseMetric(ocrHealthData.get("이완기혈압"));
+
+        if ((bmi != null && bmi >= 25.0) || (bodyFat != null && bodyFat >= 30.0)) {
+            applyGoal(target, HealthGoalType.WEIGHT_LOSS);
+        } else if (bmi != null && bmi < 18.5) {
+            target.allowCalories(900);
+            target.requireProtein(0.20, 1.5);
+        }
+        if (glucose != null && glucose >= 100.0) {
+            applyGoal(target, HealthGoalType.SUGAR_REDUCTION);
+        }
+        if ((totalCholesterol != null && totalCholesterol >= 200.0) || (ldl != null && ldl >= 130.0)) {
+            applyGoal(target, HealthGoalType.CHOLESTEROL);
+        }
+        if ((systolic != null && systolic >= 130.0) || (diastolic != null && diastolic >= 80.0)) {
+            applyGoal(target, HealthGoalType.BLOOD_PRESSURE);
+        }
+    }
+
+    /**
+     * "23.5", "23.5 kg/m²" 등에서 숫자 부분만 추출
+     */
+    private static Double parseMetric(String value) {
+        if (value == null) {
+            return null;
+        }
+        String numeric = value.replaceAll("[^0-9.]", "");
+        if (numeric.isEmpty()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(numeric);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : 0.0;
+    }
+
+    /**
+     * nutrition으로부터 새 스냅샷을 만들어 교체 (호출부에서 동기화)
+     * 칼로리가 비어 있으면 탄단지로 환산(4/4/9 kcal)합니다.
+     */
+    private void publish() {
+        int size = nutrition.size();
+        long[] recipeIds = new long[size];
+        double[] calories = new double[size];
+        double[] protein = new double[size];
+        double[] carbohydrate = new double[size];
+        double[] fat = new double[size];
+
+        int i = 0;
+        for (Map.Entry<Long, double[]> entry : nutrition.entrySet()) {
+            double[] values = entry.getValue();
+            recipeIds[i] = entry.getKey();
+            protein[i] = values[1];
+            carbohydrate[i] = values[2];
+            fat[i] = values[3];
+            calories[i] = values[0] > 0 ? values[0] : 4.0 * values[1] + 4.0 * values[2] + 9.0 * values[3];
+            i++;
+        }
+        snapshot = new Snapshot(recipeIds, calories, protein, carbohydrate, fat);
+    }
+
+    /**
+     * 1회 제공량 기준 영양 목표 (에너지 비율은 총 칼로리 대비)
+     */
+    public static final class Target {
+        double maxCalories = 700;
+        double calorieWeight = 1.0;
+        double minProteinRatio = 0.15;
+        double proteinWeight = 1.0;
+        double maxCarbRatio = 0.60;
+        double carbWeight = 1.0;
+        double maxFatRatio = 0.35;
+        double fatWeight = 1.0;
+
+        void limitCalories(double max, double weight) {
+            maxCalories = Math.min(maxCalories, max);
+            calorieWeight = Math.max(calorieWeight, weight);
+        }
+
+        // 칼로리 제한 목표가 없을 때만 상한을 올림
+        void allowCalories(double max) {
+            if (calorieWeight <= 1.0) {
+                maxCalories = Math.max(maxCalories, max);
+            }
+        }
+
+        void requireProtein(double minRatio, double weight) {
+            minProteinRatio = Math.max(minProteinRatio, minRatio);
+            proteinWeight = Math.max(proteinWeight, weight);
+        }
+
+        void limitCarb(double maxRatio, double weight) {
+            maxCarbRatio = Math.min(maxCarbRatio, maxRatio);
+            carbWeight = Math.max(carbWeight, weight);
+        }
+
+        void limitFat(double maxRatio, double weight) {
+            maxFatRatio = Math.min(maxFatRatio, maxRatio);
+            fatWeight = Math.max(fatWeight, weight);
+        }
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new long[0], new double[0], new double[0], new double[0], new double[0]);
+
+        final long[] recipeIds;
+        final double[] calories;
+        final double[] protein;
+        final double[] carbohydrate;
+        final double[] fat;
+
+        Snapshot(long[] recipeIds, double[] calories, double[] protein, double[] carbohydrate, double[] fat) {
+            this.recipeIds = recipeIds;
+            this.calories = calories;
+            this.protein = protein;
+            this.carbohydrate = carbohydrate;
+            this.fat = fat;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.recipe.entity.RecipeCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 사전 생성 레시피 풀 (Redis LIST)
+ *
+ * 주제(완전 랜덤, 레시피 카테고리, 자주 쓰는 주제)별로 이미 생성·이미지 보강·저장이 끝난 레시피 ID를 보관합니다.
+ * 랜덤 레시피 생성 API는 풀에서 꺼내 바로 응답하고, 보충은 백그라운드에서 수행합니다.
+ */
+@Slf4j
+@Component
+public class RecipePool {
+
+    private static final String POOL_KEY_PREFIX = "recipe-pool:";
+    private static final String LOCK_KEY_PREFIX = "recipe-pool:refill-lock:";
+
+    /** 완전 랜덤(주제 없음) 풀 */
+    private static final String RANDOM_POOL = "random";
+
+    /** 자주 쓰는 주제 풀 접두사 */
+    private static final String TOPIC_POOL_PREFIX = "topic:";
+
+    /** 보충 잠금 유효기간 (AI 생성 + 이미지 검색 최대 소요 시간보다 길게) */
+    private static final Duration REFILL_LOCK_TTL = Duration.ofMinutes(5);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final int watermark;
+    private final List<String> topics;
+
+    public RecipePool(StringRedisTemplate redisTemplate,
+                      @Value("${app.recipe-pool.enabled:true}") boolean enabled,
+                      @Value("${app.recipe-pool.watermark:10}") int watermark,
+                      @Value("${app.recipe-pool.topics:}") List<String> topics) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.watermark = watermark;
+        this.topics = topics.stream()
+                .map(String::trim)
+                .filter(topic -> !topic.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 관리 대상 풀 목록 (완전 랜덤 + 카테고리별 + 설정된 주제별)
+     */
+    public List<String> poolKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(RANDOM_POOL);
+        for (RecipeCategory category : RecipeCategory.values()) {
+            keys.add(category.name());
+        }
+        for (String topic : topics) {
+            keys.add(TOPIC_POOL_PREFIX + topic);
+        }
+        return keys;
+    }
+
+    /**
+     * 요청 주제에 해당하는 풀 조회 (풀로 관리하지 않는 주제면 null)
+     */
+    public String resolvePoolKey(String topic) {
+        if (!enabled) {
+            return null;
+        }
+        if (topic == null || topic.isBlank()) {
+            return RANDOM_POOL;
+        }
+        String trimmed = topic.trim();
+        for (RecipeCategory category : RecipeCategory.values()) {
+            if (category.name().equalsIgnoreCase(trimmed) || category.getName().equals(trimmed)) {
+                return category.name();
+            }
+        }
+        return topics.contains(trimmed) ? TOPIC_POOL_PREFIX + trimmed : null;
+    }
+
+    /**
+     * 풀의 레시피 생성 프롬프트에 사용할 주제 (완전 랜덤이면 null)
+     */
+    public String topicOf(String poolKey) {
+        if (RANDOM_POOL.equals(poolKey)) {
+            return null;
+        }
+        if (poolKey.startsWith(TOPIC_POOL_PREFIX)) {
+            return poolKey.substring(TOPIC_POOL_PREFIX.length());
+        }
+        return RecipeCategory.valueOf(poolKey).getName();
+    }
+
+    /**
+     * 풀에서 레시피 ID를 최대 count개 꺼냄 (먼저 들어온 순서)
+     */
+    public List<Long> pop(String poolKey, int count) {
+        try {
+            List<String> ids = redisTemplate.opsForList().leftPop(POOL_KEY_PREFIX + poolKey, count);
+            if (ids == null) {
+                return Collections.emptyList();
+            }
+            return ids.stream().map(Long::valueOf).collect(Collectors.toList());
+        } catch (Exception e) {
+            log.warn("레시피 풀 조회 실패 - pool: {}, {}", poolKey, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    public void push(String poolKey, List<Long> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return;
+        }
+        List<String> ids = recipeIds.stream().map(String::valueOf).collect(Collectors.toList());
+        redisTemplate.opsForList().rightPushAll(POOL_KEY_PREFIX + poolKey, ids);
+    }
+
+    /**
+     * 워터마크 미만이면 보충 필요
+     */
+    public boolean needsRefill(String poolKey) {
+        try {
+            Long size = redisTemplate.opsForList().size(POOL_KEY_PREFIX + poolKey);
+            return size == null || size < watermark;
+        } catch (Exception e) {
+            log.warn("레시피 풀 크기 조회 실패 - pool: {}, {}", poolKey, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 풀 보충 잠금 (여러 인스턴스가 같은 풀을 동시에 보충하지 않도록)
+     */
+    public boolean tryLockRefill(String poolKey) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + poolKey, "1", REFILL_LOCK_TTL));
+        } catch (Exception e) {
+            log.warn("레시피 풀 보충 잠금 실패 - pool: {}, {}", poolKey, e.getMessage());
+            return false;
+        }
+    }
+
+    public void unlockRefill(String poolKey) {
+        try {
+            redisTemplate.delete(LOCK_KEY_PREFIX + poolKey);
+        } catch (Exception e) {
+            log.warn("레시피 풀 보충 잠금 해제 실패 - pool: {}, {}", poolKey, e.getMessage());
+        }
+    }
+}
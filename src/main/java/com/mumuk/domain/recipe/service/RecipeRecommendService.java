@@ -2,42 +2,75 @@ package com.mumuk.domain.recipe.service;
 
 import com.mumuk.domain.recipe.dto.response.RecipeResponse;
 import com.mumuk.domain.user.dto.response.UserRecipeResponse;
+import com.mumuk.domain.user.service.UserProfileSnapshot;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
 public interface RecipeRecommendService {
 
+    // 조회(추천) API는 Gemini 응답을 기다리는 동안 요청 스레드를 점유하지 않도록 Mono로 반환합니다.
+
     /**
      * 사용자의 재료를 기반으로 레시피를 추천합니다.
      */
-    List<UserRecipeResponse.RecipeSummaryDTO> recommendRecipesByIngredient(Long userId);
+    Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByIngredient(Long userId);
+
+    /**
+     * 이미 조회한 사용자 프로필로 재료 기반 레시피를 추천합니다. (홈 화면처럼 여러 추천이 프로필을 공유할 때 사용)
+     */
+    Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByIngredient(UserProfileSnapshot profile);
 
 
 
     /**
      * 특정 카테고리들에 해당하는 레시피를 추천합니다.
      */
-    List<UserRecipeResponse.RecipeSummaryDTO> recommendRecipesByCategories(Long userId, String categories);
+    Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByCategories(Long userId, String categories);
 
     /**
      * 랜덤하게 레시피를 추천합니다.
      */
-    List<UserRecipeResponse.RecipeSummaryDTO> recommendRandomRecipes(Long userId);
+    Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRandomRecipes(Long userId);
+
+    /**
+     * 이미 조회한 사용자 프로필로 랜덤 레시피를 추천합니다.
+     */
+    Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRandomRecipes(UserProfileSnapshot profile);
 
     /**
      * OCR 결과를 기반으로 레시피를 추천합니다.
      */
-    List<UserRecipeResponse.RecipeSummaryDTO> recommendRecipesByOcr(Long userId);
+    Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByOcr(Long userId);
 
     /**
      * 사용자의 건강 목표를 기반으로 레시피를 추천합니다.
      */
-    List<UserRecipeResponse.RecipeSummaryDTO> recommendRecipesByHealthGoal(Long userId);
+    Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByHealthGoal(Long userId);
+
+    /**
+     * 이미 조회한 사용자 프로필로 건강 목표 기반 레시피를 추천합니다.
+     */
+    Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByHealthGoal(UserProfileSnapshot profile);
 
     /**
      * 여러 조건을 조합하여 레시피를 추천합니다.
      */
-    List<UserRecipeResponse.RecipeSummaryDTO> recommendRecipesByCombined(Long userId);
+    Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByCombined(Long userId);
+
+    /**
+     * 야간 배치용: 추천 목록을 미리 계산해 저장합니다.
+     * 배치 평가만 사용하며, 평가에 실패하면 저장하지 않고 에러로 끝납니다. (요청 시 실시간 계산)
+     */
+    Mono<Void> precomputeRecommendations(UserProfileSnapshot profile, RecommendMode mode);
+
+    /**
+     * 야간 배치용: 해당 모드의 추천 목록을 미리 계산할지 여부
+     * 요청 시 계산에 AI 호출이 필요한 모드만 사전 계산합니다.
+     */
+    boolean shouldPrecompute(RecommendMode mode, UserProfileSnapshot profile);
 
     /**
      * AI를 사용하여 재료 기반 레시피를 생성하고 저장합니다.
@@ -63,4 +96,21 @@ public interface RecipeRecommendService {
      * @param keyword 키워드 (null이면 완전 랜덤)
      */
     List<RecipeResponse.DetailRes> createAndSaveRandomRecipesByKeyword(Long userId, String keyword);
+
+    /**
+     * 재료 기반 레시피를 스트리밍으로 생성하고, 저장된 레시피를 하나씩 반환합니다.
+     */
+    Flux<RecipeResponse.DetailRes> streamRecipesByIngredient(Long userId);
+
+    /**
+     * 랜덤 레시피를 스트리밍으로 생성하고, 저장된 레시피를 하나씩 반환합니다.
+     * 사전 생성 풀에 레시피가 있으면 풀의 레시피를 반환합니다.
+     * @param topic 선택적 주제 (null이면 완전 랜덤)
+     */
+    Flux<RecipeResponse.DetailRes> streamRandomRecipes(Long userId, String topic);
+
+    /**
+     * 키워드 기반 레시피를 스트리밍으로 생성하고, 저장된 레시피를 하나씩 반환합니다.
+     */
+    Flux<RecipeResponse.DetailRes> streamRecipesByKeyword(Long userId, String keyword);
 } 
\ No newline at end of file
@@ -1,45 +1,69 @@
 package com.mumuk.domain.recipe.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.mumuk.domain.healthManagement.dto.response.AllergyResponse;
-import com.mumuk.domain.healthManagement.service.AllergyService;
-import com.mumuk.domain.ingredient.dto.response.IngredientResponse;
-import com.mumuk.domain.ingredient.service.IngredientService;
 import com.mumuk.domain.recipe.dto.response.RecipeResponse;
+import com.mumuk.domain.recipe.entity.AllergenDictionary;
+import com.mumuk.domain.recipe.entity.IngredientSynonymDictionary;
 import com.mumuk.domain.recipe.entity.Recipe;
 import com.mumuk.domain.recipe.entity.RecipeCategory;
+import com.mumuk.domain.recipe.event.RecipeChangedEvent;
 import com.mumuk.domain.recipe.repository.RecipeRepository;
 import com.mumuk.domain.recipe.converter.RecipeConverter;
 import com.mumuk.domain.user.dto.response.UserRecipeResponse;
 import com.mumuk.domain.user.entity.User;
 import com.mumuk.domain.user.repository.UserRepository;
 import com.mumuk.domain.user.repository.UserRecipeRepository;
+import com.mumuk.domain.user.service.UserProfileCache;
+import com.mumuk.domain.user.service.UserProfileSnapshot;
 import com.mumuk.domain.user.entity.UserRecipe;
 import com.mumuk.global.apiPayload.code.ErrorCode;
 import com.mumuk.global.apiPayload.exception.BusinessException;
+import com.mumuk.global.client.CachedPrompt;
 import com.mumuk.global.client.GeminiClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import com.mumuk.domain.ocr.entity.UserHealthData;
-import com.mumuk.domain.ocr.repository.UserHealthDataRepository;
-import com.mumuk.domain.healthManagement.service.HealthGoalService;
 import com.mumuk.domain.recipe.service.RecipeBlogImageService;
 
 
@@ -52,13 +76,30 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
     private final ObjectMapper objectMapper;
     private final UserRepository userRepository;
     private final UserRecipeRepository userRecipeRepository;
-    private final IngredientService ingredientService;
-    private final AllergyService allergyService;
     private final RecipeRepository recipeRepository;
     private final RedisTemplate<String, Object> redisTemplate;
-    private final UserHealthDataRepository userHealthDataRepository;
-    private final HealthGoalService healthGoalService;
+    private final UserProfileCache userProfileCache;
     private final RecipeBlogImageService recipeBlogImageService;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final RecipeTitleBloomFilter recipeTitleBloomFilter;
+    private final RecipeCatalog recipeCatalog;
+    private final RecipeNutritionScorer recipeNutritionScorer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecipeScoreCache recipeScoreCache;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RecipePool recipePool;
+    private final PrecomputedRecommendationStore precomputedStore;
+    private final ThreadPoolTaskExecutor recipeGenerationExecutor;
+
+    /** 재료 기반 추천에서 색인 후보를 Gemini로 재정렬할지 여부 */
+    private final boolean aiRerankEnabled;
+
+    /** 배치 평가 실패 시 개별 평가 동시 호출 수 */
+    private final int individualConcurrency;
+
+    /** 배치 평가 실패 시 개별 평가 전체 제한 시간 (넘긴 레시피는 기본 점수) */
+    private final Duration individualDeadline;
 
     // ===== 상수 정의 =====
     // 설정 변경 시 이 부분만 수정하면 됩니다
@@ -74,111 +115,410 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
     
     /** 무작위 샘플 크기 (GET API용) */
     private static final int RANDOM_SAMPLE_SIZE = 12;
+
+    /** 재료 역색인/영양 점수에서 가져올 후보 개수 (AI 재정렬 대상) */
+    private static final int INDEX_CANDIDATE_SIZE = 12;
+
+    /** 적합도 점수 캐시 모드 (모드별로 프롬프트가 다르므로 점수를 분리 저장) */
+    private static final String SCORE_MODE_INGREDIENT = "ingredient";
+    private static final String SCORE_MODE_HEALTH = "health";
+    private static final String SCORE_MODE_HEALTH_GOAL = "health-goal";
+    private static final String SCORE_MODE_COMBINED = "combined";
+
+    /** Reactor Context 키: 야간 사전 계산 중이면 배치 평가 실패 시 개별 평가로 전환하지 않음 */
+    private static final String BATCH_ONLY_CONTEXT_KEY = "recommend.batch-only";
     
     /** POST API로 생성할 레시피 개수 */
     private static final int POST_RECIPE_COUNT = 5;
     
     /** 이미지 URL 최대 길이 (엔티티 컬럼 길이와 일치) */
     private static final int MAX_IMAGE_URL_LENGTH = 500;
+
+    /** 레시피 컬럼 최대 길이 (엔티티 컬럼 길이와 일치) */
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_LENGTH = 100;
+    private static final int MAX_INGREDIENTS_LENGTH = 200;
+
+    /** 레시피 이미지 동시 검색 개수 */
+    private static final int IMAGE_SEARCH_CONCURRENCY = 5;
+
+    /** Gemini 호출 제한 시간 */
+    private static final Duration AI_CALL_TIMEOUT = Duration.ofSeconds(30);
+
+    /** 배치 프롬프트의 레시피 목록 최대 길이 (약 3000 토큰) */
+    private static final int MAX_BATCH_PROMPT_LENGTH = 12000;
+
+    /** 배치 점수 응답 스키마: [{"id": 정수, "score": 실수}] */
+    private static final Map<String, Object> BATCH_SCORE_SCHEMA = Map.of(
+            "type", "ARRAY",
+            "items", Map.of(
+                    "type", "OBJECT",
+                    "properties", Map.of(
+                            "id", Map.of("type", "INTEGER"),
+                            "score", Map.of("type", "NUMBER")),
+                    "required", List.of("id", "score")));
+
+    /** 빠른 모델 배치 응답을 그대로 사용할 최소 점수 비율 (미만이면 Pro 모델로 재요청) */
+    private static final double MIN_BATCH_SCORE_COVERAGE = 0.8;
+
+    /** 적합도 평가 기준 (단건/배치 공통) */
+    private static final String SUITABILITY_CRITERIA =
+            "=== 적합도 평가 기준 (우선순위 순) ===\n" +
+            "1. 알러지 성분 포함 여부 (최우선, 포함시 0점)\n" +
+            "2. 건강 목표 달성 도움 정도\n" +
+            "3. 현재 건강 상태 적합성\n" +
+            "4. 보유 재료 활용도\n\n" +
+            "점수 기준:\n" +
+            "- 9-10점: 모든 조건을 완벽하게 만족 (건강 목표 최적, 건강 상태 적합, 재료 완벽)\n" +
+            "- 7-8점: 대부분의 조건을 만족 (건강 목표 적합, 건강 상태 적합, 재료 충분)\n" +
+            "- 5-6점: 주요 조건을 만족 (건강 목표 보통, 건강 상태 보통, 재료 가능)\n" +
+            "- 3-4점: 일부 조건만 만족 (건강 목표 부적합, 건강 상태 부적합, 재료 부족)\n" +
+            "- 1-2점: 대부분의 조건을 만족하지 못함\n" +
+            "- 0점: 알러지 성분 포함 (절대 추천 불가)\n\n";
+
+    /** 배치 프롬프트 응답 형식 안내 */
+    private static final String BATCH_SCORE_INSTRUCTION =
+            "각 레시피를 앞의 ID로 구분해서 [{\"id\": ID, \"score\": 0~10 점수}] 형태의 JSON 배열로만 응답해줘. 목록의 모든 ID에 점수를 매겨줘.";
+
+    /** 컨텍스트 캐시 프롬프트 계열 (계열별로 공통 지시문을 한 번만 등록) */
+    private static final String PROMPT_FAMILY_GENERATION = "recipe-generation";
+    private static final String PROMPT_FAMILY_BATCH_SUITABILITY = "suitability-batch";
+    private static final String PROMPT_FAMILY_SINGLE_SUITABILITY = "suitability-single";
+
     /** 성능 최적화를 위한 상세 로그 출력 여부 (운영에서는 false 권장) */
     private static final boolean ENABLE_VERBOSE_LOG = false;
 
     public RecipeRecommendServiceImpl(GeminiClient geminiClient, ObjectMapper objectMapper,
                                    UserRepository userRepository, UserRecipeRepository userRecipeRepository,
-                                   IngredientService ingredientService, AllergyService allergyService,
                                    RecipeRepository recipeRepository, RedisTemplate<String, Object> redisTemplate,
-                                   UserHealthDataRepository userHealthDataRepository, HealthGoalService healthGoalService,
-                                   RecipeBlogImageService recipeBlogImageService) {
+                                   UserProfileCache userProfileCache,
+                                   RecipeBlogImageService recipeBlogImageService, RecipeIngredientIndex recipeIngredientIndex,
+                                   RecipeCatalog recipeCatalog, RecipeNutritionScorer recipeNutritionScorer,
+                                   ApplicationEventPublisher eventPublisher,
+                                   RecipeScoreCache recipeScoreCache, PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry, RecipePool recipePool,
+                                   PrecomputedRecommendationStore precomputedStore, RecipeTitleBloomFilter recipeTitleBloomFilter,
+                                   @Qualifier("recipeGenerationExecutor") ThreadPoolTaskExecutor recipeGenerationExecutor,
+                                   @Value("${app.recommend.ai-rerank:false}") boolean aiRerankEnabled,
+                                   @Value("${app.recommend.individual-concurrency:4}") int individualConcurrency,
+                                   @Value("${app.recommend.individual-deadline-ms:15000}") long individualDeadlineMs) {
         this.geminiClient = geminiClient;
         this.objectMapper = objectMapper;
         this.userRepository = userRepository;
         this.userRecipeRepository = userRecipeRepository;
-        this.ingredientService = ingredientService;
-        this.allergyService = allergyService;
         this.recipeRepository = recipeRepository;
         this.redisTemplate = redisTemplate;
-        this.userHealthDataRepository = userHealthDataRepository;
-        this.healthGoalService = healthGoalService;
+        this.userProfileCache = userProfileCache;
         this.recipeBlogImageService = recipeBlogImageService;
+        this.recipeIngredientIndex = recipeIngredientIndex;
+        this.recipeTitleBloomFilter = recipeTitleBloomFilter;
+        this.recipeCatalog = recipeCatalog;
+        this.recipeNutritionScorer = recipeNutritionScorer;
+        this.eventPublisher = eventPublisher;
+        this.recipeScoreCache = recipeScoreCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.recipePool = recipePool;
+        this.precomputedStore = precomputedStore;
+        this.recipeGenerationExecutor = recipeGenerationExecutor;
+        this.aiRerankEnabled = aiRerankEnabled;
+        this.individualConcurrency = Math.max(1, individualConcurrency);
+        this.individualDeadline = Duration.ofMillis(individualDeadlineMs);
     }
 
 
 
     @Override
-    public List<UserRecipeResponse.RecipeSummaryDTO> recommendRecipesByIngredient(Long userId) {
-        // 사용자 존재 검증 (값은 사용하지 않음)
-        getUser(userId);
-        
-        // 사용자 보유 재료 및 알레르기 정보 조회
-        List<String> availableIngredients = getUserIngredients(userId);
-        List<String> allergyTypes = getUserAllergies(userId);
-        
-        // 레시피 적합도 평가 (무작위 샘플에서 상위 MAX_RECOMMENDATIONS개 선택)
-        List<RecipeWithScore> recipesWithScores = evaluateRecipeSuitabilityByIngredient(
-            getRandomRecipesForEvaluation(RANDOM_SAMPLE_SIZE), availableIngredients, allergyTypes);
-        
-        // 점수 내림차순 정렬 후 상위 MAX_RECOMMENDATIONS개 선택
-        recipesWithScores.sort((a, b) -> Double.compare(b.score, a.score));
-        List<RecipeWithScore> topRecipes = recipesWithScores.stream()
-            .limit(MAX_RECOMMENDATIONS)
-            .collect(Collectors.toList());
-        
-        // 찜 여부 조회
-        List<Long> recipeIds = topRecipes.stream()
-            .map(recipeWithScore -> recipeWithScore.recipe.getId())
-            .collect(Collectors.toList());
-        Map<Long, Boolean> likedMap = getUserRecipeLikedMap(userId, recipeIds);
-        
-        // RecipeSummaryDTO로 변환하여 반환
-        return topRecipes.stream()
-            .map(rws -> RecipeConverter.toRecipeSummaryDTO(rws.recipe, likedMap.get(rws.recipe.getId())))
-            .collect(Collectors.toList());
+    public Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByIngredient(Long userId) {
+        return loadProfile(userId).flatMap(this::recommendRecipesByIngredient);
+    }
+
+    @Override
+    public Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByIngredient(UserProfileSnapshot profile) {
+        return recommendWithPrecomputed(RecommendMode.INGREDIENT, profile);
     }
 
+    /**
+     * 재료 기반 후보 점수화 (재료 역색인 상위 후보, 설정 시 AI 재정렬)
+     */
+    private Mono<List<RecipeWithScore>> scoreByIngredient(UserProfileSnapshot profile) {
+        Long userId = profile.getUserId();
+        // 재료/색인 조회는 블로킹이므로 boundedElastic에서 수행하고, AI 호출은 Mono로 합성
+        return Mono.defer(() -> {
+            // 사용자 보유 재료 및 알레르기 정보
+            List<String> availableIngredients = getUserIngredients(profile);
+            List<String> allergyTypes = profile.getAllergyTypes();
+            String profileFingerprint = RecipeScoreCache.fingerprint(availableIngredients, allergyTypes, null, null);
+            
+            // 재료 역색인으로 전체 레시피를 커버리지 점수화하여 상위 후보 선택 (알레르기 충돌 레시피는 점수화 전 제외)
+            Map<Long, Double> indexScores = recipeIngredientIndex.topK(
+                availableIngredients, INDEX_CANDIDATE_SIZE, getAllergenConflicts(allergyTypes));
+            if (indexScores.isEmpty() && recipeIngredientIndex.isEmpty()) {
+                // 색인 구성 전: 정규 재료 매핑 테이블에서 보유 재료만으로 만들 수 있는 레시피를 조회 (커버리지 100%)
+                indexScores = findRecipesCoveredByIngredients(availableIngredients);
+            }
+            List<Recipe> candidates = excludeAllergenConflicts(findRecipesInOrder(indexScores.keySet()), allergyTypes);
+            Map<Long, Double> candidateScores = indexScores;
+            
+            Mono<List<RecipeWithScore>> scoring;
+            if (candidates.isEmpty()) {
+                // 색인 미구성 또는 일치 재료 없음: 기존 무작위 샘플 AI 평가로 대체
+                log.info("재료 색인 후보 없음, 무작위 샘플 평가로 대체 - userId: {}", userId);
+                scoring = evaluateRecipeSuitabilityByIngredient(
+                    getRandomRecipesForEvaluation(RANDOM_SAMPLE_SIZE, allergyTypes), availableIngredients, allergyTypes, profileFingerprint);
+            } else if (aiRerankEnabled) {
+                // 상위 후보만 AI로 재정렬
+                scoring = evaluateRecipeSuitabilityByIngredient(candidates, availableIngredients, allergyTypes, profileFingerprint);
+            } else {
+                scoring = Mono.just(candidates.stream()
+                    .map(recipe -> new RecipeWithScore(recipe, candidateScores.get(recipe.getId())))
+                    .collect(Collectors.toList()));
+            }
+            
+            return scoring;
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 보유 재료만으로 만들 수 있는 레시피 ID (recipe_ingredient 색인 조회, 점수 10)
+     */
+    private Map<Long, Double> findRecipesCoveredByIngredients(List<String> availableIngredients) {
+        Set<String> names = availableIngredients.stream()
+            .map(IngredientSynonymDictionary::canonicalize)
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toSet());
+        if (names.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        recipeRepository.findIdsCoveredByIngredients(names, INDEX_CANDIDATE_SIZE)
+            .forEach(id -> scores.put(id, 10.0));
+        return scores;
+    }
 
+    /**
+     * 야간 사전 계산 목록이 유효하면 그 목록으로 응답하고, 없거나 프로필이 바뀌었으면 실시간으로 계산
+     */
+    private Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendWithPrecomputed(RecommendMode mode, UserProfileSnapshot profile) {
+        Long userId = profile.getUserId();
+        Mono<List<UserRecipeResponse.RecipeSummaryDTO>> realtime = scoreRecommendations(mode, profile)
+            .publishOn(Schedulers.boundedElastic())
+            .map(recipesWithScores -> toTopRecipeSummaries(userId, recipesWithScores));
+        if (!shouldPrecompute(mode, profile)) {
+            return realtime;
+        }
+        return Mono.fromCallable(() -> precomputedStore.get(mode, userId, precomputeFingerprint(mode, profile)))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(precomputed -> {
+                recordPrecomputedLookup(mode, precomputed.isPresent());
+                if (precomputed.isPresent()) {
+                    return Mono.fromCallable(() -> toPrecomputedSummaries(userId, precomputed.get(), profile.getAllergyTypes()))
+                        .subscribeOn(Schedulers.boundedElastic());
+                }
+                return realtime;
+            });
+    }
 
     @Override
-    public List<UserRecipeResponse.RecipeSummaryDTO> recommendRecipesByCategories(Long userId, String categories) {
-        // 카테고리 기반 무작위 추천: 사용자 재료/알레르기 미사용. 사용자 존재만 검증.
-        getUser(userId);
-        
-        // 카테고리별 레시피 조회
-        List<Recipe> recipes = getRecipesByCategories(categories);
-        
-        if (recipes.isEmpty()) {
+    public Mono<Void> precomputeRecommendations(UserProfileSnapshot profile, RecommendMode mode) {
+        return scoreRecommendations(mode, profile)
+            .contextWrite(context -> context.put(BATCH_ONLY_CONTEXT_KEY, true))
+            .publishOn(Schedulers.boundedElastic())
+            .doOnNext(recipesWithScores -> {
+                List<Long> recipeIds = topRecipes(recipesWithScores).stream()
+                    .map(rws -> rws.recipe.getId())
+                    .collect(Collectors.toList());
+                if (!recipeIds.isEmpty()) {
+                    precomputedStore.put(mode, profile.getUserId(), precomputeFingerprint(mode, profile), recipeIds);
+                }
+            })
+            .then();
+    }
+
+    private Mono<List<RecipeWithScore>> scoreRecommendations(RecommendMode mode, UserProfileSnapshot profile) {
+        return switch (mode) {
+            case INGREDIENT -> scoreByIngredient(profile);
+            case HEALTH_GOAL -> scoreByHealthGoal(profile);
+            case COMBINED -> scoreByCombined(profile);
+        };
+    }
+
+    @Override
+    public boolean shouldPrecompute(RecommendMode mode, UserProfileSnapshot profile) {
+        return switch (mode) {
+            // 색인 점수만 쓰면 요청 시에도 로컬 계산이므로 AI 재정렬할 때만
+            case INGREDIENT -> aiRerankEnabled;
+            // 건강 목표가 있으면 영양 점수(로컬)로 계산, 없으면 재료 기반으로 대체
+            case HEALTH_GOAL -> isEmpty(profile.getHealthGoals()) && aiRerankEnabled;
+            // 무작위 표본을 평가하므로 미리 계산하면 하루 동안 같은 표본만 응답하게 됨
+            case COMBINED -> false;
+        };
+    }
+
+    /**
+     * 사전 계산 목록의 프로필 지문 (모드가 점수화에 사용하는 프로필 항목만 포함)
+     */
+    private static String precomputeFingerprint(RecommendMode mode, UserProfileSnapshot profile) {
+        return switch (mode) {
+            case INGREDIENT -> RecipeScoreCache.fingerprint(profile.getIngredients(), profile.getAllergyTypes(), null, null);
+            case HEALTH_GOAL -> isEmpty(profile.getHealthGoals())
+                ? RecipeScoreCache.fingerprint(profile.getIngredients(), profile.getAllergyTypes(), null, null)
+                : RecipeScoreCache.fingerprint(null, profile.getAllergyTypes(), profile.getHealthGoals(), null);
+            case COMBINED -> RecipeScoreCache.fingerprint(profile.getIngredients(), profile.getAllergyTypes(),
+                profile.getHealthGoals(), profile.getOcrHealthData());
+        };
+    }
+
+    private static boolean isEmpty(List<String> values) {
+        return values == null || values.isEmpty();
+    }
+
+    /**
+     * 사전 계산된 레시피 ID를 순서대로 RecipeSummaryDTO로 변환
+     * 계산 이후 삭제된 레시피와 알레르기 충돌 레시피는 다시 한 번 제외합니다.
+     */
+    private List<UserRecipeResponse.RecipeSummaryDTO> toPrecomputedSummaries(Long userId, List<Long> recipeIds,
+                                                                            List<String> allergyTypes) {
+        List<RecipeWithScore> ordered = excludeAllergenConflicts(findRecipesInOrder(recipeIds), allergyTypes).stream()
+            .map(recipe -> new RecipeWithScore(recipe, 1.0))
+            .collect(Collectors.toList());
+        return toTopRecipeSummaries(userId, ordered);
+    }
+
+    private void recordPrecomputedLookup(RecommendMode mode, boolean hit) {
+        Counter.builder("recommend.precomputed.lookup")
+            .description("사전 계산 추천 목록 사용 여부 (miss: 실시간 계산)")
+            .tag("mode", mode.getKey())
+            .tag("result", hit ? "hit" : "miss")
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * 배치 평가, 실패 시 레시피별 개별 평가로 전환
+     * 야간 사전 계산 중이면 개별 평가로 전환하지 않고 실패합니다. (해당 사용자는 요청 시 실시간 계산)
+     */
+    private Mono<List<RecipeWithScore>> batchOrIndividual(Mono<List<RecipeWithScore>> batch,
+                                                          Supplier<Mono<List<RecipeWithScore>>> individual) {
+        return batch.onErrorResume(e -> Mono.deferContextual(context -> {
+            if (context.getOrDefault(BATCH_ONLY_CONTEXT_KEY, false)) {
+                return Mono.error(e);
+            }
+            log.warn("배치 처리 실패, 개별 처리로 전환: {}", e.getMessage());
+            return individual.get();
+        }));
+    }
+
+    /**
+     * 사용자 프로필 조회 (캐시, 사용자 존재 검증 포함)
+     */
+    private Mono<UserProfileSnapshot> loadProfile(Long userId) {
+        return Mono.fromCallable(() -> userProfileCache.get(userId))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * ID 순서를 유지한 레시피 조회 (색인 점수 순서 보존)
+     */
+    private List<Recipe> findRecipesInOrder(Collection<Long> recipeIds) {
+        if (recipeIds.isEmpty()) {
             return new ArrayList<>();
         }
-        
-        // 상위 MAX_RECOMMENDATIONS개 레시피 선택
-        List<Recipe> topRecipes = recipes.stream()
-            .limit(MAX_RECOMMENDATIONS)
+        Map<Long, Recipe> recipeMap = recipeRepository.findAllById(recipeIds).stream()
+            .collect(Collectors.toMap(Recipe::getId, recipe -> recipe));
+        return recipeIds.stream()
+            .map(recipeMap::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 사용자 알레르기와 충돌하는 레시피 ID (카탈로그의 레시피별 알레르기 마스크와 AND 연산)
+     */
+    private Set<Long> getAllergenConflicts(List<String> allergyTypes) {
+        return recipeCatalog.allergenConflicts(AllergenDictionary.maskOfAllergyTypes(allergyTypes));
+    }
+
+    /**
+     * 조회된 레시피에서 알레르기 충돌 레시피 제거
+     * 카탈로그에 아직 반영되지 않은 레시피나 DB 랜덤 샘플링 결과도 확실히 제외하기 위해 재료로 다시 확인합니다.
+     */
+    private List<Recipe> excludeAllergenConflicts(List<Recipe> recipes, List<String> allergyTypes) {
+        long allergyMask = AllergenDictionary.maskOfAllergyTypes(allergyTypes);
+        if (allergyMask == 0L) {
+            return recipes;
+        }
+        return recipes.stream()
+            .filter(recipe -> (AllergenDictionary.maskOfIngredients(recipe.getIngredients()) & allergyMask) == 0L)
             .collect(Collectors.toList());
+    }
+
+    /**
+     * 점수 내림차순 상위 MAX_RECOMMENDATIONS개를 찜 여부와 함께 RecipeSummaryDTO로 변환 (동점은 입력 순서 유지)
+     */
+    private List<UserRecipeResponse.RecipeSummaryDTO> toTopRecipeSummaries(Long userId, List<RecipeWithScore> recipesWithScores) {
+        List<RecipeWithScore> topRecipes = topRecipes(recipesWithScores);
+        if (topRecipes.isEmpty()) {
+            return new ArrayList<>();
+        }
         
         // 찜 여부 조회
         List<Long> recipeIds = topRecipes.stream()
-            .map(Recipe::getId)
+            .map(recipeWithScore -> recipeWithScore.recipe.getId())
             .collect(Collectors.toList());
         Map<Long, Boolean> likedMap = getUserRecipeLikedMap(userId, recipeIds);
         
-        // RecipeSummaryDTO로 변환하여 반환
         return topRecipes.stream()
-            .map(recipe -> UserRecipeResponse.RecipeSummaryDTO.builder()
-                .recipeId(recipe.getId())
-                .name(recipe.getTitle())
-                .imageUrl(recipe.getRecipeImage())
-                .liked(likedMap.get(recipe.getId()))
-                .build())
+            .map(rws -> RecipeConverter.toRecipeSummaryDTO(rws.recipe, likedMap.get(rws.recipe.getId())))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 점수 내림차순 상위 MAX_RECOMMENDATIONS개 (동점은 입력 순서 유지)
+     */
+    private static List<RecipeWithScore> topRecipes(List<RecipeWithScore> recipesWithScores) {
+        return recipesWithScores.stream()
+            .sorted((a, b) -> Double.compare(b.score, a.score))
+            .limit(MAX_RECOMMENDATIONS)
             .collect(Collectors.toList());
     }
 
+
+
     @Override
-    public List<UserRecipeResponse.RecipeSummaryDTO> recommendRandomRecipes(Long userId) {
-        // 무작위 추천: 사용자 재료/알레르기 미사용. 사용자 존재만 검증.
-        getUser(userId);
-        
-        // 랜덤 레시피 조회 (무작위 샘플에서 상위 MAX_RECOMMENDATIONS개 선택)
-        List<Recipe> recipes = getRandomRecipesForEvaluation(RANDOM_SAMPLE_SIZE);
-        
+    public Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByCategories(Long userId, String categories) {
+        return Mono.fromCallable(() -> {
+            // 카테고리 기반 무작위 추천: 사용자 재료 미사용, 알레르기 충돌 레시피만 제외
+            List<String> allergyTypes = userProfileCache.get(userId).getAllergyTypes();
+            
+            // 카테고리별 레시피 조회
+            List<Recipe> recipes = getRecipesByCategories(categories, allergyTypes);
+            return toRecipeSummaries(userId, recipes);
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRandomRecipes(Long userId) {
+        return loadProfile(userId).flatMap(this::recommendRandomRecipes);
+    }
+
+    @Override
+    public Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRandomRecipes(UserProfileSnapshot profile) {
+        Long userId = profile.getUserId();
+        return Mono.fromCallable(() -> {
+            // 무작위 추천: 사용자 재료 미사용, 알레르기 충돌 레시피만 제외
+            List<String> allergyTypes = profile.getAllergyTypes();
+            
+            // 랜덤 레시피 조회 (무작위 샘플에서 상위 MAX_RECOMMENDATIONS개 선택)
+            List<Recipe> recipes = getRandomRecipesForEvaluation(RANDOM_SAMPLE_SIZE, allergyTypes);
+            return toRecipeSummaries(userId, recipes);
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 앞에서부터 MAX_RECOMMENDATIONS개를 찜 여부와 함께 RecipeSummaryDTO로 변환
+     */
+    private List<UserRecipeResponse.RecipeSummaryDTO> toRecipeSummaries(Long userId, List<Recipe> recipes) {
         if (recipes.isEmpty()) {
             return new ArrayList<>();
         }
@@ -209,182 +549,187 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
      * OCR 기반 레시피 추천
      */
     @Override
-    public List<UserRecipeResponse.RecipeSummaryDTO> recommendRecipesByOcr(Long userId) {
-        if (ENABLE_VERBOSE_LOG) log.info("OCR 기반 레시피 추천 시작 - userId: {}", userId);
-        
-        // 사용자 정보 조회 (사용자 존재 검증)
-        getUser(userId);
-        // 사용자 알레르기 정보만 조회 (재료 정보는 불필요)
-        List<String> allergyTypes = getUserAllergies(userId);
-        
-        // OCR 건강 데이터 조회
-        Map<String, String> ocrHealthData = getLatestOcrHealthData(userId);
-        
-        if (ocrHealthData == null || ocrHealthData.isEmpty()) {
-            log.warn("사용자의 OCR 건강 데이터 없음. 기본 재료 기반 추천으로 대체");
-            return recommendRecipesByIngredient(userId);
-        }
-        
-        // OCR 데이터를 기반으로 건강 정보 생성
-        String healthInfo = buildOcrHealthInfo(ocrHealthData);
-        
-        // DB 레벨에서 랜덤 샘플링으로 48개 조회
-        List<Recipe> sampledRecipes = getRandomRecipesForEvaluation(RANDOM_SAMPLE_SIZE);
-        
-        if (sampledRecipes.isEmpty()) {
-            log.warn("DB에 레시피가 없습니다.");
-            return new ArrayList<>();
-        }
-        
-        if (ENABLE_VERBOSE_LOG) log.info("랜덤 선택된 레시피 수: {}", sampledRecipes.size());
-        
-        // AI가 각 레시피의 적합도를 평가 (랜덤 선택된 레시피 평가)
-        List<RecipeWithScore> recipesWithScores = evaluateRecipeSuitabilityByHealth(
-            sampledRecipes, new ArrayList<>(), allergyTypes, healthInfo);
-        
-        // 적합도 점수로 내림차순 정렬 (높은 점수가 위로)
-        recipesWithScores.sort((a, b) -> Double.compare(b.score, a.score));
-        
-        // RecipeSummaryDTO로 변환하여 반환 (상위 MAX_RECOMMENDATIONS개만)
-        List<RecipeWithScore> topRecipes = recipesWithScores.stream()
-                .limit(MAX_RECOMMENDATIONS)
-                .collect(Collectors.toList());
-        
-        List<Long> recipeIds = topRecipes.stream()
-                .map(recipeWithScore -> recipeWithScore.recipe.getId())
-                .collect(Collectors.toList());
-        Map<Long, Boolean> likedMap = getUserRecipeLikedMap(userId, recipeIds);
-        
-        if (ENABLE_VERBOSE_LOG) log.info("OCR 기반 레시피 추천 완료 - 추천된 레시피 수: {}", topRecipes.size());
-        return topRecipes.stream()
-                .map(rws -> RecipeConverter.toRecipeSummaryDTO(rws.recipe, likedMap.get(rws.recipe.getId())))
-                .collect(Collectors.toList());
+    public Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByOcr(Long userId) {
+        return Mono.defer(() -> {
+            if (ENABLE_VERBOSE_LOG) log.info("OCR 기반 레시피 추천 시작 - userId: {}", userId);
+            
+            // 사용자 프로필 조회 (캐시, 사용자 존재 검증 포함)
+            UserProfileSnapshot profile = userProfileCache.get(userId);
+            // 사용자 알레르기 정보만 사용 (재료 정보는 불필요)
+            List<String> allergyTypes = profile.getAllergyTypes();
+            
+            // 최신 OCR 건강 데이터
+            Map<String, String> ocrHealthData = profile.getOcrHealthData();
+            
+            if (ocrHealthData == null || ocrHealthData.isEmpty()) {
+                log.warn("사용자의 OCR 건강 데이터 없음. 기본 재료 기반 추천으로 대체");
+                return recommendRecipesByIngredient(profile);
+            }
+            
+            // OCR 데이터를 기반으로 건강 정보 생성
+            String healthInfo = buildOcrHealthInfo(ocrHealthData);
+            String profileFingerprint = RecipeScoreCache.fingerprint(null, allergyTypes, null, ocrHealthData);
+
+            // 규칙 기반 영양 점수로 전체 레시피에서 후보 선정 (Gemini 호출 없음)
+            if (!recipeNutritionScorer.isEmpty()) {
+                List<RecipeWithScore> scored = scoreByNutrition(recipeNutritionScorer.targetFor(null, ocrHealthData), allergyTypes);
+                return Mono.fromCallable(() -> toTopRecipeSummaries(userId, scored));
+            }
+            
+            // 영양 정보 적재 전(기동 직후)에만 랜덤 샘플링 후 AI 평가
+            List<Recipe> sampledRecipes = getRandomRecipesForEvaluation(RANDOM_SAMPLE_SIZE, allergyTypes);
+            
+            if (sampledRecipes.isEmpty()) {
+                log.warn("DB에 레시피가 없습니다.");
+                return Mono.just(new ArrayList<UserRecipeResponse.RecipeSummaryDTO>());
+            }
+            
+            if (ENABLE_VERBOSE_LOG) log.info("랜덤 선택된 레시피 수: {}", sampledRecipes.size());
+            
+            // AI가 각 레시피의 적합도를 평가 (랜덤 선택된 레시피 평가) 후 상위 MAX_RECOMMENDATIONS개 반환
+            return evaluateRecipeSuitabilityByHealth(
+                    sampledRecipes, new ArrayList<>(), allergyTypes, healthInfo, profileFingerprint)
+                .publishOn(Schedulers.boundedElastic())
+                .map(recipesWithScores -> toTopRecipeSummaries(userId, recipesWithScores))
+                .doOnNext(result -> {
+                    if (ENABLE_VERBOSE_LOG) log.info("OCR 기반 레시피 추천 완료 - 추천된 레시피 수: {}", result.size());
+                });
+        }).subscribeOn(Schedulers.boundedElastic());
     }
 
     /**
      * HealthGoal 기반 레시피 추천
      */
     @Override
-    public List<UserRecipeResponse.RecipeSummaryDTO> recommendRecipesByHealthGoal(Long userId) {
-        if (ENABLE_VERBOSE_LOG) log.info("HealthGoal 기반 레시피 추천 시작 - userId: {}", userId);
-        
-        // 사용자 정보 조회 (사용자 존재 검증)
-        getUser(userId);
-        // 사용자 알레르기 정보만 조회 (재료 정보는 불필요)
-        List<String> allergyTypes = getUserAllergies(userId);
-        
-        // HealthGoal 정보 조회
-        List<String> healthGoals = getUserHealthGoals(userId);
-        
-        if (healthGoals == null || healthGoals.isEmpty()) {
-            log.warn("사용자의 HealthGoal이 설정되지 않음. 기본 재료 기반 추천으로 대체");
-            return recommendRecipesByIngredient(userId);
-        }
-        
-        // DB 레벨에서 랜덤 샘플링으로 RANDOM_SAMPLE_SIZE개 조회
-        List<Recipe> sampledRecipes = getRandomRecipesForEvaluation(RANDOM_SAMPLE_SIZE);
-        
-        if (sampledRecipes.isEmpty()) {
+    public Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByHealthGoal(Long userId) {
+        return loadProfile(userId).flatMap(this::recommendRecipesByHealthGoal);
+    }
+
+    @Override
+    public Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByHealthGoal(UserProfileSnapshot profile) {
+        return recommendWithPrecomputed(RecommendMode.HEALTH_GOAL, profile);
+    }
+
+    /**
+     * 건강 목표 기반 후보 점수화 (영양 점수, 영양 정보 적재 전에는 무작위 샘플 AI 평가)
+     */
+    private Mono<List<RecipeWithScore>> scoreByHealthGoal(UserProfileSnapshot profile) {
+        Long userId = profile.getUserId();
+        return Mono.defer(() -> {
+            if (ENABLE_VERBOSE_LOG) log.info("HealthGoal 기반 레시피 추천 시작 - userId: {}", userId);
+            
+            // 사용자 알레르기 정보만 사용 (재료 정보는 불필요)
+            List<String> allergyTypes = profile.getAllergyTypes();
+            
+            // HealthGoal 정보
+            List<String> healthGoals = profile.getHealthGoals();
+            
+            if (healthGoals == null || healthGoals.isEmpty()) {
+                log.warn("사용자의 HealthGoal이 설정되지 않음. 기본 재료 기반 추천으로 대체");
+                return scoreByIngredient(profile);
+            }
+            String profileFingerprint = RecipeScoreCache.fingerprint(null, allergyTypes, healthGoals, null);
+
+            // 규칙 기반 영양 점수로 전체 레시피에서 후보 선정 (Gemini 호출 없음)
+            if (!recipeNutritionScorer.isEmpty()) {
+                return Mono.just(scoreByNutrition(recipeNutritionScorer.targetFor(healthGoals, null), allergyTypes));
+            }
+            
+            // 영양 정보 적재 전(기동 직후)에만 랜덤 샘플링 후 AI 평가
+            List<Recipe> sampledRecipes = getRandomRecipesForEvaluation(RANDOM_SAMPLE_SIZE, allergyTypes);
+            
+            if (sampledRecipes.isEmpty()) {
+                log.warn("DB에 레시피가 없습니다.");
+                return Mono.just(new ArrayList<RecipeWithScore>());
+            }
+            
+            if (ENABLE_VERBOSE_LOG) log.info("랜덤 선택된 레시피 수: {}", sampledRecipes.size());
+            
+            // AI가 각 레시피의 적합도를 평가 (랜덤 선택된 레시피 평가)
+            return evaluateRecipeSuitabilityByHealthGoal(
+                    sampledRecipes, new ArrayList<>(), allergyTypes, healthGoals, profileFingerprint);
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 규칙 기반 영양 점수 상위 후보
+     * 알레르기 충돌 레시피는 점수화 전에 비트마스크로 제외되므로 AI 재평가가 필요 없습니다.
+     */
+    private List<RecipeWithScore> scoreByNutrition(RecipeNutritionScorer.Target target, List<String> allergyTypes) {
+        Map<Long, Double> nutritionScores = recipeNutritionScorer.topK(
+            target, INDEX_CANDIDATE_SIZE, getAllergenConflicts(allergyTypes));
+        List<Recipe> candidates = excludeAllergenConflicts(findRecipesInOrder(nutritionScores.keySet()), allergyTypes);
+        if (candidates.isEmpty()) {
             log.warn("DB에 레시피가 없습니다.");
-            return new ArrayList<>();
         }
-        
-        if (ENABLE_VERBOSE_LOG) log.info("랜덤 선택된 레시피 수: {}", sampledRecipes.size());
-        
-        // AI가 각 레시피의 적합도를 평가 (랜덤 선택된 레시피 평가)
-        List<RecipeWithScore> scoredRecipes = evaluateRecipeSuitabilityByHealthGoal(
-            sampledRecipes, new ArrayList<>(), allergyTypes, healthGoals);
-        
-        // 적합도 점수로 내림차순 정렬 (높은 점수가 위로)
-        scoredRecipes.sort((a, b) -> Double.compare(b.score, a.score));
-        
-        // RecipeSummaryDTO로 변환하여 반환 (상위 MAX_RECOMMENDATIONS개만)
-        List<RecipeWithScore> topRecipes = scoredRecipes.stream()
-                .limit(MAX_RECOMMENDATIONS)
-                .collect(Collectors.toList());
-        
-        List<Long> recipeIds = topRecipes.stream()
-                .map(recipeWithScore -> recipeWithScore.recipe.getId())
-                .collect(Collectors.toList());
-        Map<Long, Boolean> likedMap = getUserRecipeLikedMap(userId, recipeIds);
-        
-        if (ENABLE_VERBOSE_LOG) log.info("HealthGoal 기반 레시피 추천 완료 - 추천된 레시피 수: {}", topRecipes.size());
-        return topRecipes.stream()
-                .map(rws -> RecipeConverter.toRecipeSummaryDTO(rws.recipe, likedMap.get(rws.recipe.getId())))
-                .collect(Collectors.toList());
+
+        return candidates.stream()
+            .map(recipe -> new RecipeWithScore(recipe, nutritionScores.get(recipe.getId())))
+            .collect(Collectors.toList());
     }
 
     /**
      * 재료 + OCR + HealthGoal 통합 레시피 추천
      */
     @Override
-    public List<UserRecipeResponse.RecipeSummaryDTO> recommendRecipesByCombined(Long userId) {
-        if (ENABLE_VERBOSE_LOG) log.info("통합 레시피 추천 시작 - userId: {}", userId);
-        
-        // 사용자 정보 조회 (사용자 존재 검증)
-        getUser(userId);
-        // 사용자 보유 재료 및 알레르기 정보 조회
-        List<String> availableIngredients = getUserIngredients(userId);
-        List<String> allergyTypes = getUserAllergies(userId);
-        
-        // OCR 건강 데이터 조회
-        Map<String, String> ocrHealthData = getLatestOcrHealthData(userId);
-        
-        // HealthGoal 정보 조회
-        List<String> healthGoals = getUserHealthGoals(userId);
-        
-        // DB 레벨에서 랜덤 샘플링으로 RANDOM_SAMPLE_SIZE개 조회
-        List<Recipe> sampledRecipes = getRandomRecipesForEvaluation(RANDOM_SAMPLE_SIZE);
-        
-        if (sampledRecipes.isEmpty()) {
-            log.warn("DB에 레시피가 없습니다.");
-            return new ArrayList<>();
-        }
-        
-        if (ENABLE_VERBOSE_LOG) log.info("랜덤 선택된 레시피 수: {}", sampledRecipes.size());
-        
-        // AI가 각 레시피의 적합도를 평가 (랜덤 선택된 레시피 평가)
-        List<RecipeWithScore> scoredRecipes = evaluateRecipeSuitabilityByCombined(
-            sampledRecipes, availableIngredients, allergyTypes, ocrHealthData, healthGoals);
-        
-        // 적합도 점수로 내림차순 정렬 (높은 점수가 위로)
-        scoredRecipes.sort((a, b) -> Double.compare(b.score, a.score));
-        
-        // RecipeSummaryDTO로 변환하여 반환 (상위 MAX_RECOMMENDATIONS개만)
-        List<RecipeWithScore> topRecipes = scoredRecipes.stream()
-                .limit(MAX_RECOMMENDATIONS)
-                .collect(Collectors.toList());
-        
-        List<Long> recipeIds = topRecipes.stream()
-                .map(recipeWithScore -> recipeWithScore.recipe.getId())
-                .collect(Collectors.toList());
-        Map<Long, Boolean> likedMap = getUserRecipeLikedMap(userId, recipeIds);
-        
-        if (ENABLE_VERBOSE_LOG) log.info("통합 레시피 추천 완료 - 추천된 레시피 수: {}", topRecipes.size());
-        return topRecipes.stream()
-                .map(rws -> RecipeConverter.toRecipeSummaryDTO(rws.recipe, likedMap.get(rws.recipe.getId())))
-                .collect(Collectors.toList());
+    public Mono<List<UserRecipeResponse.RecipeSummaryDTO>> recommendRecipesByCombined(Long userId) {
+        return loadProfile(userId).flatMap(profile -> recommendWithPrecomputed(RecommendMode.COMBINED, profile));
+    }
+
+    /**
+     * 통합 후보 점수화 (무작위 샘플 AI 평가)
+     */
+    private Mono<List<RecipeWithScore>> scoreByCombined(UserProfileSnapshot profile) {
+        return Mono.defer(() -> {
+            if (ENABLE_VERBOSE_LOG) log.info("통합 레시피 추천 시작 - userId: {}", profile.getUserId());
+            
+            List<String> availableIngredients = getUserIngredients(profile);
+            List<String> allergyTypes = profile.getAllergyTypes();
+            Map<String, String> ocrHealthData = profile.getOcrHealthData();
+            List<String> healthGoals = profile.getHealthGoals();
+            
+            // DB 레벨에서 랜덤 샘플링으로 RANDOM_SAMPLE_SIZE개 조회
+            List<Recipe> sampledRecipes = getRandomRecipesForEvaluation(RANDOM_SAMPLE_SIZE, allergyTypes);
+            
+            if (sampledRecipes.isEmpty()) {
+                log.warn("DB에 레시피가 없습니다.");
+                return Mono.just(new ArrayList<RecipeWithScore>());
+            }
+            
+            if (ENABLE_VERBOSE_LOG) log.info("랜덤 선택된 레시피 수: {}", sampledRecipes.size());
+            
+            // AI가 각 레시피의 적합도를 평가 (랜덤 선택된 레시피 평가)
+            return evaluateRecipeSuitabilityByCombined(
+                    sampledRecipes, availableIngredients, allergyTypes, ocrHealthData, healthGoals,
+                    RecipeScoreCache.fingerprint(availableIngredients, allergyTypes, healthGoals, ocrHealthData));
+        }).subscribeOn(Schedulers.boundedElastic());
     }
 
     // 레시피와 점수를 함께 저장하는 내부 클래스
-    private static class RecipeWithScore {
+    static class RecipeWithScore {
         Recipe recipe;
         double score;
+        // AI 응답 없이 기본 점수가 부여된 경우 (점수 캐시에 저장하지 않음)
+        boolean defaulted;
         
         RecipeWithScore(Recipe recipe, double score) {
+            this(recipe, score, false);
+        }
+        
+        RecipeWithScore(Recipe recipe, double score, boolean defaulted) {
             this.recipe = recipe;
             this.score = score;
+            this.defaulted = defaulted;
         }
     }
 
     /**
      * 재료 기반 레시피 적합도 평가 (배치 처리)
      */
-    private List<RecipeWithScore> evaluateRecipeSuitabilityByIngredient(List<Recipe> recipes, 
-                                                                       List<String> availableIngredients, 
-                                                                       List<String> allergyTypes) {
-        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
-        
+    private Mono<List<RecipeWithScore>> evaluateRecipeSuitabilityByIngredient(List<Recipe> recipes, 
+                                                                             List<String> availableIngredients, 
+                                                                             List<String> allergyTypes,
+                                                                             String profileFingerprint) {
         // 중복 제거만 수행
         List<String> uniqueIngredients = new ArrayList<>(new LinkedHashSet<>(availableIngredients));
         
@@ -396,177 +741,197 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
             log.info("평가할 레시피 수: {}", recipes.size());
         }
         
-        try {
-            // 배치 처리
-            recipesWithScores.addAll(processBatch(recipes, uniqueIngredients, allergyTypes));
-        } catch (Exception e) {
-            log.warn("배치 처리 실패, 개별 처리로 전환: {}", e.getMessage());
-            recipesWithScores.addAll(processIndividual(recipes, uniqueIngredients, allergyTypes));
+        return scoreWithCache(SCORE_MODE_INGREDIENT, profileFingerprint, recipes, targets ->
+            // 배치 처리, 실패 시 개별 처리 (사전 계산 중에는 배치만)
+            batchOrIndividual(
+                processBatch(targets, uniqueIngredients, allergyTypes),
+                () -> processIndividual(targets, uniqueIngredients, allergyTypes)))
+            .doOnNext(result -> {
+                if (ENABLE_VERBOSE_LOG) log.info("=== 적합도 평가 완료 ===");
+            });
+    }
+
+    /**
+     * 점수 캐시를 거친 적합도 평가
+     * 캐시에 있는 레시피는 저장된 점수를 사용하고, 나머지만 scorer로 평가한 뒤 결과를 캐시에 저장합니다.
+     * 점수가 0 이하인 레시피(알레르기 충돌 등)도 캐시하여 다음 요청에서 바로 제외합니다.
+     */
+    private Mono<List<RecipeWithScore>> scoreWithCache(String mode, String profileFingerprint, List<Recipe> recipes,
+                                                       Function<List<Recipe>, Mono<List<RecipeWithScore>>> scorer) {
+        List<Long> recipeIds = recipes.stream().map(Recipe::getId).collect(Collectors.toList());
+        Map<Long, Double> cachedScores = recipeScoreCache.getScores(mode, profileFingerprint, recipeIds);
+        
+        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
+        List<Recipe> uncached = new ArrayList<>();
+        for (Recipe recipe : recipes) {
+            Double cached = cachedScores.get(recipe.getId());
+            if (cached == null) {
+                uncached.add(recipe);
+            } else if (cached > 0) {
+                recipesWithScores.add(new RecipeWithScore(recipe, cached));
+            }
         }
         
-        if (ENABLE_VERBOSE_LOG) log.info("=== 적합도 평가 완료 ===");
-        return recipesWithScores;
+        log.info("적합도 점수 캐시 - mode: {}, 적중: {}, 신규 평가: {}", mode, recipes.size() - uncached.size(), uncached.size());
+        if (uncached.isEmpty()) {
+            return Mono.just(recipesWithScores);
+        }
+        
+        return scorer.apply(uncached)
+            // AI 응답 이후의 Redis 저장은 블로킹이므로 이벤트 루프에서 분리
+            .publishOn(Schedulers.boundedElastic())
+            .map(freshScores -> {
+                // 결과에 없는 레시피는 AI가 제외한 레시피(점수 0)
+                Map<Long, Double> toCache = new HashMap<>();
+                uncached.forEach(recipe -> toCache.put(recipe.getId(), 0.0));
+                for (RecipeWithScore rws : freshScores) {
+                    if (rws.defaulted) {
+                        toCache.remove(rws.recipe.getId());
+                    } else {
+                        toCache.put(rws.recipe.getId(), rws.score);
+                    }
+                }
+                recipeScoreCache.putScores(mode, profileFingerprint, toCache);
+                recipesWithScores.addAll(freshScores);
+                return recipesWithScores;
+            });
     }
 
         /**
-     * DB 레벨에서 랜덤 레시피 샘플링 (성능 최적화)
+     * 레시피 ID 카탈로그에서 랜덤 레시피 샘플링
      * 
      * @param sampleSize 샘플링할 레시피 개수
+     * @param allergyTypes 사용자 알레르기 (충돌 레시피는 샘플링 대상에서 제외)
      * @return 랜덤하게 선택된 레시피 목록
      */
-    private List<Recipe> getRandomRecipesForEvaluation(int sampleSize) {
+    private List<Recipe> getRandomRecipesForEvaluation(int sampleSize, List<String> allergyTypes) {
         try {
-            // 전체 레시피 수 조회
-            long totalCount = recipeRepository.count();
-
-            if (totalCount == 0) {
-                return new ArrayList<>();
+            // 레시피 ID 카탈로그에서 균등 샘플링 후 PK로 조회 (전체 테이블 정렬 없음)
+            if (!recipeCatalog.isEmpty()) {
+                List<Long> recipeIds = recipeCatalog.sample(sampleSize, getAllergenConflicts(allergyTypes));
+                return excludeAllergenConflicts(findRecipesInOrder(recipeIds), allergyTypes);
             }
 
-            // 전체 레시피 수가 샘플 크기보다 작으면 모두 반환
-            if (totalCount <= sampleSize) {
-                return recipeRepository.findAll();
-            }
-
-            // 1차 시도: DB의 RANDOM() 함수를 사용한 효율적인 랜덤 샘플링
-            try {
-                List<Recipe> randomRecipes = recipeRepository.findRandomRecipes(sampleSize);
-                if (randomRecipes.size() >= sampleSize) {
-                    log.debug("DB RANDOM() 함수를 사용한 랜덤 샘플링 성공: {}개", randomRecipes.size());
-                    return randomRecipes;
-                }
-            } catch (Exception e) {
-                log.debug("DB RANDOM() 함수 실패, PK 범위 방식으로 대체: {}", e.getMessage());
-            }
-
-            // 2차 시도: PK 범위를 이용한 랜덤 샘플링 (대용량 테이블용)
-            try {
-                List<Recipe> randomRecipes = recipeRepository.findRandomRecipesByPkRange(sampleSize);
-                if (randomRecipes.size() >= sampleSize) {
-                    log.debug("PK 범위 랜덤 샘플링 성공: {}개", randomRecipes.size());
-                    return randomRecipes;
-                }
-            } catch (Exception e) {
-                log.debug("PK 범위 랜덤 샘플링 실패, 전체 조회로 대체: {}", e.getMessage());
-            }
-
-            // 3차 시도: 전체 조회 후 메모리에서 샘플링 (fallback)
-            log.warn("DB 레벨 랜덤 샘플링 실패, 전체 조회 후 메모리 샘플링으로 대체");
-            List<Recipe> allRecipes = recipeRepository.findAll();
-            return sampleRecipesForEvaluation(allRecipes, sampleSize);
-
+            // 카탈로그 구성 전(기동 직후)에만 DB 샘플링 사용
+            log.debug("레시피 카탈로그가 비어 있어 DB 랜덤 샘플링 사용");
+            return excludeAllergenConflicts(recipeRepository.findRandomRecipes(sampleSize), allergyTypes);
         } catch (Exception e) {
             log.error("레시피 랜덤 샘플링 중 예상치 못한 오류 발생: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
 
-    /**
-     * 메모리에서 레시피 랜덤 샘플링 (fallback)
-     */
-    private List<Recipe> sampleRecipesForEvaluation(List<Recipe> recipes, int sampleSize) {
-        if (recipes.size() <= sampleSize) {
-            return recipes; // 샘플 크기보다 작으면 모두 사용
-        }
-        
-        // 랜덤 샘플링
-        List<Recipe> shuffled = new ArrayList<>(recipes);
-        Collections.shuffle(shuffled);
-        
-        return shuffled.subList(0, sampleSize);
-    }
-
     /**
      * 배치 처리 메서드
      */
-    private List<RecipeWithScore> processBatch(List<Recipe> recipes, 
-                                             List<String> availableIngredients, 
-                                             List<String> allergyTypes) {
-        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
-        
+    private Mono<List<RecipeWithScore>> processBatch(List<Recipe> recipes, 
+                                                   List<String> availableIngredients, 
+                                                   List<String> allergyTypes) {
         if (ENABLE_VERBOSE_LOG) {
             log.info("배치 처리 시작 - 사용자 재료: {}, 알레르기: {}", 
                     String.join(", ", availableIngredients), 
                     allergyTypes.isEmpty() ? "없음" : String.join(", ", allergyTypes));
         }
         
-        try {
-            // 배치 처리: 모든 레시피를 한 번에 AI에게 전달
-            String batchPrompt = createBatchIngredientSuitabilityPrompt(recipes, availableIngredients, allergyTypes);
-            if (ENABLE_VERBOSE_LOG) log.info("배치 프롬프트 생성 완료");
-            
-            String batchResponse = callAI(batchPrompt);
-            if (ENABLE_VERBOSE_LOG) log.info("AI 배치 응답: {}", batchResponse);
-            
-            // AI 응답에서 각 레시피의 점수 파싱
-            Map<String, Double> scores = parseBatchScores(batchResponse, recipes);
-            log.info("파싱된 점수: {}", scores);
-            
-            for (Recipe recipe : recipes) {
-                double score = scores.getOrDefault(recipe.getTitle(), 5.0);
-                if (ENABLE_VERBOSE_LOG) log.info("레시피 '{}' 적합도 점수: {}", recipe.getTitle(), score);
+        // 배치 처리: 모든 레시피를 한 번에 AI에게 전달
+        return Mono.fromCallable(() -> createBatchIngredientSuitabilityPrompt(recipes, availableIngredients, allergyTypes))
+            .flatMap(prompt -> callAIJsonAsync(prompt, recipes.size()))
+            .map(batchResponse -> {
+                if (ENABLE_VERBOSE_LOG) log.info("AI 배치 응답: {}", batchResponse);
                 
-                if (score > 0) {
-                    recipesWithScores.add(new RecipeWithScore(recipe, score));
-                } else {
-                    log.info("레시피 {} 제외됨 (AI가 알레르기 충돌로 판단)", recipe.getTitle());
-                }
+                // AI 응답에서 각 레시피의 점수 파싱
+                double[] scores = parseBatchScoresById(batchResponse, recipes.size());
+                if (ENABLE_VERBOSE_LOG) log.info("파싱된 점수: {}", Arrays.toString(scores));
+                return toBatchResults(recipes, scores, "AI가 알레르기 충돌로 판단");
+            })
+            .doOnError(e -> log.warn("배치 적합도 평가 실패: {}", e.getMessage()));
+    }
+
+    /**
+     * 배치 응답 점수를 RecipeWithScore 목록으로 변환 (점수 0 이하는 제외, 누락된 레시피는 기본 점수)
+     */
+    private List<RecipeWithScore> toBatchResults(List<Recipe> recipes, double[] scores, String excludeReason) {
+        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
+        for (int i = 0; i < recipes.size(); i++) {
+            Recipe recipe = recipes.get(i);
+            boolean missing = Double.isNaN(scores[i]);
+            double score = missing ? 5.0 : scores[i];
+            if (ENABLE_VERBOSE_LOG) log.info("레시피 '{}' 적합도 점수: {}", recipe.getTitle(), score);
+            
+            if (score > 0) {
+                recipesWithScores.add(new RecipeWithScore(recipe, score, missing));
+            } else {
+                log.info("레시피 {} 제외됨 ({})", recipe.getTitle(), excludeReason);
             }
-            
-        } catch (Exception e) {
-            log.warn("배치 적합도 평가 실패: {}", e.getMessage());
-            throw e; // 상위에서 개별 처리로 전환하도록 예외 재발생
         }
-        
         return recipesWithScores;
     }
 
     /**
      * 개별 처리 메서드
      */
-    private List<RecipeWithScore> processIndividual(List<Recipe> recipes, 
-                                                  List<String> availableIngredients, 
-                                                  List<String> allergyTypes) {
-        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
-        
+    private Mono<List<RecipeWithScore>> processIndividual(List<Recipe> recipes, 
+                                                        List<String> availableIngredients, 
+                                                        List<String> allergyTypes) {
         if (ENABLE_VERBOSE_LOG) {
             log.info("개별 처리 시작 - 사용자 재료: {}, 알레르기: {}", 
                     String.join(", ", availableIngredients), 
                     allergyTypes.isEmpty() ? "없음" : String.join(", ", allergyTypes));
         }
         
-        for (Recipe recipe : recipes) {
-            try {
-                log.info("레시피 '{}' 재료: {}", recipe.getTitle(), recipe.getIngredients());
-                
-                String prompt = createIngredientSuitabilityPrompt(recipe, availableIngredients, allergyTypes);
-                double score = callAIForSuitabilityScore(prompt);
-                
-                if (ENABLE_VERBOSE_LOG) log.info("레시피 '{}' 적합도 점수: {}", recipe.getTitle(), score);
-                
-                if (score > 0) {
-                    recipesWithScores.add(new RecipeWithScore(recipe, score));
-                } else {
-                    log.info("레시피 {} 제외됨 (AI가 알레르기 충돌로 판단)", recipe.getTitle());
+        return scoreIndividually(recipes, recipe -> {
+            log.info("레시피 '{}' 재료: {}", recipe.getTitle(), recipe.getIngredients());
+            return createIngredientSuitabilityPrompt(recipe, availableIngredients, allergyTypes);
+        }, "AI가 알레르기 충돌로 판단");
+    }
+
+    /**
+     * 레시피별로 AI 적합도 점수를 받아 RecipeWithScore 목록으로 변환
+     * 최대 individualConcurrency개씩 동시에 호출하고, individualDeadline 안에 끝나지 않은 호출은 취소합니다.
+     * 평가 실패 또는 시간 초과 시 기본 점수(5.0)를 부여하고, 점수 0 이하는 제외합니다. 결과는 입력 순서를 유지합니다.
+     */
+    Mono<List<RecipeWithScore>> scoreIndividually(List<Recipe> recipes,
+                                                Function<Recipe, CachedPrompt> promptBuilder,
+                                                String excludeReason) {
+        Map<Recipe, RecipeWithScore> scored = new ConcurrentHashMap<>();
+        return Flux.fromIterable(recipes)
+            .flatMap(recipe -> Mono.fromCallable(() -> promptBuilder.apply(recipe))
+                .flatMap(this::callAIForSuitabilityScore)
+                .map(score -> {
+                    if (ENABLE_VERBOSE_LOG) log.info("레시피 '{}' 적합도 점수: {}", recipe.getTitle(), score);
+                    return new RecipeWithScore(recipe, score);
+                })
+                .onErrorResume(e -> {
+                    log.warn("레시피 {} 적합도 평가 실패: {}", recipe.getTitle(), e.getMessage());
+                    return Mono.just(new RecipeWithScore(recipe, 5.0, true));
+                }), individualConcurrency)
+            .doOnNext(rws -> scored.put(rws.recipe, rws))
+            .take(individualDeadline)
+            .then(Mono.fromCallable(() -> {
+                List<RecipeWithScore> results = new ArrayList<>();
+                for (Recipe recipe : recipes) {
+                    RecipeWithScore rws = scored.get(recipe);
+                    if (rws == null) {
+                        log.warn("레시피 {} 적합도 평가 시간 초과, 기본 점수 부여", recipe.getTitle());
+                        rws = new RecipeWithScore(recipe, 5.0, true);
+                    }
+                    if (rws.score > 0) {
+                        results.add(rws);
+                    } else {
+                        log.info("레시피 {} 제외됨 ({})", recipe.getTitle(), excludeReason);
+                    }
                 }
-            } catch (Exception e) {
-                log.warn("레시피 {} 적합도 평가 실패: {}", recipe.getTitle(), e.getMessage());
-                recipesWithScores.add(new RecipeWithScore(recipe, 5.0));
-            }
-        }
-        
-        return recipesWithScores;
+                return results;
+            }));
     }
 
     /**
      * 건강 정보 기반 배치 처리 메서드
      */
-    private List<RecipeWithScore> processBatchByHealth(List<Recipe> recipes, 
-                                                     List<String> availableIngredients, 
-                                                     List<String> allergyTypes, 
-                                                     String healthInfo) {
-        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
-        
+    private Mono<List<RecipeWithScore>> processBatchByHealth(List<Recipe> recipes, 
+                                                           List<String> availableIngredients, 
+                                                           List<String> allergyTypes, 
+                                                           String healthInfo) {
         if (ENABLE_VERBOSE_LOG) {
             log.info("건강 정보 기반 배치 처리 시작 - 사용자 재료: {}, 알레르기: {}, 건강정보: {}", 
                     String.join(", ", availableIngredients), 
@@ -574,85 +939,48 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
                     healthInfo);
         }
         
-        try {
-            // 배치 처리: 모든 레시피를 한 번에 AI에게 전달
-            String batchPrompt = createBatchHealthSuitabilityPrompt(recipes, availableIngredients, allergyTypes, healthInfo);
-            if (ENABLE_VERBOSE_LOG) log.info("건강 정보 기반 배치 프롬프트 생성 완료");
-            
-            String batchResponse = callAI(batchPrompt);
-            if (ENABLE_VERBOSE_LOG) log.info("AI 배치 응답: {}", batchResponse);
-            
-            // AI 응답에서 각 레시피의 점수 파싱
-            Map<String, Double> scores = parseBatchHealthScores(batchResponse, recipes);
-            log.info("파싱된 점수: {}", scores);
-            
-            for (Recipe recipe : recipes) {
-                double score = scores.getOrDefault(recipe.getTitle(), 5.0);
-                if (ENABLE_VERBOSE_LOG) log.info("레시피 '{}' 적합도 점수: {}", recipe.getTitle(), score);
+        // 배치 처리: 모든 레시피를 한 번에 AI에게 전달
+        return Mono.fromCallable(() -> createBatchHealthSuitabilityPrompt(recipes, availableIngredients, allergyTypes, healthInfo))
+            .flatMap(prompt -> callAIJsonAsync(prompt, recipes.size()))
+            .map(batchResponse -> {
+                if (ENABLE_VERBOSE_LOG) log.info("AI 배치 응답: {}", batchResponse);
                 
-                if (score > 0) {
-                    recipesWithScores.add(new RecipeWithScore(recipe, score));
-                } else {
-                    log.info("레시피 {} 제외됨 (AI가 알레르기 충돌로 판단)", recipe.getTitle());
-                }
-            }
-            
-        } catch (Exception e) {
-            log.warn("건강 정보 기반 배치 적합도 평가 실패: {}", e.getMessage());
-            throw e; // 상위에서 개별 처리로 전환하도록 예외 재발생
-        }
-        
-        return recipesWithScores;
+                // AI 응답에서 각 레시피의 점수 파싱
+                double[] scores = parseBatchScoresById(batchResponse, recipes.size());
+                if (ENABLE_VERBOSE_LOG) log.info("파싱된 점수: {}", Arrays.toString(scores));
+                return toBatchResults(recipes, scores, "AI가 알레르기 충돌로 판단");
+            })
+            .doOnError(e -> log.warn("건강 정보 기반 배치 적합도 평가 실패: {}", e.getMessage()));
     }
 
     /**
      * 건강 정보 기반 개별 처리 메서드
      */
-    private List<RecipeWithScore> processIndividualByHealth(List<Recipe> recipes, 
-                                                          List<String> availableIngredients, 
-                                                          List<String> allergyTypes, 
-                                                          String healthInfo) {
-        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
-        
+    private Mono<List<RecipeWithScore>> processIndividualByHealth(List<Recipe> recipes, 
+                                                                List<String> availableIngredients, 
+                                                                List<String> allergyTypes, 
+                                                                String healthInfo) {
         if (ENABLE_VERBOSE_LOG) {
             log.info("건강 정보 기반 개별 처리 시작 - 사용자 재료: {}, 알레르기: {}, 건강정보: {}", 
                     String.join(", ", availableIngredients), 
-                    allergyTypes.isEmpty() ? "없음" : String.join(", ", allergyTypes),
-                    healthInfo);
-        }
-        
-        for (Recipe recipe : recipes) {
-            try {
-                log.info("레시피 '{}' 재료: {}", recipe.getTitle(), recipe.getIngredients());
-                
-                String prompt = createHealthSuitabilityPrompt(recipe, availableIngredients, allergyTypes, healthInfo);
-                double score = callAIForSuitabilityScore(prompt);
-                
-                if (ENABLE_VERBOSE_LOG) log.info("레시피 '{}' 적합도 점수: {}", recipe.getTitle(), score);
-                
-                if (score > 0) {
-                    recipesWithScores.add(new RecipeWithScore(recipe, score));
-                } else {
-                    log.info("레시피 {} 제외됨 (AI가 알레르기 충돌로 판단)", recipe.getTitle());
-                }
-            } catch (Exception e) {
-                log.warn("레시피 {} 적합도 평가 실패: {}", recipe.getTitle(), e.getMessage());
-                recipesWithScores.add(new RecipeWithScore(recipe, 5.0));
-            }
+                    allergyTypes.isEmpty() ? "없음" : String.join(", ", allergyTypes),
+                    healthInfo);
         }
         
-        return recipesWithScores;
+        return scoreIndividually(recipes, recipe -> {
+            log.info("레시피 '{}' 재료: {}", recipe.getTitle(), recipe.getIngredients());
+            return createHealthSuitabilityPrompt(recipe, availableIngredients, allergyTypes, healthInfo);
+        }, "AI가 알레르기 충돌로 판단");
     }
 
     /**
      * 건강 정보 기반 레시피 적합도 평가
      */
-    private List<RecipeWithScore> evaluateRecipeSuitabilityByHealth(List<Recipe> recipes, 
-                                                                   List<String> availableIngredients, 
-                                                                   List<String> allergyTypes, 
-                                                                   String healthInfo) {
-        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
-        
+    private Mono<List<RecipeWithScore>> evaluateRecipeSuitabilityByHealth(List<Recipe> recipes, 
+                                                                         List<String> availableIngredients, 
+                                                                         List<String> allergyTypes, 
+                                                                         String healthInfo,
+                                                                         String profileFingerprint) {
         // 중복 제거만 수행
         List<String> uniqueIngredients = new ArrayList<>(new LinkedHashSet<>(availableIngredients));
         
@@ -665,22 +993,20 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
             log.info("평가할 레시피 수: {}", recipes.size());
         }
         
-        try {
-            // 배치 처리
-            recipesWithScores.addAll(processBatchByHealth(recipes, uniqueIngredients, allergyTypes, healthInfo));
-        } catch (Exception e) {
-            log.warn("배치 처리 실패, 개별 처리로 전환: {}", e.getMessage());
-            recipesWithScores.addAll(processIndividualByHealth(recipes, uniqueIngredients, allergyTypes, healthInfo));
-        }
-        
-        if (ENABLE_VERBOSE_LOG) log.info("=== 건강 정보 기반 적합도 평가 완료 ===");
-        return recipesWithScores;
+        return scoreWithCache(SCORE_MODE_HEALTH, profileFingerprint, recipes, targets ->
+            // 배치 처리, 실패 시 개별 처리 (사전 계산 중에는 배치만)
+            batchOrIndividual(
+                processBatchByHealth(targets, uniqueIngredients, allergyTypes, healthInfo),
+                () -> processIndividualByHealth(targets, uniqueIngredients, allergyTypes, healthInfo)))
+            .doOnNext(result -> {
+                if (ENABLE_VERBOSE_LOG) log.info("=== 건강 정보 기반 적합도 평가 완료 ===");
+            });
     }
 
     /**
      * 재료 기반 적합도 평가 프롬프트 생성
      */
-    private String createIngredientSuitabilityPrompt(Recipe recipe, 
+    private CachedPrompt createIngredientSuitabilityPrompt(Recipe recipe, 
                                                    List<String> availableIngredients, 
                                                    List<String> allergyTypes) {
         StringBuilder promptBuilder = new StringBuilder();
@@ -691,15 +1017,14 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
         
         // 우선순위 기반 통합 프롬프트 사용 (재료 중심)
         promptBuilder.append(buildPriorityBasedPrompt(availableIngredients, allergyTypes, null, new ArrayList<>()));
-        promptBuilder.append("\n").append(buildPriorityBasedSuitabilityPromptCommon());
         
-        return promptBuilder.toString();
+        return CachedPrompt.of(PROMPT_FAMILY_SINGLE_SUITABILITY, buildPriorityBasedSuitabilityPromptCommon(), promptBuilder.toString());
     }
 
     /**
      * 건강 정보 기반 적합도 평가 프롬프트 생성 (우선순위 기반으로 통합)
      */
-    private String createHealthSuitabilityPrompt(Recipe recipe, 
+    private CachedPrompt createHealthSuitabilityPrompt(Recipe recipe, 
                                                List<String> availableIngredients, 
                                                List<String> allergyTypes, 
                                                String healthInfo) {
@@ -726,118 +1051,109 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
         
         // 우선순위 기반 통합 프롬프트 사용
         promptBuilder.append(buildPriorityBasedPrompt(availableIngredients, allergyTypes, ocrHealthData, new ArrayList<>()));
-        promptBuilder.append("\n").append(buildPriorityBasedSuitabilityPromptCommon());
         
-        return promptBuilder.toString();
+        return CachedPrompt.of(PROMPT_FAMILY_SINGLE_SUITABILITY, buildPriorityBasedSuitabilityPromptCommon(), promptBuilder.toString());
     }
 
     /**
      * AI를 호출하여 적합도 점수를 받아오는 메서드
+     * 응답이 없거나 점수를 해석할 수 없으면 에러로 끝나며, 호출부에서 기본 점수(5.0)를 부여합니다.
      */
-    private double callAIForSuitabilityScore(String prompt) {
+    private Mono<Double> callAIForSuitabilityScore(CachedPrompt prompt) {
+        return geminiClient.chatCascade("suitability-score", prompt, null, this::isParsableSuitabilityScore, false)
+            .onErrorMap(e -> !(e instanceof BusinessException), e -> {
+                log.error("Gemini API 호출 실패: {}", e.getMessage());
+                return new BusinessException(e instanceof TimeoutException
+                    ? ErrorCode.OPENAI_API_TIMEOUT : ErrorCode.OPENAI_API_ERROR);
+            })
+            .map(this::parseSuitabilityScore);
+    }
+
+    private boolean isParsableSuitabilityScore(String response) {
         try {
-            String response = callAI(prompt);
-            if (response == null || response.isEmpty()) {
-                return 5.0; // 기본 점수
-            }
-            
-            // AI 응답에서 점수 추출
-            String scoreStr = response.trim();
-            
-            // JSON 응답인 경우 처리
-            if (scoreStr.startsWith("{")) {
-                try {
-                    JsonNode jsonNode = objectMapper.readTree(scoreStr);
-                    String content = jsonNode.path("choices").path(0).path("message").path("content").asText();
-                    if (!content.isEmpty()) {
-                        scoreStr = content.trim();
-                    }
-                } catch (Exception e) {
-                    log.warn("JSON 파싱 실패: {}", e.getMessage());
-                    return 5.0;
+            parseSuitabilityScore(response);
+            return true;
+        } catch (BusinessException e) {
+            return false;
+        }
+    }
+
+    /**
+     * AI 응답에서 적합도 점수 추출 (해석 불가 시 예외)
+     */
+    private double parseSuitabilityScore(String response) {
+        if (response == null || response.isEmpty()) {
+            throw new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE);
+        }
+        
+        // AI 응답에서 점수 추출
+        String scoreStr = response.trim();
+        
+        // JSON 응답인 경우 처리
+        if (scoreStr.startsWith("{")) {
+            try {
+                JsonNode jsonNode = objectMapper.readTree(scoreStr);
+                String content = jsonNode.path("choices").path(0).path("message").path("content").asText();
+                if (!content.isEmpty()) {
+                    scoreStr = content.trim();
                 }
+            } catch (Exception e) {
+                log.warn("JSON 파싱 실패: {}", e.getMessage());
+                throw new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE);
             }
-            
-            // 숫자만 추출 (소수점 포함)
-            scoreStr = scoreStr.replaceAll("[^0-9.]", "");
-            
-            if (scoreStr.isEmpty()) {
-                log.warn("점수 추출 실패, 기본값 5.0 사용");
-                return 5.0;
-            }
-            
-            double score = Double.parseDouble(scoreStr);
-            
-            // 점수 범위 검증 (0.0 ~ 10.0)
-            if (score < 0.0 || score > 10.0) {
-                log.warn("AI 응답의 점수가 범위를 벗어남: {}, 기본값 5.0 사용", score);
-                return 5.0;
-            }
-            
-            return score;
-        } catch (Exception e) {
-            log.warn("AI 적합도 평가 실패: {}, 기본값 5.0 사용", e.getMessage());
-            return 5.0;
         }
+        
+        // 숫자만 추출 (소수점 포함)
+        scoreStr = scoreStr.replaceAll("[^0-9.]", "");
+        
+        if (scoreStr.isEmpty()) {
+            log.warn("점수 추출 실패");
+            throw new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE);
+        }
+        
+        double score;
+        try {
+            score = Double.parseDouble(scoreStr);
+        } catch (NumberFormatException e) {
+            log.warn("점수 형식 오류: {}", scoreStr);
+            throw new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE);
+        }
+        
+        // 점수 범위 검증 (0.0 ~ 10.0)
+        if (score < 0.0 || score > 10.0) {
+            log.warn("AI 응답의 점수가 범위를 벗어남: {}", score);
+            throw new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE);
+        }
+        
+        return score;
     }
 
 
 
-    private List<Recipe> callAIAndSaveRecipes(String prompt) {
+    /**
+     * AI 레시피 생성 및 저장
+     *
+     * 1단계(AI 생성·중복 제외)와 2단계(이미지 보강)는 DB 커넥션을 점유하지 않은 상태로 수행하고,
+     * 살아남은 레시피만 3단계에서 짧은 트랜잭션으로 일괄 저장합니다.
+     */
+    private List<Recipe> callAIAndSaveRecipes(CachedPrompt prompt) {
         try {
-            String response = callAI(prompt);
-            if (response == null || response.isEmpty()) {
-                throw new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE);
+            List<Recipe> generated = recordPhase("ai", () -> generateRecipes(prompt));
+            List<Recipe> enriched = recordPhase("image", () -> attachRecipeImages(generated));
+            if (enriched.isEmpty()) {
+                throw new BusinessException(ErrorCode.OPENAI_EMPTY_RECOMMENDATIONS);
             }
 
-            // Gemini 클라이언트는 이미 텍스트 콘텐츠를 반환하므로 바로 사용
-            if (ENABLE_VERBOSE_LOG) log.info("AI 원본 응답: {}", response);
-
-            // AI 응답에서 JSON 부분 추출 (코드블록 제거)
-            String jsonContent = extractJsonFromAIResponse(response);
-            if (ENABLE_VERBOSE_LOG) log.info("추출된 JSON: {}", jsonContent);
-            
-            // AI 응답을 JSON으로 파싱
-            JsonNode recommendationsRoot = objectMapper.readTree(jsonContent);
-            JsonNode recommendationsNode = recommendationsRoot.path("recommendations");
-            if (recommendationsNode.isMissingNode() || !recommendationsNode.isArray()) {
-                throw new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE);
-            }
-            
-            List<Recipe> recipes = new ArrayList<>();
-            
-            for (JsonNode rec : recommendationsNode) {
-                try {
-                    Recipe recipe = parseRecipeFromJson(rec);
-                    if (recipe != null && !isDuplicateRecipe(recipe)) {
-                        // DB 저장 전에 이미지 URL 미리 가져오기
-                        String imageUrl = recipeBlogImageService.searchRecipeImage(recipe.getTitle());
-                        if (isValidHttpUrl(imageUrl) && imageUrl.length() <= MAX_IMAGE_URL_LENGTH) {
-                            recipe.setRecipeImage(imageUrl);
-                            log.info("레시피 이미지 설정 완료: {} -> {}", recipe.getTitle(), imageUrl);
-                            
-                            // 이미지가 있는 경우에만 DB에 저장
-                            Recipe savedRecipe = recipeRepository.save(recipe);
-                            recipes.add(savedRecipe);
-                            log.info("레시피 저장 성공: {}", recipe.getTitle());
-                            
-                            // DB 저장 성공 시 Redis에 제목 기반으로 캐싱 (30일)
-                            cacheRecipeTitle(savedRecipe.getTitle());
-                        } else {
-                            log.warn("레시피 '{}' 이미지 검증 실패(유효한 URL 아님 또는 길이 초과). DB 등록을 건너뜁니다. url='{}'", recipe.getTitle(), imageUrl);
-                        }
-                    } else {
-                        log.info("중복 레시피 제외: {}", recipe != null ? recipe.getTitle() : "null");
-                    }
-                } catch (Exception e) {
-                    log.warn("레시피 파싱/저장 실패: {}", e.getMessage());
-                }
-            }
-            
+            List<Recipe> recipes = recordPhase("save", () -> saveRecipes(enriched));
             if (recipes.isEmpty()) {
                 throw new BusinessException(ErrorCode.OPENAI_EMPTY_RECOMMENDATIONS);
             }
-            
+
+            // 커밋 이후 Redis 제목 캐싱(30일) 및 인메모리 색인 반영
+            for (Recipe savedRecipe : recipes) {
+                cacheRecipeTitle(savedRecipe.getTitle());
+            }
+            eventPublisher.publishEvent(RecipeChangedEvent.saved(recipes));
             return recipes;
         } catch (BusinessException e) {
             throw e;
@@ -847,9 +1163,168 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
         }
     }
 
+    /**
+     * 스트리밍 AI 레시피 생성 및 저장
+     *
+     * 응답 스트림에서 레시피 객체가 완성될 때마다 중복 검사 → 이미지 보강 → 저장을 거쳐 바로 내보냅니다.
+     * 레시피별로 저장하므로 일괄 저장보다 트랜잭션 수는 늘지만, 첫 레시피를 전체 응답보다 먼저 받을 수 있습니다.
+     * 첫 레시피까지 걸린 시간은 recipe.generation.first-recipe로 기록됩니다.
+     */
+    private Flux<RecipeResponse.DetailRes> streamAndSaveRecipes(CachedPrompt prompt) {
+        return Flux.defer(() -> {
+            RecipeStreamSplitter splitter = new RecipeStreamSplitter();
+            Set<String> seenTitles = ConcurrentHashMap.newKeySet();
+            long start = System.nanoTime();
+            AtomicBoolean first = new AtomicBoolean(true);
+
+            return geminiClient.streamAccurate(prompt)
+                .concatMapIterable(splitter::feed)
+                .mapNotNull(this::parseStreamedRecipe)
+                .filter(recipe -> seenTitles.add(recipe.getTitle()))
+                .flatMap(recipe -> Mono.fromCallable(() -> saveStreamedRecipe(recipe))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(e -> {
+                            log.warn("스트리밍 레시피 '{}' 저장 실패: {}", recipe.getTitle(), e.getMessage());
+                            return Mono.empty();
+                        }),
+                    IMAGE_SEARCH_CONCURRENCY)
+                .map(RecipeConverter::toDetailRes)
+                .doOnNext(recipe -> {
+                    if (first.compareAndSet(true, false)) {
+                        Timer.builder("recipe.generation.first-recipe")
+                            .description("스트리밍 레시피 생성 시작부터 첫 레시피 전송까지 걸린 시간")
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                })
+                .switchIfEmpty(Flux.error(new BusinessException(ErrorCode.OPENAI_EMPTY_RECOMMENDATIONS)));
+        });
+    }
+
+    private Recipe parseStreamedRecipe(String recipeJson) {
+        try {
+            return parseRecipeFromJson(objectMapper.readTree(recipeJson));
+        } catch (Exception e) {
+            log.warn("스트리밍 레시피 JSON 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 스트리밍으로 받은 레시피 한 건의 중복 검사, 이미지 보강, 저장 (제외되면 null)
+     */
+    private Recipe saveStreamedRecipe(Recipe recipe) {
+        if (excludeDuplicateRecipes(List.of(recipe)).isEmpty()) {
+            return null;
+        }
+        Recipe enriched = attachRecipeImage(recipe);
+        if (enriched == null) {
+            return null;
+        }
+        List<Recipe> saved = saveRecipes(List.of(enriched));
+        if (saved.isEmpty()) {
+            return null;
+        }
+        cacheRecipeTitle(saved.get(0).getTitle());
+        eventPublisher.publishEvent(RecipeChangedEvent.saved(saved));
+        return saved.get(0);
+    }
+
+    /**
+     * 1단계: AI 호출 후 응답을 레시피로 파싱하고 중복 레시피 제외
+     */
+    private List<Recipe> generateRecipes(CachedPrompt prompt) {
+        String response = callAI(prompt);
+        if (response == null || response.isEmpty()) {
+            throw new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE);
+        }
+
+        // Gemini 클라이언트는 이미 텍스트 콘텐츠를 반환하므로 바로 사용
+        if (ENABLE_VERBOSE_LOG) log.info("AI 원본 응답: {}", response);
+
+        // AI 응답에서 JSON 부분 추출 (코드블록 제거)
+        String jsonContent = extractJsonFromAIResponse(response);
+        if (ENABLE_VERBOSE_LOG) log.info("추출된 JSON: {}", jsonContent);
+
+        JsonNode recommendationsNode;
+        try {
+            recommendationsNode = objectMapper.readTree(jsonContent).path("recommendations");
+        } catch (Exception e) {
+            log.warn("AI 응답 JSON 파싱 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE);
+        }
+        if (recommendationsNode.isMissingNode() || !recommendationsNode.isArray()) {
+            throw new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE);
+        }
+
+        List<Recipe> recipes = new ArrayList<>();
+        for (JsonNode rec : recommendationsNode) {
+            Recipe recipe = parseRecipeFromJson(rec);
+            if (recipe != null) {
+                recipes.add(recipe);
+            }
+        }
+        return excludeDuplicateRecipes(recipes);
+    }
+
+    /**
+     * 2단계: 블로그 이미지 검색 후 유효한 이미지가 있는 레시피만 남김
+     * 레시피별 검색을 최대 IMAGE_SEARCH_CONCURRENCY개까지 동시에 수행하므로 전체 소요 시간은 가장 느린 검색 하나에 가깝습니다.
+     */
+    private List<Recipe> attachRecipeImages(List<Recipe> recipes) {
+        if (recipes.isEmpty()) {
+            return recipes;
+        }
+        List<Recipe> enriched = Flux.fromIterable(recipes)
+            .flatMapSequential(recipe -> Mono.fromCallable(() -> attachRecipeImage(recipe))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .onErrorResume(e -> {
+                        log.warn("레시피 '{}' 이미지 검색 실패: {}", recipe.getTitle(), e.getMessage());
+                        return Mono.empty();
+                    }),
+                IMAGE_SEARCH_CONCURRENCY)
+            .collectList()
+            .block();
+        return enriched != null ? enriched : new ArrayList<>();
+    }
 
+    /**
+     * 레시피 하나의 이미지 검색 (유효한 이미지가 없으면 null 반환 → 저장 대상에서 제외)
+     */
+    private Recipe attachRecipeImage(Recipe recipe) {
+        String imageUrl = recipeBlogImageService.searchRecipeImage(recipe.getTitle());
+        if (isValidHttpUrl(imageUrl) && imageUrl.length() <= MAX_IMAGE_URL_LENGTH) {
+            recipe.setRecipeImage(imageUrl);
+            log.info("레시피 이미지 설정 완료: {} -> {}", recipe.getTitle(), imageUrl);
+            return recipe;
+        }
+        log.warn("레시피 '{}' 이미지 검증 실패(유효한 URL 아님 또는 길이 초과). DB 등록을 건너뜁니다. url='{}'", recipe.getTitle(), imageUrl);
+        return null;
+    }
 
+    /**
+     * 3단계: 짧은 트랜잭션 안에서 다중 VALUES INSERT로 일괄 저장
+     * 다른 요청이 먼저 저장한 제목은 ON CONFLICT로 건너뛰므로 실제 저장된 레시피만 반환됩니다.
+     */
+    private List<Recipe> saveRecipes(List<Recipe> recipes) {
+        List<Recipe> saved = transactionTemplate.execute(status -> recipeRepository.insertAllIgnoringDuplicateTitles(recipes));
+        if (saved == null) {
+            return new ArrayList<>();
+        }
+        log.info("레시피 일괄 저장 완료: {}개 중 {}개", recipes.size(), saved.size());
+        return saved;
+    }
 
+    /**
+     * 생성 단계별 소요 시간 기록 (recipe.generation.phase{phase=ai|image|save})
+     */
+    private <T> T recordPhase(String phase, Supplier<T> task) {
+        return Timer.builder("recipe.generation.phase")
+                .description("AI 레시피 생성 단계별 소요 시간")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(task);
+    }
 
     /**
      * AI 응답에서 JSON 부분 추출 (코드블록, 마크다운 등 제거)
@@ -898,6 +1373,13 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
                 log.warn("필수 필드 누락 - title: {}, category: {}", title, category);
                 return null;
             }
+
+            // 컬럼 길이 검증 (일괄 INSERT에서 한 건의 초과가 전체 저장을 실패시키지 않도록 미리 제외)
+            if (title.length() > MAX_TITLE_LENGTH || description.length() > MAX_DESCRIPTION_LENGTH
+                    || ingredients.length() > MAX_INGREDIENTS_LENGTH) {
+                log.warn("컬럼 길이 초과로 레시피 제외 - title: {}", title);
+                return null;
+            }
             
             Recipe recipe = new Recipe();
             recipe.setTitle(title);
@@ -919,41 +1401,64 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
     }
 
     /**
-     * 레시피 중복 검사 (Redis → DB 순서로 체크)
-     * Search domain과 동일한 방식으로 ZSet 사용
+     * 레시피 일괄 중복 검사 (블룸 필터 → 포함 가능성이 있는 제목만 Redis ZMSCORE 한 번 → 남은 제목은 DB IN 쿼리 한 번)
+     * Search domain과 동일한 ZSet을 사용하며, 같은 응답 안에서 제목이 겹치는 레시피도 제외합니다.
      */
-    private boolean isDuplicateRecipe(Recipe recipe) {
-        String title = recipe.getTitle();
-        
-        // 1. Redis ZSet에서 제목 기반 중복 체크 (search domain과 동일한 방식)
+    private List<Recipe> excludeDuplicateRecipes(List<Recipe> recipes) {
+        Map<String, Recipe> byTitle = new LinkedHashMap<>();
+        for (Recipe recipe : recipes) {
+            if (byTitle.putIfAbsent(recipe.getTitle(), recipe) != null) {
+                log.info("응답 내 중복 레시피 제외: {}", recipe.getTitle());
+            }
+        }
+        if (byTitle.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 1. 블룸 필터에 없는 제목은 확실히 새 제목이므로 Redis/DB 확인 대상에서 제외
+        List<String> titles = byTitle.keySet().stream()
+            .filter(recipeTitleBloomFilter::mightContain)
+            .collect(Collectors.toList());
+        if (titles.isEmpty()) {
+            return new ArrayList<>(byTitle.values());
+        }
+
+        // 2. Redis ZSet에서 제목 기반 중복 체크 (한 번의 왕복)
         try {
-            Double score = redisTemplate.opsForZSet().score(RECIPE_TITLES_KEY, title);
-            if (score != null) {
-                log.info("Redis에서 중복 레시피 발견: {}", title);
-                return true;
+            List<Double> scores = redisTemplate.opsForZSet().score(RECIPE_TITLES_KEY, titles.toArray());
+            for (int i = 0; scores != null && i < titles.size() && i < scores.size(); i++) {
+                if (scores.get(i) != null) {
+                    log.info("Redis에서 중복 레시피 발견: {}", titles.get(i));
+                    byTitle.remove(titles.get(i));
+                }
             }
         } catch (Exception e) {
             log.warn("Redis 중복 체크 실패: {}", e.getMessage());
         }
-        
-        // 2. DB에서 제목 기반 중복 체크
-        boolean isDuplicate = recipeRepository.existsByTitle(title);
-        if (isDuplicate) {
-            log.info("DB에서 중복 레시피 발견: {}", title);
-            // Redis ZSet에도 중복 정보 추가 (search domain과 동일한 방식)
+        titles.removeIf(title -> !byTitle.containsKey(title));
+        if (titles.isEmpty()) {
+            return new ArrayList<>(byTitle.values());
+        }
+
+        // 3. DB에서 제목 기반 중복 체크 (한 번의 IN 쿼리)
+        List<String> existingTitles = recipeRepository.findExistingTitles(titles);
+        if (!existingTitles.isEmpty()) {
+            log.info("DB에서 중복 레시피 발견: {}", existingTitles);
+            existingTitles.forEach(byTitle::remove);
+            // Redis ZSet에도 중복 정보 추가 (score는 시간 기반으로 부여하면 정리에 유리합니다)
             try {
-                // score는 시간 기반으로 부여하면 정리에 유리합니다.
-                redisTemplate.opsForZSet().add(RECIPE_TITLES_KEY, title, System.currentTimeMillis());
+                long now = System.currentTimeMillis();
+                Set<ZSetOperations.TypedTuple<Object>> tuples = existingTitles.stream()
+                    .map(title -> ZSetOperations.TypedTuple.<Object>of(title, (double) now))
+                    .collect(Collectors.toSet());
+                redisTemplate.opsForZSet().add(RECIPE_TITLES_KEY, tuples);
             } catch (Exception e) {
                 log.warn("Redis 중복 정보 추가 실패: {}", e.getMessage());
             }
         }
-        
-        return isDuplicate;
+        return new ArrayList<>(byTitle.values());
     }
 
-
-
     /**
      * 카테고리 정보를 파싱하는 메서드
      */
@@ -983,17 +1488,109 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
         }
     }
 
-    // Gemini API를 사용하여 AI 호출 (Pro 모델 사용)
-    private String callAI(String prompt) {
-        try {
-            return geminiClient.chatAccurate(prompt).block(Duration.ofSeconds(30));
-        } catch (Exception e) {
-            log.error("Gemini Pro API 호출 실패: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.OPENAI_API_ERROR);
+    // Gemini API를 사용하여 AI 호출 (Pro 모델 사용, 레시피 생성용 블로킹 호출)
+    private String callAI(CachedPrompt prompt) {
+        return callAIAsync(prompt).block();
+    }
+
+    // Gemini API를 사용하여 AI 호출 (Pro 모델 사용, 스레드를 점유하지 않는 비동기 호출, 생성 요청이므로 호출 공유 없음)
+    private Mono<String> callAIAsync(CachedPrompt prompt) {
+        return geminiClient.generateAccurate(prompt)
+            .timeout(AI_CALL_TIMEOUT)
+            .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE)))
+            // 이미 분류된 예외는 그대로 전달
+            .onErrorMap(e -> !(e instanceof BusinessException), e -> {
+                log.error("Gemini Pro API 호출 실패: {}", e.getMessage());
+                return new BusinessException(e instanceof TimeoutException
+                    ? ErrorCode.OPENAI_API_TIMEOUT : ErrorCode.OPENAI_API_ERROR);
+            });
+    }
+
+
+
+    // Gemini API를 사용하여 배치 점수 요청 ([{id, score}] 스키마의 JSON 응답, 빠른 모델 점수가 부족하면 Pro 모델로 재요청)
+    private Mono<String> callAIJsonAsync(CachedPrompt prompt, int recipeCount) {
+        return geminiClient.chatCascade("batch-score", prompt, BATCH_SCORE_SCHEMA,
+                response -> scoredRatio(parseBatchScoresById(response, recipeCount)) >= MIN_BATCH_SCORE_COVERAGE, false)
+            .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE)))
+            // 이미 분류된 예외는 그대로 전달
+            .onErrorMap(e -> !(e instanceof BusinessException), e -> {
+                log.error("Gemini Pro API 호출 실패: {}", e.getMessage());
+                return new BusinessException(e instanceof TimeoutException
+                    ? ErrorCode.OPENAI_API_TIMEOUT : ErrorCode.OPENAI_API_ERROR);
+            });
+    }
+
+    /**
+     * 배치 프롬프트에 레시피 목록 추가
+     * 제목 대신 1부터 시작하는 짧은 ID로 레시피를 식별하고, 한 줄에 "ID. 제목 | 재료" 형태로 압축합니다.
+     * 프롬프트 길이 제한을 넘는 레시피는 생략되며, 응답에 없는 레시피와 동일하게 기본 점수로 처리됩니다.
+     */
+    private void appendBatchRecipes(StringBuilder promptBuilder, List<Recipe> recipes) {
+        int start = promptBuilder.length();
+        for (int i = 0; i < recipes.size(); i++) {
+            Recipe recipe = recipes.get(i);
+            String line = (i + 1) + ". " + recipe.getTitle() + " | " + recipe.getIngredients() + "\n";
+            if (promptBuilder.length() - start + line.length() > MAX_BATCH_PROMPT_LENGTH) {
+                log.warn("배치 프롬프트 길이 제한으로 {}개 레시피 생략", recipes.size() - i);
+                break;
+            }
+            promptBuilder.append(line);
         }
+        promptBuilder.append("\n");
     }
 
+    /**
+     * 점수를 받은 레시피 비율
+     */
+    private static double scoredRatio(double[] scores) {
+        if (scores.length == 0) {
+            return 1.0;
+        }
+        int scored = 0;
+        for (double score : scores) {
+            if (!Double.isNaN(score)) {
+                scored++;
+            }
+        }
+        return (double) scored / scores.length;
+    }
 
+    /**
+     * 배치 응답([{"id": 1, "score": 8.5}, ...])을 스트리밍 파싱해 입력 순서의 점수 배열로 변환
+     * 응답에 없거나 범위를 벗어난 ID의 점수는 NaN으로 남깁니다.
+     */
+    private double[] parseBatchScoresById(String response, int count) {
+        double[] scores = new double[count];
+        Arrays.fill(scores, Double.NaN);
+        try (JsonParser parser = objectMapper.getFactory().createParser(response)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                log.warn("배치 점수 응답이 JSON 배열이 아닙니다.");
+                return scores;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                int id = -1;
+                double score = Double.NaN;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("id".equals(field) && value.isNumeric()) {
+                        id = parser.getIntValue();
+                    } else if ("score".equals(field) && value.isNumeric()) {
+                        score = parser.getDoubleValue();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (id >= 1 && id <= count && !Double.isNaN(score)) {
+                    scores[id - 1] = Math.max(0.0, Math.min(10.0, score));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("배치 점수 응답 파싱 실패: {}", e.getMessage());
+        }
+        return scores;
+    }
 
     // 2. 역할별 private 메서드 분리 및 간결화
     private User getUser(Long userId) {
@@ -1001,27 +1598,12 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
             .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
 
-    private List<String> getUserIngredients(Long userId) {
-        List<IngredientResponse.RetrieveRes> ingredients = ingredientService.getAllIngredient(userId);
-        if (ingredients.isEmpty()) {
-            log.warn("사용자 {}의 재료 정보가 없습니다.", userId);
+    private List<String> getUserIngredients(UserProfileSnapshot profile) {
+        if (profile.getIngredients().isEmpty()) {
+            log.warn("사용자 {}의 재료 정보가 없습니다.", profile.getUserId());
             throw new BusinessException(ErrorCode.RECIPE_EMPTY_INGREDIENTS);
         }
-        return ingredients.stream()
-            .map(IngredientResponse.RetrieveRes::getName)
-            .collect(Collectors.toList());
-    }
-
-    private List<String> getUserAllergies(Long userId) {
-        try {
-            AllergyResponse.AllergyListRes allergyList = allergyService.getAllergyList(userId);
-            return allergyList.getAllergyOptions().stream()
-                .map(a -> a.getAllergyType().name())
-                .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.warn("사용자 {}의 알레르기 정보 조회 실패: {}", userId, e.getMessage());
-            return new ArrayList<>();
-        }
+        return profile.getIngredients();
     }
 
 
@@ -1108,20 +1690,19 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
     /**
      * 재료 기반 프롬프트 생성
      */
-    private String buildRecipePostPromptIngredient(List<String> availableIngredients) {
+    private CachedPrompt buildRecipePostPromptIngredient(List<String> availableIngredients) {
         StringBuilder promptBuilder = new StringBuilder();
         
         // 중복 제거만 수행
         List<String> uniqueIngredients = new ArrayList<>(new LinkedHashSet<>(availableIngredients));
         
         promptBuilder.append("사용자가 보유한 식재료 목록을 기반으로, 실존하는 요리를 추천해줘.\n\n")
-            .append(buildRecipePostPromptCommon())
-            .append("\n\n※ 사용자가 보유한 식재료 목록:\n")
+            .append("※ 사용자가 보유한 식재료 목록:\n")
             .append(String.join(", ", uniqueIngredients)).append("\n\n")
             .append("\n위 재료들을 활용하여 만들 수 있는 보편적인 요리를 ").append(POST_RECIPE_COUNT).append("가지 추천해줘.");
 
-        String prompt = promptBuilder.toString();
-        log.info("프롬프트 길이: {} characters", prompt.length());
+        CachedPrompt prompt = CachedPrompt.of(PROMPT_FAMILY_GENERATION, buildRecipePostPromptCommon(), promptBuilder.toString());
+        log.info("프롬프트 길이: {} characters (요청별: {})", prompt.toInline().length(), prompt.getSuffix().length());
         log.info("전달된 재료: {} (중복제거 후: {}개)", String.join(", ", uniqueIngredients), uniqueIngredients.size());
         
         return prompt;
@@ -1133,7 +1714,7 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
      * 
      * @param topic 선택적 주제 (null이면 완전 랜덤)
      */
-    private String buildRecipePostPromptRandom(String topic) {
+    private CachedPrompt buildRecipePostPromptRandom(String topic) {
         StringBuilder prompt = new StringBuilder();
         
         // 주제가 null이거나 빈 문자열인 경우 로깅
@@ -1147,14 +1728,13 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
         }
         
         prompt.append("다양한 요리 레시피를 추천해줘.\n\n")
-              .append(buildRecipePostPromptCommon())
-              .append("\n\n※ 알레르기 주의사항:\n")
+              .append("※ 알레르기 주의사항:\n")
               .append("- 일반적인 알레르기 유발 성분(우유, 계란, 대두, 밀, 땅콩, 견과류, 조개류, 생선 등)이 포함된 요리도 추천 가능\n")
               .append("- 사용자가 개별적으로 알레르기 정보를 확인하고 선택하도록 안내\n\n")
               .append("총 ").append(POST_RECIPE_COUNT).append("개의 다양한 보편적인 요리를 추천해줘.");
         
-        String finalPrompt = prompt.toString();
-        log.info("생성된 프롬프트 길이: {} 문자", finalPrompt.length());
+        CachedPrompt finalPrompt = CachedPrompt.of(PROMPT_FAMILY_GENERATION, buildRecipePostPromptCommon(), prompt.toString());
+        log.info("생성된 프롬프트 길이: {} 문자 (요청별: {})", finalPrompt.toInline().length(), finalPrompt.getSuffix().length());
         
         return finalPrompt;
     }
@@ -1165,7 +1745,7 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
      * 
      * @param keyword 사용자가 제공한 키워드
      */
-    private String buildRecipeKeywordPrompt(String keyword) {
+    private CachedPrompt buildRecipeKeywordPrompt(String keyword) {
         StringBuilder prompt = new StringBuilder();
         
         if (keyword != null && !keyword.trim().isEmpty()) {
@@ -1174,13 +1754,12 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
         }
         
         prompt.append("다양한 요리 레시피를 추천해줘.\n\n")
-              .append(buildRecipePostPromptCommon())
-              .append("\n\n※ 알레르기 주의사항:\n")
+              .append("※ 알레르기 주의사항:\n")
               .append("- 일반적인 알레르기 유발 성분(우유, 계란, 대두, 밀, 땅콩, 견과류, 조개류, 생선 등)이 포함된 요리도 추천 가능\n")
               .append("- 사용자가 개별적으로 알레르기 정보를 확인하고 선택하도록 안내\n\n")
               .append("총 ").append(POST_RECIPE_COUNT).append("개의 다양한 보편적인 요리를 추천해줘.");
         
-        return prompt.toString();
+        return CachedPrompt.of(PROMPT_FAMILY_GENERATION, buildRecipePostPromptCommon(), prompt.toString());
     }
 
     // 기존 프롬프트 생성 메서드들은 우선순위 기반 통합 프롬프트로 대체됨
@@ -1188,103 +1767,18 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
     /**
      * 배치 적합도 평가 프롬프트 생성
      */
-    private String createBatchIngredientSuitabilityPrompt(List<Recipe> recipes, 
+    private CachedPrompt createBatchIngredientSuitabilityPrompt(List<Recipe> recipes, 
                                                         List<String> availableIngredients, 
                                                         List<String> allergyTypes) {
-        // OpenAI 토큰 제한 고려 (대략 1토큰 = 4글자)
-        int maxPromptLength = 12000; // 약 3000 토큰
-        
         StringBuilder promptBuilder = new StringBuilder();
         
         // 우선순위 기반 통합 프롬프트 사용 (재료 중심)
         promptBuilder.append(buildPriorityBasedPrompt(availableIngredients, allergyTypes, null, new ArrayList<>()));
         promptBuilder.append("다음 레시피들의 적합도를 평가해줘:\n\n");
         
-        int currentLength = promptBuilder.length();
-        for (Recipe recipe : recipes) {
-            String recipeText = "레시피: " + recipe.getTitle() + "\n" +
-                               "재료: " + recipe.getIngredients() + "\n\n";
-            
-            if (currentLength + recipeText.length() > maxPromptLength) {
-                log.warn("프롬프트 크기 제한 초과, {} 개 레시피만 처리", 
-                        recipes.indexOf(recipe));
-                break;
-            }
-            
-            promptBuilder.append(recipeText);
-            currentLength += recipeText.length();
-        }
-        
-        promptBuilder.append(buildPriorityBasedSuitabilityPromptCommon().replace("=== 🎯 적합도 평가 기준 (우선순위 순) ===", "평가 기준:")).append("\n\n")
-            .append("반드시 다음 JSON 형태로만 응답해줘:\n")
-            .append("{\n")
-            .append("  \"scores\": {\n");
-        
-        // 실제 처리된 레시피만 JSON에 포함
-        int processedCount = 0;
-        for (Recipe recipe : recipes) {
-            if (processedCount >= Math.min(recipes.size(), 
-                (maxPromptLength - currentLength) / 50)) { // 대략적인 레시피당 길이
-                break;
-            }
-            promptBuilder.append("    \"").append(recipe.getTitle()).append("\": 점수");
-            if (processedCount < Math.min(recipes.size() - 1, 
-                (maxPromptLength - currentLength) / 50 - 1)) {
-                promptBuilder.append(",");
-            }
-            promptBuilder.append("\n");
-            processedCount++;
-        }
-        
-        promptBuilder.append("  }\n")
-            .append("}\n\n")
-            .append("다른 설명이나 텍스트 없이 JSON만 응답해주세요.");
-        
-        return promptBuilder.toString();
-    }
-
-    /**
-     * 배치 응답에서 점수 파싱 (간소화)
-     */
-    private Map<String, Double> parseBatchScores(String response, List<Recipe> recipes) {
-        Map<String, Double> scores = new HashMap<>();
-        
-        try {
-            if (ENABLE_VERBOSE_LOG) log.info("AI 응답 내용: {}", response);
-            
-            // Gemini API 응답에서 JSON 부분 추출 (코드블록 제거)
-            String jsonContent = extractJsonFromAIResponse(response);
-            if (ENABLE_VERBOSE_LOG) log.info("추출된 JSON: {}", jsonContent);
-            
-            // AI 응답을 JSON으로 파싱
-            JsonNode scoresJson = objectMapper.readTree(jsonContent);
-            JsonNode scoresNode = scoresJson.path("scores");
-            
-            if (!scoresNode.isMissingNode()) {
-                if (ENABLE_VERBOSE_LOG) log.info("점수 노드 발견: {}", scoresNode.toString());
-                
-                for (Recipe recipe : recipes) {
-                    double score = scoresNode.path(recipe.getTitle()).asDouble(5.0);
-                    scores.put(recipe.getTitle(), score);
-                    if (ENABLE_VERBOSE_LOG) log.info("레시피 '{}' 점수: {}", recipe.getTitle(), score);
-                }
-            } else {
-                log.warn("scores 노드를 찾을 수 없습니다.");
-                // 모든 레시피에 기본 점수 부여
-                for (Recipe recipe : recipes) {
-                    scores.put(recipe.getTitle(), 5.0);
-                }
-            }
-        } catch (Exception e) {
-            log.warn("배치 점수 파싱 실패: {}", e.getMessage());
-            // 파싱 실패 시 모든 레시피에 기본 점수 부여
-            for (Recipe recipe : recipes) {
-                scores.put(recipe.getTitle(), 5.0);
-            }
-        }
+        appendBatchRecipes(promptBuilder, recipes);
         
-        if (ENABLE_VERBOSE_LOG) log.info("최종 파싱 결과: {}", scores);
-        return scores;
+        return CachedPrompt.of(PROMPT_FAMILY_BATCH_SUITABILITY, buildBatchSuitabilityPromptCommon(), promptBuilder.toString());
     }
 
     /**
@@ -1319,23 +1813,6 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
         }
     }
 
-    /**
-     * 최신 OCR 건강 데이터 조회
-     */
-    private Map<String, String> getLatestOcrHealthData(Long userId) {
-        try {
-            // UserHealthDataRepository를 통해 최신 OCR 데이터 조회
-            List<UserHealthData> userHealthDataList = userHealthDataRepository.findByUserIdOrderByCreatedAtDesc(userId);
-            if (!userHealthDataList.isEmpty()) {
-                return userHealthDataList.get(0).getExtractedData();
-            }
-            return new HashMap<>();
-        } catch (Exception e) {
-            log.warn("OCR 건강 데이터 조회 실패: {}", e.getMessage());
-            return new HashMap<>();
-        }
-    }
-
     /**
      * OCR 건강 데이터를 기반으로 건강 정보 문자열 생성
      */
@@ -1354,71 +1831,37 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
         return healthInfo.toString();
     }
 
-    /**
-     * 사용자 HealthGoal 목록 조회
-     */
-    private List<String> getUserHealthGoals(Long userId) {
-        try {
-            log.info("사용자 {}의 HealthGoal 조회 시작", userId);
-            
-            // HealthGoalService를 통해 사용자의 건강 목표 조회
-            var healthGoalResponse = healthGoalService.getHealthGoalList(userId);
-            
-            if (healthGoalResponse != null && healthGoalResponse.getHealthGoalList() != null) {
-                List<String> healthGoals = healthGoalResponse.getHealthGoalList().stream()
-                    .filter(goal -> goal != null && goal.getHealthGoalType() != null)
-                    .map(goal -> goal.getHealthGoalType().name())
-                    .collect(Collectors.toList());
-                
-                log.info("사용자 {}의 HealthGoal 조회 성공: {}", userId, healthGoals);
-                return healthGoals;
-            } else {
-                log.warn("사용자 {}의 HealthGoal 응답이 null이거나 빈 목록", userId);
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            log.error("사용자 {}의 HealthGoal 조회 실패: {}", userId, e.getMessage(), e);
-            return new ArrayList<>();
-        }
-    }
-
     /**
      * HealthGoal 기반 적합도 평가
      */
-    private List<RecipeWithScore> evaluateRecipeSuitabilityByHealthGoal(List<Recipe> recipes,
-                                                                      List<String> availableIngredients,
-                                                                      List<String> allergyTypes,
-                                                                      List<String> healthGoals) {
-        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
-        
+    private Mono<List<RecipeWithScore>> evaluateRecipeSuitabilityByHealthGoal(List<Recipe> recipes,
+                                                                            List<String> availableIngredients,
+                                                                            List<String> allergyTypes,
+                                                                            List<String> healthGoals,
+                                                                            String profileFingerprint) {
         log.info("=== HealthGoal 기반 적합도 평가 시작 ===");
         log.info("사용자 보유 재료: {}", String.join(", ", availableIngredients));
         log.info("사용자 알레르기 정보: {}", allergyTypes.isEmpty() ? "없음" : String.join(", ", allergyTypes));
         log.info("사용자 건강 목표: {}", String.join(", ", healthGoals));
         log.info("전체 레시피 수: {}", recipes.size());
         
-        try {
-            // 배치 처리
-            recipesWithScores.addAll(processBatchByHealthGoal(recipes, availableIngredients, allergyTypes, healthGoals));
-        } catch (Exception e) {
-            log.warn("배치 처리 실패, 개별 처리로 전환: {}", e.getMessage());
-            recipesWithScores.addAll(processIndividualByHealthGoal(recipes, availableIngredients, allergyTypes, healthGoals));
-        }
-        
-        log.info("=== HealthGoal 기반 적합도 평가 완료 ===");
-        return recipesWithScores;
+        return scoreWithCache(SCORE_MODE_HEALTH_GOAL, profileFingerprint, recipes, targets ->
+            // 배치 처리, 실패 시 개별 처리 (사전 계산 중에는 배치만)
+            batchOrIndividual(
+                processBatchByHealthGoal(targets, availableIngredients, allergyTypes, healthGoals),
+                () -> processIndividualByHealthGoal(targets, availableIngredients, allergyTypes, healthGoals)))
+            .doOnNext(result -> log.info("=== HealthGoal 기반 적합도 평가 완료 ==="));
     }
 
     /**
      * 통합 적합도 평가 (재료 + OCR + HealthGoal)
      */
-    private List<RecipeWithScore> evaluateRecipeSuitabilityByCombined(List<Recipe> recipes,
-                                                                    List<String> availableIngredients,
-                                                                    List<String> allergyTypes,
-                                                                    Map<String, String> ocrHealthData,
-                                                                    List<String> healthGoals) {
-        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
-        
+    private Mono<List<RecipeWithScore>> evaluateRecipeSuitabilityByCombined(List<Recipe> recipes,
+                                                                          List<String> availableIngredients,
+                                                                          List<String> allergyTypes,
+                                                                          Map<String, String> ocrHealthData,
+                                                                          List<String> healthGoals,
+                                                                          String profileFingerprint) {
         log.info("=== 통합 적합도 평가 시작 ===");
         log.info("사용자 보유 재료: {}", String.join(", ", availableIngredients));
         log.info("사용자 알레르기 정보: {}", allergyTypes.isEmpty() ? "없음" : String.join(", ", allergyTypes));
@@ -1426,104 +1869,62 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
         log.info("사용자 건강 목표: {}", String.join(", ", healthGoals));
         log.info("전체 레시피 수: {}", recipes.size());
         
-        try {
-            // 배치 처리
-            recipesWithScores.addAll(processBatchByCombined(recipes, availableIngredients, allergyTypes, ocrHealthData, healthGoals));
-        } catch (Exception e) {
-            log.warn("배치 처리 실패, 개별 처리로 전환: {}", e.getMessage());
-            recipesWithScores.addAll(processIndividualByCombined(recipes, availableIngredients, allergyTypes, ocrHealthData, healthGoals));
-        }
-        
-        log.info("=== 통합 적합도 평가 완료 ===");
-        return recipesWithScores;
+        return scoreWithCache(SCORE_MODE_COMBINED, profileFingerprint, recipes, targets ->
+            // 배치 처리, 실패 시 개별 처리 (사전 계산 중에는 배치만)
+            batchOrIndividual(
+                processBatchByCombined(targets, availableIngredients, allergyTypes, ocrHealthData, healthGoals),
+                () -> processIndividualByCombined(targets, availableIngredients, allergyTypes, ocrHealthData, healthGoals)))
+            .doOnNext(result -> log.info("=== 통합 적합도 평가 완료 ==="));
     }
 
     /**
      * HealthGoal 기반 배치 처리 메서드
      */
-    private List<RecipeWithScore> processBatchByHealthGoal(List<Recipe> recipes, 
-                                                          List<String> availableIngredients, 
-                                                          List<String> allergyTypes, 
-                                                          List<String> healthGoals) {
-        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
-        
+    private Mono<List<RecipeWithScore>> processBatchByHealthGoal(List<Recipe> recipes, 
+                                                               List<String> availableIngredients, 
+                                                               List<String> allergyTypes, 
+                                                               List<String> healthGoals) {
         log.info("HealthGoal 기반 배치 처리 시작 - 사용자 재료: {}, 알레르기: {}, 건강목표: {}", 
                 String.join(", ", availableIngredients), 
                 allergyTypes.isEmpty() ? "없음" : String.join(", ", allergyTypes),
                 String.join(", ", healthGoals));
         
-        try {
-            // 배치 처리: 모든 레시피를 한 번에 AI에게 전달
-            String batchPrompt = createBatchHealthGoalSuitabilityPrompt(recipes, availableIngredients, allergyTypes, healthGoals);
-            log.info("HealthGoal 기반 배치 프롬프트 생성 완료");
-            
-            String batchResponse = callAI(batchPrompt);
-            log.info("AI 배치 응답: {}", batchResponse);
-            
-            // AI 응답에서 각 레시피의 점수 파싱
-            Map<String, Double> scores = parseBatchHealthGoalScores(batchResponse, recipes);
-            log.info("파싱된 점수: {}", scores);
-            
-            for (Recipe recipe : recipes) {
-                double score = scores.getOrDefault(recipe.getTitle(), 5.0);
-                log.info("레시피 '{}' 적합도 점수: {}", recipe.getTitle(), score);
+        // 배치 처리: 모든 레시피를 한 번에 AI에게 전달
+        return Mono.fromCallable(() -> createBatchHealthGoalSuitabilityPrompt(recipes, availableIngredients, allergyTypes, healthGoals))
+            .flatMap(prompt -> callAIJsonAsync(prompt, recipes.size()))
+            .map(batchResponse -> {
+                log.info("AI 배치 응답: {}", batchResponse);
                 
-                if (score > 0) {
-                    recipesWithScores.add(new RecipeWithScore(recipe, score));
-                } else {
-                    log.info("레시피 {} 제외됨 (AI가 알레르기 충돌로 판단)", recipe.getTitle());
-                }
-            }
-            
-        } catch (Exception e) {
-            log.warn("HealthGoal 기반 배치 적합도 평가 실패: {}", e.getMessage());
-            throw e; // 상위에서 개별 처리로 전환하도록 예외 재발생
-        }
-        
-        return recipesWithScores;
+                // AI 응답에서 각 레시피의 점수 파싱
+                double[] scores = parseBatchScoresById(batchResponse, recipes.size());
+                if (ENABLE_VERBOSE_LOG) log.info("파싱된 점수: {}", Arrays.toString(scores));
+                return toBatchResults(recipes, scores, "AI가 알레르기 충돌로 판단");
+            })
+            .doOnError(e -> log.warn("HealthGoal 기반 배치 적합도 평가 실패: {}", e.getMessage()));
     }
 
     /**
      * HealthGoal 기반 개별 처리 메서드
      */
-    private List<RecipeWithScore> processIndividualByHealthGoal(List<Recipe> recipes, 
-                                                              List<String> availableIngredients, 
-                                                              List<String> allergyTypes, 
-                                                              List<String> healthGoals) {
-        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
-        
+    private Mono<List<RecipeWithScore>> processIndividualByHealthGoal(List<Recipe> recipes, 
+                                                                    List<String> availableIngredients, 
+                                                                    List<String> allergyTypes, 
+                                                                    List<String> healthGoals) {
         log.info("HealthGoal 기반 개별 처리 시작 - 사용자 재료: {}, 알레르기: {}, 건강목표: {}", 
                 String.join(", ", availableIngredients), 
                 allergyTypes.isEmpty() ? "없음" : String.join(", ", allergyTypes),
                 String.join(", ", healthGoals));
         
-        for (Recipe recipe : recipes) {
-            try {
-                log.info("레시피 '{}' 재료: {}", recipe.getTitle(), recipe.getIngredients());
-                
-                String prompt = createHealthGoalSuitabilityPrompt(recipe, availableIngredients, allergyTypes, healthGoals);
-                double score = callAIForSuitabilityScore(prompt);
-                
-                log.info("레시피 '{}' 적합도 점수: {}", recipe.getTitle(), score);
-                
-                if (score > 0) {
-                    recipesWithScores.add(new RecipeWithScore(recipe, score));
-                } else {
-                    log.info("레시피 {} 제외됨 (AI가 알레르기 충돌로 판단)", recipe.getTitle());
-                }
-            } catch (Exception e) {
-                log.warn("레시피 {} 적합도 평가 실패: {}", recipe.getTitle(), e.getMessage());
-                recipesWithScores.add(new RecipeWithScore(recipe, 5.0));
-            }
-        }
-        
-        return recipesWithScores;
+        return scoreIndividually(recipes, recipe -> {
+            log.info("레시피 '{}' 재료: {}", recipe.getTitle(), recipe.getIngredients());
+            return createHealthGoalSuitabilityPrompt(recipe, availableIngredients, allergyTypes, healthGoals);
+        }, "AI가 알레르기 충돌로 판단");
     }
 
     /**
      * HealthGoal 기반 적합도 평가 프롬프트 생성 (우선순위 기반으로 통합)
      */
-    private String createHealthGoalSuitabilityPrompt(Recipe recipe,
+    private CachedPrompt createHealthGoalSuitabilityPrompt(Recipe recipe,
                                                    List<String> availableIngredients,
                                                    List<String> allergyTypes,
                                                    List<String> healthGoals) {
@@ -1536,15 +1937,14 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
         
         // 우선순위 기반 통합 프롬프트 사용
         promptBuilder.append(buildPriorityBasedPrompt(availableIngredients, allergyTypes, null, healthGoals));
-        promptBuilder.append("\n").append(buildPriorityBasedSuitabilityPromptCommon());
         
-        return promptBuilder.toString();
+        return CachedPrompt.of(PROMPT_FAMILY_SINGLE_SUITABILITY, buildPriorityBasedSuitabilityPromptCommon(), promptBuilder.toString());
     }
 
     /**
      * 통합 적합도 평가 프롬프트 생성 (우선순위 기반으로 통합)
      */
-    private String createCombinedSuitabilityPrompt(Recipe recipe,
+    private CachedPrompt createCombinedSuitabilityPrompt(Recipe recipe,
                                                  List<String> availableIngredients,
                                                  List<String> allergyTypes,
                                                  Map<String, String> ocrHealthData,
@@ -1558,47 +1958,17 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
         
         // 우선순위 기반 통합 프롬프트 사용
         promptBuilder.append(buildPriorityBasedPrompt(availableIngredients, allergyTypes, ocrHealthData, healthGoals));
-        promptBuilder.append("\n").append(buildPriorityBasedSuitabilityPromptCommon());
         
-        return promptBuilder.toString();
-    }
-
-    /**
-     * HealthGoal 기반 적합도 평가 공통 프롬프트 생성 (우선순위 기반으로 통합)
-     */
-    private String buildHealthGoalSuitabilityPromptCommon() {
-        return buildPriorityBasedSuitabilityPromptCommon();
-    }
-
-    /**
-     * 통합 적합도 평가 공통 프롬프트 생성
-     */
-    private String buildCombinedSuitabilityPromptCommon() {
-        return buildPriorityBasedSuitabilityPromptCommon();
-    }
-
-    /**
-     * Recipe를 RecipeSummaryDTO로 변환
-     */
-    private UserRecipeResponse.RecipeSummaryDTO toRecipeSummaryDTO(Recipe recipe) {
-        return UserRecipeResponse.RecipeSummaryDTO.builder()
-            .recipeId(recipe.getId())
-            .name(recipe.getTitle())
-            .imageUrl(recipe.getRecipeImage())
-            .liked(false) // 기본값은 false, 별도로 설정해야 함
-            .build();
+        return CachedPrompt.of(PROMPT_FAMILY_SINGLE_SUITABILITY, buildPriorityBasedSuitabilityPromptCommon(), promptBuilder.toString());
     }
 
     /**
      * 건강 정보 기반 배치 프롬프트 생성
      */
-    private String createBatchHealthSuitabilityPrompt(List<Recipe> recipes, 
+    private CachedPrompt createBatchHealthSuitabilityPrompt(List<Recipe> recipes, 
                                                     List<String> availableIngredients, 
                                                     List<String> allergyTypes, 
                                                     String healthInfo) {
-        // OpenAI 토큰 제한 고려 (대략 1토큰 = 4글자)
-        int maxPromptLength = 12000; // 약 3000 토큰
-        
         StringBuilder promptBuilder = new StringBuilder();
         
         // 우선순위 기반 통합 프롬프트 사용 (OCR 건강 정보 포함)
@@ -1618,103 +1988,19 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
         promptBuilder.append(buildPriorityBasedPrompt(availableIngredients, allergyTypes, ocrHealthData, new ArrayList<>()));
         promptBuilder.append("다음 레시피들의 건강 적합도를 평가해줘:\n\n");
         
-        int currentLength = promptBuilder.length();
-        for (Recipe recipe : recipes) {
-            String recipeText = "레시피: " + recipe.getTitle() + "\n" +
-                               "재료: " + recipe.getIngredients() + "\n\n";
-            
-            if (currentLength + recipeText.length() > maxPromptLength) {
-                log.warn("프롬프트 크기 제한 초과, {} 개 레시피만 처리", 
-                        recipes.indexOf(recipe));
-                break;
-            }
-            
-            promptBuilder.append(recipeText);
-            currentLength += recipeText.length();
-        }
-        
-        promptBuilder.append(buildPriorityBasedSuitabilityPromptCommon().replace("=== 적합도 평가 기준 (우선순위 순) ===", "평가 기준:")).append("\n\n")
-            .append("반드시 다음 JSON 형태로만 응답해줘:\n")
-            .append("{\n")
-            .append("  \"scores\": {\n");
+        appendBatchRecipes(promptBuilder, recipes);
         
-        // 실제 처리된 레시피만 JSON에 포함
-        int processedCount = 0;
-        for (Recipe recipe : recipes) {
-            if (processedCount >= Math.min(recipes.size(), 
-                (maxPromptLength - currentLength) / 50)) { // 대략적인 레시피당 길이
-                break;
-            }
-            promptBuilder.append("    \"").append(recipe.getTitle()).append("\": 점수");
-            if (processedCount < Math.min(recipes.size() - 1, 
-                (maxPromptLength - currentLength) / 50 - 1)) {
-                promptBuilder.append(",");
-            }
-            promptBuilder.append("\n");
-            processedCount++;
-        }
-        
-        promptBuilder.append("  }\n")
-            .append("}\n\n")
-            .append("다른 설명이나 텍스트 없이 JSON만 응답해주세요.");
-        
-        return promptBuilder.toString();
-    }
-
-    /**
-     * 건강 정보 기반 배치 응답에서 점수 파싱
-     */
-    private Map<String, Double> parseBatchHealthScores(String response, List<Recipe> recipes) {
-        Map<String, Double> scores = new HashMap<>();
-        
-        try {
-            if (ENABLE_VERBOSE_LOG) log.info("AI 응답 내용: {}", response);
-            
-            // Gemini API 응답에서 JSON 부분 추출 (코드블록 제거)
-            String jsonContent = extractJsonFromAIResponse(response);
-            if (ENABLE_VERBOSE_LOG) log.info("추출된 JSON: {}", jsonContent);
-            
-            // AI 응답을 JSON으로 파싱
-            JsonNode scoresJson = objectMapper.readTree(jsonContent);
-            JsonNode scoresNode = scoresJson.path("scores");
-            
-            if (!scoresNode.isMissingNode()) {
-                log.info("점수 노드 발견: {}", scoresNode.toString());
-                
-                for (Recipe recipe : recipes) {
-                    double score = scoresNode.path(recipe.getTitle()).asDouble(5.0);
-                    scores.put(recipe.getTitle(), score);
-                    if (ENABLE_VERBOSE_LOG) log.info("레시피 '{}' 건강 적합도 점수: {}", recipe.getTitle(), score);
-                }
-            } else {
-                log.warn("scores 노드를 찾을 수 없습니다.");
-                // 모든 레시피에 기본 점수 부여
-                for (Recipe recipe : recipes) {
-                    scores.put(recipe.getTitle(), 5.0);
-                }
-            }
-        } catch (Exception e) {
-            log.warn("건강 정보 기반 배치 점수 파싱 실패: {}", e.getMessage());
-            // 파싱 실패 시 모든 레시피에 기본 점수 부여
-            for (Recipe recipe : recipes) {
-                scores.put(recipe.getTitle(), 5.0);
-            }
-        }
-        
-        if (ENABLE_VERBOSE_LOG) log.info("최종 건강 정보 기반 파싱 결과: {}", scores);
-        return scores;
+        return CachedPrompt.of(PROMPT_FAMILY_BATCH_SUITABILITY, buildBatchSuitabilityPromptCommon(), promptBuilder.toString());
     }
 
     /**
      * 통합 정보 기반 배치 처리
      */
-    private List<RecipeWithScore> processBatchByCombined(List<Recipe> recipes, 
-                                                        List<String> availableIngredients, 
-                                                        List<String> allergyTypes, 
-                                                        Map<String, String> ocrHealthData, 
-                                                        List<String> healthGoals) {
-        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
-        
+    private Mono<List<RecipeWithScore>> processBatchByCombined(List<Recipe> recipes, 
+                                                             List<String> availableIngredients, 
+                                                             List<String> allergyTypes, 
+                                                             Map<String, String> ocrHealthData, 
+                                                             List<String> healthGoals) {
         if (ENABLE_VERBOSE_LOG) {
             log.info("통합 정보 기반 배치 처리 시작 - 사용자 재료: {}, 알레르기: {}, 건강목표: {}", 
                     String.join(", ", availableIngredients), 
@@ -1722,186 +2008,63 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
                     healthGoals.isEmpty() ? "없음" : String.join(", ", healthGoals));
         }
         
-        try {
-            // 배치 처리: 모든 레시피를 한 번에 AI에게 전달
-            String batchPrompt = createBatchCombinedSuitabilityPrompt(recipes, availableIngredients, allergyTypes, ocrHealthData, healthGoals);
-            if (ENABLE_VERBOSE_LOG) log.info("통합 정보 기반 배치 프롬프트 생성 완료");
-            
-            String batchResponse = callAI(batchPrompt);
-            if (ENABLE_VERBOSE_LOG) log.info("AI 배치 응답: {}", batchResponse);
-            
-            // AI 응답에서 각 레시피의 점수 파싱
-            Map<String, Double> scores = parseBatchCombinedScores(batchResponse, recipes);
-            log.info("파싱된 점수: {}", scores);
-            
-            for (Recipe recipe : recipes) {
-                double score = scores.getOrDefault(recipe.getTitle(), 5.0);
-                if (score > 0) {
-                    recipesWithScores.add(new RecipeWithScore(recipe, score));
-                    if (ENABLE_VERBOSE_LOG) log.info("레시피 '{}' 통합 적합도 점수: {}", recipe.getTitle(), score);
-                } else {
-                    if (ENABLE_VERBOSE_LOG) log.info("레시피 {} 제외됨 (AI가 부적합으로 판단)", recipe.getTitle());
-                }
-            }
-            
-            if (ENABLE_VERBOSE_LOG) log.info("통합 정보 기반 배치 처리 완료 - {} 개 레시피 처리됨", recipesWithScores.size());
-            
-        } catch (Exception e) {
-            log.warn("통합 정보 기반 배치 처리 실패: {}", e.getMessage());
-            // 배치 처리 실패 시 개별 처리로 전환
-            recipesWithScores.addAll(processIndividualByCombined(recipes, availableIngredients, allergyTypes, ocrHealthData, healthGoals));
-        }
-        
-        return recipesWithScores;
+        // 배치 처리: 모든 레시피를 한 번에 AI에게 전달 (실패 시 상위에서 개별 처리로 전환)
+        return Mono.fromCallable(() -> createBatchCombinedSuitabilityPrompt(recipes, availableIngredients, allergyTypes, ocrHealthData, healthGoals))
+            .flatMap(prompt -> callAIJsonAsync(prompt, recipes.size()))
+            .map(batchResponse -> {
+                if (ENABLE_VERBOSE_LOG) log.info("AI 배치 응답: {}", batchResponse);
+                
+                // AI 응답에서 각 레시피의 점수 파싱
+                double[] scores = parseBatchScoresById(batchResponse, recipes.size());
+                if (ENABLE_VERBOSE_LOG) log.info("파싱된 점수: {}", Arrays.toString(scores));
+                List<RecipeWithScore> recipesWithScores = toBatchResults(recipes, scores, "AI가 부적합으로 판단");
+                if (ENABLE_VERBOSE_LOG) log.info("통합 정보 기반 배치 처리 완료 - {} 개 레시피 처리됨", recipesWithScores.size());
+                return recipesWithScores;
+            })
+            .doOnError(e -> log.warn("통합 정보 기반 배치 처리 실패: {}", e.getMessage()));
     }
 
     /**
      * 통합 정보 기반 개별 처리
      */
-    private List<RecipeWithScore> processIndividualByCombined(List<Recipe> recipes, 
-                                                             List<String> availableIngredients, 
-                                                             List<String> allergyTypes, 
-                                                             Map<String, String> ocrHealthData, 
-                                                             List<String> healthGoals) {
-        List<RecipeWithScore> recipesWithScores = new ArrayList<>();
-        
+    private Mono<List<RecipeWithScore>> processIndividualByCombined(List<Recipe> recipes, 
+                                                                  List<String> availableIngredients, 
+                                                                  List<String> allergyTypes, 
+                                                                  Map<String, String> ocrHealthData, 
+                                                                  List<String> healthGoals) {
         if (ENABLE_VERBOSE_LOG) log.info("통합 정보 기반 개별 처리 시작 - {} 개 레시피", recipes.size());
         
-        for (Recipe recipe : recipes) {
-            try {
-                String prompt = createCombinedSuitabilityPrompt(recipe, availableIngredients, allergyTypes, ocrHealthData, healthGoals);
-                double score = callAIForSuitabilityScore(prompt);
-                
-                if (ENABLE_VERBOSE_LOG) log.info("레시피 '{}' 통합 적합도 점수: {}", recipe.getTitle(), score);
-                
-                if (score > 0) {
-                    recipesWithScores.add(new RecipeWithScore(recipe, score));
-                } else {
-                    if (ENABLE_VERBOSE_LOG) log.info("레시피 {} 제외됨 (AI가 부적합으로 판단)", recipe.getTitle());
-                }
-            } catch (Exception e) {
-                log.warn("레시피 {} 통합 적합도 평가 실패: {}", recipe.getTitle(), e.getMessage());
-                recipesWithScores.add(new RecipeWithScore(recipe, 5.0));
-            }
-        }
-        
-        return recipesWithScores;
+        return scoreIndividually(recipes,
+            recipe -> createCombinedSuitabilityPrompt(recipe, availableIngredients, allergyTypes, ocrHealthData, healthGoals),
+            "AI가 부적합으로 판단");
     }
 
     /**
      * 통합 정보 기반 배치 프롬프트 생성
      */
-    private String createBatchCombinedSuitabilityPrompt(List<Recipe> recipes, 
+    private CachedPrompt createBatchCombinedSuitabilityPrompt(List<Recipe> recipes, 
                                                       List<String> availableIngredients, 
                                                       List<String> allergyTypes, 
                                                       Map<String, String> ocrHealthData, 
                                                       List<String> healthGoals) {
-        // OpenAI 토큰 제한 고려 (대략 1토큰 = 4글자)
-        int maxPromptLength = 12000; // 약 3000 토큰
-        
         StringBuilder promptBuilder = new StringBuilder();
         
         // 우선순위 기반 통합 프롬프트 사용
         promptBuilder.append(buildPriorityBasedPrompt(availableIngredients, allergyTypes, ocrHealthData, healthGoals));
         promptBuilder.append("다음 레시피들의 통합 적합도를 평가해줘:\n\n");
         
-        int currentLength = promptBuilder.length();
-        for (Recipe recipe : recipes) {
-            String recipeText = "레시피: " + recipe.getTitle() + "\n" +
-                               "재료: " + recipe.getIngredients() + "\n\n";
-            
-            if (currentLength + recipeText.length() > maxPromptLength) {
-                log.warn("프롬프트 크기 제한 초과, {} 개 레시피만 처리", 
-                        recipes.indexOf(recipe));
-                break;
-            }
-            
-            promptBuilder.append(recipeText);
-            currentLength += recipeText.length();
-        }
-        
-        promptBuilder.append(buildPriorityBasedSuitabilityPromptCommon().replace("=== 🎯 적합도 평가 기준 (우선순위 순) ===", "평가 기준:")).append("\n\n")
-            .append("반드시 다음 JSON 형태로만 응답해줘:\n")
-            .append("{\n")
-            .append("  \"scores\": {\n");
-        
-        // 실제 처리된 레시피만 JSON에 포함
-        int processedCount = 0;
-        for (Recipe recipe : recipes) {
-            if (processedCount >= Math.min(recipes.size(), 
-                (maxPromptLength - currentLength) / 50)) { // 대략적인 레시피당 길이
-                break;
-            }
-            promptBuilder.append("    \"").append(recipe.getTitle()).append("\": 점수");
-            if (processedCount < Math.min(recipes.size() - 1, 
-                (maxPromptLength - currentLength) / 50 - 1)) {
-                promptBuilder.append(",");
-            }
-            promptBuilder.append("\n");
-            processedCount++;
-        }
-        
-        promptBuilder.append("  }\n")
-            .append("}\n\n")
-            .append("다른 설명이나 텍스트 없이 JSON만 응답해주세요.");
-        
-        return promptBuilder.toString();
-    }
-
-    /**
-     * 통합 정보 기반 배치 응답에서 점수 파싱
-     */
-    private Map<String, Double> parseBatchCombinedScores(String response, List<Recipe> recipes) {
-        Map<String, Double> scores = new HashMap<>();
-        
-        try {
-            if (ENABLE_VERBOSE_LOG) log.info("AI 응답 내용: {}", response);
-            
-            // Gemini API 응답에서 JSON 부분 추출 (코드블록 제거)
-            String jsonContent = extractJsonFromAIResponse(response);
-            if (ENABLE_VERBOSE_LOG) log.info("추출된 JSON: {}", jsonContent);
-            
-            // AI 응답을 JSON으로 파싱
-            JsonNode scoresJson = objectMapper.readTree(jsonContent);
-            JsonNode scoresNode = scoresJson.path("scores");
-            
-            if (!scoresNode.isMissingNode()) {
-                if (ENABLE_VERBOSE_LOG) log.info("점수 노드 발견: {}", scoresNode.toString());
-                
-                for (Recipe recipe : recipes) {
-                    double score = scoresNode.path(recipe.getTitle()).asDouble(5.0);
-                    scores.put(recipe.getTitle(), score);
-                    if (ENABLE_VERBOSE_LOG) log.info("레시피 '{}' 통합 적합도 점수: {}", recipe.getTitle(), score);
-                }
-            } else {
-                log.warn("scores 노드를 찾을 수 없습니다.");
-                // 모든 레시피에 기본 점수 부여
-                for (Recipe recipe : recipes) {
-                    scores.put(recipe.getTitle(), 5.0);
-                }
-            }
-        } catch (Exception e) {
-            log.warn("통합 정보 기반 배치 점수 파싱 실패: {}", e.getMessage());
-            // 파싱 실패 시 모든 레시피에 기본 점수 부여
-            for (Recipe recipe : recipes) {
-                scores.put(recipe.getTitle(), 5.0);
-            }
-        }
+        appendBatchRecipes(promptBuilder, recipes);
         
-        if (ENABLE_VERBOSE_LOG) log.info("최종 통합 정보 기반 파싱 결과: {}", scores);
-        return scores;
+        return CachedPrompt.of(PROMPT_FAMILY_BATCH_SUITABILITY, buildBatchSuitabilityPromptCommon(), promptBuilder.toString());
     }
 
     /**
      * HealthGoal 기반 배치 프롬프트 생성
      */
-    private String createBatchHealthGoalSuitabilityPrompt(List<Recipe> recipes, 
+    private CachedPrompt createBatchHealthGoalSuitabilityPrompt(List<Recipe> recipes, 
                                                         List<String> availableIngredients, 
                                                         List<String> allergyTypes, 
                                                         List<String> healthGoals) {
-        // OpenAI 토큰 제한 고려 (대략 1토큰 = 4글자)
-        int maxPromptLength = 12000; // 약 3000 토큰
-        
         StringBuilder promptBuilder = new StringBuilder();
         
         promptBuilder.append("사용자가 가지고 있는 재료: ").append(String.join(", ", availableIngredients)).append("\n")
@@ -1909,94 +2072,12 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
             .append("사용자 건강 목표: ").append(String.join(", ", healthGoals)).append("\n")
             .append("다음 레시피들의 건강 목표 적합도를 평가해줘:\n\n");
         
-        int currentLength = promptBuilder.length();
-        for (Recipe recipe : recipes) {
-            String recipeText = "레시피: " + recipe.getTitle() + "\n" +
-                               "재료: " + recipe.getIngredients() + "\n\n";
-            
-            if (currentLength + recipeText.length() > maxPromptLength) {
-                log.warn("프롬프트 크기 제한 초과, {} 개 레시피만 처리", 
-                        recipes.indexOf(recipe));
-                break;
-            }
-            
-            promptBuilder.append(recipeText);
-            currentLength += recipeText.length();
-        }
-        
-        promptBuilder.append(buildHealthGoalSuitabilityPromptCommon().replace("위 정보를 바탕으로", "평가 기준:")).append("\n\n")
-            .append("반드시 다음 JSON 형태로만 응답해줘:\n")
-            .append("{\n")
-            .append("  \"scores\": {\n");
-        
-        // 실제 처리된 레시피만 JSON에 포함
-        int processedCount = 0;
-        for (Recipe recipe : recipes) {
-            if (processedCount >= Math.min(recipes.size(), 
-                (maxPromptLength - currentLength) / 50)) { // 대략적인 레시피당 길이
-                break;
-            }
-            promptBuilder.append("    \"").append(recipe.getTitle()).append("\": 점수");
-            if (processedCount < Math.min(recipes.size() - 1, 
-                (maxPromptLength - currentLength) / 50 - 1)) {
-                promptBuilder.append(",");
-            }
-            promptBuilder.append("\n");
-            processedCount++;
-        }
-        
-        promptBuilder.append("  }\n")
-            .append("}\n\n")
-            .append("다른 설명이나 텍스트 없이 JSON만 응답해주세요.");
-        
-        return promptBuilder.toString();
-    }
-
-    /**
-     * HealthGoal 기반 배치 응답에서 점수 파싱
-     */
-    private Map<String, Double> parseBatchHealthGoalScores(String response, List<Recipe> recipes) {
-        Map<String, Double> scores = new HashMap<>();
-        
-        try {
-            if (ENABLE_VERBOSE_LOG) log.info("AI 응답 내용: {}", response);
-            
-            // Gemini API 응답에서 JSON 부분 추출 (코드블록 제거)
-            String jsonContent = extractJsonFromAIResponse(response);
-            if (ENABLE_VERBOSE_LOG) log.info("추출된 JSON: {}", jsonContent);
-            
-            // AI 응답을 JSON으로 파싱
-            JsonNode scoresJson = objectMapper.readTree(jsonContent);
-            JsonNode scoresNode = scoresJson.path("scores");
-            
-            if (!scoresNode.isMissingNode()) {
-                if (ENABLE_VERBOSE_LOG) log.info("점수 노드 발견: {}", scoresNode.toString());
-                
-                for (Recipe recipe : recipes) {
-                    double score = scoresNode.path(recipe.getTitle()).asDouble(5.0);
-                    scores.put(recipe.getTitle(), score);
-                    if (ENABLE_VERBOSE_LOG) log.info("레시피 '{}' 건강 목표 적합도 점수: {}", recipe.getTitle(), score);
-                }
-            } else {
-                log.warn("scores 노드를 찾을 수 없습니다.");
-                // 모든 레시피에 기본 점수 부여
-                for (Recipe recipe : recipes) {
-                    scores.put(recipe.getTitle(), 5.0);
-                }
-            }
-        } catch (Exception e) {
-            log.warn("HealthGoal 기반 배치 점수 파싱 실패: {}", e.getMessage());
-            // 파싱 실패 시 모든 레시피에 기본 점수 부여
-            for (Recipe recipe : recipes) {
-                scores.put(recipe.getTitle(), 5.0);
-            }
-        }
+        appendBatchRecipes(promptBuilder, recipes);
         
-        if (ENABLE_VERBOSE_LOG) log.info("최종 HealthGoal 기반 파싱 결과: {}", scores);
-        return scores;
+        return CachedPrompt.of(PROMPT_FAMILY_BATCH_SUITABILITY, buildBatchSuitabilityPromptCommon(), promptBuilder.toString());
     }
 
-    private List<Recipe> getRecipesByCategories(String categories) {
+    private List<Recipe> getRecipesByCategories(String categories, List<String> allergyTypes) {
         try {
             String[] categoryArray = categories.split(",");
             List<RecipeCategory> recipeCategories = new ArrayList<>();
@@ -2015,10 +2096,10 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
                 return new ArrayList<>();
             }
             
-            List<Recipe> recipes = recipeRepository.findByCategoriesIn(recipeCategories);
-            return recipes.stream()
-                .limit(MAX_RECOMMENDATIONS)
-                .collect(Collectors.toList());
+            // 카테고리별로 고르게 MAX_RECOMMENDATIONS개 샘플링 후 PK로 조회
+            List<Long> recipeIds = recipeCatalog.sampleByCategories(
+                MAX_RECOMMENDATIONS, recipeCategories, getAllergenConflicts(allergyTypes));
+            return excludeAllergenConflicts(findRecipesInOrder(recipeIds), allergyTypes);
         } catch (Exception e) {
             log.warn("카테고리 파싱 실패: {}", e.getMessage());
             return new ArrayList<>();
@@ -2026,7 +2107,6 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
     }
 
     @Override
-    @Transactional
     public List<RecipeResponse.DetailRes> createAndSaveRandomRecipes(Long userId, String topic) {
         log.info("AI 랜덤 레시피 생성 및 저장 시작 - userId: {}, topic: {}", userId, topic);
         
@@ -2035,9 +2115,20 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
             User user = getUser(userId);
             log.info("사용자 검증 완료: userId={}, user={}", userId, user != null ? user.getId() : "null");
             
+            // 사전 생성 풀에 남은 레시피가 있으면 바로 반환하고, 보충은 백그라운드에서 수행
+            String poolKey = recipePool.resolvePoolKey(topic);
+            if (poolKey != null) {
+                List<RecipeResponse.DetailRes> pooled = popPooledRecipes(poolKey);
+                triggerPoolRefill(poolKey);
+                if (!pooled.isEmpty()) {
+                    log.info("사전 생성 풀에서 레시피 반환 - pool: {}, 레시피 수: {}", poolKey, pooled.size());
+                    return pooled;
+                }
+            }
+
             // 주제 기반 또는 완전 랜덤 프롬프트 생성
-            String prompt = buildRecipePostPromptRandom(topic);
-            log.info("랜덤 레시피 생성 프롬프트 생성 완료 - 주제: {}, 프롬프트 길이: {}", topic, prompt.length());
+            CachedPrompt prompt = buildRecipePostPromptRandom(topic);
+            log.info("랜덤 레시피 생성 프롬프트 생성 완료 - 주제: {}, 프롬프트 길이: {}", topic, prompt.toInline().length());
             
             // AI 호출하여 레시피 생성 및 저장
             List<Recipe> recipes = callAIAndSaveRecipes(prompt);
@@ -2048,12 +2139,74 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
                     .map(RecipeConverter::toDetailRes)
                     .collect(Collectors.toList());
                     
+        } catch (BusinessException e) {
+            log.error("AI 랜덤 레시피 생성 실패: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("AI 랜덤 레시피 생성 실패: {}", e.getMessage(), e);
             throw new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE);
         }
     }
 
+    /**
+     * 풀에서 레시피를 꺼내 DB에서 조회 (풀에 들어간 뒤 삭제된 레시피는 제외)
+     * 작업 워커 스레드에서도 호출되므로 카테고리(지연 로딩)까지 트랜잭션 안에서 변환합니다.
+     */
+    private List<RecipeResponse.DetailRes> popPooledRecipes(String poolKey) {
+        List<Long> recipeIds = recipePool.pop(poolKey, POST_RECIPE_COUNT);
+        if (recipeIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<RecipeResponse.DetailRes> recipes = transactionTemplate.execute(status -> findRecipesInOrder(recipeIds).stream()
+                .map(RecipeConverter::toDetailRes)
+                .collect(Collectors.toList()));
+        return recipes != null ? recipes : new ArrayList<>();
+    }
+
+    /**
+     * 워커 풀에서 비동기로 풀 보충
+     */
+    private void triggerPoolRefill(String poolKey) {
+        try {
+            recipeGenerationExecutor.execute(() -> refillPool(poolKey));
+        } catch (TaskRejectedException e) {
+            log.warn("레시피 풀 보충 작업 거절 (작업 큐 포화) - pool: {}", poolKey);
+        }
+    }
+
+    /**
+     * 풀이 워터마크 미만이면 한 번 생성(POST_RECIPE_COUNT개)해서 채움
+     */
+    private void refillPool(String poolKey) {
+        if (!recipePool.needsRefill(poolKey) || !recipePool.tryLockRefill(poolKey)) {
+            return;
+        }
+        try {
+            List<Recipe> recipes = callAIAndSaveRecipes(buildRecipePostPromptRandom(recipePool.topicOf(poolKey)));
+            recipePool.push(poolKey, recipes.stream().map(Recipe::getId).collect(Collectors.toList()));
+            log.info("레시피 풀 보충 완료 - pool: {}, 추가 수: {}", poolKey, recipes.size());
+        } catch (Exception e) {
+            log.warn("레시피 풀 보충 실패 - pool: {}, {}", poolKey, e.getMessage());
+        } finally {
+            recipePool.unlockRefill(poolKey);
+        }
+    }
+
+    /**
+     * 사전 생성 풀 주기적 보충 (워터마크 미만인 풀만 워커 풀에 보충 작업 등록)
+     */
+    @Scheduled(fixedDelayString = "${app.recipe-pool.replenish-interval-ms:300000}", initialDelay = 60_000)
+    public void replenishRecipePool() {
+        if (!recipePool.isEnabled()) {
+            return;
+        }
+        for (String poolKey : recipePool.poolKeys()) {
+            if (recipePool.needsRefill(poolKey)) {
+                triggerPoolRefill(poolKey);
+            }
+        }
+    }
+
     /**
      * AI를 사용하여 랜덤 레시피를 생성하고 저장합니다. (기존 호환성 유지)
      * 주제 없이 완전 랜덤하게 레시피를 생성합니다.
@@ -2067,13 +2220,12 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
      * 키워드가 제공되면 해당 키워드와 연관된 레시피를 생성하고, 없으면 완전 랜덤하게 생성합니다.
      */
     @Override
-    @Transactional
     public List<RecipeResponse.DetailRes> createAndSaveRandomRecipesByKeyword(Long userId, String keyword) {
         log.info("AI 키워드 기반 랜덤 레시피 생성 및 저장 시작 - userId: {}, keyword: {}", userId, keyword);
         
         try {
             // 키워드 기반 또는 완전 랜덤 프롬프트 생성
-            String prompt = buildRecipeKeywordPrompt(keyword);
+            CachedPrompt prompt = buildRecipeKeywordPrompt(keyword);
             log.info("키워드 기반 랜덤 레시피 생성 프롬프트 생성 완료 - 키워드: {}", keyword);
             
             // AI 호출하여 레시피 생성 및 저장
@@ -2094,18 +2246,17 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
     }
 
     @Override
-    @Transactional
     public List<RecipeResponse.DetailRes> createAndSaveRecipesByIngredient(Long userId) {
         log.info("AI 재료 기반 레시피 생성 및 저장 시작 - userId: {}", userId);
         
         try {
-            // 사용자 정보 조회
-            User user = getUser(userId);
-            List<String> availableIngredients = getUserIngredients(userId);
-            List<String> allergyTypes = getUserAllergies(userId);
+            // 사용자 프로필 조회
+            UserProfileSnapshot profile = userProfileCache.get(userId);
+            List<String> availableIngredients = getUserIngredients(profile);
+            List<String> allergyTypes = profile.getAllergyTypes();
             
             // 재료 기반 프롬프트 생성
-            String prompt = buildRecipePostPromptIngredient(availableIngredients);
+            CachedPrompt prompt = buildRecipePostPromptIngredient(availableIngredients);
             log.info("재료 기반 레시피 생성 프롬프트 생성 완료");
             
             // AI 호출하여 레시피 생성 및 저장
@@ -2117,12 +2268,48 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
                     .map(RecipeConverter::toDetailRes)
                     .collect(Collectors.toList());
                     
+        } catch (BusinessException e) {
+            log.error("AI 재료 기반 레시피 생성 실패: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("AI 재료 기반 레시피 생성 실패: {}", e.getMessage(), e);
             throw new BusinessException(ErrorCode.OPENAI_INVALID_RESPONSE);
         }
     }
 
+    @Override
+    public Flux<RecipeResponse.DetailRes> streamRecipesByIngredient(Long userId) {
+        return loadProfile(userId)
+            .map(profile -> buildRecipePostPromptIngredient(getUserIngredients(profile)))
+            .flatMapMany(this::streamAndSaveRecipes);
+    }
+
+    @Override
+    public Flux<RecipeResponse.DetailRes> streamRandomRecipes(Long userId, String topic) {
+        // 사전 생성 풀에 남은 레시피가 있으면 바로 반환하고, 없을 때만 스트리밍 생성
+        return Mono.fromCallable(() -> {
+                getUser(userId);
+                String poolKey = recipePool.resolvePoolKey(topic);
+                if (poolKey == null) {
+                    return List.<RecipeResponse.DetailRes>of();
+                }
+                List<RecipeResponse.DetailRes> pooled = popPooledRecipes(poolKey);
+                triggerPoolRefill(poolKey);
+                return pooled;
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMapMany(pooled -> pooled.isEmpty()
+                ? streamAndSaveRecipes(buildRecipePostPromptRandom(topic))
+                : Flux.fromIterable(pooled));
+    }
+
+    @Override
+    public Flux<RecipeResponse.DetailRes> streamRecipesByKeyword(Long userId, String keyword) {
+        // 존재하지 않는 사용자는 생성 전에 실패
+        return loadProfile(userId)
+            .flatMapMany(profile -> streamAndSaveRecipes(buildRecipeKeywordPrompt(keyword)));
+    }
+
     /**
      * 레시피 제목을 Redis ZSet에 추가 (search domain과 동일한 방식)
      * ZSet은 TTL을 직접 지원하지 않으므로 별도 TTL 설정 필요
@@ -2199,21 +2386,17 @@ public class RecipeRecommendServiceImpl implements RecipeRecommendService {
      * 우선순위 기반 적합도 평가 공통 프롬프트 생성
      */
     private String buildPriorityBasedSuitabilityPromptCommon() {
-        return "=== 적합도 평가 기준 (우선순위 순) ===\n" +
-               "1. 알러지 성분 포함 여부 (최우선, 포함시 0점)\n" +
-               "2. 건강 목표 달성 도움 정도\n" +
-               "3. 현재 건강 상태 적합성\n" +
-               "4. 보유 재료 활용도\n\n" +
-               "점수 기준:\n" +
-               "- 9-10점: 모든 조건을 완벽하게 만족 (건강 목표 최적, 건강 상태 적합, 재료 완벽)\n" +
-               "- 7-8점: 대부분의 조건을 만족 (건강 목표 적합, 건강 상태 적합, 재료 충분)\n" +
-               "- 5-6점: 주요 조건을 만족 (건강 목표 보통, 건강 상태 보통, 재료 가능)\n" +
-               "- 3-4점: 일부 조건만 만족 (건강 목표 부적합, 건강 상태 부적합, 재료 부족)\n" +
-               "- 1-2점: 대부분의 조건을 만족하지 못함\n" +
-               "- 0점: 알러지 성분 포함 (절대 추천 불가)\n\n" +
+        return SUITABILITY_CRITERIA +
                "적합도 점수만 숫자로 응답해주세요 (예: 8.5)";
     }
 
+    /**
+     * 배치 적합도 평가 공통 프롬프트 생성 (평가 기준 + JSON 응답 형식)
+     */
+    private String buildBatchSuitabilityPromptCommon() {
+        return SUITABILITY_CRITERIA + BATCH_SCORE_INSTRUCTION;
+    }
+
     /**
      * HTTP/HTTPS URL 유효성 검증
      * 
@@ -0,0 +1,174 @@
+package com.mumuk.domain.recipe.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 레시피 적합도 점수 캐시 (L1 인메모리 + L2 Redis)
+ *
+ * 키 = 추천 모드 + 사용자 프로필 지문 + 레시피 ID
+ * 프로필(재료, 알레르기, 건강 목표, 최신 OCR 데이터)이 바뀌면 지문이 달라지므로 이전 점수는 자연히 사용되지 않습니다.
+ */
+@Slf4j
+@Component
+public class RecipeScoreCache {
+
+    private static final String KEY_PREFIX = "recipe-score:";
+
+    /** Redis 점수 캐시 유효기간 */
+    private static final Duration REDIS_TTL = Duration.ofHours(1);
+
+    /** 인메모리 점수 캐시 유효기간 */
+    private static final long LOCAL_TTL_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    /** 인메모리 캐시 최대 항목 수 (LRU) */
+    private static final int LOCAL_MAX_ENTRIES = 20_000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final Map<String, CachedScore> localCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedScore> eldest) {
+                    return size() > LOCAL_MAX_ENTRIES;
+                }
+            });
+
+    public RecipeScoreCache(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 캐시된 점수 조회 (L1 → L2 순서, L2 적중분은 L1에 채움)
+     *
+     * @return 레시피 ID → 점수 (캐시에 없는 레시피는 포함되지 않음)
+     */
+    public Map<Long, Double> getScores(String mode, String fingerprint, Collection<Long> recipeIds) {
+        Map<Long, Double> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (Long recipeId : recipeIds) {
+            CachedScore cached = localCache.get(localKey(mode, fingerprint, recipeId));
+            if (cached != null && cached.expiresAt > now) {
+                result.put(recipeId, cached.score);
+            } else {
+                misses.add(recipeId);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        try {
+            List<Object> fields = misses.stream().map(String::valueOf).collect(Collectors.toList());
+            List<Object> values = redisTemplate.opsForHash().multiGet(redisKey(mode, fingerprint), fields);
+            for (int i = 0; i < misses.size() && values != null && i < values.size(); i++) {
+                Object value = values.get(i);
+                if (value instanceof Number number) {
+                    result.put(misses.get(i), number.doubleValue());
+                    putLocal(mode, fingerprint, misses.get(i), number.doubleValue(), now);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Redis 점수 캐시 조회 실패: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 새로 평가한 점수 저장 (L1, L2 모두)
+     */
+    public void putScores(String mode, String fingerprint, Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        scores.forEach((recipeId, score) -> putLocal(mode, fingerprint, recipeId, score, now));
+
+        try {
+            String key = redisKey(mode, fingerprint);
+            Map<String, Object> fields = new HashMap<>();
+            scores.forEach((recipeId, score) -> fields.put(String.valueOf(recipeId), score));
+            redisTemplate.opsForHash().putAll(key, fields);
+            redisTemplate.expire(key, REDIS_TTL);
+        } catch (Exception e) {
+            log.warn("Redis 점수 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 프로필 지문 생성
+     * 각 항목을 정규화(trim, 소문자, 중복 제거, 정렬)한 뒤 해시하므로 입력 순서와 무관하게 동일한 값을 가집니다.
+     */
+    public static String fingerprint(Collection<String> ingredients, Collection<String> allergies,
+                                     Collection<String> healthGoals, Map<String, String> healthData) {
+        StringBuilder source = new StringBuilder();
+        source.append("i=").append(normalize(ingredients))
+                .append("|a=").append(normalize(allergies))
+                .append("|g=").append(normalize(healthGoals))
+                .append("|h=");
+        if (healthData != null) {
+            Map<String, String> sorted = new TreeMap<>();
+            healthData.forEach((key, value) -> {
+                if (key != null && value != null && !value.isBlank()) {
+                    sorted.put(key.trim(), value.trim());
+                }
+            });
+            source.append(sorted);
+        }
+        return DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String normalize(Collection<String> values) {
+        if (values == null) {
+            return "";
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private void putLocal(String mode, String fingerprint, Long recipeId, double score, long now) {
+        localCache.put(localKey(mode, fingerprint, recipeId), new CachedScore(score, now + LOCAL_TTL_MILLIS));
+    }
+
+    private static String localKey(String mode, String fingerprint, Long recipeId) {
+        return mode + ":" + fingerprint + ":" + recipeId;
+    }
+
+    private static String redisKey(String mode, String fingerprint) {
+        return KEY_PREFIX + mode + ":" + fingerprint;
+    }
+
+    private static final class CachedScore {
+        final double score;
+        final long expiresAt;
+
+        CachedScore(double score, long expiresAt) {
+            this.score = score;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.mumuk.domain.recipe.service;
 import com.mumuk.domain.recipe.dto.request.RecipeRequest;
 import com.mumuk.domain.recipe.dto.response.RecipeResponse;
 import com.mumuk.domain.user.dto.response.UserRecipeResponse;
+import reactor.core.publisher.Mono;
+
 import java.util.List;
 
 public interface RecipeService {
@@ -16,6 +18,6 @@ public interface RecipeService {
     List<UserRecipeResponse.RecipeSummaryDTO> getRecipeSummaries(Long userId);
     
     // 레시피 재료 매칭 기능 (토큰 기반 인증)
-    RecipeResponse.IngredientMatchingRes matchIngredientsByAI(Long userId, Long recipeId);
+    Mono<RecipeResponse.IngredientMatchingRes> matchIngredientsByAI(Long userId, Long recipeId);
     RecipeResponse.IngredientMatchingRes matchIngredientsSimple(Long userId, Long recipeId);
 }
@@ -4,12 +4,16 @@ import com.mumuk.domain.recipe.converter.RecipeConverter;
 import com.mumuk.domain.recipe.dto.request.RecipeRequest;
 import com.mumuk.domain.recipe.dto.response.RecipeResponse;
 import com.mumuk.domain.user.dto.response.UserRecipeResponse;
+import com.mumuk.domain.recipe.entity.IngredientSynonymDictionary;
 import com.mumuk.domain.recipe.entity.Recipe;
+import com.mumuk.domain.recipe.event.RecipeChangedEvent;
 import com.mumuk.domain.recipe.repository.RecipeRepository;
 import com.mumuk.domain.user.repository.UserRecipeRepository;
 import com.mumuk.domain.user.entity.UserRecipe;
 import com.mumuk.global.apiPayload.code.ErrorCode;
 import com.mumuk.global.apiPayload.exception.BusinessException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -26,6 +30,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.mumuk.domain.ingredient.service.IngredientService;
 import com.mumuk.domain.ingredient.dto.response.IngredientResponse;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
@@ -38,7 +45,6 @@ public class RecipeServiceImpl implements RecipeService {
 
     private static final Logger log = LoggerFactory.getLogger(RecipeServiceImpl.class);
     private static final Duration RECIPE_CACHE_TTL = Duration.ofDays(7); // 7일 동안 캐시
-    private static final Duration AI_MATCH_CACHE_TTL = Duration.ofHours(6); // AI 매칭 결과 캐시 TTL
 
     private final RecipeRepository recipeRepository;
     private final UserRecipeRepository userRecipeRepository;
@@ -46,16 +52,23 @@ public class RecipeServiceImpl implements RecipeService {
     private final GeminiClient geminiClient;
     private final ObjectMapper objectMapper;
     private final IngredientService ingredientService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IngredientMatcher ingredientMatcher;
+    private final RecipeTitleBloomFilter recipeTitleBloomFilter;
 
     public RecipeServiceImpl(RecipeRepository recipeRepository, UserRecipeRepository userRecipeRepository, RedisTemplate<String, Object> redisTemplate,
                            GeminiClient geminiClient, ObjectMapper objectMapper,
-                           IngredientService ingredientService) {
+                           IngredientService ingredientService, ApplicationEventPublisher eventPublisher,
+                           IngredientMatcher ingredientMatcher, RecipeTitleBloomFilter recipeTitleBloomFilter) {
         this.recipeRepository = recipeRepository;
         this.userRecipeRepository = userRecipeRepository;
         this.redisTemplate = redisTemplate;
         this.geminiClient = geminiClient;
         this.objectMapper = objectMapper;
         this.ingredientService = ingredientService;
+        this.eventPublisher = eventPublisher;
+        this.ingredientMatcher = ingredientMatcher;
+        this.recipeTitleBloomFilter = recipeTitleBloomFilter;
     }
 
     @Override
@@ -63,29 +76,42 @@ public class RecipeServiceImpl implements RecipeService {
     public void createRecipe(RecipeRequest.CreateReq request) {
         log.info("레시피 등록 시작: {}", request.getTitle());
         
-        // 1. Redis로 중복 검증 (빠른 검증)
-        log.info("Redis 중복 검증 시작: {}", request.getTitle());
-        if (isRecipeTitleExistsInRedis(request.getTitle())) {
-            log.warn("Redis에서 중복 레시피 발견: {}", request.getTitle());
-            throw new BusinessException(ErrorCode.RECIPE_DUPLICATE_TITLE);
+        // 1. 블룸 필터에 없는 제목은 확실히 새 제목이므로 Redis/DB 중복 검증 생략
+        if (recipeTitleBloomFilter.mightContain(request.getTitle())) {
+            // 2. Redis로 중복 검증 (빠른 검증)
+            log.info("Redis 중복 검증 시작: {}", request.getTitle());
+            if (isRecipeTitleExistsInRedis(request.getTitle())) {
+                log.warn("Redis에서 중복 레시피 발견: {}", request.getTitle());
+                throw new BusinessException(ErrorCode.RECIPE_DUPLICATE_TITLE);
+            }
+            log.info("Redis 중복 검증 통과: {}", request.getTitle());
+            
+            // 3. DB로 중복 검증 (정확한 검증)
+            log.info("DB 중복 검증 시작: {}", request.getTitle());
+            if (recipeRepository.existsByTitle(request.getTitle())) {
+                log.warn("DB에서 중복 레시피 발견: {}", request.getTitle());
+                throw new BusinessException(ErrorCode.RECIPE_DUPLICATE_TITLE);
+            }
+            log.info("DB 중복 검증 통과: {}", request.getTitle());
+        } else {
+            log.info("블룸 필터상 새 제목, 중복 검증 생략: {}", request.getTitle());
         }
-        log.info("Redis 중복 검증 통과: {}", request.getTitle());
         
-        // 2. DB로 중복 검증 (정확한 검증)
-        log.info("DB 중복 검증 시작: {}", request.getTitle());
-        if (recipeRepository.existsByTitle(request.getTitle())) {
-            log.warn("DB에서 중복 레시피 발견: {}", request.getTitle());
+        // 4. DB에 레시피 저장 (다른 인스턴스의 저장이 아직 필터에 반영되지 않은 경우는 제목 유니크 제약으로 걸러짐)
+        Recipe recipe = RecipeConverter.toRecipe(request);
+        Recipe savedRecipe;
+        try {
+            savedRecipe = recipeRepository.save(recipe);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("제목 유니크 제약으로 중복 레시피 발견: {}", request.getTitle());
             throw new BusinessException(ErrorCode.RECIPE_DUPLICATE_TITLE);
         }
-        log.info("DB 중복 검증 통과: {}", request.getTitle());
-        
-        // 3. DB에 레시피 저장
-        Recipe recipe = RecipeConverter.toRecipe(request);
-        Recipe savedRecipe = recipeRepository.save(recipe);
         log.info("DB 저장 완료: {} (ID: {})", savedRecipe.getTitle(), savedRecipe.getId());
+        recipeRepository.replaceRecipeIngredients(Map.of(savedRecipe.getId(), savedRecipe.getIngredients()));
         
-        // 4. DB 저장 성공 시 Redis에 완전한 캐싱
+        // 5. DB 저장 성공 시 Redis에 완전한 캐싱
         cacheRecipeTitleToRedis(savedRecipe);
+        eventPublisher.publishEvent(RecipeChangedEvent.saved(savedRecipe));
         log.info("레시피 등록 완료: {}", savedRecipe.getTitle());
     }
 
@@ -96,6 +122,7 @@ public class RecipeServiceImpl implements RecipeService {
             throw new BusinessException(ErrorCode.RECIPE_NOT_FOUND);
         }
         recipeRepository.deleteById(id);
+        eventPublisher.publishEvent(RecipeChangedEvent.deleted(id));
     }
 
     @Override
@@ -202,7 +229,11 @@ public class RecipeServiceImpl implements RecipeService {
             recipe.setCategories(categoryList);
         }
 
-        recipeRepository.save(recipe);
+        Recipe savedRecipe = recipeRepository.save(recipe);
+        if (request.getIngredients() != null) {
+            recipeRepository.replaceRecipeIngredients(Map.of(savedRecipe.getId(), savedRecipe.getIngredients()));
+        }
+        eventPublisher.publishEvent(RecipeChangedEvent.saved(savedRecipe));
     }
 
     /**
@@ -259,60 +290,52 @@ public class RecipeServiceImpl implements RecipeService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public RecipeResponse.IngredientMatchingRes matchIngredientsByAI(Long userId, Long recipeId) {
-        log.info("AI 기반 재료 매칭 시작: 사용자 ID: {}, 레시피 ID: {}", userId, recipeId);
-        
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.RECIPE_NOT_FOUND));
-        
-        List<String> userIngredients = getUserIngredients(userId);
-        List<String> recipeIngredients = parseIngredients(recipe.getIngredients());
-        
-        log.info("사용자 재료: {}", userIngredients);
-        log.info("레시피 재료: {}", recipeIngredients);
-        
-        // 정규화된 재료 목록 생성 (소문자, trim, 정렬)
-        List<String> normUser = userIngredients.stream()
-                .filter(s -> s != null)
-                .map(s -> s.trim().toLowerCase(Locale.ROOT))
-                .sorted()
-                .collect(Collectors.toList());
-        List<String> normRecipe = recipeIngredients.stream()
-                .filter(s -> s != null)
-                .map(s -> s.trim().toLowerCase(Locale.ROOT))
-                .sorted()
-                .collect(Collectors.toList());
-        
-        // 사용자 재료 Set 생성 (replaceable 검증용)
-        Set<String> normUserSet = new HashSet<>(normUser);
-        
-        // Redis 캐싱 키 생성 (정규화된 재료 해시 포함)
-        String cacheKey = String.format("ai-match:%d:%d:%d:%d",
-                userId, recipeId, normUser.hashCode(), normRecipe.hashCode());
-        
-        // 캐시된 결과 확인
-        String cachedResult = (String) redisTemplate.opsForValue().get(cacheKey);
-        if (cachedResult != null) {
-            log.info("캐시된 AI 분석 결과 사용");
-            return parseAIAnalysis(recipe, cachedResult, normUserSet);
-        }
-        
-        // AI 분석 요청
-        String aiAnalysis = analyzeIngredientsWithAI(userIngredients, recipeIngredients);
-        log.info("AI 분석 결과: {}", aiAnalysis);
-        
-                // 결과를 Redis에 캐싱 (fallback 결과는 캐시하지 않음)
-        if (!isFallbackAIResult(aiAnalysis, recipeIngredients)) {
-            redisTemplate.opsForValue().set(cacheKey, aiAnalysis, AI_MATCH_CACHE_TTL);
-        } else {
-            log.info("AI fallback 결과는 캐시하지 않습니다. key={}", cacheKey);
-        }
-
-        // AI 분석 결과 파싱
-        RecipeResponse.IngredientMatchingRes result = parseAIAnalysis(recipe, aiAnalysis, normUserSet);
-        
-        return result;
+    public Mono<RecipeResponse.IngredientMatchingRes> matchIngredientsByAI(Long userId, Long recipeId) {
+        // DB/Redis 조회는 boundedElastic에서 수행하고, AI 응답 대기 중에는 스레드를 점유하지 않음
+        return Mono.defer(() -> {
+            log.info("AI 기반 재료 매칭 시작: 사용자 ID: {}, 레시피 ID: {}", userId, recipeId);
+            
+            Recipe recipe = recipeRepository.findById(recipeId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.RECIPE_NOT_FOUND));
+            
+            List<String> userIngredients = getUserIngredients(userId);
+            List<String> recipeIngredients = parseIngredients(recipe.getIngredients());
+            
+            log.info("사용자 재료: {}", userIngredients);
+            log.info("레시피 재료: {}", recipeIngredients);
+            
+            // 로컬 규칙(정규화·동의어·대체 사전)과 전역 재료 쌍 판정 캐시로 먼저 분류
+            IngredientMatcher.Resolution resolution = ingredientMatcher.resolve(recipeIngredients, userIngredients);
+            List<String> unresolved = resolution.getUnresolved();
+            if (unresolved.isEmpty()) {
+                return Mono.just(new RecipeResponse.IngredientMatchingRes(recipe.getId(), recipe.getTitle(),
+                        resolution.getMatch(), resolution.getMismatch(), resolution.getReplaceable()));
+            }
+            log.info("AI 판단 대상 재료: {}", unresolved);
+            
+            // 사용자 재료 Set 생성 (replaceable 검증용)
+            Set<String> normUserSet = userIngredients.stream()
+                    .filter(s -> s != null)
+                    .map(s -> s.trim().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toSet());
+            
+            // 남은 재료만 AI 분석 요청
+            return analyzeIngredientsWithAI(userIngredients, unresolved)
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(aiAnalysis -> {
+                        log.info("AI 분석 결과: {}", aiAnalysis);
+                        RecipeResponse.IngredientMatchingRes aiResult = parseAIAnalysis(recipe, unresolved, aiAnalysis, normUserSet);
+                        
+                        // 재료 쌍 판정을 전역 캐시에 저장 (fallback 결과는 저장하지 않음)
+                        if (!isFallbackAIResult(aiAnalysis, unresolved)) {
+                            ingredientMatcher.recordVerdicts(aiResult.getReplaceable(), aiResult.getMismatch(), userIngredients);
+                        } else {
+                            log.info("AI fallback 결과는 캐시하지 않습니다. recipeId={}", recipeId);
+                        }
+                        
+                        return mergeMatchingResults(recipe, resolution, aiResult);
+                    });
+        }).subscribeOn(Schedulers.boundedElastic());
     }
 
     @Override
@@ -358,53 +381,45 @@ public class RecipeServiceImpl implements RecipeService {
      * 레시피 재료 문자열을 파싱하여 개별 재료 목록으로 변환합니다.
      */
     private List<String> parseIngredients(String ingredients) {
-        if (ingredients == null || ingredients.isBlank()) {
-            return new ArrayList<>();
-        }
-        
-        // 쉼표, 줄바꿈, 세미콜론 등으로 구분된 재료들을 파싱
-        return List.of(ingredients.split("[,;\n]+"))
-                .stream()
-                .map(String::trim)
-                .filter(ingredient -> !ingredient.isBlank())
-                .collect(Collectors.toList());
+        // 쉼표, 줄바꿈, 세미콜론으로 구분된 재료들을 파싱 (recipe_ingredient 매핑과 동일한 구분자)
+        return IngredientSynonymDictionary.split(ingredients);
     }
 
     /**
      * AI를 사용하여 재료 매칭을 분석합니다.
+     * AI 호출이 실패하거나 응답이 비어 있으면 모든 재료를 mismatch로 둔 기본 JSON을 반환합니다.
+     */
+    private Mono<String> analyzeIngredientsWithAI(List<String> userIngredients, List<String> recipeIngredients) {
+        return Mono.fromCallable(() -> buildIngredientMatchingPrompt(userIngredients, recipeIngredients))
+                .flatMap(prompt -> callAI(prompt, recipeIngredients))
+                .filter(response -> !response.isBlank())
+                .switchIfEmpty(Mono.fromCallable(() -> buildFallbackAnalysis(recipeIngredients)))
+                .onErrorResume(e -> {
+                    log.error("AI 재료 매칭 분석 실패: {}", e.getMessage());
+                    return Mono.fromCallable(() -> buildFallbackAnalysis(recipeIngredients));
+                });
+    }
+
+    /**
+     * AI 실패 시 사용할 기본 분석 결과 JSON
      */
-    private String analyzeIngredientsWithAI(List<String> userIngredients, List<String> recipeIngredients) {
+    private String buildFallbackAnalysis(List<String> recipeIngredients) {
         try {
-            String prompt = buildIngredientMatchingPrompt(userIngredients, recipeIngredients);
-            String response = callAI(prompt);
-            if (response == null || response.isBlank()) {
-                Map<String, Object> fallback = new HashMap<>();
-                fallback.put("match", List.of());
-                fallback.put("mismatch", recipeIngredients);
-                fallback.put("replaceable", List.of());
-                return objectMapper.writeValueAsString(fallback);
-            }
-            return response;
-        } catch (Exception e) {
-            log.error("AI 재료 매칭 분석 실패: {}", e.getMessage());
-            // AI 실패 시 기본 JSON 형태로 반환
-            try {
-                Map<String, Object> fallback = new HashMap<>();
-                fallback.put("match", List.of());
-                fallback.put("mismatch", recipeIngredients);
-                fallback.put("replaceable", List.of());
-                return objectMapper.writeValueAsString(fallback);
-            } catch (Exception jsonException) {
-                log.error("JSON 생성 실패: {}", jsonException.getMessage());
-                // 최후의 수단으로 간단한 JSON 문자열 반환
-                return String.format("""
-                    {
-                        "match": [],
-                        "mismatch": ["%s"],
-                        "replaceable": []
-                    }
-                    """, String.join("\", \"", recipeIngredients));
-            }
+            Map<String, Object> fallback = new HashMap<>();
+            fallback.put("match", List.of());
+            fallback.put("mismatch", recipeIngredients);
+            fallback.put("replaceable", List.of());
+            return objectMapper.writeValueAsString(fallback);
+        } catch (Exception jsonException) {
+            log.error("JSON 생성 실패: {}", jsonException.getMessage());
+            // 최후의 수단으로 간단한 JSON 문자열 반환
+            return String.format("""
+                {
+                    "match": [],
+                    "mismatch": ["%s"],
+                    "replaceable": []
+                }
+                """, String.join("\", \"", recipeIngredients));
         }
     }
 
@@ -504,14 +519,35 @@ public class RecipeServiceImpl implements RecipeService {
     }
 
     /**
-     * AI 응답을 호출합니다.
+     * AI 응답을 호출합니다. (요청 스레드를 점유하지 않는 비동기 호출)
+     * 빠른 모델이 레시피 재료를 모두 분류하지 못하면 정확도 우선 모델로 다시 요청합니다.
      */
-    private String callAI(String prompt) {
+    private Mono<String> callAI(String prompt, List<String> recipeIngredients) {
+        return geminiClient.chatCascade("ingredient-matching", prompt, null,
+                        response -> isCompleteAnalysis(response, recipeIngredients), false)
+                // 단계별 시간 초과(OPENAI_API_TIMEOUT), 보호 장치 거절 등 이미 분류된 예외는 그대로 전달
+                .onErrorMap(e -> !(e instanceof BusinessException), e -> {
+                    log.error("AI 호출 실패", e); // 스택트레이스 포함 로깅
+                    return new BusinessException(ErrorCode.OPENAI_API_ERROR);
+                });
+    }
+
+    /**
+     * 레시피 재료 수만큼 match/mismatch/replaceable로 분류된 응답인지 판별 (재료명 표기 차이는 허용)
+     */
+    private boolean isCompleteAnalysis(String response, List<String> recipeIngredients) {
         try {
-            return geminiClient.chatAccurate(prompt).block(java.time.Duration.ofSeconds(15));
+            JsonNode root = objectMapper.readTree(extractJsonFromAIResponse(response));
+            if (!root.path("match").isArray() || !root.path("mismatch").isArray() || !root.path("replaceable").isArray()) {
+                return false;
+            }
+            Set<String> classified = new HashSet<>();
+            root.get("match").forEach(n -> classified.add(n.asText()));
+            root.get("mismatch").forEach(n -> classified.add(n.asText()));
+            root.get("replaceable").forEach(n -> classified.add(n.path("recipeIngredient").asText()));
+            return classified.size() >= new HashSet<>(recipeIngredients).size();
         } catch (Exception e) {
-            log.error("AI 호출 실패", e); // 스택트레이스 포함 로깅
-            throw new BusinessException(ErrorCode.OPENAI_API_ERROR);
+            return false;
         }
     }
 
@@ -537,14 +573,13 @@ public class RecipeServiceImpl implements RecipeService {
     /**
      * AI 분석 결과를 파싱합니다.
      */
-    private RecipeResponse.IngredientMatchingRes parseAIAnalysis(Recipe recipe, String aiAnalysis,
-                                                                 Set<String> userSet) {
+    private RecipeResponse.IngredientMatchingRes parseAIAnalysis(Recipe recipe, List<String> recipeIngredients,
+                                                                 String aiAnalysis, Set<String> userSet) {
         try {
             String jsonPart = extractJsonFromAIResponse(aiAnalysis);
             JsonNode root = objectMapper.readTree(jsonPart);
             
             // 레시피 재료 집합(정규화)
-            List<String> recipeIngredients = parseIngredients(recipe.getIngredients());
             Set<String> recipeSet = recipeIngredients.stream()
                     .filter(s -> s != null)
                     .map(s -> s.trim().toLowerCase(Locale.ROOT))
@@ -649,15 +684,28 @@ public class RecipeServiceImpl implements RecipeService {
         } catch (Exception e) {
             log.error("AI 분석 결과 파싱 실패: {}", e.getMessage());
             // analyzeIngredientsWithAI와 일관된 fallback 로직
-            List<String> fallbackMismatch = parseIngredients(recipe.getIngredients());
             return new RecipeResponse.IngredientMatchingRes(
-                recipe.getId(), recipe.getTitle(), List.of(), fallbackMismatch, List.of()
+                recipe.getId(), recipe.getTitle(), List.of(), new ArrayList<>(recipeIngredients), List.of()
             );
         }
     }
 
+    /**
+     * 로컬 매칭 결과와 남은 재료의 AI 분석 결과를 합칩니다.
+     */
+    private RecipeResponse.IngredientMatchingRes mergeMatchingResults(Recipe recipe, IngredientMatcher.Resolution resolution,
+                                                                      RecipeResponse.IngredientMatchingRes aiResult) {
+        List<String> match = new ArrayList<>(resolution.getMatch());
+        match.addAll(aiResult.getMatch());
+        List<String> mismatch = new ArrayList<>(resolution.getMismatch());
+        mismatch.addAll(aiResult.getMismatch());
+        List<RecipeResponse.ReplaceableIngredient> replaceable = new ArrayList<>(resolution.getReplaceable());
+        replaceable.addAll(aiResult.getReplaceable());
+        return new RecipeResponse.IngredientMatchingRes(recipe.getId(), recipe.getTitle(), match, mismatch, replaceable);
+    }
+
         /**
-     * 단순 문자열 매칭을 수행합니다.
+     * 정규 재료명 기준 단순 매칭을 수행합니다. (달걀/계란처럼 표기가 다른 같은 재료도 일치로 판단)
      */
     private RecipeResponse.IngredientMatchingRes performSimpleMatching(Recipe recipe, List<String> recipeIngredients, List<String> userIngredients) {
         List<String> match = new ArrayList<>();
@@ -665,11 +713,11 @@ public class RecipeServiceImpl implements RecipeService {
         
         Set<String> userSet = userIngredients.stream()
                 .filter(s -> s != null)
-                .map(s -> s.trim().toLowerCase(Locale.ROOT))
+                .map(IngredientSynonymDictionary::canonicalize)
                 .collect(Collectors.toSet());
         
         for (String recipeIngredient : recipeIngredients) {
-            String key = recipeIngredient == null ? "" : recipeIngredient.trim().toLowerCase(Locale.ROOT);
+            String key = IngredientSynonymDictionary.canonicalize(recipeIngredient);
             if (userSet.contains(key)) {
                 match.add(recipeIngredient);
             } else {
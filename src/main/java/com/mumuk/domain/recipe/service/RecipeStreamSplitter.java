@@ -0,0 +1,77 @@
+package com.mumuk.domain.recipe.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 AI 응답에서 레시피 JSON 객체를 하나씩 잘라내는 분리기
+ *
+ * {"recommendations": [{...}, {...}]} 형태의 응답이 청크 단위로 도착할 때,
+ * 배열 안의 레시피 객체(중첩 깊이 2에서 시작하는 객체)가 닫히는 즉시 해당 객체의 JSON 문자열을 반환합니다.
+ * 문자열 안의 괄호와 이스케이프는 무시하며, 코드블록 표시처럼 JSON 바깥의 텍스트는 건너뜁니다.
+ * 하나의 응답 스트림에만 사용해야 합니다 (스레드 안전하지 않음).
+ */
+final class RecipeStreamSplitter {
+
+    /** 루트 객체 → recommendations 배열 → 레시피 객체 */
+    private static final int RECIPE_DEPTH = 2;
+
+    private final StringBuilder buffer = new StringBuilder();
+    private int scanned;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private int objectStart = -1;
+
+    /**
+     * 청크를 추가하고, 이번 청크로 완성된 레시피 객체 JSON 목록 반환
+     */
+    List<String> feed(String chunk) {
+        buffer.append(chunk);
+        List<String> completed = new ArrayList<>();
+
+        for (; scanned < buffer.length(); scanned++) {
+            char c = buffer.charAt(scanned);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            switch (c) {
+                case '"' -> inString = depth > 0;
+                case '{', '[' -> {
+                    if (c == '{' && depth == RECIPE_DEPTH) {
+                        objectStart = scanned;
+                    }
+                    depth++;
+                }
+                case '}', ']' -> {
+                    if (depth > 0) {
+                        depth--;
+                    }
+                    if (c == '}' && depth == RECIPE_DEPTH && objectStart >= 0) {
+                        completed.add(buffer.substring(objectStart, scanned + 1));
+                        objectStart = -1;
+                    }
+                }
+                default -> { }
+            }
+        }
+
+        // 완성된 객체까지 버려서 버퍼가 응답 전체 크기로 커지지 않도록 함
+        int keepFrom = objectStart >= 0 ? objectStart : scanned;
+        if (keepFrom > 0) {
+            buffer.delete(0, keepFrom);
+            scanned -= keepFrom;
+            if (objectStart >= 0) {
+                objectStart = 0;
+            }
+        }
+        return completed;
+    }
+}
@@ -0,0 +1,247 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.recipe.entity.Recipe;
+import com.mumuk.domain.recipe.event.RecipeChangedEvent;
+import com.mumuk.domain.recipe.repository.RecipeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 레시피 제목 블룸 필터 (인메모리)
+ *
+ * 전체 레시피 제목(소문자)을 블룸 필터로 보관해, 포함되지 않은 제목은 Redis ZSet/DB 조회 없이 "새 제목"으로 판단합니다.
+ * 포함 가능성이 있는 제목만 기존 방식(Redis ZSCORE → DB)으로 확인하므로, 오탐은 조회 한 번이 늘어날 뿐 결과는 같습니다.
+ * 저장된 레시피는 RecipeChangedEvent로 추가하고 Redis 채널로 다른 인스턴스에도 알리며,
+ * 삭제를 반영하고 포화를 막기 위해 주기적으로 DB 전체 제목으로 다시 만듭니다.
+ * 구성 전에는 모든 제목을 "포함 가능"으로 답합니다.
+ */
+@Slf4j
+@Component
+public class RecipeTitleBloomFilter implements MessageListener {
+
+    /** 인스턴스 간 제목 추가 알림 채널 (메시지: 줄바꿈으로 구분한 제목) */
+    static final String CHANNEL = "recipe-title-bloom";
+
+    private final RecipeRepository recipeRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    /** 예상 제목 수 (실제 제목 수의 2배가 더 크면 그 값으로 구성) */
+    private final long expectedInsertions;
+
+    /** 목표 오탐률 */
+    private final double falsePositiveRate;
+
+    /** 현재 조회에 사용되는 필터 (구성 전에는 null) */
+    private volatile Bits current;
+
+    /** 재구성 중인 필터 (재구성 중 추가된 제목이 누락되지 않도록 함께 기록) */
+    private volatile Bits rebuilding;
+
+    public RecipeTitleBloomFilter(RecipeRepository recipeRepository, StringRedisTemplate redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry,
+                                  @Value("${app.recipe-title-bloom.expected-insertions:100000}") long expectedInsertions,
+                                  @Value("${app.recipe-title-bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.recipeRepository = recipeRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.expectedInsertions = Math.max(1000, expectedInsertions);
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 전체 레시피 제목으로 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 삭제된 제목 정리와 누락분 보정을 위한 주기적 재구성 (30분)
+     */
+    @Scheduled(fixedDelay = 1_800_000, initialDelay = 1_800_000)
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            long count = recipeRepository.count();
+            Bits building = Bits.create(Math.max(expectedInsertions, count * 2), falsePositiveRate);
+            rebuilding = building;
+            for (String title : recipeRepository.findAllTitles()) {
+                building.put(key(title));
+            }
+            current = building;
+            rebuilding = null;
+            log.info("레시피 제목 블룸 필터 구성 완료 - 제목 {}개, {}비트, 해시 {}개, {}ms",
+                    building.insertions.get(), building.bitSize, building.hashCount, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            rebuilding = null;
+            log.error("레시피 제목 블룸 필터 구성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 레시피 제목 추가 후 다른 인스턴스에 알림 (트랜잭션 밖에서 발행된 이벤트도 처리)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        List<String> titles = new ArrayList<>();
+        for (Recipe recipe : event.getSavedRecipes()) {
+            if (recipe.getTitle() != null) {
+                put(recipe.getTitle());
+                titles.add(recipe.getTitle());
+            }
+        }
+        if (titles.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join("\n", titles));
+        } catch (Exception e) {
+            // 다른 인스턴스는 다음 재구성 때 반영
+            log.warn("레시피 제목 블룸 필터 동기화 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 저장된 제목 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String title : body.split("\n")) {
+            if (!title.isEmpty()) {
+                put(title);
+            }
+        }
+    }
+
+    /**
+     * 제목이 이미 존재할 가능성 (false면 확실히 새 제목)
+     */
+    public boolean mightContain(String title) {
+        Bits bits = current;
+        boolean maybe = bits == null || title == null || bits.mightContain(key(title));
+        Counter.builder("recipe.title-bloom.lookup")
+                .description("레시피 제목 블룸 필터 조회 결과 (absent면 Redis/DB 조회 생략)")
+                .tag("result", maybe ? "maybe" : "absent")
+                .register(meterRegistry)
+                .increment();
+        return maybe;
+    }
+
+    private void put(String title) {
+        long key = key(title);
+        // 재구성 중인 필터를 먼저 읽어야 교체 직후 추가분이 새 필터에서 누락되지 않음
+        Bits building = rebuilding;
+        if (building != null) {
+            building.put(key);
+        }
+        Bits bits = current;
+        if (bits != null && bits != building) {
+            bits.put(key);
+        }
+    }
+
+    /**
+     * 제목 해시 (공백 정리, 소문자 기준 64비트 FNV-1a + murmur3 finalizer)
+     */
+    private static long key(String title) {
+        byte[] bytes = title.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * 비트 배열과 해시 함수 수 (k개 위치는 64비트 해시를 둘로 나눠 h1 + i * h2로 계산)
+     */
+    private static final class Bits {
+        final AtomicLongArray words;
+        final long bitSize;
+        final int hashCount;
+        final AtomicLong insertions = new AtomicLong();
+
+        private Bits(long bitSize, int hashCount) {
+            this.words = new AtomicLongArray((int) ((bitSize + 63) / 64));
+            this.bitSize = bitSize;
+            this.hashCount = hashCount;
+        }
+
+        static Bits create(long expectedInsertions, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long bitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+            int hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+            return new Bits(bitSize, hashCount);
+        }
+
+        void put(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = index(h1 + i * h2);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long prev;
+                do {
+                    prev = words.get(word);
+                    if ((prev & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, prev, prev | mask));
+            }
+            insertions.incrementAndGet();
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = index(h1 + i * h2);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long index(int combined) {
+            return (combined & Integer.MAX_VALUE) % bitSize;
+        }
+    }
+}
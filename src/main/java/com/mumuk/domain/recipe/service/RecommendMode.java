@@ -0,0 +1,19 @@
+package com.mumuk.domain.recipe.service;
+
+import lombok.Getter;
+
+/**
+ * 야간 사전 계산 대상 추천 모드
+ */
+@Getter
+public enum RecommendMode {
+    INGREDIENT("ingredient"),
+    HEALTH_GOAL("health-goal"),
+    COMBINED("combined");
+
+    private final String key;
+
+    RecommendMode(String key) {
+        this.key = key;
+    }
+}
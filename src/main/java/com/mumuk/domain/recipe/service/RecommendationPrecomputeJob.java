@@ -0,0 +1,170 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.user.repository.UserRepository;
+import com.mumuk.domain.user.service.UserProfileCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 활성 사용자 추천 목록 야간 사전 계산
+ *
+ * 활성 사용자를 id 기준 키셋 페이지네이션으로 chunk-size명씩 읽고, chunk 안에서는 최대 parallelism명을 동시에 계산합니다.
+ * 요청 시 AI 호출이 필요한 모드만 계산해 PrecomputedRecommendationStore에 저장하며, 실패한 사용자·모드는 요청 시 실시간으로 계산됩니다.
+ * 실행은 스케줄러 스레드를 점유하지 않도록 boundedElastic에서 수행하고, 이전 실행이 끝나지 않았으면 건너뜁니다.
+ * Redis 잠금으로 여러 인스턴스 중 하나만 수행합니다.
+ */
+@Slf4j
+@Component
+public class RecommendationPrecomputeJob {
+
+    private static final String LOCK_KEY = "recommend-precompute:lock";
+
+    /** 사전 계산 잠금 유효기간 (비정상 종료되어도 다음 날 실행은 막지 않도록) */
+    private static final Duration LOCK_TTL = Duration.ofHours(6);
+
+    private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final RecipeRecommendService recommendService;
+    private final PrecomputedRecommendationStore precomputedStore;
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redisTemplate;
+
+    /** 한 번에 읽을 사용자 수 */
+    private final int chunkSize;
+
+    /** 동시에 계산할 사용자 수 (Gemini 호출량 제한) */
+    private final int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public RecommendationPrecomputeJob(UserRepository userRepository, UserProfileCache userProfileCache,
+                                       RecipeRecommendService recommendService,
+                                       PrecomputedRecommendationStore precomputedStore, MeterRegistry meterRegistry,
+                                       StringRedisTemplate redisTemplate,
+                                       @Value("${app.recommend.precompute.chunk-size:200}") int chunkSize,
+                                       @Value("${app.recommend.precompute.parallelism:2}") int parallelism) {
+        this.userRepository = userRepository;
+        this.userProfileCache = userProfileCache;
+        this.recommendService = recommendService;
+        this.precomputedStore = precomputedStore;
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = redisTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Scheduled(cron = "${app.recommend.precompute.cron:0 30 3 * * *}")
+    public void schedulePrecompute() {
+        if (!precomputedStore.isEnabled()) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("추천 사전 계산이 아직 진행 중이어서 이번 실행은 건너뜀");
+            return;
+        }
+        if (!tryLock()) {
+            log.info("추천 사전 계산은 다른 인스턴스에서 수행 중이어서 건너뜀");
+            running.set(false);
+            return;
+        }
+        Mono.fromRunnable(this::precomputeAll)
+                .subscribeOn(Schedulers.boundedElastic())
+                .doFinally(signal -> {
+                    unlock();
+                    running.set(false);
+                })
+                .subscribe(null, e -> log.error("추천 사전 계산 중단: {}", e.getMessage(), e));
+    }
+
+    private void precomputeAll() {
+        long start = System.currentTimeMillis();
+        AtomicInteger users = new AtomicInteger();
+        AtomicInteger computed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        long lastId = 0L;
+        while (true) {
+            List<Long> userIds = userRepository.findActiveUserIdsAfter(lastId, PageRequest.of(0, chunkSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            Flux.fromIterable(userIds)
+                    .flatMap(userId -> precomputeUser(userId, computed, failed), parallelism)
+                    .blockLast();
+            users.addAndGet(userIds.size());
+            lastId = userIds.get(userIds.size() - 1);
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("추천 사전 계산 완료 - 사용자: {}, 계산: {}, 실패: {}, 소요: {}ms",
+                users.get(), computed.get(), failed.get(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 사용자 한 명의 모드별 추천 목록 계산 (AI 호출이 필요한 모드만 순서대로, 실패한 모드만 건너뜀)
+     */
+    private Mono<Void> precomputeUser(Long userId, AtomicInteger computed, AtomicInteger failed) {
+        return Mono.fromCallable(() -> userProfileCache.get(userId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(profile -> Flux.fromArray(RecommendMode.values())
+                        .filter(mode -> recommendService.shouldPrecompute(mode, profile))
+                        .concatMap(mode -> recommendService.precomputeRecommendations(profile, mode)
+                                .doOnSuccess(done -> {
+                                    computed.incrementAndGet();
+                                    count(mode, "computed");
+                                })
+                                .onErrorResume(e -> {
+                                    failed.incrementAndGet();
+                                    count(mode, "failed");
+                                    log.debug("추천 사전 계산 실패 - userId: {}, mode: {}, {}", userId, mode.getKey(), e.getMessage());
+                                    return Mono.empty();
+                                })))
+                .onErrorResume(e -> {
+                    log.warn("추천 사전 계산용 프로필 조회 실패 - userId: {}, {}", userId, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private boolean tryLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL));
+        } catch (Exception e) {
+            log.warn("추천 사전 계산 잠금 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void unlock() {
+        try {
+            redisTemplate.delete(LOCK_KEY);
+        } catch (Exception e) {
+            log.warn("추천 사전 계산 잠금 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private void count(RecommendMode mode, String result) {
+        Counter.builder("recommend.precompute")
+                .description("모드별 추천 사전 계산 결과")
+                .tag("mode", mode.getKey())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -35,13 +35,23 @@ public class SearchController {
         this.recommendedRecipeService = recommendedRecipeService;
     }
 
-    @Operation(summary = "레시피 검색결과 목록 조회")
+    @Operation(summary = "레시피 검색결과 목록 조회", description = "키워드 유사도 상위 50개. 이어서 조회하려면 /recipes 사용")
     @GetMapping("/search")
     public Response<List<UserRecipeResponse.RecipeSummaryDTO>> showResultList(@AuthUser Long userId, @RequestParam String keyword) {
         List<UserRecipeResponse.RecipeSummaryDTO> resultList= searchService.searchRecipeList(userId, keyword);
         return Response.ok(ResultCode.SEARCH_RECIPE_OK, resultList);
     }
 
+    @Operation(summary = "레시피 검색결과 페이지 조회",
+            description = "키워드 유사도 순으로 size개(기본 20, 최대 50)씩 조회. 다음 페이지는 응답의 nextCursor를 cursor로 전달")
+    @GetMapping("/recipes")
+    public Response<SearchResponse.RecipeSearchRes> showResultPage(@AuthUser Long userId, @RequestParam String keyword,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(required = false) Integer size) {
+        SearchResponse.RecipeSearchRes resultPage = searchService.searchRecipes(userId, keyword, cursor, size);
+        return Response.ok(ResultCode.SEARCH_RECIPE_OK, resultPage);
+    }
+
     @Operation(summary = "레시피 검색결과 세부 조회" ,description="사용 x, user-recipe 컨트롤러의 레시피 상세 조회로 통합")
     @GetMapping("/recipes/{recipeId}")
     public Response<RecipeResponse.DetailRes> showDetailResult(@PathVariable Long recipeId) {
@@ -1,5 +1,6 @@
 package com.mumuk.domain.search.dto.response;
 
+import com.mumuk.domain.user.dto.response.UserRecipeResponse;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -29,5 +30,13 @@ public class SearchResponse {
         private boolean isLiked;
     }
 
+    @Getter
+    @AllArgsConstructor
+    public static class RecipeSearchRes {
+        private List<UserRecipeResponse.RecipeSummaryDTO> recipes;
+        private String nextCursor;      // 다음 페이지 요청 시 전달 (마지막 페이지면 null)
+        private boolean hasNext;
+    }
+
 
 }
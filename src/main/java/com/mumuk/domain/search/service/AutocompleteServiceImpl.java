@@ -18,10 +18,13 @@ import java.util.Set;
 public class AutocompleteServiceImpl implements AutocompleteService {
 
     private static final String ZSET_KEY = "recipetitles";
+    private static final int SUGGESTION_LIMIT = 5;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RecipeTitleAutocompleteIndex autocompleteIndex;
 
-    public AutocompleteServiceImpl(RedisTemplate<String, String> redisTemplate) {
+    public AutocompleteServiceImpl(RedisTemplate<String, String> redisTemplate, RecipeTitleAutocompleteIndex autocompleteIndex) {
         this.redisTemplate = redisTemplate;
+        this.autocompleteIndex = autocompleteIndex;
     }
 
     /*
@@ -37,12 +40,18 @@ public class AutocompleteServiceImpl implements AutocompleteService {
             throw new GlobalException(ErrorCode.INVALID_INPUT);
         }
 
-        // 사용자가 입력한 단어로 시작되는 저장단어 검색
+        // 인메모리 색인에서 인기도 순으로 조회 (음절 접두어, 초성 포함)
+        List<String> suggestions = autocompleteIndex.suggest(userInput, SUGGESTION_LIMIT);
+        if (suggestions != null) {
+            return suggestions;
+        }
+
+        // 색인 구성 전에는 Redis에서 사용자가 입력한 단어로 시작되는 저장단어 검색
         // ufff0은 검색 범위를 지정하기 위한 단어임. 연어를 검색했을 때, 연어, 연어+ 회, 연어+ 구이, 연어...+ufff0 까지 검색할 수 있게 하는 역할
         Range<String> range = Range.closed(userInput, userInput + "\ufff0");
 
         // 정렬 결과를 5개만 가져옴
-        Set<String> results=zSetOperations.rangeByLex(ZSET_KEY, range, Limit.limit().count(5));
+        Set<String> results=zSetOperations.rangeByLex(ZSET_KEY, range, Limit.limit().count(SUGGESTION_LIMIT));
 
         if (results.isEmpty()) {
             return Collections.emptyList();
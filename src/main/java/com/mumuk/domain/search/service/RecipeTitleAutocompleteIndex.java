@@ -0,0 +1,375 @@
+package com.mumuk.domain.search.service;
+
+import com.mumuk.domain.recipe.entity.Recipe;
+import com.mumuk.domain.recipe.event.RecipeChangedEvent;
+import com.mumuk.domain.recipe.repository.RecipeRepository;
+import com.mumuk.domain.search.service.RecipeTitleTrie.CharRange;
+import com.mumuk.domain.search.service.RecipeTitleTrie.Suggestion;
+import com.mumuk.domain.user.repository.UserRecipeRepository;
+import com.mumuk.global.util.HangulUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 레시피 제목 자동완성 색인 (인메모리)
+ *
+ * 전체 레시피 제목을 음절 트라이와 초성 트라이(RecipeTitleTrie)로 보관해, 입력마다 Redis를 거치지 않고 인기도 순 후보를 반환합니다.
+ * 인기도는 찜 수와 최근 두 시간 검색 수의 합이며, 입력 중인 마지막 음절은 이어서 칠 수 있는 음절까지 넓혀 찾습니다. ("김ㅊ", "김치찌" 등)
+ * 자음만 입력하면 초성으로 찾습니다. ("ㄱㅊ" → 김치볶음밥)
+ * 저장·삭제된 레시피는 RecipeChangedEvent로 반영하고 Redis 채널로 다른 인스턴스에도 알리며,
+ * 인기도 갱신과 정리를 위해 주기적으로 다시 만듭니다. 구성 전에는 null을 반환해 호출 측이 Redis 조회로 대체합니다.
+ */
+@Slf4j
+@Component
+public class RecipeTitleAutocompleteIndex implements MessageListener {
+
+    /** 인스턴스 간 변경 알림 채널 (메시지: 줄마다 "S\t{id}\t{제목}" 또는 "D\t{id}") */
+    static final String CHANNEL = "recipe-autocomplete";
+
+    private static final String SAVED = "S";
+    private static final String DELETED = "D";
+
+    /** 노드별 보관 후보 수 (삭제·이름 변경으로 걸러지는 후보를 감안해 응답 수보다 넉넉하게) */
+    private static final int NODE_CAPACITY = 10;
+
+    /** 이어서 입력하면 합쳐지는 중성 → 합쳐진 결과의 마지막 중성 번호 (ㅗ→ㅘ·ㅙ·ㅚ, ㅘ→ㅙ, ㅜ→ㅝ·ㅞ·ㅟ, ㅝ→ㅞ, ㅡ→ㅢ) */
+    private static final Map<Integer, Integer> COMPOSABLE_MEDIALS = Map.of(8, 11, 9, 10, 13, 16, 14, 15, 18, 19);
+
+    private final RecipeRepository recipeRepository;
+    private final UserRecipeRepository userRecipeRepository;
+    private final TrendSearchService trendSearchService;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    /** 현재 조회에 사용되는 색인 (구성 전에는 null) */
+    private volatile Snapshot current;
+
+    /** 재구성 중인 색인 (재구성 중 변경분이 누락되지 않도록 함께 반영) */
+    private volatile Snapshot rebuilding;
+
+    public RecipeTitleAutocompleteIndex(RecipeRepository recipeRepository, UserRecipeRepository userRecipeRepository,
+                                        TrendSearchService trendSearchService, StringRedisTemplate redisTemplate,
+                                        RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry) {
+        this.recipeRepository = recipeRepository;
+        this.userRecipeRepository = userRecipeRepository;
+        this.trendSearchService = trendSearchService;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 전체 레시피 제목으로 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 인기도 갱신과 삭제·이름 변경 정리를 위한 주기적 재구성
+     */
+    @Scheduled(fixedDelayString = "${app.autocomplete.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.autocomplete.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            Map<Long, Long> weights = loadWeights();
+            Snapshot building = new Snapshot();
+            rebuilding = building;
+            for (Object[] row : recipeRepository.findAllIdsWithTitles()) {
+                Long recipeId = ((Number) row[0]).longValue();
+                String title = (String) row[1];
+                if (title != null) {
+                    building.load(recipeId, title, weights.getOrDefault(recipeId, 0L));
+                }
+            }
+            current = building;
+            rebuilding = null;
+            log.info("레시피 자동완성 색인 구성 완료 - 제목 {}개, {}ms",
+                    building.titles.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            rebuilding = null;
+            log.error("레시피 자동완성 색인 구성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장·삭제된 레시피 반영 후 다른 인스턴스에 알림 (트랜잭션 밖에서 발행된 이벤트도 처리)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        List<String> lines = new ArrayList<>();
+        for (Recipe recipe : event.getSavedRecipes()) {
+            if (recipe.getId() != null && recipe.getTitle() != null) {
+                String title = recipe.getTitle().replaceAll("[\\t\\r\\n]+", " ");
+                apply(snapshot -> snapshot.put(recipe.getId(), title));
+                lines.add(SAVED + "\t" + recipe.getId() + "\t" + title);
+            }
+        }
+        for (Long recipeId : event.getDeletedRecipeIds()) {
+            apply(snapshot -> snapshot.remove(recipeId));
+            lines.add(DELETED + "\t" + recipeId);
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join("\n", lines));
+        } catch (Exception e) {
+            // 다른 인스턴스는 다음 재구성 때 반영
+            log.warn("레시피 자동완성 색인 동기화 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 변경분 반영 (자기 메시지도 다시 받지만 같은 내용이라 결과는 같음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String line : body.split("\n")) {
+            String[] parts = line.split("\t", 3);
+            try {
+                if (SAVED.equals(parts[0]) && parts.length == 3) {
+                    Long recipeId = Long.valueOf(parts[1]);
+                    apply(snapshot -> snapshot.put(recipeId, parts[2]));
+                } else if (DELETED.equals(parts[0]) && parts.length >= 2) {
+                    Long recipeId = Long.valueOf(parts[1]);
+                    apply(snapshot -> snapshot.remove(recipeId));
+                }
+            } catch (NumberFormatException e) {
+                log.warn("레시피 자동완성 동기화 메시지 형식 오류: {}", line);
+            }
+        }
+    }
+
+    /**
+     * 입력으로 시작하는 레시피 제목을 인기도 순으로 최대 limit개 반환 (색인 구성 전이면 null)
+     */
+    public List<String> suggest(String input, int limit) {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            return null;
+        }
+        String key = normalize(input);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        boolean chosung = isChosungQuery(key);
+        List<Suggestion> candidates = chosung
+                ? snapshot.chosung.search(List.of(exactPattern(key)))
+                : snapshot.syllables.search(syllablePatterns(key));
+        Counter.builder("search.autocomplete.lookup")
+                .description("레시피 자동완성 조회 방식 (syllable: 음절 접두어, chosung: 초성)")
+                .tag("mode", chosung ? "chosung" : "syllable")
+                .register(meterRegistry)
+                .increment();
+
+        // 삭제되었거나 제목이 바뀐 레시피의 이전 후보는 제외
+        candidates.removeIf(suggestion -> !suggestion.getTitle().equals(snapshot.titles.get(suggestion.getRecipeId())));
+        candidates.sort(RecipeTitleTrie.ORDER);
+        Set<String> titles = new LinkedHashSet<>();
+        for (Suggestion suggestion : candidates) {
+            if (titles.size() >= limit) {
+                break;
+            }
+            titles.add(suggestion.getTitle());
+        }
+        return new ArrayList<>(titles);
+    }
+
+    /**
+     * 인기도 = 찜 수 + 최근 두 시간 검색 수
+     */
+    private Map<Long, Long> loadWeights() {
+        Map<Long, Long> weights = new HashMap<>();
+        for (Object[] row : userRecipeRepository.countLikesByRecipe()) {
+            weights.merge(((Number) row[0]).longValue(), ((Number) row[1]).longValue(), Long::sum);
+        }
+        try {
+            trendSearchService.getRecentSearchCounts().forEach((recipeId, count) -> weights.merge(recipeId, count, Long::sum));
+        } catch (Exception e) {
+            log.warn("레시피 자동완성 검색 수 조회 실패, 찜 수만 사용: {}", e.getMessage());
+        }
+        return weights;
+    }
+
+    private void apply(Consumer<Snapshot> change) {
+        // 재구성 중인 색인을 먼저 읽어야 교체 직후 변경분이 새 색인에서 누락되지 않음
+        Snapshot building = rebuilding;
+        if (building != null) {
+            change.accept(building);
+        }
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot != building) {
+            change.accept(snapshot);
+        }
+    }
+
+    /**
+     * 색인 키 (NFC 정규화, 소문자, 공백 제거)
+     * 초성 입력(ㄱ 등 호환 자모)이 NFKC에서는 조합용 자모로 바뀌므로 NFC를 사용합니다.
+     */
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    /** 한글이 모두 자음인 입력 ("ㄱㅊ", "ㅂㄱㅂ" 등) */
+    private static boolean isChosungQuery(String key) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (HangulUtil.isSyllable(c)) {
+                return false;
+            }
+            hasConsonant |= HangulUtil.isConsonant(c);
+        }
+        return hasConsonant;
+    }
+
+    private static List<CharRange> exactPattern(String text) {
+        List<CharRange> pattern = new ArrayList<>(text.length() + 1);
+        for (int i = 0; i < text.length(); i++) {
+            pattern.add(CharRange.of(text.charAt(i)));
+        }
+        return pattern;
+    }
+
+    /**
+     * 마지막 글자를 이어서 입력할 수 있는 음절로 넓힌 접두어 패턴
+     * - 자음: 그 자음을 초성으로 하는 음절 ("김ㅊ" → 김치, 김초밥)
+     * - 받침 없는 음절: 같은 초성·중성(이어서 합쳐지는 중성 포함)의 모든 음절 ("기" → 김, "고" → 곰, 과)
+     * - 받침 있는 음절: 그대로, 겹받침으로 이어지는 음절, 받침이 다음 음절 초성으로 넘어가는 경우 ("김" → 김, 기름 / "달" → 닭)
+     */
+    private static List<List<CharRange>> syllablePatterns(String key) {
+        List<CharRange> prefix = exactPattern(key.substring(0, key.length() - 1));
+        char last = key.charAt(key.length() - 1);
+        List<List<CharRange>> patterns = new ArrayList<>();
+        patterns.add(append(prefix, CharRange.of(last)));
+
+        if (HangulUtil.isConsonant(last)) {
+            int initial = HangulUtil.initialIndex(last);
+            if (initial >= 0) {
+                patterns.add(append(prefix, initialRange(initial)));
+            }
+            return patterns;
+        }
+        if (!HangulUtil.isSyllable(last)) {
+            return patterns;
+        }
+
+        int initial = HangulUtil.initialOf(last);
+        int medial = HangulUtil.medialOf(last);
+        int fin = HangulUtil.finalOf(last);
+        if (fin == 0) {
+            int lastMedial = COMPOSABLE_MEDIALS.getOrDefault(medial, medial);
+            patterns.set(0, append(prefix, CharRange.of(HangulUtil.compose(initial, medial, 0),
+                    HangulUtil.compose(initial, lastMedial, HangulUtil.FINAL_COUNT - 1))));
+            return patterns;
+        }
+
+        String finalParts = HangulUtil.finalParts(fin);
+        if (finalParts.length() == 1) {
+            // 겹받침으로 이어지는 음절 (ㄹ → ㄺ, ㄻ 등)
+            for (int compound = 1; compound < HangulUtil.FINAL_COUNT; compound++) {
+                String parts = HangulUtil.finalParts(compound);
+                if (parts.length() == 2 && parts.charAt(0) == finalParts.charAt(0)) {
+                    patterns.add(append(prefix, CharRange.of(HangulUtil.compose(initial, medial, compound))));
+                }
+            }
+        }
+        // 받침(겹받침이면 뒤 자음)이 다음 음절 초성으로 넘어가는 경우
+        int movedInitial = HangulUtil.initialIndex(finalParts.charAt(finalParts.length() - 1));
+        int remainingFinal = finalParts.length() == 2 ? HangulUtil.finalIndex(finalParts.substring(0, 1)) : 0;
+        if (movedInitial >= 0 && remainingFinal >= 0) {
+            List<CharRange> moved = append(prefix, CharRange.of(HangulUtil.compose(initial, medial, remainingFinal)));
+            patterns.add(append(moved, initialRange(movedInitial)));
+        }
+        return patterns;
+    }
+
+    private static CharRange initialRange(int initial) {
+        return CharRange.of(HangulUtil.compose(initial, 0, 0),
+                HangulUtil.compose(initial, HangulUtil.MEDIAL_COUNT - 1, HangulUtil.FINAL_COUNT - 1));
+    }
+
+    private static List<CharRange> append(List<CharRange> prefix, CharRange range) {
+        List<CharRange> pattern = new ArrayList<>(prefix.size() + 1);
+        pattern.addAll(prefix);
+        pattern.add(range);
+        return pattern;
+    }
+
+    /**
+     * 음절·초성 트라이와 현재 제목 (재구성 시 통째로 교체)
+     */
+    private static final class Snapshot {
+        final RecipeTitleTrie syllables = new RecipeTitleTrie(NODE_CAPACITY);
+        final RecipeTitleTrie chosung = new RecipeTitleTrie(NODE_CAPACITY);
+        final Map<Long, String> titles = new ConcurrentHashMap<>();
+        final Map<Long, Long> weights = new ConcurrentHashMap<>();
+
+        /** 재구성 중 삭제 알림을 받은 레시피 (DB 조회 결과에 남아 있어도 다시 넣지 않음) */
+        final Set<Long> removed = ConcurrentHashMap.newKeySet();
+
+        /**
+         * 재구성 시 DB 제목 추가 (재구성 중 이벤트로 먼저 반영된 최신 제목은 유지)
+         */
+        void load(Long recipeId, String title, long weight) {
+            if (removed.contains(recipeId) || titles.putIfAbsent(recipeId, title) != null) {
+                return;
+            }
+            weights.put(recipeId, weight);
+            insert(recipeId, title, weight);
+        }
+
+        void put(Long recipeId, String title) {
+            removed.remove(recipeId);
+            titles.put(recipeId, title);
+            insert(recipeId, title, weights.getOrDefault(recipeId, 0L));
+        }
+
+        void remove(Long recipeId) {
+            removed.add(recipeId);
+            titles.remove(recipeId);
+        }
+
+        private void insert(Long recipeId, String title, long weight) {
+            String key = normalize(title);
+            Suggestion suggestion = new Suggestion(recipeId, title, weight);
+            syllables.insert(key, suggestion);
+            chosung.insert(HangulUtil.toChosung(key), suggestion);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.mumuk.domain.search.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 레시피 제목 압축 트라이 (자동완성용)
+ *
+ * 공통 접두어를 한 간선으로 합친 트라이로, 노드마다 하위 제목 중 인기도 상위 capacity개를 미리 보관해
+ * 접두어 노드에 도달하면 하위 트리를 순회하지 않고 바로 후보를 얻습니다.
+ * 접두어는 글자마다 허용 범위(CharRange)로 지정할 수 있어 입력 중인 마지막 한글 음절을 여러 음절로 확장해 찾습니다.
+ * 추가만 지원하며(삭제·이름 변경은 호출 측에서 걸러내고 주기적 재구성으로 정리), 추가는 쓰기 잠금, 조회는 읽기 잠금으로 보호합니다.
+ */
+final class RecipeTitleTrie {
+
+    /** 인기도 높은 순, 같으면 짧은 제목, 가나다 순 */
+    static final Comparator<Suggestion> ORDER = Comparator.comparingLong(Suggestion::getWeight).reversed()
+            .thenComparingInt(suggestion -> suggestion.getTitle().length())
+            .thenComparing(Suggestion::getTitle);
+
+    /** 노드별 보관 후보 수 */
+    private final int capacity;
+
+    private final Node root = new Node("");
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    RecipeTitleTrie(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void insert(String key, Suggestion suggestion) {
+        if (key.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            node.offer(suggestion, capacity);
+            int i = 0;
+            while (i < key.length()) {
+                Node child = node.child(key.charAt(i));
+                if (child == null) {
+                    Node leaf = new Node(key.substring(i));
+                    leaf.offer(suggestion, capacity);
+                    node.addChild(leaf);
+                    return;
+                }
+                int common = commonPrefixLength(child.label, key, i);
+                if (common < child.label.length()) {
+                    child = node.split(child, common);
+                }
+                child.offer(suggestion, capacity);
+                node = child;
+                i += common;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어 패턴 중 하나에 해당하는 노드들의 보관 후보 (중복 제거·정렬은 호출 측에서)
+     */
+    List<Suggestion> search(List<List<CharRange>> patterns) {
+        lock.readLock().lock();
+        try {
+            List<Node> matched = new ArrayList<>();
+            for (List<CharRange> pattern : patterns) {
+                if (!pattern.isEmpty()) {
+                    collect(root, 0, pattern, 0, matched);
+                }
+            }
+            List<Suggestion> suggestions = new ArrayList<>();
+            for (Node node : matched) {
+                Collections.addAll(suggestions, node.top);
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 패턴을 끝까지 따라간 노드 수집 (offset: 현재 노드 간선 라벨에서 이미 비교한 글자 수)
+     */
+    private static void collect(Node node, int offset, List<CharRange> pattern, int index, List<Node> matched) {
+        if (index == pattern.size()) {
+            matched.add(node);
+            return;
+        }
+        CharRange range = pattern.get(index);
+        if (offset < node.label.length()) {
+            if (range.contains(node.label.charAt(offset))) {
+                collect(node, offset + 1, pattern, index + 1, matched);
+            }
+            return;
+        }
+        for (int i = node.lowerBound(range.lo); i < node.keys.length && node.keys[i] <= range.hi; i++) {
+            collect(node.children[i], 1, pattern, index + 1, matched);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int from) {
+        int max = Math.min(label.length(), key.length() - from);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(from + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 노드 (자식은 간선 첫 글자 순으로 정렬된 배열)
+     */
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+        String label;
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        Suggestion[] top = NO_SUGGESTIONS;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char c) {
+            int i = lowerBound(c);
+            return i < keys.length && keys[i] == c ? children[i] : null;
+        }
+
+        int lowerBound(char c) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < c) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        void addChild(Node child) {
+            char c = child.label.charAt(0);
+            int i = lowerBound(c);
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            newKeys[i] = c;
+            newChildren[i] = child;
+            System.arraycopy(keys, i, newKeys, i + 1, keys.length - i);
+            System.arraycopy(children, i, newChildren, i + 1, children.length - i);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        /**
+         * 자식 간선을 length 글자에서 나눠 중간 노드를 만들고 반환 (중간 노드의 하위 트리는 기존 자식과 같으므로 후보도 그대로)
+         */
+        Node split(Node child, int length) {
+            Node middle = new Node(child.label.substring(0, length));
+            middle.top = child.top;
+            child.label = child.label.substring(length);
+            middle.addChild(child);
+            children[lowerBound(middle.label.charAt(0))] = middle;
+            return middle;
+        }
+
+        /**
+         * 후보 반영 (같은 레시피는 교체, 상위 capacity개만 유지)
+         */
+        void offer(Suggestion suggestion, int capacity) {
+            int existing = -1;
+            for (int i = 0; i < top.length; i++) {
+                if (top[i].getRecipeId() == suggestion.getRecipeId()) {
+                    if (top[i].getWeight() == suggestion.getWeight() && top[i].getTitle().equals(suggestion.getTitle())) {
+                        return;
+                    }
+                    existing = i;
+                    break;
+                }
+            }
+            if (existing < 0 && top.length >= capacity && ORDER.compare(suggestion, top[top.length - 1]) >= 0) {
+                return;
+            }
+            List<Suggestion> updated = new ArrayList<>(Arrays.asList(top));
+            if (existing >= 0) {
+                updated.remove(existing);
+            }
+            updated.add(suggestion);
+            updated.sort(ORDER);
+            top = updated.subList(0, Math.min(capacity, updated.size())).toArray(NO_SUGGESTIONS);
+        }
+    }
+
+    /**
+     * 자동완성 후보 (레시피 ID, 원래 제목, 인기도)
+     */
+    static final class Suggestion {
+        private final long recipeId;
+        private final String title;
+        private final long weight;
+
+        Suggestion(long recipeId, String title, long weight) {
+            this.recipeId = recipeId;
+            this.title = title;
+            this.weight = weight;
+        }
+
+        long getRecipeId() {
+            return recipeId;
+        }
+
+        String getTitle() {
+            return title;
+        }
+
+        long getWeight() {
+            return weight;
+        }
+    }
+
+    /**
+     * 접두어 한 글자에 허용하는 문자 범위
+     */
+    static final class CharRange {
+        private final char lo;
+        private final char hi;
+
+        private CharRange(char lo, char hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        static CharRange of(char c) {
+            return new CharRange(c, c);
+        }
+
+        static CharRange of(char lo, char hi) {
+            return new CharRange(lo, hi);
+        }
+
+        boolean contains(char c) {
+            return c >= lo && c <= hi;
+        }
+    }
+}
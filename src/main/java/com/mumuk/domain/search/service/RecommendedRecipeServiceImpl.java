@@ -3,23 +3,31 @@ package com.mumuk.domain.search.service;
 import com.mumuk.domain.recipe.entity.Recipe;
 import com.mumuk.domain.recipe.entity.RecipeCategory;
 import com.mumuk.domain.recipe.repository.RecipeRepository;
+import com.mumuk.domain.recipe.service.RecipeCatalog;
 import com.mumuk.domain.user.service.UserRecipeService;
 import com.mumuk.global.apiPayload.code.ErrorCode;
 import com.mumuk.global.apiPayload.exception.BusinessException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class RecommendedRecipeServiceImpl implements RecommendedRecipeService {
 
+    // 추천 검색어로 보여줄 레시피 수
+    private static final int RECOMMENDED_RECIPE_COUNT = 6;
+
     private final RecipeRepository recipeRepository;
     private final UserRecipeService userRecipeService;
+    private final RecipeCatalog recipeCatalog;
 
-    public RecommendedRecipeServiceImpl(RecipeRepository recipeRepository, UserRecipeService userRecipeService) {
+    public RecommendedRecipeServiceImpl(RecipeRepository recipeRepository, UserRecipeService userRecipeService,
+                                        RecipeCatalog recipeCatalog) {
         this.recipeRepository = recipeRepository;
         this.userRecipeService = userRecipeService;
+        this.recipeCatalog = recipeCatalog;
     }
 
     @Override
@@ -40,9 +48,15 @@ public class RecommendedRecipeServiceImpl implements RecommendedRecipeService {
                 .map(RecipeCategory::name)
                 .toList();
 
-        // 레포지토리에서 random을 사용하기 때문에 naviveQuery를 사용,
-        // nativeQuery 사용 과정에서 enum 변환에 문제가 생길 수 있기 때문에 카테고리 이름만 넘김
-        List<Recipe> randomRecipes = recipeRepository.findRandomRecipesByCategories(categoryNameList, recipeId);
+        // 레시피 ID 카탈로그에서 같은 카테고리 레시피를 카테고리별로 고르게 뽑음 (현재 레시피 제외)
+        List<Recipe> randomRecipes;
+        if (!recipeCatalog.isEmpty()) {
+            List<Long> recipeIds = recipeCatalog.sampleByCategories(RECOMMENDED_RECIPE_COUNT, categories, Set.of(recipeId));
+            randomRecipes = recipeRepository.findAllById(recipeIds);
+        } else {
+            // 카탈로그 구성 전에는 DB에서 random 사용 (nativeQuery 사용 과정에서 enum 변환에 문제가 생길 수 있기 때문에 카테고리 이름만 넘김)
+            randomRecipes = recipeRepository.findRandomRecipesByCategories(categoryNameList, recipeId);
+        }
 
         // recipeList에서 레시피 제목 (String)만 꺼내서 추출하려고 함
         // 이때 추천 검색어에는 항상 다른 레시피들이 추출되었으면 좋겠음
@@ -1,6 +1,7 @@
 package com.mumuk.domain.search.service;
 
 import com.mumuk.domain.recipe.dto.response.RecipeResponse;
+import com.mumuk.domain.search.dto.response.SearchResponse;
 import com.mumuk.domain.user.dto.response.UserRecipeResponse;
 
 import java.util.List;
@@ -9,6 +10,8 @@ public interface SearchService {
 
     List<UserRecipeResponse.RecipeSummaryDTO> searchRecipeList(Long userId, String keyword);
 
+    SearchResponse.RecipeSearchRes searchRecipes(Long userId, String keyword, String cursor, Integer size);
+
     RecipeResponse.DetailRes SearchDetailRecipe(Long recipeId);
 
 }
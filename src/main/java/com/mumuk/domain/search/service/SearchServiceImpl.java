@@ -1,9 +1,10 @@
 package com.mumuk.domain.search.service;
 
 import com.mumuk.domain.recipe.dto.response.RecipeResponse;
-import com.mumuk.domain.recipe.entity.Recipe;
 import com.mumuk.domain.recipe.repository.RecipeRepository;
+import com.mumuk.domain.recipe.repository.RecipeSearchRepository;
 import com.mumuk.domain.recipe.service.RecipeService;
+import com.mumuk.domain.search.dto.response.SearchResponse;
 import com.mumuk.domain.user.dto.response.UserRecipeResponse;
 import com.mumuk.domain.user.entity.UserRecipe;
 import com.mumuk.domain.user.repository.UserRecipeRepository;
@@ -11,6 +12,9 @@ import com.mumuk.global.apiPayload.code.ErrorCode;
 import com.mumuk.global.apiPayload.exception.BusinessException;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -18,6 +22,10 @@ import java.util.stream.Collectors;
 @Service
 public class SearchServiceImpl implements SearchService {
 
+    /** 페이지 크기 기본값과 상한 */
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final RecipeRepository recipeRepository;
     private final UserRecipeRepository userRecipeRepository;
     private final RecipeService recipeService;
@@ -30,39 +38,87 @@ public class SearchServiceImpl implements SearchService {
 
     @Override
     public List<UserRecipeResponse.RecipeSummaryDTO> searchRecipeList(Long userId, String keyword){
+        // 커서 없이 호출하는 기존 API는 유사도 상위 MAX_PAGE_SIZE개만 반환
+        List<UserRecipeResponse.RecipeSummaryDTO> recipeList = searchRecipes(userId, keyword, null, MAX_PAGE_SIZE).getRecipes();
+
+        // 레시피가 없는 경우 예외 던지기
+        if (recipeList.isEmpty()) {
+            throw new BusinessException(ErrorCode.SEARCH_RESULT_NOT_FOUND);
+        }
+        return recipeList;
+    }
 
-        if (keyword == null || keyword.isEmpty()) {
+    @Override
+    public SearchResponse.RecipeSearchRes searchRecipes(Long userId, String keyword, String cursor, Integer size) {
+
+        if (keyword == null || keyword.isBlank()) {
             throw new BusinessException(ErrorCode.INVALID_INPUT);
         }
-        // 키워드를 바탕으로 결과값 반환
-        List<Recipe> recipes= recipeRepository.findByTitleContainingIgnoreCase(keyword);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
 
-        // 레시피가 없는 경우 예외 던지기
-        if (recipes.isEmpty()) {
-            throw new BusinessException(ErrorCode.SEARCH_RESULT_NOT_FOUND);
+        // 키워드 유사도 순으로 커서 다음 페이지 조회 (다음 페이지 존재 여부 확인을 위해 한 건 더 조회)
+        BigDecimal afterScore = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] decoded = decodeCursor(cursor);
+            afterScore = new BigDecimal(decoded[0]);
+            afterId = Long.valueOf(decoded[1]);
+        }
+        List<RecipeSearchRepository.SearchRow> rows =
+                recipeRepository.searchByKeyword(keyword.trim(), afterScore, afterId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        if (rows.isEmpty()) {
+            return new SearchResponse.RecipeSearchRes(List.of(), null, false);
         }
 
-        // 찜하기 여부를 불러오기 위해, 검색결과에서 반환받은 레시피 id를 바탕으로 userRecipe 생성
-        List<UserRecipe> userRecipes =userRecipeRepository.findByUserIdAndRecipeIdIn(userId, recipes.stream().map(Recipe::getId).collect(Collectors.toList()));
+        // 찜하기 여부를 불러오기 위해, 이번 페이지 레시피 id를 바탕으로 userRecipe 조회
+        List<UserRecipe> userRecipes = userRecipeRepository.findByUserIdAndRecipeIdIn(userId,
+                rows.stream().map(RecipeSearchRepository.SearchRow::getId).collect(Collectors.toList()));
 
         // dto 생성을 빠르게 하기 위해, recipeId를 키로, userRecipe를 밸류로 하는 map을 생성
         Map<Long, UserRecipe> userRecipeMap = userRecipes.stream()
                 .collect(Collectors.toMap(userRecipe -> userRecipe.getRecipe().getId(), userRecipe -> userRecipe));
 
-        // RecentRecipeDTO를 반환하는 List 생성
-        List<UserRecipeResponse.RecipeSummaryDTO> recipeList = recipes.stream()
-                .map(recipe -> {
+        List<UserRecipeResponse.RecipeSummaryDTO> recipeList = rows.stream()
+                .map(row -> {
                     // 좋아요 여부 입력받기
-                    UserRecipe userRecipe = userRecipeMap.get(recipe.getId());
+                    UserRecipe userRecipe = userRecipeMap.get(row.getId());
                     boolean isLiked=(userRecipe!=null)&&Boolean.TRUE.equals(userRecipe.getLiked());
-                    return new UserRecipeResponse.RecipeSummaryDTO(recipe.getId(),recipe.getTitle(),recipe.getRecipeImage(),isLiked);
+                    return new UserRecipeResponse.RecipeSummaryDTO(row.getId(), row.getTitle(), row.getRecipeImage(), isLiked);
                 }).collect(Collectors.toList());
 
-        return recipeList;
+        RecipeSearchRepository.SearchRow last = rows.get(rows.size() - 1);
+        String nextCursor = hasNext ? encodeCursor(last.getScore(), last.getId()) : null;
+        return new SearchResponse.RecipeSearchRes(recipeList, nextCursor, hasNext);
     }
 
     @Override
     public RecipeResponse.DetailRes SearchDetailRecipe(Long recipeId) {
         return recipeService.getRecipeDetail(recipeId);
     }
+
+    /**
+     * 커서: 마지막 결과의 "점수:ID"를 URL-safe Base64로 인코딩
+     */
+    private static String encodeCursor(BigDecimal score, Long id) {
+        String raw = score.toPlainString() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(cursor);
+            }
+            new BigDecimal(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_SEARCH_CURSOR);
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.mumuk.domain.search.service;
 import com.mumuk.domain.search.dto.response.SearchResponse;
 
 import java.util.List;
+import java.util.Map;
 
 public interface TrendSearchService {
     public void increaseKeywordCount(Long recipeId);
@@ -15,4 +16,6 @@ public interface TrendSearchService {
 
     public List<SearchResponse.TrendRecipeDetailRes> getTrendRecipeDetailList(Long userId);
 
+    public Map<Long, Long> getRecentSearchCounts();
+
 }
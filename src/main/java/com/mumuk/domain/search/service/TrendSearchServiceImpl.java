@@ -6,6 +6,7 @@ import com.mumuk.domain.search.dto.response.SearchResponse;
 import com.mumuk.domain.user.entity.UserRecipe;
 import com.mumuk.domain.user.repository.UserRecipeRepository;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -73,6 +74,25 @@ public class TrendSearchServiceImpl implements TrendSearchService {
         return recipeIdList.stream().map(Long::valueOf).toList();
     }
 
+    @Override
+    // 현재·직전 시간대에 집계된 레시피별 검색 수 (자동완성 인기도에 사용)
+    public Map<Long, Long> getRecentSearchCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (LocalDateTime hour : List.of(now, now.minusHours(1))) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeWithScores(KEY_PREFIX + hour.format(formatter), 0, -1);
+            if (tuples == null) {
+                continue;
+            }
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    counts.merge(Long.valueOf(tuple.getValue()), tuple.getScore().longValue(), Long::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
     @Override
     @Transactional(readOnly = true)
     // 레시피 이름만 반환
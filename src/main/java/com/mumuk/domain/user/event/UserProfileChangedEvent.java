@@ -0,0 +1,17 @@
+package com.mumuk.domain.user.event;
+
+import lombok.Getter;
+
+/**
+ * 추천에 사용하는 사용자 프로필(보유 재료, 알레르기, 건강 목표, OCR 건강 데이터) 변경 이벤트
+ * 커밋 이후 사용자 프로필 캐시를 무효화하는 데 사용합니다.
+ */
+@Getter
+public class UserProfileChangedEvent {
+
+    private final Long userId;
+
+    public UserProfileChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+}
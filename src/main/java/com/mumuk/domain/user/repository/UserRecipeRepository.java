@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,4 +21,8 @@ public interface UserRecipeRepository extends JpaRepository<UserRecipe, Long> {
     //사용자가 최근에 본 레시피 목록을 조회
     //List<UserRecipe> findByUser_IdAndViewedIsTrueOrderByViewedAtDesc(Long userId, Pageable pageable);
 
+    //레시피별 찜 수 (레시피 ID, 찜 수)
+    @Query("SELECT ur.recipe.id, COUNT(ur) FROM UserRecipe ur WHERE ur.liked = true GROUP BY ur.recipe.id")
+    List<Object[]> countLikesByRecipe();
+
 }
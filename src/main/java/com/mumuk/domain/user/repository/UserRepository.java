@@ -3,6 +3,8 @@ package com.mumuk.domain.user.repository;
 import com.mumuk.domain.user.entity.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.mumuk.domain.user.entity.UserRecipe;
 
 import java.util.List;
@@ -20,6 +22,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     List<User> findByFcmAgreed(Boolean fcmAgreed);
 
+    // 추천용 사용자 프로필 (사용자 존재 여부, 보유 재료, 알레르기, 건강 목표를 한 번에 조회, 각 행 = [구분, 값])
+    @Query("SELECT 'USER', CAST(u.id AS String) FROM User u WHERE u.id = :userId " +
+           "UNION ALL SELECT 'INGREDIENT', i.name FROM Ingredient i WHERE i.user.id = :userId " +
+           "UNION ALL SELECT 'ALLERGY', CAST(a.allergyType AS String) FROM Allergy a WHERE a.user.id = :userId " +
+           "UNION ALL SELECT 'HEALTH_GOAL', CAST(g.goalName AS String) FROM HealthGoal g WHERE g.user.id = :userId")
+    List<Object[]> findRecommendProfileRows(@Param("userId") Long userId);
+
+    // 추천 사전 계산 대상 활성 사용자 ID (로그아웃하지 않은 사용자, id 기준 키셋 페이지네이션)
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastId AND u.refreshToken IS NOT NULL AND u.deletedAt IS NULL ORDER BY u.id")
+    List<Long> findActiveUserIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
 
 
 
@@ -0,0 +1,126 @@
+package com.mumuk.domain.user.service;
+
+import com.mumuk.domain.ocr.entity.UserHealthData;
+import com.mumuk.domain.ocr.repository.UserHealthDataRepository;
+import com.mumuk.domain.user.event.UserProfileChangedEvent;
+import com.mumuk.domain.user.repository.UserRepository;
+import com.mumuk.global.apiPayload.code.ErrorCode;
+import com.mumuk.global.apiPayload.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레시피 추천용 사용자 프로필 캐시 (Redis)
+ *
+ * 프로필은 UNION 조회 1회 + 최신 OCR 1건 조회로 만들고, 재료/알레르기/건강 목표/OCR 저장 이벤트로 무효화합니다.
+ * 무효화는 사용자별 버전 증가로 처리하므로, 무효화 직전에 조회를 시작한 요청이 이전 프로필을 다시 저장하더라도 사용되지 않습니다.
+ */
+@Slf4j
+@Component
+public class UserProfileCache {
+
+    private static final String KEY_PREFIX = "user-profile:";
+    private static final String VERSION_KEY_PREFIX = "user-profile:version:";
+
+    /** 프로필 스냅샷 유효기간 */
+    private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(30);
+
+    /** 버전 키 유효기간 (스냅샷 유효기간보다 길어야 함) */
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final UserRepository userRepository;
+    private final UserHealthDataRepository userHealthDataRepository;
+
+    public UserProfileCache(RedisTemplate<String, Object> redisTemplate, UserRepository userRepository,
+                            UserHealthDataRepository userHealthDataRepository) {
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+        this.userHealthDataRepository = userHealthDataRepository;
+    }
+
+    /**
+     * 사용자 프로필 조회 (캐시 미스 또는 버전 불일치 시 DB에서 다시 구성)
+     *
+     * @throws BusinessException 사용자가 존재하지 않는 경우 USER_NOT_FOUND
+     */
+    public UserProfileSnapshot get(Long userId) {
+        long version = 0L;
+        try {
+            List<Object> cached = redisTemplate.opsForValue().multiGet(List.of(versionKey(userId), snapshotKey(userId)));
+            if (cached != null && cached.size() == 2) {
+                version = cached.get(0) instanceof Number number ? number.longValue() : 0L;
+                if (cached.get(1) instanceof UserProfileSnapshot snapshot && snapshot.getVersion() == version) {
+                    return snapshot;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("사용자 프로필 캐시 조회 실패 - userId: {}, {}", userId, e.getMessage());
+        }
+
+        UserProfileSnapshot snapshot = load(userId, version);
+        try {
+            redisTemplate.opsForValue().set(snapshotKey(userId), snapshot, SNAPSHOT_TTL);
+        } catch (Exception e) {
+            log.warn("사용자 프로필 캐시 저장 실패 - userId: {}, {}", userId, e.getMessage());
+        }
+        return snapshot;
+    }
+
+    /**
+     * 프로필 변경 반영 (트랜잭션 밖에서 발행된 이벤트도 처리)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        try {
+            String versionKey = versionKey(event.getUserId());
+            redisTemplate.opsForValue().increment(versionKey);
+            redisTemplate.expire(versionKey, VERSION_TTL);
+        } catch (Exception e) {
+            log.warn("사용자 프로필 버전 갱신 실패 - userId: {}, {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    private UserProfileSnapshot load(Long userId, long version) {
+        boolean userExists = false;
+        List<String> ingredients = new ArrayList<>();
+        List<String> allergyTypes = new ArrayList<>();
+        List<String> healthGoals = new ArrayList<>();
+
+        for (Object[] row : userRepository.findRecommendProfileRows(userId)) {
+            String value = (String) row[1];
+            switch ((String) row[0]) {
+                case "USER" -> userExists = true;
+                case "INGREDIENT" -> ingredients.add(value);
+                case "ALLERGY" -> allergyTypes.add(value);
+                case "HEALTH_GOAL" -> healthGoals.add(value);
+                default -> { }
+            }
+        }
+        if (!userExists) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        Map<String, String> ocrHealthData = userHealthDataRepository.findFirstByUserIdOrderByCreatedAtDesc(userId)
+                .map(UserHealthData::getExtractedData)
+                .orElseGet(HashMap::new);
+
+        return new UserProfileSnapshot(userId, ingredients, allergyTypes, healthGoals, ocrHealthData, version);
+    }
+
+    private static String snapshotKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static String versionKey(Long userId) {
+        return VERSION_KEY_PREFIX + userId;
+    }
+}
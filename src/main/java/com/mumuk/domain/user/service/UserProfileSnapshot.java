@@ -0,0 +1,40 @@
+package com.mumuk.domain.user.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레시피 추천용 사용자 프로필 스냅샷 (불변)
+ * Redis에 그대로 캐시되므로 Jackson 역직렬화를 위해 기본 생성자를 둡니다.
+ */
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserProfileSnapshot {
+
+    private Long userId;
+    private List<String> ingredients;
+    private List<String> allergyTypes;
+    private List<String> healthGoals;
+    private Map<String, String> ocrHealthData;
+
+    /** 스냅샷 생성 시점의 프로필 버전 (무효화 이후 저장된 스냅샷 판별용) */
+    private long version;
+
+    private UserProfileSnapshot() {
+    }
+
+    public UserProfileSnapshot(Long userId, List<String> ingredients, List<String> allergyTypes,
+                               List<String> healthGoals, Map<String, String> ocrHealthData, long version) {
+        this.userId = userId;
+        this.ingredients = List.copyOf(ingredients);
+        this.allergyTypes = List.copyOf(allergyTypes);
+        this.healthGoals = List.copyOf(healthGoals);
+        this.ocrHealthData = ocrHealthData == null ? Map.of() : Collections.unmodifiableMap(new HashMap<>(ocrHealthData));
+        this.version = version;
+    }
+}
@@ -25,6 +25,9 @@ public enum ErrorCode implements BaseCode {
     RECIPE_DUPLICATE_TITLE(HttpStatus.CONFLICT, "RECIPE_409_DUPLICATE", "이미 존재하는 레시피 제목입니다."),
     RECIPE_INVALID_CATEGORY(HttpStatus.BAD_REQUEST, "RECIPE_400_INVALID_CATEGORY", "유효하지 않은 레시피 카테고리입니다."),
     RECIPE_EMPTY_INGREDIENTS(HttpStatus.BAD_REQUEST, "RECIPE_400_EMPTY_INGREDIENTS", "재료 정보가 비어있습니다."),
+    RECIPE_GENERATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "RECIPE_404_GENERATION_JOB", "레시피 생성 작업을 찾을 수 없습니다."),
+    RECIPE_GENERATION_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "RECIPE_503_GENERATION_BUSY", "레시피 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    RECIPE_HOME_INVALID_SECTION(HttpStatus.BAD_REQUEST, "RECIPE_400_HOME_SECTION", "유효하지 않은 홈 화면 섹션입니다."),
 
 
     // User Error
@@ -79,6 +82,7 @@ public enum ErrorCode implements BaseCode {
     // Search Error
     KEYWORD_NOT_FOUND(HttpStatus.BAD_REQUEST, "SEARCH_400", "검색하려는 단어가 존재하지 않습니다."),
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "SEARCH_400", "단어를 한 글자 이상 입력해야 합니다."),
+    INVALID_SEARCH_CURSOR(HttpStatus.BAD_REQUEST, "SEARCH_400", "검색 결과 커서가 올바르지 않습니다."),
 
     SEARCH_LOG_NOT_FOUND(HttpStatus.NOT_FOUND, "SEARCH_404", "사용자의 검색 기록이 존재하지 않습니다." ),
     SEARCH_LOG_USER_NOT_FOUND(HttpStatus.NOT_FOUND, "SEARCH_404", "해당 사용자가 존재하지 않습니다." ),
@@ -17,6 +17,9 @@ public enum ResultCode implements BaseCode {
     RECIPE_DELETE_OK(HttpStatus.NO_CONTENT, "RECIPE_204", "레시피 삭제 성공"),
     RECIPE_FETCH_OK(HttpStatus.OK, "RECIPE_200", "레시피 조회 성공"),
     RECIPE_UPDATE_OK(HttpStatus.OK, "RECIPE_200", "레시피 수정 성공"),
+    RECIPE_GENERATION_JOB_ACCEPTED(HttpStatus.ACCEPTED, "RECIPE_202", "레시피 생성 작업 접수 성공"),
+    RECIPE_GENERATION_JOB_FETCH_OK(HttpStatus.OK, "RECIPE_200", "레시피 생성 작업 조회 성공"),
+    RECIPE_HOME_FETCH_OK(HttpStatus.OK, "RECIPE_200", "홈 화면 레시피 조회 성공"),
 
     // User Success
     USER_FETCH_OK(HttpStatus.OK, "USER_200", "유저 정보 조회 성공"),
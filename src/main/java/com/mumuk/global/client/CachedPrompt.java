@@ -0,0 +1,37 @@
+package com.mumuk.global.client;
+
+import lombok.Getter;
+
+/**
+ * 공통 지시문(prefix)과 요청별 내용(suffix)으로 나눈 프롬프트
+ * family가 있으면 GeminiContextCache가 prefix를 cachedContents로 등록해 두고, 요청마다 suffix만 전송합니다.
+ */
+@Getter
+public class CachedPrompt {
+
+    /** 프롬프트 계열 이름 (null이면 컨텍스트 캐시를 사용하지 않음) */
+    private final String family;
+    private final String prefix;
+    private final String suffix;
+
+    private CachedPrompt(String family, String prefix, String suffix) {
+        this.family = family;
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    public static CachedPrompt of(String family, String prefix, String suffix) {
+        return new CachedPrompt(family, prefix, suffix);
+    }
+
+    public static CachedPrompt inline(String prompt) {
+        return new CachedPrompt(null, "", prompt);
+    }
+
+    /**
+     * 컨텍스트 캐시 없이 보낼 전체 프롬프트
+     */
+    public String toInline() {
+        return prefix.isEmpty() ? suffix : prefix + "\n\n" + suffix;
+    }
+}
@@ -0,0 +1,166 @@
+package com.mumuk.global.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gemini cachedContents API를 사용하는 컨텍스트 캐시
+ *
+ * 프롬프트 계열 + 모델 + prefix 내용마다 cachedContents를 한 번 만들고, 만료 전에 TTL을 연장합니다.
+ * 일정 시간 사용되지 않은 캐시는 연장하지 않고 만료되도록 둡니다.
+ * 등록에 실패하면(최소 토큰 수 미달, 캐시 미지원 모델 등) 해당 계열은 retry-backoff 동안 인라인 프롬프트로 전송됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gemini.context-cache.enabled", havingValue = "true")
+public class GeminiApiContextCache implements GeminiContextCache {
+
+    /** 만료까지 이 시간보다 적게 남으면 TTL 연장 */
+    private static final Duration REFRESH_MARGIN = Duration.ofMinutes(5);
+
+    private final WebClient webClient;
+    private final Duration ttl;
+    private final Duration retryBackoff;
+
+    /** 캐시 키 → 등록된 캐시 */
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    /** 캐시 키 → 등록 재시도 가능 시각 (등록 실패 후 인라인 전송 구간) */
+    private final Map<String, Long> unavailableUntil = new ConcurrentHashMap<>();
+
+    public GeminiApiContextCache(WebClient webClient,
+                                 @Value("${gemini.context-cache.ttl-seconds:3600}") long ttlSeconds,
+                                 @Value("${gemini.context-cache.retry-backoff-ms:600000}") long retryBackoffMs) {
+        this.webClient = webClient;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+    }
+
+    @Override
+    public Mono<String> resolve(CachedPrompt prompt, String model) {
+        if (prompt.getFamily() == null || prompt.getPrefix().isEmpty()) {
+            return Mono.empty();
+        }
+        String key = cacheKey(prompt, model);
+        Long retryAt = unavailableUntil.get(key);
+        if (retryAt != null) {
+            if (retryAt > System.currentTimeMillis()) {
+                return Mono.empty();
+            }
+            unavailableUntil.remove(key, retryAt);
+        }
+
+        CacheEntry entry = entries.computeIfAbsent(key, k -> {
+            CacheEntry created = new CacheEntry(prompt.getFamily());
+            created.name = create(prompt, model)
+                    .doOnNext(name -> {
+                        created.resolvedName = name;
+                        created.expiresAt = System.currentTimeMillis() + ttl.toMillis();
+                    })
+                    .cache();
+            return created;
+        });
+        entry.lastUsedAt = System.currentTimeMillis();
+        return entry.name.onErrorResume(e -> {
+            log.warn("Gemini 컨텍스트 캐시 등록 실패, 인라인 프롬프트 사용 - family: {}, {}", prompt.getFamily(), e.getMessage());
+            entries.remove(key, entry);
+            unavailableUntil.put(key, System.currentTimeMillis() + retryBackoff.toMillis());
+            return Mono.empty();
+        });
+    }
+
+    @Override
+    public void invalidate(CachedPrompt prompt, String model) {
+        if (prompt.getFamily() != null) {
+            entries.remove(cacheKey(prompt, model));
+        }
+    }
+
+    /**
+     * 만료가 가까운 캐시 TTL 연장 (1분), 최근 TTL 동안 사용되지 않은 캐시는 목록에서 제거
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        entries.forEach((key, entry) -> {
+            String name = entry.resolvedName;
+            if (name == null || entry.expiresAt - now > REFRESH_MARGIN.toMillis()) {
+                return;
+            }
+            if (now - entry.lastUsedAt > ttl.toMillis()) {
+                entries.remove(key, entry);
+                return;
+            }
+            try {
+                webClient.patch()
+                        .uri("/v1beta/" + name + "?updateMask=ttl")
+                        .bodyValue(Map.of("ttl", ttl.toSeconds() + "s"))
+                        .retrieve()
+                        .toBodilessEntity()
+                        .block(Duration.ofSeconds(10));
+                entry.expiresAt = System.currentTimeMillis() + ttl.toMillis();
+                log.info("Gemini 컨텍스트 캐시 연장 - family: {}, name: {}", entry.family, name);
+            } catch (Exception e) {
+                log.warn("Gemini 컨텍스트 캐시 연장 실패, 다음 호출 시 다시 등록 - family: {}, {}", entry.family, e.getMessage());
+                entries.remove(key, entry);
+            }
+        });
+    }
+
+    private Mono<String> create(CachedPrompt prompt, String model) {
+        Map<String, Object> part = new HashMap<>();
+        part.put("text", prompt.getPrefix());
+        Map<String, Object> content = new HashMap<>();
+        content.put("role", "user");
+        content.put("parts", List.of(part));
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("model", "models/" + model);
+        body.put("displayName", prompt.getFamily());
+        body.put("contents", List.of(content));
+        body.put("ttl", ttl.toSeconds() + "s");
+
+        return webClient.post()
+                .uri("/v1beta/cachedContents")
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .map(response -> {
+                    Object name = response.get("name");
+                    if (!(name instanceof String cachedName) || cachedName.isEmpty()) {
+                        throw new IllegalStateException("cachedContents 응답에 name이 없습니다.");
+                    }
+                    log.info("Gemini 컨텍스트 캐시 등록 - family: {}, model: {}, name: {}", prompt.getFamily(), model, cachedName);
+                    return cachedName;
+                });
+    }
+
+    private static String cacheKey(CachedPrompt prompt, String model) {
+        return prompt.getFamily() + ":" + model + ":" + prompt.getPrefix().hashCode();
+    }
+
+    private static final class CacheEntry {
+        final String family;
+        /** 등록 호출 (최초 구독 시 한 번만 실행되고 결과를 공유) */
+        Mono<String> name;
+        volatile String resolvedName;
+        volatile long expiresAt;
+        volatile long lastUsedAt = System.currentTimeMillis();
+
+        CacheEntry(String family) {
+            this.family = family;
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package com.mumuk.global.client;
+
+import com.mumuk.global.apiPayload.code.ErrorCode;
+import com.mumuk.global.apiPayload.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 호출 보호 장치
+ *
+ * 호출마다 서킷 브레이커 → 토큰 버킷(할당량) → 적응형 동시 호출 한도(AIMD) 순으로 통과해야 하며,
+ * 통과하지 못하면 대기열에 쌓지 않고 OPENAI_SERVICE_UNAVAILABLE로 즉시 실패해 호출부의 로컬 대체 로직으로 넘어갑니다.
+ * 헤징을 켜면 응답이 최근 p95보다 늦을 때 같은 요청을 한 번 더 보내 먼저 온 응답을 사용합니다.
+ */
+@Slf4j
+@Component
+public class GeminiCallGuard {
+
+    /** 헤지 지연 계산에 필요한 최소 표본 수 */
+    private static final int MIN_LATENCY_SAMPLES = 20;
+
+    private final TokenBucket rateLimiter;
+    private final AimdLimit concurrencyLimit;
+    private final CircuitBreaker circuitBreaker;
+    private final LatencyWindow latencyWindow = new LatencyWindow(128);
+
+    private final long maxWaitNanos;
+    private final Duration callTimeout;
+    private final boolean hedgeEnabled;
+    private final Duration minHedgeDelay;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter hedgeCounter;
+
+    public GeminiCallGuard(MeterRegistry meterRegistry,
+                           @Value("${gemini.guard.rate-per-second:5}") double ratePerSecond,
+                           @Value("${gemini.guard.burst:10}") int burst,
+                           @Value("${gemini.guard.max-wait-ms:2000}") long maxWaitMs,
+                           @Value("${gemini.guard.initial-limit:8}") int initialLimit,
+                           @Value("${gemini.guard.min-limit:1}") int minLimit,
+                           @Value("${gemini.guard.max-limit:32}") int maxLimit,
+                           @Value("${gemini.guard.call-timeout-ms:25000}") long callTimeoutMs,
+                           @Value("${gemini.guard.breaker.window:20}") int breakerWindow,
+                           @Value("${gemini.guard.breaker.failure-rate:0.5}") double breakerFailureRate,
+                           @Value("${gemini.guard.breaker.open-ms:30000}") long breakerOpenMs,
+                           @Value("${gemini.guard.hedge.enabled:false}") boolean hedgeEnabled,
+                           @Value("${gemini.guard.hedge.min-delay-ms:2000}") long minHedgeDelayMs) {
+        this.meterRegistry = meterRegistry;
+        this.rateLimiter = new TokenBucket(ratePerSecond, burst);
+        this.concurrencyLimit = new AimdLimit(initialLimit, minLimit, maxLimit);
+        this.circuitBreaker = new CircuitBreaker(breakerWindow, breakerFailureRate, breakerOpenMs);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.callTimeout = Duration.ofMillis(callTimeoutMs);
+        this.hedgeEnabled = hedgeEnabled;
+        this.minHedgeDelay = Duration.ofMillis(minHedgeDelayMs);
+
+        Gauge.builder("gemini.guard.concurrency.limit", concurrencyLimit, AimdLimit::getLimit)
+                .description("Gemini 적응형 동시 호출 한도")
+                .register(meterRegistry);
+        Gauge.builder("gemini.guard.inflight", concurrencyLimit, AimdLimit::getInflight)
+                .description("Gemini 진행 중 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("gemini.guard.circuit.state", circuitBreaker, CircuitBreaker::stateValue)
+                .description("Gemini 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+        this.hedgeCounter = Counter.builder("gemini.guard.hedged")
+                .description("p95 지연으로 보낸 헤지 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보호 장치를 거쳐 Gemini 호출 실행
+     *
+     * @param call 실제 API 호출 (헤징 시 두 번 구독될 수 있음)
+     * @throws BusinessException 서킷 OPEN, 할당량 초과, 동시 호출 한도 초과 시 OPENAI_SERVICE_UNAVAILABLE
+     */
+    public Mono<String> execute(Supplier<Mono<String>> call) {
+        return acquirePermits()
+                .then(Mono.defer(() -> guardedCall(call)))
+                .doOnCancel(circuitBreaker::release);
+    }
+
+    /**
+     * 보호 장치를 거쳐 스트리밍 호출 실행 (헤징 없음, 청크 사이 간격이 call-timeout을 넘으면 시간 초과)
+     */
+    public Flux<String> executeStream(Supplier<Flux<String>> call) {
+        return acquirePermits()
+                .thenMany(Flux.defer(() -> guardedStream(call)))
+                .doOnCancel(circuitBreaker::release);
+    }
+
+    /**
+     * 서킷 브레이커 → 토큰 버킷 → 동시 호출 한도 순으로 허가 획득 (거절 시 OPENAI_SERVICE_UNAVAILABLE)
+     */
+    private Mono<Void> acquirePermits() {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Mono.error(rejection("circuit"));
+            }
+            long waitNanos = rateLimiter.reserve(maxWaitNanos);
+            if (waitNanos < 0) {
+                circuitBreaker.release();
+                return Mono.error(rejection("rate"));
+            }
+            Mono<Long> waited = waitNanos == 0 ? Mono.just(0L) : Mono.delay(Duration.ofNanos(waitNanos));
+            return waited.then(Mono.defer(() -> {
+                if (!concurrencyLimit.tryAcquire()) {
+                    circuitBreaker.release();
+                    return Mono.error(rejection("concurrency"));
+                }
+                return Mono.<Void>empty();
+            }));
+        });
+    }
+
+    private Mono<String> guardedCall(Supplier<Mono<String>> call) {
+        long start = System.nanoTime();
+
+        return withHedge(call)
+                .timeout(callTimeout)
+                .onErrorMap(TimeoutException.class, e -> new BusinessException(ErrorCode.OPENAI_API_TIMEOUT))
+                .doOnSuccess(result -> {
+                    long latencyNanos = System.nanoTime() - start;
+                    latencyWindow.record(latencyNanos);
+                    onCallSuccess("call", latencyNanos);
+                })
+                .doOnError(e -> onCallError("call", e, System.nanoTime() - start))
+                .doFinally(signal -> concurrencyLimit.release());
+    }
+
+    private Flux<String> guardedStream(Supplier<Flux<String>> call) {
+        long start = System.nanoTime();
+
+        return call.get()
+                .timeout(callTimeout)
+                .onErrorMap(TimeoutException.class, e -> new BusinessException(ErrorCode.OPENAI_API_TIMEOUT))
+                .doOnComplete(() -> onCallSuccess("stream", System.nanoTime() - start))
+                .doOnError(e -> onCallError("stream", e, System.nanoTime() - start))
+                .doFinally(signal -> concurrencyLimit.release());
+    }
+
+    private void onCallSuccess(String type, long latencyNanos) {
+        concurrencyLimit.onSuccess();
+        circuitBreaker.onSuccess();
+        recordLatency(type, "success", latencyNanos);
+    }
+
+    private void onCallError(String type, Throwable e, long latencyNanos) {
+        if (isOverload(e)) {
+            concurrencyLimit.onOverload();
+            circuitBreaker.onFailure();
+            recordLatency(type, "overload", latencyNanos);
+        } else {
+            circuitBreaker.onSuccess();
+            recordLatency(type, "error", latencyNanos);
+        }
+    }
+
+    /**
+     * 최근 p95보다 오래 걸리면 같은 요청을 한 번 더 보내 먼저 도착한 응답 사용
+     * 헤지 요청도 할당량과 동시 호출 한도를 소비하며, 여유가 없으면 보내지 않습니다.
+     */
+    private Mono<String> withHedge(Supplier<Mono<String>> call) {
+        Mono<String> primary = call.get();
+        if (!hedgeEnabled) {
+            return primary;
+        }
+        long p95Nanos = latencyWindow.percentile(0.95, MIN_LATENCY_SAMPLES);
+        if (p95Nanos < 0) {
+            return primary;
+        }
+        Duration hedgeDelay = Duration.ofNanos(Math.max(p95Nanos, minHedgeDelay.toNanos()));
+
+        Mono<String> hedge = Mono.delay(hedgeDelay)
+                .flatMap(tick -> {
+                    if (rateLimiter.reserve(0) != 0) {
+                        return Mono.<String>never();
+                    }
+                    if (!concurrencyLimit.tryAcquire()) {
+                        return Mono.<String>never();
+                    }
+                    hedgeCounter.increment();
+                    return call.get().doFinally(signal -> concurrencyLimit.release());
+                })
+                // 헤지 실패는 무시하고 원 요청 결과를 기다림
+                .onErrorResume(e -> Mono.never());
+
+        return Mono.firstWithSignal(primary, hedge);
+    }
+
+    private BusinessException rejection(String reason) {
+        Counter.builder("gemini.guard.rejected")
+                .description("보호 장치에 의해 거절된 Gemini 호출 수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.warn("Gemini 호출 거절 - reason: {}, limit: {}, inflight: {}",
+                reason, (int) concurrencyLimit.getLimit(), (int) concurrencyLimit.getInflight());
+        return new BusinessException(ErrorCode.OPENAI_SERVICE_UNAVAILABLE);
+    }
+
+    private void recordLatency(String type, String outcome, long latencyNanos) {
+        Timer.builder("gemini.call.latency")
+                .description("Gemini 호출 소요 시간 (type=stream은 스트림 종료까지)")
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 과부하 신호: 시간 초과, 연결 실패, 429, 5xx
+     */
+    private static boolean isOverload(Throwable e) {
+        if (e instanceof BusinessException be) {
+            return be.getCode() == ErrorCode.OPENAI_API_TIMEOUT;
+        }
+        if (e instanceof WebClientResponseException wre) {
+            return wre.getStatusCode().value() == 429 || wre.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    /**
+     * 토큰 버킷 (초당 rate개 보충, 최대 burst개 보유)
+     * 토큰이 부족하면 다음 토큰까지의 대기 시간을 예약해 반환합니다.
+     */
+    private static final class TokenBucket {
+        private final double ratePerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        TokenBucket(double ratePerSecond, int burst) {
+            this.ratePerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, burst);
+            this.tokens = this.capacity;
+        }
+
+        /**
+         * @return 대기해야 할 나노초 (0이면 즉시), maxWaitNanos를 넘으면 -1 (예약하지 않음)
+         */
+        synchronized long reserve(long maxWaitNanos) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * ratePerNano);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            long waitNanos = (long) Math.ceil((1 - tokens) / ratePerNano);
+            if (waitNanos > maxWaitNanos) {
+                return -1;
+            }
+            tokens -= 1;
+            return waitNanos;
+        }
+    }
+
+    /**
+     * AIMD 동시 호출 한도
+     * 성공 시 한도를 1/limit씩 늘리고, 과부하 신호가 오면 0.7배로 줄입니다.
+     */
+    private static final class AimdLimit {
+        private static final double BACKOFF_RATIO = 0.7;
+
+        private final int minLimit;
+        private final int maxLimit;
+        private final AtomicInteger inflight = new AtomicInteger();
+        private volatile double limit;
+
+        AimdLimit(int initialLimit, int minLimit, int maxLimit) {
+            this.minLimit = Math.max(1, minLimit);
+            this.maxLimit = Math.max(this.minLimit, maxLimit);
+            this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        }
+
+        boolean tryAcquire() {
+            while (true) {
+                int current = inflight.get();
+                if (current >= (int) limit) {
+                    return false;
+                }
+                if (inflight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            inflight.decrementAndGet();
+        }
+
+        synchronized void onSuccess() {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+
+        synchronized void onOverload() {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        }
+
+        double getLimit() {
+            return limit;
+        }
+
+        double getInflight() {
+            return inflight.get();
+        }
+    }
+
+    /**
+     * 최근 window개 호출의 실패율로 동작하는 서킷 브레이커
+     * OPEN 후 openMs가 지나면 HALF_OPEN으로 전환해 시험 호출 1건의 결과로 닫거나 다시 엽니다.
+     */
+    private static final class CircuitBreaker {
+        private enum State { CLOSED, OPEN, HALF_OPEN }
+
+        private final boolean[] outcomes;
+        private final double failureRate;
+        private final long openMs;
+
+        private State state = State.CLOSED;
+        private int recorded;
+        private int cursor;
+        private int failures;
+        private long openedAt;
+        private boolean probeInFlight;
+
+        CircuitBreaker(int window, double failureRate, long openMs) {
+            this.outcomes = new boolean[Math.max(1, window)];
+            this.failureRate = failureRate;
+            this.openMs = openMs;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openMs) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                log.info("Gemini 서킷 HALF_OPEN 전환");
+            }
+            if (state == State.HALF_OPEN) {
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+            }
+            return true;
+        }
+
+        /**
+         * 허가를 받았지만 결과 없이 끝난 호출 (다른 단계에서 거절, 호출부 취소)
+         */
+        synchronized void release() {
+            probeInFlight = false;
+        }
+
+        synchronized void onSuccess() {
+            if (state == State.HALF_OPEN) {
+                close();
+                return;
+            }
+            record(false);
+        }
+
+        synchronized void onFailure() {
+            if (state == State.HALF_OPEN) {
+                open();
+                return;
+            }
+            record(true);
+            if (recorded == outcomes.length && failures >= failureRate * outcomes.length) {
+                open();
+            }
+        }
+
+        private void record(boolean failure) {
+            if (recorded == outcomes.length) {
+                if (outcomes[cursor]) {
+                    failures--;
+                }
+            } else {
+                recorded++;
+            }
+            outcomes[cursor] = failure;
+            if (failure) {
+                failures++;
+            }
+            cursor = (cursor + 1) % outcomes.length;
+        }
+
+        private void open() {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            probeInFlight = false;
+            log.warn("Gemini 서킷 OPEN - {}ms 동안 호출 차단", openMs);
+        }
+
+        private void close() {
+            state = State.CLOSED;
+            probeInFlight = false;
+            recorded = 0;
+            cursor = 0;
+            failures = 0;
+            Arrays.fill(outcomes, false);
+            log.info("Gemini 서킷 CLOSED 전환");
+        }
+
+        synchronized double stateValue() {
+            return state.ordinal();
+        }
+    }
+
+    /**
+     * 최근 성공 호출 지연 시간 (고정 크기 링 버퍼)
+     */
+    private static final class LatencyWindow {
+        private final long[] samples;
+        private int size;
+        private int cursor;
+
+        LatencyWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        synchronized void record(long latencyNanos) {
+            samples[cursor] = latencyNanos;
+            cursor = (cursor + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        /**
+         * @return 백분위 지연 (나노초), 표본이 minSamples 미만이면 -1
+         */
+        synchronized long percentile(double p, int minSamples) {
+            if (size < minSamples) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return sorted[Math.min(size - 1, (int) Math.ceil(p * size) - 1)];
+        }
+    }
+}
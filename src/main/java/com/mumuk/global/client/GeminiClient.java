@@ -2,29 +2,101 @@ package com.mumuk.global.client;
 
 import com.mumuk.global.apiPayload.code.ErrorCode;
 import com.mumuk.global.apiPayload.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+/**
+ * Gemini API 클라이언트
+ *
+ * chatCascade(점수화, 재료 매칭)는 모델, 응답 스키마, 프롬프트가 모두 같은 요청이면 진행 중인 호출 하나를 공유합니다 (single-flight).
+ * 레시피 생성처럼 호출마다 새 응답이 필요한 요청(chat, chatAccurate, generateAccurate)은 공유와 응답 캐시를 적용하지 않습니다.
+ * gemini.response-cache.ttl-ms가 0보다 크면 성공 응답을 해당 시간 동안 재사용합니다.
+ * 실제 호출/공유/캐시 응답 수는 gemini.requests{source=api|coalesced|cache}로 기록됩니다.
+ * 실제 API 호출은 GeminiCallGuard(할당량, 동시 호출 한도, 서킷 브레이커)를 거칩니다.
+ * chatCascade는 빠른 모델을 먼저 호출하고, 응답이 검증을 통과하지 못하면 정확도 우선 모델로 다시 요청합니다.
+ * CachedPrompt로 요청하면 공통 지시문(prefix)을 컨텍스트 캐시로 참조하고 요청별 내용(suffix)만 전송합니다.
+ */
+@Slf4j
 @Component
 public class GeminiClient {
 
     private final WebClient webClient;
+    private final GeminiCallGuard callGuard;
+    private final GeminiContextCache contextCache;
     private final String model;
     private final String accurateModel;
 
-    public GeminiClient(WebClient webClient, @Value("${gemini.api.model}") String model,
-                        @Value("${gemini.api.model_accurate:${gemini.api.model}}") String accurateModel) {
+    /** 요청 키 → 진행 중인 호출 */
+    private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+
+    /** 요청 키 → 최근 성공 응답 (TTL 0이면 사용하지 않음) */
+    private final Map<String, CachedResponse> responseCache = new ConcurrentHashMap<>();
+    private final long responseCacheTtlMs;
+    private final int responseCacheMaxEntries;
+
+    /** 빠른 모델 우선 호출을 사용하는 호출 지점 */
+    private final Set<String> fastFirstSites;
+
+    /** cascade 단계별 제한 시간 (빠른 모델이 늦어도 정확도 우선 모델로 넘어갈 시간을 남김) */
+    private final Duration fastStageTimeout;
+    private final Duration accurateStageTimeout;
+    private final MeterRegistry meterRegistry;
+
+    private final Counter apiCallCounter;
+    private final Counter coalescedCounter;
+    private final Counter cacheHitCounter;
+
+    public GeminiClient(WebClient webClient, GeminiCallGuard callGuard, GeminiContextCache contextCache, @Value("${gemini.api.model}") String model,
+                        @Value("${gemini.api.model_accurate:${gemini.api.model}}") String accurateModel,
+                        MeterRegistry meterRegistry,
+                        @Value("${gemini.response-cache.ttl-ms:0}") long responseCacheTtlMs,
+                        @Value("${gemini.response-cache.max-entries:1000}") int responseCacheMaxEntries,
+                        @Value("${gemini.cascade.fast-first-sites:}") String fastFirstSites,
+                        @Value("${gemini.cascade.fast-timeout-ms:8000}") long fastStageTimeoutMs,
+                        @Value("${gemini.cascade.accurate-timeout-ms:25000}") long accurateStageTimeoutMs) {
         this.webClient = webClient;
+        this.callGuard = callGuard;
+        this.contextCache = contextCache;
         this.model = model;
         this.accurateModel = accurateModel;
+        this.responseCacheTtlMs = responseCacheTtlMs;
+        this.responseCacheMaxEntries = responseCacheMaxEntries;
+        this.fastFirstSites = Arrays.stream(fastFirstSites.split(","))
+                .map(String::trim)
+                .filter(site -> !site.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.fastStageTimeout = Duration.ofMillis(fastStageTimeoutMs);
+        this.accurateStageTimeout = Duration.ofMillis(accurateStageTimeoutMs);
+        this.meterRegistry = meterRegistry;
+        this.apiCallCounter = requestCounter(meterRegistry, "api");
+        this.coalescedCounter = requestCounter(meterRegistry, "coalesced");
+        this.cacheHitCounter = requestCounter(meterRegistry, "cache");
     }
 
     public Mono<String> chat(String prompt) {
@@ -35,18 +107,208 @@ public class GeminiClient {
         return chatWithModel(prompt, this.accurateModel);
     }
 
+    /**
+     * 지정 모델 호출 (진행 중 호출 공유와 응답 캐시를 적용하지 않음)
+     */
     public Mono<String> chatWithModel(String prompt, String modelName) {
-        Map<String, Object> body = createRequestBody(prompt);
+        return callOnce(CachedPrompt.inline(prompt), modelName);
+    }
+
+    /**
+     * 정확도 우선 모델 생성 호출 (진행 중 호출 공유와 응답 캐시를 적용하지 않음)
+     * 같은 프롬프트로 동시에 생성을 요청해도 호출마다 별도 응답을 받아, 같은 레시피가 중복 생성되지 않도록 합니다.
+     */
+    public Mono<String> generateAccurate(CachedPrompt prompt) {
+        return callOnce(prompt, this.accurateModel);
+    }
+
+    private Mono<String> callOnce(CachedPrompt prompt, String modelName) {
+        return Mono.defer(() -> {
+            apiCallCounter.increment();
+            return callApi(prompt, modelName, null);
+        });
+    }
+
+    /**
+     * 빠른 모델 우선 호출 (cascade)
+     *
+     * 호출 지점이 gemini.cascade.fast-first-sites에 있으면 빠른 모델로 먼저 요청하고,
+     * 응답이 accept 검증(스키마, 신뢰도)을 통과하지 못하거나 호출이 실패하면 정확도 우선 모델로 다시 요청합니다.
+     * 목록에 없는 호출 지점이거나 highStakes이면 처음부터 정확도 우선 모델을 사용합니다.
+     * 단계마다 제한 시간(gemini.cascade.fast-timeout-ms, accurate-timeout-ms)을 따로 두므로 빠른 모델이 늦어도 재요청이 잘리지 않으며,
+     * 호출부는 전체에 별도 제한 시간을 걸지 않습니다. 정확도 우선 모델 시간 초과는 OPENAI_API_TIMEOUT으로 끝납니다.
+     * 결과는 gemini.cascade{site, outcome=fast|escalated_invalid|escalated_error|accurate}로 기록됩니다.
+     *
+     * @param site 호출 지점 이름
+     * @param responseSchema JSON 응답 스키마 (null이면 일반 텍스트 응답, 지정 시 responseMimeType=application/json으로 스키마에 맞는 JSON만 반환)
+     * @param accept 빠른 모델 응답을 그대로 사용할지 판단
+     * @param highStakes 빠른 모델을 건너뛸지 여부
+     */
+    public Mono<String> chatCascade(String site, String prompt, Map<String, Object> responseSchema,
+                                    Predicate<String> accept, boolean highStakes) {
+        return chatCascade(site, CachedPrompt.inline(prompt), responseSchema, accept, highStakes);
+    }
+
+    public Mono<String> chatCascade(String site, CachedPrompt prompt, Map<String, Object> responseSchema,
+                                    Predicate<String> accept, boolean highStakes) {
+        if (highStakes || !fastFirstSites.contains(site)) {
+            return accurateStage(prompt, responseSchema)
+                    .doOnSuccess(response -> recordCascade(site, "accurate"));
+        }
+
+        return chatShared(prompt, this.model, responseSchema)
+                .timeout(fastStageTimeout)
+                .map(Optional::of)
+                .onErrorResume(e -> {
+                    // 보호 장치가 거절한 경우 정확도 우선 모델도 거절되므로 그대로 실패
+                    if (e instanceof BusinessException be && be.getCode() == ErrorCode.OPENAI_SERVICE_UNAVAILABLE) {
+                        return Mono.error(e);
+                    }
+                    recordCascade(site, "escalated_error");
+                    return Mono.just(Optional.empty());
+                })
+                .flatMap(fast -> {
+                    if (fast.isPresent()) {
+                        if (accept.test(fast.get())) {
+                            recordCascade(site, "fast");
+                            return Mono.just(fast.get());
+                        }
+                        recordCascade(site, "escalated_invalid");
+                    }
+                    return accurateStage(prompt, responseSchema);
+                });
+    }
+
+    private Mono<String> accurateStage(CachedPrompt prompt, Map<String, Object> responseSchema) {
+        return chatShared(prompt, this.accurateModel, responseSchema)
+                .timeout(accurateStageTimeout)
+                .onErrorMap(TimeoutException.class, e -> new BusinessException(ErrorCode.OPENAI_API_TIMEOUT));
+    }
+
+    /**
+     * 정확도 우선 모델 스트리밍 호출 (streamGenerateContent, SSE)
+     * 응답 텍스트를 도착한 청크 단위로 반환하며, 진행 중 호출 공유와 응답 캐시는 적용하지 않습니다.
+     */
+    public Flux<String> streamAccurate(String prompt) {
+        return streamAccurate(CachedPrompt.inline(prompt));
+    }
+
+    public Flux<String> streamAccurate(CachedPrompt prompt) {
+        return resolveCachedContent(prompt, this.accurateModel)
+                .flatMapMany(cachedContent -> streamGenerate(prompt, cachedContent.orElse(null))
+                        .onErrorResume(WebClientResponseException.class, e -> {
+                            if (!isStaleCachedContent(cachedContent, e)) {
+                                return Flux.error(e);
+                            }
+                            log.warn("Gemini 컨텍스트 캐시 사용 실패, 인라인 프롬프트로 재요청 - family: {}, status: {}",
+                                    prompt.getFamily(), e.getStatusCode().value());
+                            contextCache.invalidate(prompt, this.accurateModel);
+                            return streamGenerate(prompt, null);
+                        }));
+    }
+
+    private Flux<String> streamGenerate(CachedPrompt prompt, String cachedContent) {
+        Map<String, Object> body = createRequestBody(prompt, cachedContent, null);
+
+        return callGuard.executeStream(() -> webClient.post()
+                .uri("/v1beta/models/" + this.accurateModel + ":streamGenerateContent?alt=sse")
+                .bodyValue(body)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<Map<String, Object>>>() {})
+                .mapNotNull(ServerSentEvent::data)
+                .map(this::extractChunkText)
+                .filter(text -> !text.isEmpty()));
+    }
+
+    /**
+     * 진행 중 호출 공유와 응답 캐시를 적용한 호출
+     * 같은 요청에 같은 응답을 돌려줘도 되는 호출(점수화, 재료 매칭처럼 결과가 결정적인 chatCascade 호출 지점)에만 사용합니다.
+     * 레시피 생성처럼 호출마다 새 응답이 필요한 요청을 보내면 동시 요청자가 같은 응답을 받아 중복 레시피가 만들어집니다.
+     */
+    private Mono<String> chatShared(CachedPrompt prompt, String modelName, Map<String, Object> responseSchema) {
+        String key = requestKey(prompt.toInline(), modelName, responseSchema);
+
+        return Mono.defer(() -> {
+            String cached = getCachedResponse(key);
+            if (cached != null) {
+                cacheHitCounter.increment();
+                return Mono.just(cached);
+            }
+
+            // 같은 요청이 진행 중이면 그 결과를 공유 (호출 완료 시 제거되므로 실패 응답은 재사용되지 않음)
+            boolean[] created = {false};
+            Mono<String> shared = inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return callApi(prompt, modelName, responseSchema)
+                        .doOnNext(text -> putCachedResponse(k, text))
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache();
+            });
+            (created[0] ? apiCallCounter : coalescedCounter).increment();
+            return shared;
+        });
+    }
+
+    /**
+     * 컨텍스트 캐시가 있으면 suffix만, 없으면 프롬프트 전체를 보내 응답 생성
+     * 캐시가 만료되었거나 삭제되어 요청이 거절되면 캐시를 무효화하고 인라인으로 한 번 다시 요청합니다.
+     */
+    private Mono<String> callApi(CachedPrompt prompt, String modelName, Map<String, Object> responseSchema) {
+        return resolveCachedContent(prompt, modelName)
+                .flatMap(cachedContent -> generate(prompt, cachedContent.orElse(null), modelName, responseSchema)
+                        .onErrorResume(WebClientResponseException.class, e -> {
+                            if (!isStaleCachedContent(cachedContent, e)) {
+                                return Mono.error(e);
+                            }
+                            log.warn("Gemini 컨텍스트 캐시 사용 실패, 인라인 프롬프트로 재요청 - family: {}, status: {}",
+                                    prompt.getFamily(), e.getStatusCode().value());
+                            contextCache.invalidate(prompt, modelName);
+                            return generate(prompt, null, modelName, responseSchema);
+                        }));
+    }
+
+    private Mono<String> generate(CachedPrompt prompt, String cachedContent, String modelName, Map<String, Object> responseSchema) {
+        Map<String, Object> body = createRequestBody(prompt, cachedContent, responseSchema);
 
-        return webClient.post()
+        return callGuard.execute(() -> webClient.post()
                 .uri("/v1beta/models/" + modelName + ":generateContent")
                 .bodyValue(body)
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                .map(this::extractContent);
+                .map(this::extractContent));
+    }
+
+    private Mono<Optional<String>> resolveCachedContent(CachedPrompt prompt, String modelName) {
+        if (prompt.getFamily() == null) {
+            return Mono.just(Optional.empty());
+        }
+        return contextCache.resolve(prompt, modelName)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(cachedContent -> Counter.builder("gemini.context-cache.requests")
+                        .description("프롬프트 계열별 컨텍스트 캐시 사용 여부 (cached: suffix만 전송, inline: 전체 전송)")
+                        .tag("family", prompt.getFamily())
+                        .tag("mode", cachedContent.isPresent() ? "cached" : "inline")
+                        .register(meterRegistry)
+                        .increment());
+    }
+
+    /**
+     * 컨텍스트 캐시를 참조한 요청이 캐시 문제로 거절되었는지 (429 제외한 4xx)
+     */
+    private static boolean isStaleCachedContent(Optional<String> cachedContent, WebClientResponseException e) {
+        return cachedContent.isPresent() && e.getStatusCode().is4xxClientError() && e.getStatusCode().value() != 429;
     }
 
-    private Map<String, Object> createRequestBody(String prompt) {
+    private Map<String, Object> createRequestBody(CachedPrompt prompt, String cachedContent, Map<String, Object> responseSchema) {
+        Map<String, Object> body = createRequestBody(cachedContent != null ? prompt.getSuffix() : prompt.toInline(), responseSchema);
+        if (cachedContent != null) {
+            body.put("cachedContent", cachedContent);
+        }
+        return body;
+    }
+
+    private Map<String, Object> createRequestBody(String prompt, Map<String, Object> responseSchema) {
         Map<String, Object> body = new HashMap<>();
         
         // Gemini API 요청 구조
@@ -73,6 +335,14 @@ public class GeminiClient {
         safetySettingsList.add(safetySettings);
         
         body.put("safetySettings", safetySettingsList);
+
+        // 구조화된 JSON 응답 요청
+        if (responseSchema != null) {
+            Map<String, Object> generationConfig = new HashMap<>();
+            generationConfig.put("responseMimeType", "application/json");
+            generationConfig.put("responseSchema", responseSchema);
+            body.put("generationConfig", generationConfig);
+        }
         
         return body;
     }
@@ -113,6 +383,26 @@ public class GeminiClient {
         return extractJsonFromGeminiResponse(text);
     }
 
+    /**
+     * 스트리밍 청크의 텍스트 추출 (텍스트가 없는 청크는 빈 문자열)
+     */
+    private String extractChunkText(Map<String, Object> chunk) {
+        Object candidates = chunk.get("candidates");
+        if (!(candidates instanceof List<?> candidateList) || candidateList.isEmpty()
+                || !(candidateList.get(0) instanceof Map<?, ?> candidate)
+                || !(candidate.get("content") instanceof Map<?, ?> content)
+                || !(content.get("parts") instanceof List<?> parts)) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder();
+        for (Object part : parts) {
+            if (part instanceof Map<?, ?> partMap && partMap.get("text") instanceof String partText) {
+                text.append(partText);
+            }
+        }
+        return text.toString();
+    }
+
     /**
      * Gemini 응답에서 JSON 부분만 추출
      * ```json ... ``` 형태의 코드블록을 제거하고 JSON만 반환
@@ -146,6 +436,78 @@ public class GeminiClient {
         return trimmedResponse;
     }
 
+    private String getCachedResponse(String key) {
+        if (responseCacheTtlMs <= 0) {
+            return null;
+        }
+        CachedResponse cached = responseCache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt < System.currentTimeMillis()) {
+            responseCache.remove(key, cached);
+            return null;
+        }
+        return cached.text;
+    }
+
+    private void putCachedResponse(String key, String text) {
+        if (responseCacheTtlMs <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (responseCache.size() >= responseCacheMaxEntries) {
+            responseCache.values().removeIf(cached -> cached.expiresAt < now);
+            if (responseCache.size() >= responseCacheMaxEntries) {
+                return;
+            }
+        }
+        responseCache.put(key, new CachedResponse(text, now + responseCacheTtlMs));
+    }
+
+    /**
+     * 모델 + 응답 스키마 + 프롬프트의 SHA-256 해시
+     */
+    private static String requestKey(String prompt, String modelName, Map<String, Object> responseSchema) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(modelName.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(responseSchema).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void recordCascade(String site, String outcome) {
+        Counter.builder("gemini.cascade")
+                .description("빠른 모델 우선 호출 결과 (escalated_*: 정확도 우선 모델로 재요청)")
+                .tag("site", site)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("gemini.requests")
+                .description("Gemini 요청 수 (api: 실제 호출, coalesced: 진행 중 호출 공유, cache: 캐시 응답)")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private static final class CachedResponse {
+        final String text;
+        final long expiresAt;
+
+        CachedResponse(String text, long expiresAt) {
+            this.text = text;
+            this.expiresAt = expiresAt;
+        }
+    }
+
     /**
      * Gemini API 모델 목록을 확인하는 메서드
      */
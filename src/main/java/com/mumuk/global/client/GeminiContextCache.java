@@ -0,0 +1,20 @@
+package com.mumuk.global.client;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Gemini 컨텍스트 캐시 (프롬프트 계열별 공통 지시문)
+ */
+public interface GeminiContextCache {
+
+    /**
+     * 프롬프트의 prefix가 등록된 cachedContents 이름 조회 (없으면 등록)
+     * 캐시를 사용할 수 없으면 빈 Mono를 반환하며, 호출부는 프롬프트 전체를 인라인으로 전송합니다.
+     */
+    Mono<String> resolve(CachedPrompt prompt, String model);
+
+    /**
+     * 만료되었거나 삭제된 캐시 제거 (다음 호출 시 다시 등록)
+     */
+    void invalidate(CachedPrompt prompt, String model);
+}
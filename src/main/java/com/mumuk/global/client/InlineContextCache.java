@@ -0,0 +1,23 @@
+package com.mumuk.global.client;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 컨텍스트 캐시를 사용하지 않는 구현 (gemini.context-cache.enabled=false, 로컬/테스트용)
+ * 항상 빈 결과를 반환하므로 모든 프롬프트가 인라인으로 전송됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "gemini.context-cache.enabled", havingValue = "false", matchIfMissing = true)
+public class InlineContextCache implements GeminiContextCache {
+
+    @Override
+    public Mono<String> resolve(CachedPrompt prompt, String model) {
+        return Mono.empty();
+    }
+
+    @Override
+    public void invalidate(CachedPrompt prompt, String model) {
+    }
+}
@@ -1,9 +1,28 @@
 package com.mumuk.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    // AI 레시피 생성 작업 전용 풀 (큐가 가득 차면 제출 시 거절)
+    @Bean(name = "recipeGenerationExecutor")
+    public ThreadPoolTaskExecutor recipeGenerationExecutor(
+            @Value("${app.recipe-generation.pool-size:4}") int poolSize,
+            @Value("${app.recipe-generation.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("recipe-gen-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
 }
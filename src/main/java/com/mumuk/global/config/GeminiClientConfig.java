@@ -1,10 +1,19 @@
 package com.mumuk.global.config;
 
+import com.mumuk.global.client.GeminiCallGuard;
 import com.mumuk.global.client.GeminiClient;
+import com.mumuk.global.client.GeminiContextCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class GeminiClientConfig {
@@ -15,9 +24,26 @@ public class GeminiClientConfig {
     @Value("${gemini.api.key}")
     private String apiKey;
 
+    /**
+     * Gemini 전용 커넥션 풀 (커넥션 대기 시간과 응답 제한 시간을 두어 Gemini 지연이 호출부로 무한정 번지지 않도록 함)
+     */
     @Bean
-    public WebClient geminiWebClient() {
+    public WebClient geminiWebClient(@Value("${gemini.http.max-connections:50}") int maxConnections,
+                                     @Value("${gemini.http.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+                                     @Value("${gemini.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+                                     @Value("${gemini.http.response-timeout-ms:30000}") long responseTimeoutMs) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("gemini")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .baseUrl(baseUrl)
                 .defaultHeader("x-goog-api-key", apiKey)
                 .build();
@@ -25,9 +51,17 @@ public class GeminiClientConfig {
 
     @Bean
     @org.springframework.context.annotation.Primary
-    public GeminiClient geminiClient(WebClient geminiWebClient,
+    public GeminiClient geminiClient(WebClient geminiWebClient, GeminiCallGuard geminiCallGuard,
+                                     GeminiContextCache geminiContextCache,
                                      @Value("${gemini.api.model}") String model,
-                                     @Value("${gemini.api.model_accurate:${gemini.api.model}}") String accurateModel) {
-        return new GeminiClient(geminiWebClient, model, accurateModel);
+                                     @Value("${gemini.api.model_accurate:${gemini.api.model}}") String accurateModel,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${gemini.response-cache.ttl-ms:0}") long responseCacheTtlMs,
+                                     @Value("${gemini.response-cache.max-entries:1000}") int responseCacheMaxEntries,
+                                     @Value("${gemini.cascade.fast-first-sites:}") String fastFirstSites,
+                                     @Value("${gemini.cascade.fast-timeout-ms:8000}") long fastStageTimeoutMs,
+                                     @Value("${gemini.cascade.accurate-timeout-ms:25000}") long accurateStageTimeoutMs) {
+        return new GeminiClient(geminiWebClient, geminiCallGuard, geminiContextCache, model, accurateModel, meterRegistry,
+                responseCacheTtlMs, responseCacheMaxEntries, fastFirstSites, fastStageTimeoutMs, accurateStageTimeoutMs);
     }
 }
@@ -0,0 +1,39 @@
+package com.mumuk.global.config;
+
+import com.mumuk.domain.recipe.repository.RecipeSearchRepositoryImpl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 검색용 pg_trgm 확장과 GIN 색인 생성
+ *
+ * ddl-auto로는 만들 수 없는 확장/표현식 색인을 기동 시 한 번 생성합니다. (이미 있으면 건너뜀)
+ * 색인은 쓰기를 막지 않도록 CONCURRENTLY로 만들며, 권한 부족 등으로 실패하면 검색은 ILIKE로 동작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeSearchIndexInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSearchIndexes() {
+        execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_recipe_title_trgm ON recipe USING gin (title gin_trgm_ops)");
+        execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_recipe_search_text_trgm ON recipe USING gin ("
+                + RecipeSearchRepositoryImpl.SEARCH_TEXT + " gin_trgm_ops)");
+    }
+
+    private void execute(String sql) {
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (Exception e) {
+            log.warn("레시피 검색 색인 구성 실패 - {}: {}", sql, e.getMessage());
+        }
+    }
+}
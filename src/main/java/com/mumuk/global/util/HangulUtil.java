@@ -0,0 +1,87 @@
+package com.mumuk.global.util;
+
+/**
+ * 한글 음절 분해·조합 유틸
+ *
+ * 완성형 음절(가~힣)은 0xAC00 + (초성 * 21 + 중성) * 28 + 종성으로 계산되며,
+ * 자음은 호환 자모(ㄱ~ㅎ, 키보드 입력 중 단독으로 보이는 자음) 기준으로 다룹니다.
+ */
+public final class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char CONSONANT_BEGIN = 'ㄱ';
+    private static final char CONSONANT_END = 'ㅎ';
+
+    public static final int MEDIAL_COUNT = 21;
+    public static final int FINAL_COUNT = 28;
+
+    /** 초성 (호환 자모) */
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    /** 종성을 구성하는 자음 (겹받침은 두 글자, 0번은 받침 없음) */
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulUtil() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /** 호환 자모 자음 여부 (ㄳ 같은 겹자음 포함) */
+    public static boolean isConsonant(char c) {
+        return c >= CONSONANT_BEGIN && c <= CONSONANT_END;
+    }
+
+    public static int initialOf(char syllable) {
+        return (syllable - SYLLABLE_BEGIN) / (MEDIAL_COUNT * FINAL_COUNT);
+    }
+
+    public static int medialOf(char syllable) {
+        return (syllable - SYLLABLE_BEGIN) / FINAL_COUNT % MEDIAL_COUNT;
+    }
+
+    public static int finalOf(char syllable) {
+        return (syllable - SYLLABLE_BEGIN) % FINAL_COUNT;
+    }
+
+    public static char compose(int initial, int medial, int fin) {
+        return (char) (SYLLABLE_BEGIN + (initial * MEDIAL_COUNT + medial) * FINAL_COUNT + fin);
+    }
+
+    /** 자음의 초성 번호 (초성으로 쓸 수 없는 겹자음이면 -1) */
+    public static int initialIndex(char consonant) {
+        return INITIALS.indexOf(consonant);
+    }
+
+    /** 종성을 구성하는 자음 (받침 없으면 빈 문자열) */
+    public static String finalParts(int fin) {
+        return FINALS[fin];
+    }
+
+    /** 자음 구성으로 종성 번호 조회 (없으면 -1) */
+    public static int finalIndex(String parts) {
+        for (int i = 0; i < FINALS.length; i++) {
+            if (FINALS[i].equals(parts)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 초성 문자열로 변환 (음절만 초성으로 바꾸고 나머지 문자는 유지, "김치찌개" → "ㄱㅊㅉㄱ")
+     */
+    public static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(isSyllable(c) ? INITIALS.charAt(initialOf(c)) : c);
+        }
+        return sb.toString();
+    }
+}
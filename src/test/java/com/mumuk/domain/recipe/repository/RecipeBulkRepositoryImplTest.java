@@ -0,0 +1,149 @@
+package com.mumuk.domain.recipe.repository;
+
+import com.mumuk.domain.recipe.entity.Recipe;
+import com.mumuk.domain.recipe.entity.RecipeCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RecipeBulkRepositoryImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RecipeBulkRepositoryImpl repository;
+
+    /** canonical_ingredient 조회 결과로 돌려줄 정규 재료명 → ID */
+    private final Map<String, Long> ingredientIds = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        repository = new RecipeBulkRepositoryImpl(jdbcTemplate);
+
+        ingredientIds.put("양파", 100L);
+        ingredientIds.put("대파", 101L);
+        // 조회 파라미터로 넘어온 재료명 중 등록된 것만 행으로 돌려준다
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            Object[] args = invocation.getArguments();
+            for (int i = 2; i < args.length; i++) {
+                Long id = ingredientIds.get((String) args[i]);
+                if (id != null) {
+                    handler.processRow(row("name", (String) args[i], id));
+                }
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT id, name FROM canonical_ingredient"),
+                any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("빈 목록은 쿼리 없이 빈 결과를 반환한다")
+    void insertEmptyListDoesNothing() {
+        assertTrue(repository.insertAllIgnoringDuplicateTitles(List.of()).isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("실제로 저장된 레시피만 ID를 채워 반환하고 카테고리·재료 매핑을 추가한다")
+    void insertReturnsOnlyInsertedRecipes() throws Exception {
+        Recipe inserted = recipe("양파 볶음", "양파, 대파", RecipeCategory.WEIGHT_LOSS);
+        Recipe duplicate = recipe("이미 있는 레시피", "양파", RecipeCategory.MUSCLE_GAIN);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(row("title", "양파 볶음", 10L));
+            return null;
+        }).when(jdbcTemplate).query(startsWith("INSERT INTO recipe ("),
+                any(RowCallbackHandler.class), any(Object[].class));
+
+        List<Recipe> result = repository.insertAllIgnoringDuplicateTitles(List.of(inserted, duplicate));
+
+        assertEquals(1, result.size());
+        assertEquals(10L, result.get(0).getId());
+        assertNull(duplicate.getId());
+
+        List<Object[]> categoryRows = captureBatch("INSERT INTO recipe_category_map");
+        assertEquals(1, categoryRows.size());
+        assertArrayEquals(new Object[]{10L, "WEIGHT_LOSS"}, categoryRows.get(0));
+
+        List<Object[]> ingredientRows = captureBatch("INSERT INTO recipe_ingredient");
+        assertEquals(2, ingredientRows.size());
+        assertArrayEquals(new Object[]{10L, 100L}, ingredientRows.get(0));
+        assertArrayEquals(new Object[]{10L, 101L}, ingredientRows.get(1));
+    }
+
+    @Test
+    @DisplayName("알레르기 마스크는 (마스크, ID) 순서로 배치 갱신한다")
+    void updateAllergenMasksBatchesRows() {
+        Map<Long, Long> masks = new LinkedHashMap<>();
+        masks.put(1L, 3L);
+        masks.put(2L, 0L);
+
+        repository.updateAllergenMasks(masks);
+
+        List<Object[]> rows = captureBatch("UPDATE recipe SET allergen_mask");
+        assertEquals(2, rows.size());
+        assertArrayEquals(new Object[]{3L, 1L}, rows.get(0));
+        assertArrayEquals(new Object[]{0L, 2L}, rows.get(1));
+    }
+
+    @Test
+    @DisplayName("재료 매핑 교체는 기존 매핑을 지운 뒤 다시 추가한다")
+    void replaceRecipeIngredientsDeletesThenInserts() {
+        repository.replaceRecipeIngredients(Map.of(7L, "대파"));
+
+        verify(jdbcTemplate).update(startsWith("DELETE FROM recipe_ingredient WHERE recipe_id IN (?)"),
+                any(Object[].class));
+        List<Object[]> rows = captureBatch("INSERT INTO recipe_ingredient");
+        assertEquals(1, rows.size());
+        assertArrayEquals(new Object[]{7L, 101L}, rows.get(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatch(String sqlPrefix) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith(sqlPrefix), captor.capture());
+        return captor.getValue();
+    }
+
+    private static Recipe recipe(String title, String ingredients, RecipeCategory category) {
+        Recipe recipe = new Recipe();
+        recipe.setTitle(title);
+        recipe.setDescription("설명");
+        recipe.setCookingTime(10L);
+        recipe.setCalories(300L);
+        recipe.setProtein(10L);
+        recipe.setCarbohydrate(30L);
+        recipe.setFat(5L);
+        recipe.setIngredients(ingredients);
+        recipe.setCategories(new ArrayList<>(List.of(category)));
+        return recipe;
+    }
+
+    private static ResultSet row(String column, String value, long id) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(column)).thenReturn(value);
+        when(rs.getLong("id")).thenReturn(id);
+        return rs;
+    }
+}
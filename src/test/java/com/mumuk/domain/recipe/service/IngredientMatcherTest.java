@@ -0,0 +1,145 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.recipe.dto.response.RecipeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IngredientMatcherTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private IngredientMatcher matcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        matcher = new IngredientMatcher(redisTemplate, meterRegistry, 30);
+    }
+
+    @Test
+    @DisplayName("정규 재료명이 같으면 분량·동의어 표기와 무관하게 match로 분류한다")
+    void matchesByCanonicalName() {
+        IngredientMatcher.Resolution resolution = matcher.resolve(List.of("달걀 2개", "다진 마늘 1큰술"), List.of("계란", "마늘"));
+
+        assertEquals(List.of("달걀 2개", "다진 마늘 1큰술"), resolution.getMatch());
+        assertTrue(resolution.getUnresolved().isEmpty());
+        verify(redisTemplate, never()).opsForValue();
+        assertEquals(2.0, count("local"), 0.0);
+    }
+
+    @Test
+    @DisplayName("대체 사전으로 판단되는 쌍은 원래 표기로 replaceable/mismatch에 넣는다")
+    void classifiesByDictionary() {
+        IngredientMatcher.Resolution resolution = matcher.resolve(List.of("쪽파 2줄기", "감자"), List.of("대파 1뿌리", "양파"));
+
+        assertEquals(1, resolution.getReplaceable().size());
+        assertEquals("쪽파 2줄기", resolution.getReplaceable().get(0).getRecipeIngredient());
+        assertEquals("대파 1뿌리", resolution.getReplaceable().get(0).getUserIngredient());
+        assertEquals(List.of("감자"), resolution.getMismatch());
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("사전에 없는 쌍은 쌍 판정 캐시를 따르고, 판정이 없으면 unresolved로 남긴다")
+    void usesPairCacheForUnknownPairs() {
+        Map<String, String> cached = new HashMap<>();
+        cached.put("ingredient-pair:트러플|양파", "mismatch");
+        cached.put("ingredient-pair:트러플|치즈", "mismatch");
+        cached.put("ingredient-pair:파르메산|치즈", "replaceable");
+        when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation -> {
+            List<String> keys = List.copyOf(invocation.<List<String>>getArgument(0));
+            return keys.stream().map(cached::get).toList();
+        });
+
+        IngredientMatcher.Resolution resolution = matcher.resolve(
+                List.of("트러플", "파르메산", "고수"), List.of("양파", "치즈"));
+
+        assertEquals(List.of("트러플"), resolution.getMismatch());
+        assertEquals(1, resolution.getReplaceable().size());
+        assertEquals("파르메산", resolution.getReplaceable().get(0).getRecipeIngredient());
+        assertEquals("치즈", resolution.getReplaceable().get(0).getUserIngredient());
+        assertEquals(List.of("고수"), resolution.getUnresolved());
+        assertEquals(2.0, count("pair-cache"), 0.0);
+        assertEquals(1.0, count("unresolved"), 0.0);
+    }
+
+    @Test
+    @DisplayName("쌍 판정 캐시 조회에 실패하면 해당 재료를 unresolved로 남긴다")
+    void leavesUnresolvedWhenRedisFails() {
+        when(valueOperations.multiGet(anyCollection())).thenThrow(new IllegalStateException("redis down"));
+
+        IngredientMatcher.Resolution resolution = matcher.resolve(List.of("트러플"), List.of("양파"));
+
+        assertEquals(List.of("트러플"), resolution.getUnresolved());
+    }
+
+    @Test
+    @DisplayName("AI 판정은 사전으로 판단할 수 없는 재료 쌍만 파이프라인으로 저장한다")
+    void recordsOnlyUndecidedPairs() {
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(redisTemplate.getStringSerializer()).thenReturn(RedisSerializer.string());
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            RedisCallback<?> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return List.of();
+        });
+
+        matcher.recordVerdicts(List.of(new RecipeResponse.ReplaceableIngredient("파르메산", "치즈")),
+                List.of("트러플", "감자"), List.of("양파", "치즈"));
+
+        ArgumentCaptor<byte[]> keys = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> values = ArgumentCaptor.forClass(byte[].class);
+        verify(stringCommands, times(4)).set(keys.capture(), values.capture(),
+                any(Expiration.class), any(RedisStringCommands.SetOption.class));
+        Map<String, String> saved = new HashMap<>();
+        for (int i = 0; i < keys.getAllValues().size(); i++) {
+            saved.put(utf8(keys.getAllValues().get(i)), utf8(values.getAllValues().get(i)));
+        }
+        // 감자|양파는 사전으로 판단되므로 저장하지 않음
+        assertEquals(Map.of(
+                "ingredient-pair:트러플|양파", "mismatch",
+                "ingredient-pair:트러플|치즈", "mismatch",
+                "ingredient-pair:감자|치즈", "mismatch",
+                "ingredient-pair:파르메산|치즈", "replaceable"), saved);
+    }
+
+    private double count(String source) {
+        return meterRegistry.get("ingredient.matching.resolution").tag("source", source).counter().count();
+    }
+
+    private static String utf8(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
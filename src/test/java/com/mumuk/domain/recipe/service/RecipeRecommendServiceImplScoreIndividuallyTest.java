@@ -0,0 +1,146 @@
+package com.mumuk.domain.recipe.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mumuk.domain.recipe.entity.Recipe;
+import com.mumuk.domain.recipe.repository.RecipeRepository;
+import com.mumuk.domain.user.repository.UserRecipeRepository;
+import com.mumuk.domain.user.repository.UserRepository;
+import com.mumuk.domain.user.service.UserProfileCache;
+import com.mumuk.global.client.CachedPrompt;
+import com.mumuk.global.client.GeminiClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 배치 평가 실패 시 개별 평가 fan-out (동시 호출 수 제한, 전체 제한 시간, 입력 순서 유지)
+ */
+class RecipeRecommendServiceImplScoreIndividuallyTest {
+
+    private GeminiClient geminiClient;
+
+    /** 프롬프트(레시피 제목) → Gemini 응답 */
+    private Function<String, Mono<String>> responder;
+
+    @BeforeEach
+    void setUp() {
+        geminiClient = mock(GeminiClient.class);
+        when(geminiClient.chatCascade(anyString(), any(CachedPrompt.class), any(), any(), anyBoolean()))
+                .thenAnswer(invocation -> responder.apply(((CachedPrompt) invocation.getArgument(1)).toInline()));
+    }
+
+    @Test
+    @DisplayName("완료 순서와 무관하게 입력 순서를 유지하고, 0점은 제외하고, 실패는 기본 점수를 준다")
+    void keepsInputOrderAndDefaultsFailures() {
+        responder = title -> switch (title) {
+            case "느린" -> Mono.delay(Duration.ofMillis(100)).map(tick -> "3");
+            case "빠른" -> Mono.just("9");
+            case "알레르기" -> Mono.just("0");
+            default -> Mono.error(new IllegalStateException("boom"));
+        };
+        Recipe slow = recipe("느린");
+        Recipe fast = recipe("빠른");
+        Recipe allergic = recipe("알레르기");
+        Recipe failing = recipe("실패");
+
+        List<RecipeRecommendServiceImpl.RecipeWithScore> results = service(4, 5000)
+                .scoreIndividually(List.of(slow, fast, allergic, failing), this::prompt, "알레르기")
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(3, results.size());
+        assertSame(slow, results.get(0).recipe);
+        assertEquals(3.0, results.get(0).score, 0.0);
+        assertSame(fast, results.get(1).recipe);
+        assertEquals(9.0, results.get(1).score, 0.0);
+        assertFalse(results.get(1).defaulted);
+        assertSame(failing, results.get(2).recipe);
+        assertEquals(5.0, results.get(2).score, 0.0);
+        assertTrue(results.get(2).defaulted);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수는 individual-concurrency를 넘지 않는다")
+    void limitsConcurrentCalls() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        responder = title -> Mono.defer(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return Mono.delay(Duration.ofMillis(50)).map(tick -> "7");
+                })
+                .doFinally(signal -> inFlight.decrementAndGet());
+        List<Recipe> recipes = List.of(recipe("a"), recipe("b"), recipe("c"), recipe("d"), recipe("e"), recipe("f"));
+
+        List<RecipeRecommendServiceImpl.RecipeWithScore> results = service(2, 5000)
+                .scoreIndividually(recipes, this::prompt, "알레르기")
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(6, results.size());
+        assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않은 레시피는 기본 점수로 채우고 바로 반환한다")
+    void defaultsRecipesPastDeadline() {
+        responder = title -> title.equals("응답 없음") ? Mono.never() : Mono.just("8");
+        Recipe answered = recipe("응답");
+        Recipe hanging = recipe("응답 없음");
+
+        List<RecipeRecommendServiceImpl.RecipeWithScore> results = service(4, 200)
+                .scoreIndividually(List.of(hanging, answered), this::prompt, "알레르기")
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(2, results.size());
+        assertSame(hanging, results.get(0).recipe);
+        assertEquals(5.0, results.get(0).score, 0.0);
+        assertTrue(results.get(0).defaulted);
+        assertSame(answered, results.get(1).recipe);
+        assertEquals(8.0, results.get(1).score, 0.0);
+    }
+
+    private CachedPrompt prompt(Recipe recipe) {
+        return CachedPrompt.inline(recipe.getTitle());
+    }
+
+    private RecipeRecommendServiceImpl service(int concurrency, long deadlineMs) {
+        return new RecipeRecommendServiceImpl(geminiClient, new ObjectMapper(),
+                mock(UserRepository.class), mock(UserRecipeRepository.class),
+                mock(RecipeRepository.class), mock(RedisTemplate.class),
+                mock(UserProfileCache.class),
+                mock(RecipeBlogImageService.class), mock(RecipeIngredientIndex.class),
+                mock(RecipeCatalog.class), mock(RecipeNutritionScorer.class),
+                mock(ApplicationEventPublisher.class),
+                mock(RecipeScoreCache.class), mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), mock(RecipePool.class),
+                mock(PrecomputedRecommendationStore.class), mock(RecipeTitleBloomFilter.class),
+                mock(ThreadPoolTaskExecutor.class),
+                false, concurrency, deadlineMs);
+    }
+
+    private static Recipe recipe(String title) {
+        Recipe recipe = new Recipe();
+        recipe.setTitle(title);
+        recipe.setIngredients("양파");
+        return recipe;
+    }
+}
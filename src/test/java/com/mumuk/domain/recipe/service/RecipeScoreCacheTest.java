@@ -0,0 +1,104 @@
+package com.mumuk.domain.recipe.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecipeScoreCacheTest {
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private RecipeScoreCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        cache = new RecipeScoreCache(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("지문은 입력 순서, 대소문자, 공백, 중복과 무관하다")
+    void fingerprintIgnoresOrderCaseAndDuplicates() {
+        String a = RecipeScoreCache.fingerprint(List.of("양파", "Egg", "대파"), List.of("우유"), null, null);
+        String b = RecipeScoreCache.fingerprint(List.of(" egg ", "대파", "양파", "양파"), List.of("우유"), null, null);
+
+        assertEquals(a, b);
+    }
+
+    @Test
+    @DisplayName("같은 값이라도 다른 항목에 있으면 지문이 다르다")
+    void fingerprintSeparatesProfileFields() {
+        String asIngredient = RecipeScoreCache.fingerprint(List.of("우유"), null, null, null);
+        String asAllergy = RecipeScoreCache.fingerprint(null, List.of("우유"), null, null);
+
+        assertNotEquals(asIngredient, asAllergy);
+    }
+
+    @Test
+    @DisplayName("건강 데이터의 빈 값은 지문에 반영되지 않는다")
+    void fingerprintIgnoresBlankHealthData() {
+        String withBlank = RecipeScoreCache.fingerprint(null, null, null, Map.of("혈당", "110", "혈압", " "));
+        String withoutBlank = RecipeScoreCache.fingerprint(null, null, null, Map.of("혈당", "110"));
+
+        assertEquals(withoutBlank, withBlank);
+        assertNotEquals(withoutBlank, RecipeScoreCache.fingerprint(null, null, null, Map.of("혈당", "140")));
+    }
+
+    @Test
+    @DisplayName("저장한 점수는 인메모리 캐시에서 바로 조회되어 Redis를 읽지 않는다")
+    void putScoresServesFromLocalCache() {
+        cache.putScores("health", "fp", Map.of(1L, 8.0, 2L, 6.5));
+
+        Map<Long, Double> scores = cache.getScores("health", "fp", List.of(1L, 2L));
+
+        assertEquals(Map.of(1L, 8.0, 2L, 6.5), scores);
+        verify(hashOperations, never()).multiGet(anyString(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("인메모리에 없는 점수는 Redis에서 읽고, Redis에도 없는 레시피는 결과에서 빠진다")
+    void getScoresFallsBackToRedis() {
+        when(hashOperations.multiGet(anyString(), anyCollection())).thenReturn(Arrays.<Object>asList(7.5, null));
+
+        Map<Long, Double> scores = cache.getScores("health", "fp", List.of(1L, 2L));
+
+        assertEquals(Map.of(1L, 7.5), scores);
+    }
+
+    @Test
+    @DisplayName("모드나 지문이 다르면 저장한 점수를 재사용하지 않는다")
+    void scoresAreScopedByModeAndFingerprint() {
+        cache.putScores("health", "fp", Map.of(1L, 8.0));
+        when(hashOperations.multiGet(anyString(), anyCollection())).thenReturn(Arrays.<Object>asList((Object) null));
+
+        assertTrue(cache.getScores("ingredient", "fp", List.of(1L)).isEmpty());
+        assertTrue(cache.getScores("health", "other", List.of(1L)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 빈 결과로 대체한다")
+    void getScoresToleratesRedisFailure() {
+        when(hashOperations.multiGet(anyString(), anyCollection())).thenThrow(new IllegalStateException("down"));
+
+        assertTrue(cache.getScores("health", "fp", List.of(1L)).isEmpty());
+    }
+}
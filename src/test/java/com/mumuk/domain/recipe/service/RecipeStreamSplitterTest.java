@@ -0,0 +1,87 @@
+package com.mumuk.domain.recipe.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecipeStreamSplitterTest {
+
+    private static final String FIRST = "{\"title\": \"김치찌개\", \"calories\": 450}";
+    private static final String SECOND = "{\"title\": \"된장국\", \"calories\": 120}";
+    private static final String RESPONSE = "{\"recommendations\": [" + FIRST + ", " + SECOND + "]}";
+
+    @Test
+    @DisplayName("한 번에 받은 응답에서 레시피 객체를 순서대로 잘라낸다")
+    void splitsWholeResponse() {
+        assertEquals(List.of(FIRST, SECOND), new RecipeStreamSplitter().feed(RESPONSE));
+    }
+
+    @Test
+    @DisplayName("한 글자씩 받아도 객체가 닫히는 청크에서 바로 반환한다")
+    void emitsObjectAsSoonAsItCloses() {
+        RecipeStreamSplitter splitter = new RecipeStreamSplitter();
+        List<String> completed = new ArrayList<>();
+        int firstEnd = RESPONSE.indexOf(FIRST) + FIRST.length();
+
+        for (int i = 0; i < RESPONSE.length(); i++) {
+            List<String> emitted = splitter.feed(String.valueOf(RESPONSE.charAt(i)));
+            if (i == firstEnd - 1) {
+                assertEquals(List.of(FIRST), emitted);
+            } else if (i < firstEnd - 1) {
+                assertTrue(emitted.isEmpty());
+            }
+            completed.addAll(emitted);
+        }
+
+        assertEquals(List.of(FIRST, SECOND), completed);
+    }
+
+    @Test
+    @DisplayName("문자열 안의 괄호와 이스케이프된 따옴표는 무시한다")
+    void ignoresBracesInsideStrings() {
+        String recipe = "{\"title\": \"괄호 } { ] [ 와 \\\"따옴표\\\"\", \"description\": \"끝\\\\\"}";
+        String response = "{\"recommendations\": [" + recipe + "]}";
+
+        RecipeStreamSplitter splitter = new RecipeStreamSplitter();
+        List<String> completed = new ArrayList<>();
+        completed.addAll(splitter.feed(response.substring(0, 30)));
+        completed.addAll(splitter.feed(response.substring(30)));
+
+        assertEquals(List.of(recipe), completed);
+    }
+
+    @Test
+    @DisplayName("레시피 안의 중첩 객체와 배열은 레시피 객체에 포함된다")
+    void keepsNestedValuesInsideRecipe() {
+        String recipe = "{\"title\": \"비빔밥\", \"nutrition\": {\"protein\": 20}, \"categories\": [\"한식\"]}";
+
+        assertEquals(List.of(recipe), new RecipeStreamSplitter().feed("{\"recommendations\": [" + recipe + "]}"));
+    }
+
+    @Test
+    @DisplayName("코드블록 표시처럼 JSON 바깥의 텍스트는 건너뛴다")
+    void skipsTextOutsideJson() {
+        RecipeStreamSplitter splitter = new RecipeStreamSplitter();
+        List<String> completed = new ArrayList<>();
+        completed.addAll(splitter.feed("```json\n"));
+        completed.addAll(splitter.feed(RESPONSE));
+        completed.addAll(splitter.feed("\n```"));
+
+        assertEquals(List.of(FIRST, SECOND), completed);
+    }
+
+    @Test
+    @DisplayName("객체가 청크 경계에 걸쳐도 이어 붙여 하나로 반환한다")
+    void joinsObjectAcrossChunks() {
+        RecipeStreamSplitter splitter = new RecipeStreamSplitter();
+        int cut = RESPONSE.indexOf("김치");
+
+        assertTrue(splitter.feed(RESPONSE.substring(0, cut)).isEmpty());
+        assertEquals(List.of(FIRST, SECOND), splitter.feed(RESPONSE.substring(cut)));
+    }
+}
@@ -0,0 +1,130 @@
+package com.mumuk.domain.recipe.service;
+
+import com.mumuk.domain.recipe.entity.Recipe;
+import com.mumuk.domain.recipe.event.RecipeChangedEvent;
+import com.mumuk.domain.recipe.repository.RecipeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecipeTitleBloomFilterTest {
+
+    private RecipeRepository recipeRepository;
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RecipeTitleBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        recipeRepository = mock(RecipeRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RecipeTitleBloomFilter(recipeRepository, redisTemplate,
+                mock(RedisMessageListenerContainer.class), meterRegistry, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("구성 전에는 모든 제목을 포함 가능으로 답한다")
+    void answersMaybeBeforeBuild() {
+        assertTrue(filter.mightContain("아무 제목"));
+    }
+
+    @Test
+    @DisplayName("구성 후 저장된 제목은 공백·대소문자와 무관하게 포함 가능으로 답한다")
+    void containsBuiltTitlesIgnoringCaseAndWhitespace() {
+        when(recipeRepository.findAllTitles()).thenReturn(List.of("김치찌개", "Tomato Pasta"));
+        filter.rebuild();
+
+        assertTrue(filter.mightContain("김치찌개"));
+        assertTrue(filter.mightContain("  tomato pasta "));
+        assertFalse(filter.mightContain("된장국"));
+        assertEquals(1.0, meterRegistry.get("recipe.title-bloom.lookup").tag("result", "absent").counter().count(), 0.0);
+    }
+
+    @Test
+    @DisplayName("저장된 제목은 놓치지 않고, 오탐률은 목표 근처에 머문다")
+    void hasNoFalseNegativesAndBoundedFalsePositives() {
+        List<String> titles = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            titles.add("레시피 " + i);
+        }
+        when(recipeRepository.findAllTitles()).thenReturn(titles);
+        filter.rebuild();
+
+        for (String title : titles) {
+            assertTrue(filter.mightContain(title), title);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain("다른 레시피 " + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("재구성하면 삭제된 제목이 빠지고, 재구성에 실패하면 기존 필터를 유지한다")
+    void rebuildReplacesFilterAndKeepsItOnFailure() {
+        when(recipeRepository.findAllTitles()).thenReturn(List.of("김치찌개"));
+        filter.rebuild();
+        when(recipeRepository.findAllTitles()).thenReturn(List.of("된장국"));
+        filter.rebuild();
+
+        assertFalse(filter.mightContain("김치찌개"));
+        assertTrue(filter.mightContain("된장국"));
+
+        when(recipeRepository.findAllTitles()).thenThrow(new IllegalStateException("db down"));
+        filter.rebuild();
+
+        assertTrue(filter.mightContain("된장국"));
+    }
+
+    @Test
+    @DisplayName("저장 이벤트의 제목을 추가하고 다른 인스턴스에 알린다")
+    void addsSavedTitlesAndPublishes() {
+        when(recipeRepository.findAllTitles()).thenReturn(List.of());
+        filter.rebuild();
+
+        filter.onRecipeChanged(RecipeChangedEvent.saved(List.of(recipe("비빔밥"), recipe("잡채"))));
+
+        assertTrue(filter.mightContain("비빔밥"));
+        assertTrue(filter.mightContain("잡채"));
+        verify(redisTemplate).convertAndSend(RecipeTitleBloomFilter.CHANNEL, "비빔밥\n잡채");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보낸 제목을 반영한다")
+    void addsTitlesFromOtherInstances() {
+        when(recipeRepository.findAllTitles()).thenReturn(List.of());
+        filter.rebuild();
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn("떡볶이\n순두부찌개".getBytes(StandardCharsets.UTF_8));
+
+        filter.onMessage(message, null);
+
+        assertTrue(filter.mightContain("떡볶이"));
+        assertTrue(filter.mightContain("순두부찌개"));
+    }
+
+    private static Recipe recipe(String title) {
+        Recipe recipe = new Recipe();
+        recipe.setTitle(title);
+        return recipe;
+    }
+}
@@ -0,0 +1,120 @@
+package com.mumuk.domain.search.service;
+
+import com.mumuk.domain.search.service.RecipeTitleTrie.CharRange;
+import com.mumuk.domain.search.service.RecipeTitleTrie.Suggestion;
+import com.mumuk.global.util.HangulUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecipeTitleTrieTest {
+
+    private RecipeTitleTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new RecipeTitleTrie(10);
+        insert(trie, 1, "김치찌개", 10);
+        insert(trie, 2, "김치볶음밥", 20);
+        insert(trie, 3, "김밥", 5);
+        insert(trie, 4, "된장찌개", 7);
+    }
+
+    @Test
+    @DisplayName("접두어 노드의 후보를 인기도 순으로 반환한다")
+    void searchesByPrefix() {
+        assertEquals(List.of("김치볶음밥", "김치찌개"), titles(trie.search(List.of(pattern("김치")))));
+        assertEquals(List.of("김치볶음밥", "김치찌개", "김밥"), titles(trie.search(List.of(pattern("김")))));
+    }
+
+    @Test
+    @DisplayName("여러 패턴은 패턴별 노드 후보를 이어 붙여 반환한다")
+    void concatenatesCandidatesOfEachPattern() {
+        assertEquals(List.of("김치볶음밥", "김치찌개", "김밥", "된장찌개"),
+                titles(trie.search(List.of(pattern("김"), pattern("된")))));
+    }
+
+    @Test
+    @DisplayName("접두어가 아닌 중간 일치나 없는 접두어는 찾지 않는다")
+    void ignoresNonPrefixMatches() {
+        assertTrue(trie.search(List.of(pattern("찌개"))).isEmpty());
+        assertTrue(trie.search(List.of(pattern("김치찌개전골"))).isEmpty());
+        assertTrue(trie.search(List.of(pattern(""))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("간선 중간에서 끝나는 접두어와 나중에 추가된 짧은 제목도 찾는다")
+    void handlesSplitEdges() {
+        insert(trie, 5, "김치", 1);
+
+        assertEquals(List.of("김치찌개"), titles(trie.search(List.of(pattern("김치찌")))));
+        assertEquals(List.of("김치볶음밥", "김치찌개", "김치"), titles(trie.search(List.of(pattern("김치")))));
+        assertEquals(List.of("된장찌개"), titles(trie.search(List.of(pattern("된장찌")))));
+    }
+
+    @Test
+    @DisplayName("글자 범위로 입력 중인 마지막 음절을 확장해 찾는다")
+    void expandsLastSyllableByRange() {
+        // "김ㅊ" 입력: 초성 ㅊ으로 시작하는 모든 음절
+        int chieut = HangulUtil.initialIndex('ㅊ');
+        CharRange anyChieut = CharRange.of(HangulUtil.compose(chieut, 0, 0),
+                HangulUtil.compose(chieut, HangulUtil.MEDIAL_COUNT - 1, HangulUtil.FINAL_COUNT - 1));
+
+        List<Suggestion> suggestions = trie.search(List.of(List.of(CharRange.of('김'), anyChieut)));
+
+        assertEquals(List.of("김치볶음밥", "김치찌개"), titles(suggestions));
+    }
+
+    @Test
+    @DisplayName("노드마다 상위 capacity개만 보관하고, 같은 레시피를 다시 넣으면 교체한다")
+    void keepsTopCapacityAndReplacesSameRecipe() {
+        RecipeTitleTrie small = new RecipeTitleTrie(2);
+        insert(small, 1, "김치찌개", 10);
+        insert(small, 2, "김치볶음밥", 20);
+        insert(small, 3, "김밥", 5);
+
+        assertEquals(List.of("김치볶음밥", "김치찌개"), titles(small.search(List.of(pattern("김")))));
+
+        insert(small, 3, "김밥", 50);
+
+        assertEquals(List.of("김밥", "김치볶음밥"), titles(small.search(List.of(pattern("김")))));
+        assertEquals(List.of("김밥"), titles(small.search(List.of(pattern("김밥")))));
+    }
+
+    @Test
+    @DisplayName("인기도가 같으면 짧은 제목, 가나다 순으로 정렬한다")
+    void ordersTiesByLengthThenTitle() {
+        RecipeTitleTrie tied = new RecipeTitleTrie(10);
+        insert(tied, 1, "라면볶이", 3);
+        insert(tied, 2, "라볶이", 3);
+        insert(tied, 3, "라면", 3);
+
+        assertEquals(List.of("라면", "라볶이", "라면볶이"), titles(tied.search(List.of(pattern("라")))));
+    }
+
+    private static void insert(RecipeTitleTrie trie, long recipeId, String title, long weight) {
+        trie.insert(title, new Suggestion(recipeId, title, weight));
+    }
+
+    private static List<CharRange> pattern(String prefix) {
+        List<CharRange> pattern = new ArrayList<>();
+        for (char c : prefix.toCharArray()) {
+            pattern.add(CharRange.of(c));
+        }
+        return pattern;
+    }
+
+    private static List<String> titles(List<Suggestion> suggestions) {
+        List<String> titles = new ArrayList<>();
+        for (Suggestion suggestion : suggestions) {
+            titles.add(suggestion.getTitle());
+        }
+        return titles;
+    }
+}
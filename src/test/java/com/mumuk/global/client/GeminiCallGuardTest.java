@@ -0,0 +1,172 @@
+package com.mumuk.global.client;
+
+import com.mumuk.global.apiPayload.code.ErrorCode;
+import com.mumuk.global.apiPayload.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeminiCallGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("토큰이 없고 대기 허용 시간이 0이면 할당량 초과로 즉시 거절한다")
+    void rejectsWhenBucketIsEmpty() {
+        GeminiCallGuard guard = guard(1, 2, 0, 8, 60000);
+
+        assertEquals("ok", succeed(guard));
+        assertEquals("ok", succeed(guard));
+        assertRejected(guard);
+
+        assertEquals(1.0, meterRegistry.get("gemini.guard.rejected").tag("reason", "rate").counter().count(), 0.0);
+    }
+
+    @Test
+    @DisplayName("다음 토큰까지 기다릴 수 있으면 거절하지 않고 지연시킨다")
+    void waitsForNextTokenWithinMaxWait() {
+        GeminiCallGuard guard = guard(10, 1, 500, 8, 60000);
+        succeed(guard);
+
+        long start = System.nanoTime();
+        assertEquals("ok", succeed(guard));
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(waitedMs >= 50, "waited " + waitedMs + "ms");
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 거절하고, 끝난 호출은 한도를 돌려준다")
+    void rejectsOverConcurrencyLimit() {
+        GeminiCallGuard guard = guard(100, 100, 0, 1, 60000);
+
+        Disposable pending = guard.execute(() -> Mono.<String>never()).subscribe();
+        assertEquals(1.0, gauge("gemini.guard.inflight"), 0.0);
+        assertRejected(guard);
+        assertEquals(1.0, meterRegistry.get("gemini.guard.rejected").tag("reason", "concurrency").counter().count(), 0.0);
+
+        pending.dispose();
+        assertEquals(0.0, gauge("gemini.guard.inflight"), 0.0);
+        assertEquals("ok", succeed(guard));
+    }
+
+    @Test
+    @DisplayName("성공하면 한도를 1/limit만큼 늘리고, 과부하면 0.7배로 줄인다")
+    void adjustsLimitAdditivelyAndMultiplicatively() {
+        GeminiCallGuard guard = guard(100, 100, 0, 4, 60000);
+
+        succeed(guard);
+        assertEquals(4.25, gauge("gemini.guard.concurrency.limit"), 1e-9);
+
+        assertThrows(BusinessException.class, () -> guard.execute(() -> Mono.error(new TimeoutException())).block());
+        assertEquals(4.25 * 0.7, gauge("gemini.guard.concurrency.limit"), 1e-9);
+    }
+
+    @Test
+    @DisplayName("과부하가 아닌 오류는 한도를 줄이지 않고 서킷 실패로도 세지 않는다")
+    void ignoresNonOverloadErrors() {
+        GeminiCallGuard guard = guard(100, 100, 0, 4, 60000);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class,
+                    () -> guard.execute(() -> Mono.error(new IllegalStateException("bad request"))).block());
+        }
+
+        assertEquals(4.0, gauge("gemini.guard.concurrency.limit"), 1e-9);
+        assertEquals(0.0, gauge("gemini.guard.circuit.state"), 0.0);
+    }
+
+    @Test
+    @DisplayName("창 안의 과부하 비율이 기준을 넘으면 서킷을 열고 호출 없이 거절한다")
+    void opensCircuitOnFailureRate() {
+        GeminiCallGuard guard = guard(100, 100, 0, 8, 60000);
+        succeed(guard);
+        succeed(guard);
+        overload(guard);
+        overload(guard);
+
+        assertEquals(1.0, gauge("gemini.guard.circuit.state"), 0.0);
+        AtomicInteger calls = new AtomicInteger();
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> guard.execute(() -> Mono.fromCallable(() -> "ok" + calls.incrementAndGet())).block());
+        assertEquals(ErrorCode.OPENAI_SERVICE_UNAVAILABLE, e.getCode());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    @DisplayName("OPEN 시간이 지나면 시험 호출 1건만 보내고, 성공하면 서킷을 닫는다")
+    void halfOpenProbeClosesCircuit() throws InterruptedException {
+        GeminiCallGuard guard = guard(100, 100, 0, 8, 50);
+        overload(guard);
+        overload(guard);
+        overload(guard);
+        overload(guard);
+        assertEquals(1.0, gauge("gemini.guard.circuit.state"), 0.0);
+
+        Thread.sleep(100);
+        Disposable probe = guard.execute(() -> Mono.<String>never()).subscribe();
+        assertEquals(2.0, gauge("gemini.guard.circuit.state"), 0.0);
+        assertRejected(guard);
+        probe.dispose();
+
+        assertEquals("ok", succeed(guard));
+        assertEquals(0.0, gauge("gemini.guard.circuit.state"), 0.0);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 과부하로 실패하면 서킷을 다시 연다")
+    void halfOpenProbeFailureReopensCircuit() throws InterruptedException {
+        GeminiCallGuard guard = guard(100, 100, 0, 8, 50);
+        for (int i = 0; i < 4; i++) {
+            overload(guard);
+        }
+
+        Thread.sleep(100);
+        overload(guard);
+
+        assertEquals(1.0, gauge("gemini.guard.circuit.state"), 0.0);
+        assertRejected(guard);
+    }
+
+    /**
+     * 서킷 창 4, 실패율 0.5, 헤징 끔
+     */
+    private GeminiCallGuard guard(double ratePerSecond, int burst, long maxWaitMs, int initialLimit, long breakerOpenMs) {
+        return new GeminiCallGuard(meterRegistry, ratePerSecond, burst, maxWaitMs,
+                initialLimit, 1, 32, 5000, 4, 0.5, breakerOpenMs, false, 2000);
+    }
+
+    private static String succeed(GeminiCallGuard guard) {
+        return guard.execute(() -> Mono.just("ok")).block();
+    }
+
+    private static void overload(GeminiCallGuard guard) {
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> guard.execute(() -> Mono.error(new TimeoutException())).block());
+        assertEquals(ErrorCode.OPENAI_API_TIMEOUT, e.getCode());
+    }
+
+    private static void assertRejected(GeminiCallGuard guard) {
+        BusinessException e = assertThrows(BusinessException.class, () -> succeed(guard));
+        assertEquals(ErrorCode.OPENAI_SERVICE_UNAVAILABLE, e.getCode());
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
@@ -0,0 +1,69 @@
+package com.mumuk.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HangulUtilTest {
+
+    @Test
+    @DisplayName("모든 완성형 음절은 분해 후 다시 조합하면 원래 음절이 된다")
+    void composeReversesDecomposition() {
+        for (char c = '가'; c <= '힣'; c++) {
+            assertEquals(c, HangulUtil.compose(HangulUtil.initialOf(c), HangulUtil.medialOf(c), HangulUtil.finalOf(c)));
+        }
+    }
+
+    @Test
+    @DisplayName("음절을 초성·중성·종성 번호로 분해한다")
+    void decomposesSyllable() {
+        assertEquals(3, HangulUtil.initialOf('닭'));
+        assertEquals(0, HangulUtil.medialOf('닭'));
+        assertEquals("ㄹㄱ", HangulUtil.finalParts(HangulUtil.finalOf('닭')));
+        assertEquals(0, HangulUtil.finalOf('가'));
+        assertEquals(HangulUtil.FINAL_COUNT - 1, HangulUtil.finalOf('힣'));
+    }
+
+    @Test
+    @DisplayName("음절과 호환 자모 자음을 구분한다")
+    void classifiesCharacters() {
+        assertTrue(HangulUtil.isSyllable('가'));
+        assertTrue(HangulUtil.isSyllable('힣'));
+        assertFalse(HangulUtil.isSyllable('ㄱ'));
+        assertTrue(HangulUtil.isConsonant('ㄱ'));
+        assertTrue(HangulUtil.isConsonant('ㄳ'));
+        assertTrue(HangulUtil.isConsonant('ㅎ'));
+        assertFalse(HangulUtil.isConsonant('ㅏ'));
+        assertFalse(HangulUtil.isConsonant('a'));
+    }
+
+    @Test
+    @DisplayName("초성으로 쓸 수 없는 겹자음은 초성 번호가 -1이다")
+    void initialIndexRejectsCompoundConsonants() {
+        assertEquals(0, HangulUtil.initialIndex('ㄱ'));
+        assertEquals(1, HangulUtil.initialIndex('ㄲ'));
+        assertEquals(18, HangulUtil.initialIndex('ㅎ'));
+        assertEquals(-1, HangulUtil.initialIndex('ㄳ'));
+    }
+
+    @Test
+    @DisplayName("종성 자음 구성과 종성 번호는 서로 변환된다")
+    void finalPartsRoundTrip() {
+        for (int fin = 0; fin < HangulUtil.FINAL_COUNT; fin++) {
+            assertEquals(fin, HangulUtil.finalIndex(HangulUtil.finalParts(fin)));
+        }
+        assertEquals(3, HangulUtil.finalIndex("ㄱㅅ"));
+        assertEquals(-1, HangulUtil.finalIndex("ㅎㅎ"));
+    }
+
+    @Test
+    @DisplayName("초성 문자열은 음절만 초성으로 바꾸고 나머지 문자는 유지한다")
+    void convertsToChosung() {
+        assertEquals("ㄱㅊㅉㄱ", HangulUtil.toChosung("김치찌개"));
+        assertEquals("K-ㄱㅂ 2ㅈ", HangulUtil.toChosung("K-김밥 2줄"));
+        assertEquals("", HangulUtil.toChosung(""));
+    }
+}